@@ -2,22 +2,29 @@ package com.geomeet.api.adapter.web.auth;
 
 import com.geomeet.api.adapter.web.auth.dto.LoginRequest;
 import com.geomeet.api.adapter.web.auth.dto.LoginResponse;
+import com.geomeet.api.adapter.web.auth.dto.RefreshTokenRequest;
 import com.geomeet.api.adapter.web.auth.dto.RegisterRequest;
+import com.geomeet.api.adapter.web.auth.dto.TokenResponse;
 import com.geomeet.api.application.command.LoginCommand;
+import com.geomeet.api.application.command.LogoutCommand;
+import com.geomeet.api.application.command.RefreshTokenCommand;
 import com.geomeet.api.application.command.RegisterCommand;
 import com.geomeet.api.application.result.LoginResult;
 import com.geomeet.api.application.usecase.auth.LoginUseCase;
+import com.geomeet.api.application.usecase.auth.LogoutUseCase;
+import com.geomeet.api.application.usecase.auth.RefreshTokenUseCase;
 import com.geomeet.api.application.usecase.auth.RegisterUseCase;
-import com.geomeet.api.infrastructure.security.JwtTokenService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -25,7 +32,7 @@ import static com.geomeet.api.adapter.web.util.ResponseUtil.ok;
 
 /**
  * Web adapter (controller) for authentication operations.
- * Handles user login and registration.
+ * Handles user login, registration, token refresh and logout.
  */
 @RestController
 @RequestMapping("/api/auth")
@@ -33,13 +40,17 @@ import static com.geomeet.api.adapter.web.util.ResponseUtil.ok;
 @Tag(name = "Authentication", description = "Authentication APIs for user login and registration")
 public class AuthController {
 
+  private static final String BEARER_PREFIX = "Bearer ";
+
   private final LoginUseCase loginUseCase;
-  private final JwtTokenService jwtTokenService;
   private final RegisterUseCase registerUseCase;
+  private final RefreshTokenUseCase refreshTokenUseCase;
+  private final LogoutUseCase logoutUseCase;
 
   @Operation(
       summary = "User login",
-      description = "Authenticate user with username/email and password. Returns JWT token for subsequent API calls."
+      description = "Authenticate user with username/email and password. Returns a short-lived JWT for "
+          + "subsequent API calls and a refresh token to renew it."
   )
   @ApiResponses({
       @ApiResponse(responseCode = "200", description = "Login successful"),
@@ -54,14 +65,13 @@ public class AuthController {
     );
 
     LoginResult result = loginUseCase.execute(command);
-    String token = jwtTokenService.generateToken(result.getUserId(), result.getUsername());
 
-    return ok(LoginResponse.toResponse(token, result));
+    return ok(LoginResponse.toResponse(result));
   }
 
   @Operation(
       summary = "User registration",
-      description = "Register a new user account. Returns JWT token for immediate authentication."
+      description = "Register a new user account. Returns JWT and refresh token for immediate authentication."
   )
   @ApiResponses({
       @ApiResponse(responseCode = "200", description = "Registration successful"),
@@ -75,9 +85,43 @@ public class AuthController {
         request.getVerificationCode());
 
     LoginResult result = registerUseCase.execute(command);
-    String token = jwtTokenService.generateToken(result.getUserId(), result.getUsername());
 
-    return ok(LoginResponse.toResponse(token, result));
+    return ok(LoginResponse.toResponse(result));
   }
-}
 
+  @Operation(
+      summary = "Refresh access token",
+      description = "Exchange a refresh token for a new access token and refresh token. "
+          + "Each refresh token works once; reusing one signs out every session started from the same login."
+  )
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "New tokens issued"),
+      @ApiResponse(responseCode = "401", description = "Refresh token unknown, expired or already used"),
+      @ApiResponse(responseCode = "400", description = "Invalid request data")
+  })
+  @PostMapping("/refresh")
+  public ResponseEntity<TokenResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+    RefreshTokenCommand command = RefreshTokenCommand.of(request.getRefreshToken());
+
+    return ok(TokenResponse.toResponse(refreshTokenUseCase.execute(command)));
+  }
+
+  @Operation(
+      summary = "Logout",
+      description = "Revoke the access token in the Authorization header and the refresh token in the body, if any."
+  )
+  @ApiResponses({
+      @ApiResponse(responseCode = "204", description = "Logged out")
+  })
+  @PostMapping("/logout")
+  public ResponseEntity<Void> logout(
+      @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+      @RequestBody(required = false) RefreshTokenRequest request
+  ) {
+    String accessToken = authorization != null && authorization.startsWith(BEARER_PREFIX)
+        ? authorization.substring(BEARER_PREFIX.length())
+        : null;
+    logoutUseCase.execute(LogoutCommand.of(accessToken, request != null ? request.getRefreshToken() : null));
+    return ResponseEntity.noContent().build();
+  }
+}
@@ -13,13 +13,17 @@ import lombok.NoArgsConstructor;
 public class LoginResponse {
 
     private String token;
+    private String refreshToken;
+    private Long expiresIn;
     private String username;
     private String email;
     private String message;
 
-    public static LoginResponse toResponse(String token, LoginResult result){
+    public static LoginResponse toResponse(LoginResult result){
        return LoginResponse.builder()
-            .token(token)
+            .token(result.getTokens().getAccessToken())
+            .refreshToken(result.getTokens().getRefreshToken())
+            .expiresIn(result.getTokens().getExpiresIn())
             .username(result.getUsername())
             .email(result.getEmail())
             .message("Login successful")
@@ -0,0 +1,26 @@
+package com.geomeet.api.adapter.web.auth.dto;
+
+import com.geomeet.api.application.result.AuthTokensResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TokenResponse {
+
+    private String token;
+    private String refreshToken;
+    private Long expiresIn;
+
+    public static TokenResponse toResponse(AuthTokensResult tokens) {
+        return TokenResponse.builder()
+            .token(tokens.getAccessToken())
+            .refreshToken(tokens.getRefreshToken())
+            .expiresIn(tokens.getExpiresIn())
+            .build();
+    }
+}
@@ -1,29 +1,38 @@
 package com.geomeet.api.adapter.web.location;
 
 import com.geomeet.api.adapter.web.location.dto.CalculateOptimalLocationResponse;
+import com.geomeet.api.adapter.web.location.dto.TrajectoryResponse;
 import com.geomeet.api.adapter.web.location.dto.UpdateLocationRequest;
 import com.geomeet.api.adapter.web.location.dto.UpdateLocationResponse;
 import com.geomeet.api.adapter.web.location.dto.UpdateMeetingLocationRequest;
 import com.geomeet.api.adapter.web.location.dto.UpdateMeetingLocationResponse;
 import com.geomeet.api.application.command.CalculateOptimalLocationCommand;
+import com.geomeet.api.application.command.GetTrajectoryCommand;
 import com.geomeet.api.application.command.UpdateLocationCommand;
 import com.geomeet.api.application.command.UpdateMeetingLocationCommand;
 import com.geomeet.api.application.result.CalculateOptimalLocationResult;
+import com.geomeet.api.application.result.TrajectoryResult;
 import com.geomeet.api.application.result.UpdateLocationResult;
 import com.geomeet.api.application.result.UpdateMeetingLocationResult;
 import com.geomeet.api.application.usecase.location.CalculateOptimalLocationUseCase;
+import com.geomeet.api.application.usecase.location.GetTrajectoryUseCase;
 import com.geomeet.api.application.usecase.location.UpdateLocationUseCase;
 import com.geomeet.api.application.usecase.location.UpdateMeetingLocationUseCase;
 import com.geomeet.api.adapter.web.util.AuthenticationUtil;
+import com.geomeet.api.domain.valueobject.SessionId;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -49,6 +58,7 @@ public class LocationController {
   private final UpdateLocationUseCase updateLocationUseCase;
   private final CalculateOptimalLocationUseCase calculateOptimalLocationUseCase;
   private final UpdateMeetingLocationUseCase updateMeetingLocationUseCase;
+  private final GetTrajectoryUseCase getTrajectoryUseCase;
 
 
   @Operation(
@@ -71,7 +81,7 @@ public class LocationController {
     Long userId = AuthenticationUtil.getUserId(authentication);
 
     UpdateLocationCommand command = UpdateLocationCommand.of(
-        sessionId,
+        SessionId.canonical(sessionId),
         userId,
         request.getLatitude(),
         request.getLongitude(),
@@ -101,7 +111,9 @@ public class LocationController {
   ) {
     Long userId = AuthenticationUtil.getUserId(authentication);
 
-    CalculateOptimalLocationCommand command = CalculateOptimalLocationCommand.of(sessionId, userId);
+    CalculateOptimalLocationCommand command = CalculateOptimalLocationCommand.of(
+        SessionId.canonical(sessionId), userId
+    );
     CalculateOptimalLocationResult result = calculateOptimalLocationUseCase.execute(command);
 
     return ok(CalculateOptimalLocationResponse.create(result));
@@ -129,7 +141,7 @@ public class LocationController {
     Long userId = AuthenticationUtil.getUserId(authentication);
 
     UpdateMeetingLocationCommand command = UpdateMeetingLocationCommand.of(
-        sessionId,
+        SessionId.canonical(sessionId),
         userId,
         request.getLatitude(),
         request.getLongitude()
@@ -138,5 +150,36 @@ public class LocationController {
 
     return ok(UpdateMeetingLocationResponse.create(result));
   }
-}
 
+  @Operation(
+      summary = "Get participant trajectory",
+      description = "Get a participant's recorded locations within a time window of up to 24 hours, "
+          + "oldest first. Defaults to the last hour."
+  )
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Trajectory retrieved successfully"),
+      @ApiResponse(responseCode = "400", description = "Invalid time window"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized"),
+      @ApiResponse(responseCode = "403", description = "Access denied - user is not a participant or initiator"),
+      @ApiResponse(responseCode = "404", description = "Location history is not enabled")
+  })
+  @GetMapping("/{sessionId}/participants/{participantId}/trajectory")
+  public ResponseEntity<TrajectoryResponse> getTrajectory(
+      @Parameter(description = "Session ID", required = true) @PathVariable String sessionId,
+      @Parameter(description = "Participant ID", required = true) @PathVariable Long participantId,
+      @Parameter(description = "Start of the window (inclusive), ISO date-time")
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+      @Parameter(description = "End of the window (exclusive), ISO date-time")
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+      @Parameter(hidden = true) Authentication authentication
+  ) {
+    Long userId = AuthenticationUtil.getUserId(authentication);
+
+    GetTrajectoryCommand command = GetTrajectoryCommand.of(
+        SessionId.canonical(sessionId), userId, participantId, from, to
+    );
+    TrajectoryResult result = getTrajectoryUseCase.execute(command);
+
+    return ok(TrajectoryResponse.create(result));
+  }
+}
@@ -0,0 +1,62 @@
+package com.geomeet.api.adapter.web.location.dto;
+
+import com.geomeet.api.application.result.TrajectoryResult;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for participant trajectory response.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrajectoryResponse {
+    private String sessionId;
+    private Long participantId;
+    private String from;
+    private String to;
+    private Boolean truncated;
+    private List<PointInfo> points;
+
+    public static TrajectoryResponse create(TrajectoryResult result) {
+        return TrajectoryResponse.builder()
+            .sessionId(result.getSessionId())
+            .participantId(result.getParticipantId())
+            .from(format(result.getFrom()))
+            .to(format(result.getTo()))
+            .truncated(result.isTruncated())
+            .points(result.getPoints().stream()
+                .map(point -> PointInfo.builder()
+                    .latitude(point.getLatitude())
+                    .longitude(point.getLongitude())
+                    .accuracy(point.getAccuracy())
+                    .recordedAt(format(point.getRecordedAt()))
+                    .build())
+                .toList())
+            .build();
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+
+    /**
+     * One recorded location fix.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class PointInfo {
+        private Double latitude;
+        private Double longitude;
+        private Double accuracy;
+        private String recordedAt;
+    }
+}
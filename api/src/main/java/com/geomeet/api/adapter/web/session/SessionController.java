@@ -6,26 +6,46 @@ import com.geomeet.api.adapter.web.session.dto.EndSessionResponse;
 import com.geomeet.api.adapter.web.session.dto.InviteLinkResponse;
 import com.geomeet.api.adapter.web.session.dto.JoinSessionRequest;
 import com.geomeet.api.adapter.web.session.dto.JoinSessionResponse;
+import com.geomeet.api.adapter.web.session.dto.ParticipantClustersResponse;
+import com.geomeet.api.adapter.web.session.dto.ParticipantInfo;
 import com.geomeet.api.adapter.web.session.dto.SessionDetailResponse;
+import com.geomeet.api.adapter.web.session.dto.SessionParticipantsResponse;
 import com.geomeet.api.application.command.CreateSessionCommand;
 import com.geomeet.api.application.command.EndSessionCommand;
 import com.geomeet.api.application.command.GenerateInviteLinkCommand;
+import com.geomeet.api.application.command.GetParticipantClustersCommand;
 import com.geomeet.api.application.command.GetSessionDetailsCommand;
+import com.geomeet.api.application.command.GetSessionParticipantsCommand;
 import com.geomeet.api.application.command.JoinSessionCommand;
 import com.geomeet.api.application.result.CreateSessionResult;
 import com.geomeet.api.application.result.EndSessionResult;
 import com.geomeet.api.application.result.GenerateInviteLinkResult;
 import com.geomeet.api.application.result.GetSessionDetailsResult;
 import com.geomeet.api.application.result.JoinSessionResult;
+import com.geomeet.api.application.result.ParticipantClustersResult;
+import com.geomeet.api.application.result.SessionParticipantsPageResult;
+import com.geomeet.api.application.usecase.location.GetParticipantClustersUseCase;
 import com.geomeet.api.application.usecase.session.BroadcastSessionUpdateUseCase;
 import com.geomeet.api.application.usecase.session.CreateSessionUseCase;
 import com.geomeet.api.application.usecase.session.EndSessionUseCase;
 import com.geomeet.api.application.usecase.session.GenerateInviteLinkUseCase;
 import com.geomeet.api.application.usecase.session.GetSessionDetailsUseCase;
+import com.geomeet.api.application.usecase.session.GetSessionParticipantsUseCase;
 import com.geomeet.api.application.usecase.session.JoinSessionUseCase;
+import com.geomeet.api.application.usecase.session.SessionFields;
 import com.geomeet.api.adapter.web.util.AuthenticationUtil;
+import com.geomeet.api.domain.valueobject.SessionId;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -34,7 +54,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -57,12 +80,17 @@ import static com.geomeet.api.adapter.web.util.ResponseUtil.ok;
 @SecurityRequirement(name = "Bearer Authentication")
 public class SessionController {
 
+  private static final int STREAM_HELD_ROWS = GetSessionParticipantsUseCase.MAX_PAGE_SIZE;
+
   private final CreateSessionUseCase createSessionUseCase;
   private final JoinSessionUseCase joinSessionUseCase;
   private final GetSessionDetailsUseCase getSessionDetailsUseCase;
   private final GenerateInviteLinkUseCase generateInviteLinkUseCase;
   private final BroadcastSessionUpdateUseCase broadcastSessionUpdateUseCase;
   private final EndSessionUseCase endSessionUseCase;
+  private final GetParticipantClustersUseCase getParticipantClustersUseCase;
+  private final GetSessionParticipantsUseCase getSessionParticipantsUseCase;
+  private final ObjectMapper objectMapper;
 
   @Operation(
       summary = "Create a new session",
@@ -103,7 +131,7 @@ public class SessionController {
   ) {
     Long userId = AuthenticationUtil.getUserId(authentication);
 
-    GenerateInviteLinkCommand command = GenerateInviteLinkCommand.of(sessionId, userId);
+    GenerateInviteLinkCommand command = GenerateInviteLinkCommand.of(SessionId.canonical(sessionId), userId);
     GenerateInviteLinkResult result = generateInviteLinkUseCase.execute(command);
 
     return ok(InviteLinkResponse.from(result));
@@ -126,7 +154,9 @@ public class SessionController {
   ) {
     Long userId = AuthenticationUtil.getUserId(authentication);
 
-    JoinSessionCommand command = JoinSessionCommand.of(request.getSessionId(), request.getInviteCode(), userId);
+    JoinSessionCommand command = JoinSessionCommand.of(
+        SessionId.canonical(request.getSessionId()), request.getInviteCode(), userId
+    );
     JoinSessionResult result = joinSessionUseCase.execute(command);
 
     broadcastSessionUpdateUseCase.execute(result.getSessionIdString());
@@ -140,6 +170,7 @@ public class SessionController {
   )
   @ApiResponses({
       @ApiResponse(responseCode = "200", description = "Session details retrieved successfully"),
+      @ApiResponse(responseCode = "304", description = "Session unchanged since the version in If-None-Match"),
       @ApiResponse(responseCode = "401", description = "Unauthorized"),
       @ApiResponse(responseCode = "403", description = "Access denied - user is not a participant or initiator"),
       @ApiResponse(responseCode = "404", description = "Session not found")
@@ -147,14 +178,148 @@ public class SessionController {
   @GetMapping("/{sessionId}")
   public ResponseEntity<SessionDetailResponse> getSessionDetails(
       @Parameter(description = "Session ID", required = true) @PathVariable String sessionId,
-      @Parameter(hidden = true) Authentication authentication
+      @Parameter(hidden = true) Authentication authentication,
+      @Parameter(hidden = true) WebRequest webRequest
   ) {
     Long userId = AuthenticationUtil.getUserId(authentication);
 
-    GetSessionDetailsCommand command = GetSessionDetailsCommand.of(sessionId, userId);
+    GetSessionDetailsCommand command = GetSessionDetailsCommand.of(SessionId.canonical(sessionId), userId);
+    // Polling clients send back the ETag they hold; an unchanged session is answered with 304 unrendered
+    if (webRequest.checkNotModified(getSessionDetailsUseCase.currentVersion(command))) {
+      return null;
+    }
     GetSessionDetailsResult result = getSessionDetailsUseCase.execute(command);
 
-    return ok(SessionDetailResponse.from(result));
+    return ResponseEntity.ok().eTag(result.getVersion()).body(SessionDetailResponse.from(result));
+  }
+
+  @Operation(
+      summary = "Get selected session details",
+      description = "Get only the named fields of a session, e.g. fields=participants.userId,participants.latitude. "
+          + "Top-level names select session fields, participants.<name> selects participant fields."
+  )
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Session details retrieved successfully"),
+      @ApiResponse(responseCode = "304", description = "Session unchanged since the version in If-None-Match"),
+      @ApiResponse(responseCode = "400", description = "Unknown field"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized"),
+      @ApiResponse(responseCode = "403", description = "Access denied - user is not a participant or initiator")
+  })
+  @GetMapping(value = "/{sessionId}", params = "fields")
+  public ResponseEntity<Map<String, Object>> getSessionDetailFields(
+      @Parameter(description = "Session ID", required = true) @PathVariable String sessionId,
+      @Parameter(description = "Comma-separated fields to return", required = true) @RequestParam String fields,
+      @Parameter(hidden = true) Authentication authentication,
+      @Parameter(hidden = true) WebRequest webRequest
+  ) {
+    Long userId = AuthenticationUtil.getUserId(authentication);
+    SessionFields selection = SessionFields.parse(fields);
+
+    GetSessionDetailsCommand command = GetSessionDetailsCommand.of(SessionId.canonical(sessionId), userId);
+    if (webRequest.checkNotModified(selection.version(getSessionDetailsUseCase.currentVersion(command)))) {
+      return null;
+    }
+    GetSessionDetailsResult result = getSessionDetailsUseCase.execute(command);
+
+    return ResponseEntity.ok().eTag(selection.version(result.getVersion())).body(selection.project(result));
+  }
+
+  @Operation(
+      summary = "Get session participants",
+      description = "Get one page of a session's participants in join order. Pass the returned nextCursor "
+          + "as 'after' to get the following page."
+  )
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Participants retrieved successfully"),
+      @ApiResponse(responseCode = "400", description = "Invalid cursor or limit"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized"),
+      @ApiResponse(responseCode = "403", description = "Access denied - user is not a participant or initiator")
+  })
+  @GetMapping("/{sessionId}/participants")
+  public ResponseEntity<SessionParticipantsResponse> getSessionParticipants(
+      @Parameter(description = "Session ID", required = true) @PathVariable String sessionId,
+      @Parameter(description = "Cursor from the previous page") @RequestParam(required = false) Long after,
+      @Parameter(description = "Page size, 1 to 500, default 100") @RequestParam(required = false) Integer limit,
+      @Parameter(hidden = true) Authentication authentication
+  ) {
+    Long userId = AuthenticationUtil.getUserId(authentication);
+
+    GetSessionParticipantsCommand command = GetSessionParticipantsCommand.of(
+        SessionId.canonical(sessionId), userId, after, limit
+    );
+    SessionParticipantsPageResult result = getSessionParticipantsUseCase.execute(command);
+
+    return ok(SessionParticipantsResponse.from(result));
+  }
+
+  @Operation(
+      summary = "Stream session participants",
+      description = "Stream all of a session's participants as one JSON array, written row by row as they "
+          + "are read, for exporting very large sessions. Rosters of up to " + STREAM_HELD_ROWS + " participants "
+          + "are written only once read completely. If reading fails after that, the array ends with an "
+          + "{\"error\": ...} element and is never closed, so a truncated export cannot pass for a complete one."
+  )
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Participants streamed successfully"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized"),
+      @ApiResponse(responseCode = "403", description = "Access denied - user is not a participant or initiator")
+  })
+  @GetMapping(value = "/{sessionId}/participants/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamSessionParticipants(
+      @Parameter(description = "Session ID", required = true) @PathVariable String sessionId,
+      @Parameter(description = "Participant ID to continue after") @RequestParam(required = false) Long after,
+      @Parameter(hidden = true) Authentication authentication
+  ) {
+    Long userId = AuthenticationUtil.getUserId(authentication);
+
+    GetSessionParticipantsCommand command = GetSessionParticipantsCommand.of(
+        SessionId.canonical(sessionId), userId, after, null
+    );
+    // Access is checked now; rows are read only once the response body is written
+    GetSessionParticipantsUseCase.ParticipantCursor cursor = getSessionParticipantsUseCase.stream(command);
+    StreamingResponseBody body = output -> {
+      ParticipantArrayWriter writer = new ParticipantArrayWriter(objectMapper.getFactory().createGenerator(output));
+      try {
+        cursor.forEachRemaining(writer);
+      } catch (RuntimeException ex) {
+        try {
+          writer.abort();
+        } catch (IOException abortFailure) {
+          ex.addSuppressed(abortFailure);
+        }
+        throw ex;
+      }
+      writer.finish();
+    };
+
+    return ok(body);
+  }
+
+  @Operation(
+      summary = "Get participant clusters",
+      description = "Get participant counts and centroids per map tile (quadkey) at a zoom level, "
+          + "for rendering zoomed-out views of large sessions."
+  )
+  @ApiResponses({
+      @ApiResponse(responseCode = "200", description = "Clusters retrieved successfully"),
+      @ApiResponse(responseCode = "400", description = "Invalid zoom level"),
+      @ApiResponse(responseCode = "401", description = "Unauthorized"),
+      @ApiResponse(responseCode = "403", description = "Access denied - user is not a participant or initiator")
+  })
+  @GetMapping("/{sessionId}/participants/clusters")
+  public ResponseEntity<ParticipantClustersResponse> getParticipantClusters(
+      @Parameter(description = "Session ID", required = true) @PathVariable String sessionId,
+      @Parameter(description = "Map zoom level, 0 to 20", required = true) @RequestParam Integer zoom,
+      @Parameter(hidden = true) Authentication authentication
+  ) {
+    Long userId = AuthenticationUtil.getUserId(authentication);
+
+    GetParticipantClustersCommand command = GetParticipantClustersCommand.of(
+        SessionId.canonical(sessionId), userId, zoom
+    );
+    ParticipantClustersResult result = getParticipantClustersUseCase.execute(command);
+
+    return ok(ParticipantClustersResponse.from(result));
   }
 
   @Operation(
@@ -174,10 +339,74 @@ public class SessionController {
   ) {
     Long userId = AuthenticationUtil.getUserId(authentication);
 
-    EndSessionCommand command = EndSessionCommand.of(sessionId, userId);
+    EndSessionCommand command = EndSessionCommand.of(SessionId.canonical(sessionId), userId);
     EndSessionResult result = endSessionUseCase.execute(command);
 
     return ok(EndSessionResponse.from(result));
   }
-}
 
+  private static void writeParticipant(JsonGenerator generator, GetSessionDetailsResult.ParticipantInfo participant) {
+    try {
+      generator.writeObject(ParticipantInfo.from(participant));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Writes streamed participants as one JSON array. The first rows are held back, so a roster
+   * that fails within them is answered with an error status instead of a partial array.
+   */
+  private static final class ParticipantArrayWriter implements Consumer<GetSessionDetailsResult.ParticipantInfo> {
+
+    private final JsonGenerator generator;
+    private final List<GetSessionDetailsResult.ParticipantInfo> held = new ArrayList<>();
+    private boolean started;
+
+    private ParticipantArrayWriter(JsonGenerator generator) {
+      this.generator = generator;
+    }
+
+    @Override
+    public void accept(GetSessionDetailsResult.ParticipantInfo participant) {
+      if (!started && held.size() < STREAM_HELD_ROWS) {
+        held.add(participant);
+        return;
+      }
+      start();
+      writeParticipant(generator, participant);
+    }
+
+    void finish() throws IOException {
+      start();
+      generator.writeEndArray();
+      generator.flush();
+    }
+
+    /**
+     * Mark an array that was already partly sent as broken; nothing is written if it was not.
+     */
+    void abort() throws IOException {
+      if (started) {
+        generator.writeStartObject();
+        generator.writeStringField("error", "Participant stream aborted");
+        generator.writeEndObject();
+        generator.flush();
+      }
+    }
+
+    private void start() {
+      if (started) {
+        return;
+      }
+      started = true;
+      try {
+        generator.writeStartArray();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      held.forEach(participant -> writeParticipant(generator, participant));
+      held.clear();
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.geomeet.api.adapter.web.session.dto;
+
+import com.geomeet.api.application.result.ParticipantClustersResult;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for participant clusters response.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ParticipantClustersResponse {
+    private String sessionId;
+    private Integer zoom;
+    private Long participantCount;
+    private List<ClusterInfo> clusters;
+
+    /**
+     * Creates a ParticipantClustersResponse from a ParticipantClustersResult.
+     */
+    public static ParticipantClustersResponse from(ParticipantClustersResult result) {
+        return ParticipantClustersResponse.builder()
+            .sessionId(result.getSessionId())
+            .zoom(result.getZoom())
+            .participantCount(result.getParticipantCount())
+            .clusters(result.getClusters().stream()
+                .map(cluster -> ClusterInfo.builder()
+                    .quadkey(cluster.getQuadkey())
+                    .count(cluster.getCount())
+                    .latitude(cluster.getLatitude())
+                    .longitude(cluster.getLongitude())
+                    .build())
+                .toList())
+            .build();
+    }
+
+    /**
+     * Participants inside one map tile.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ClusterInfo {
+        private String quadkey;
+        private Integer count;
+        private Double latitude;
+        private Double longitude;
+    }
+}
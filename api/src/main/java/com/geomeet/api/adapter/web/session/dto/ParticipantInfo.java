@@ -1,5 +1,6 @@
 package com.geomeet.api.adapter.web.session.dto;
 
+import com.geomeet.api.application.result.GetSessionDetailsResult;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,5 +25,24 @@ public class ParticipantInfo {
     private Double longitude;
     private Double accuracy;
     private String locationUpdatedAt;
+    private Boolean online;
+
+    /**
+     * Creates a ParticipantInfo from a participant of a GetSessionDetailsResult.
+     */
+    public static ParticipantInfo from(GetSessionDetailsResult.ParticipantInfo participant) {
+        return ParticipantInfo.builder()
+            .participantId(participant.getParticipantId())
+            .userId(participant.getUserId())
+            .username(participant.getUsername())
+            .email(participant.getEmail())
+            .joinedAt(participant.getJoinedAt())
+            .latitude(participant.getLatitude())
+            .longitude(participant.getLongitude())
+            .accuracy(participant.getAccuracy())
+            .locationUpdatedAt(participant.getLocationUpdatedAt())
+            .online(participant.getOnline())
+            .build();
+    }
 }
 
@@ -40,17 +40,7 @@ public class SessionDetailResponse {
             .status(result.getStatus())
             .createdAt(result.getCreatedAt())
             .participants(result.getParticipants().stream()
-                .map(participant -> ParticipantInfo.builder()
-                    .participantId(participant.getParticipantId())
-                    .userId(participant.getUserId())
-                    .username(participant.getUsername())
-                    .email(participant.getEmail())
-                    .joinedAt(participant.getJoinedAt())
-                    .latitude(participant.getLatitude())
-                    .longitude(participant.getLongitude())
-                    .accuracy(participant.getAccuracy())
-                    .locationUpdatedAt(participant.getLocationUpdatedAt())
-                    .build())
+                .map(ParticipantInfo::from)
                 .collect(Collectors.toList()))
             .participantCount(result.getParticipantCount())
             .meetingLocationLatitude(result.getMeetingLocationLatitude())
@@ -0,0 +1,33 @@
+package com.geomeet.api.adapter.web.session.dto;
+
+import com.geomeet.api.application.result.SessionParticipantsPageResult;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for one page of session participants.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SessionParticipantsResponse {
+    private String sessionId;
+    private List<ParticipantInfo> participants;
+    // Pass as "after" to get the next page; null on the last page
+    private Long nextCursor;
+
+    /**
+     * Creates a SessionParticipantsResponse from a SessionParticipantsPageResult.
+     */
+    public static SessionParticipantsResponse from(SessionParticipantsPageResult result) {
+        return SessionParticipantsResponse.builder()
+            .sessionId(result.getSessionId())
+            .participants(result.getParticipants().stream().map(ParticipantInfo::from).toList())
+            .nextCursor(result.getNextCursor())
+            .build();
+    }
+}
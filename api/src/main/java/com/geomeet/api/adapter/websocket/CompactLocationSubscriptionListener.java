@@ -0,0 +1,52 @@
+package com.geomeet.api.adapter.websocket;
+
+import com.geomeet.api.application.usecase.session.CompactLocationSubscriptions;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.AllArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * WebSocket adapter tracking who follows {@code /topic/session/{sessionId}/locations/compact},
+ * so compact frames are only encoded for sessions that have a subscriber on this node.
+ * Unsubscribing or disconnecting removes the subscription.
+ */
+@Component
+@AllArgsConstructor
+public class CompactLocationSubscriptionListener {
+
+  private static final Pattern COMPACT_TOPIC = Pattern.compile("^/topic/session/([^/]+)/locations/compact$");
+
+  private final CompactLocationSubscriptions compactLocationSubscriptions;
+
+  @EventListener
+  public void onSubscribe(SessionSubscribeEvent event) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+    String destination = accessor.getDestination();
+    if (destination == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+      return;
+    }
+    Matcher matcher = COMPACT_TOPIC.matcher(destination);
+    if (matcher.matches()) {
+      compactLocationSubscriptions.subscribe(matcher.group(1), accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+  }
+
+  @EventListener
+  public void onUnsubscribe(SessionUnsubscribeEvent event) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+    if (accessor.getSessionId() != null && accessor.getSubscriptionId() != null) {
+      compactLocationSubscriptions.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+  }
+
+  @EventListener
+  public void onDisconnect(SessionDisconnectEvent event) {
+    compactLocationSubscriptions.removeViewer(event.getSessionId());
+  }
+}
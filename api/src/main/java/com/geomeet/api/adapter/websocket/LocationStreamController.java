@@ -0,0 +1,26 @@
+package com.geomeet.api.adapter.websocket;
+
+import com.geomeet.api.application.result.CompactLocationIndexResult;
+import com.geomeet.api.application.usecase.session.CompactLocationFrames;
+import lombok.AllArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+/**
+ * WebSocket adapter (STOMP controller) for location streams.
+ * Subscribing to {@code /app/session/{sessionId}/locations/index} returns the current
+ * participant index once, so a client can start decoding the compact location topic;
+ * later assignments arrive on {@code /topic/session/{sessionId}/locations/index}.
+ */
+@Controller
+@AllArgsConstructor
+public class LocationStreamController {
+
+  private final CompactLocationFrames compactLocationFrames;
+
+  @SubscribeMapping("/session/{sessionId}/locations/index")
+  public CompactLocationIndexResult locationIndex(@DestinationVariable String sessionId) {
+    return compactLocationFrames.snapshot(sessionId);
+  }
+}
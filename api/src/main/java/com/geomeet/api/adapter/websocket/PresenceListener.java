@@ -0,0 +1,58 @@
+package com.geomeet.api.adapter.websocket;
+
+import com.geomeet.api.application.usecase.session.BroadcastPresenceChangeUseCase;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.AllArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * WebSocket adapter feeding presence from the connection lifecycle.
+ * Subscribing to {@code /topic/session/{sessionId}}, or to its sparse variant
+ * {@code /user/queue/session/{sessionId}}, marks the authenticated user online in that session;
+ * unsubscribing or the connection closing, including the broker dropping it after missed
+ * heartbeats, marks them offline once no other subscription of theirs follows the session.
+ */
+@Component
+@AllArgsConstructor
+public class PresenceListener {
+
+  private static final Pattern SESSION_DESTINATION = Pattern.compile("^(?:/topic|/user/queue)/session/([^/]+)$");
+
+  private final BroadcastPresenceChangeUseCase broadcastPresenceChangeUseCase;
+
+  @EventListener
+  public void onSubscribe(SessionSubscribeEvent event) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+    String destination = accessor.getDestination();
+    if (destination == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null
+        || !(event.getUser() instanceof UsernamePasswordAuthenticationToken authentication)
+        || !(authentication.getPrincipal() instanceof Long userId)) {
+      return;
+    }
+    Matcher matcher = SESSION_DESTINATION.matcher(destination);
+    if (matcher.matches()) {
+      broadcastPresenceChangeUseCase.connect(
+          matcher.group(1), userId, accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+  }
+
+  @EventListener
+  public void onUnsubscribe(SessionUnsubscribeEvent event) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+    if (accessor.getSessionId() != null && accessor.getSubscriptionId() != null) {
+      broadcastPresenceChangeUseCase.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+  }
+
+  @EventListener
+  public void onDisconnect(SessionDisconnectEvent event) {
+    broadcastPresenceChangeUseCase.disconnect(event.getSessionId());
+  }
+}
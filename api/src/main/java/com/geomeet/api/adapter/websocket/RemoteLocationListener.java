@@ -0,0 +1,58 @@
+package com.geomeet.api.adapter.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.geomeet.api.application.result.UpdateLocationResult;
+import com.geomeet.api.application.usecase.location.ParticipantClusterIndex;
+import com.geomeet.api.application.usecase.session.BroadcastLocationUpdateUseCase;
+import com.geomeet.api.application.usecase.session.BroadcastViewportLocationUseCase;
+import com.geomeet.api.application.usecase.session.SessionViewportIndex;
+import com.geomeet.api.infrastructure.cluster.RemoteBroadcastEvent;
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * WebSocket adapter applying location updates made on other nodes to this node's compact
+ * stream, viewport subscribers and cluster aggregates. The JSON location topic is relayed across
+ * the cluster; compact frames, user destinations and in-memory indexes are not.
+ */
+@Component
+@AllArgsConstructor
+public class RemoteLocationListener {
+
+  private static final Logger logger = LoggerFactory.getLogger(RemoteLocationListener.class);
+  private static final Pattern LOCATIONS_TOPIC = Pattern.compile("^/topic/session/([^/]+)/locations$");
+
+  private final ObjectMapper objectMapper;
+  private final BroadcastLocationUpdateUseCase broadcastLocationUpdateUseCase;
+  private final SessionViewportIndex sessionViewportIndex;
+  private final BroadcastViewportLocationUseCase broadcastViewportLocationUseCase;
+  private final ParticipantClusterIndex participantClusterIndex;
+
+  @EventListener
+  public void onRemoteBroadcast(RemoteBroadcastEvent event) {
+    Matcher matcher = LOCATIONS_TOPIC.matcher(event.destination());
+    if (!matcher.matches()) {
+      return;
+    }
+    String sessionId = matcher.group(1);
+    try {
+      UpdateLocationResult result = objectMapper.readValue(event.payload(), UpdateLocationResult.class);
+      broadcastLocationUpdateUseCase.executeCompact(result);
+      boolean viewports = sessionViewportIndex.isTracked(sessionId);
+      if (viewports || participantClusterIndex.isTracked(sessionId)) {
+        participantClusterIndex.record(result);
+      }
+      if (viewports) {
+        broadcastViewportLocationUseCase.execute(result);
+      }
+    } catch (IOException ex) {
+      logger.warn("Ignoring unreadable remote location update on {}", event.destination(), ex);
+    }
+  }
+}
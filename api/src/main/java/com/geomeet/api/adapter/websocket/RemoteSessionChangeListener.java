@@ -0,0 +1,69 @@
+package com.geomeet.api.adapter.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.geomeet.api.application.event.SessionClosedEvent;
+import com.geomeet.api.application.result.UpdateLocationResult;
+import com.geomeet.api.application.usecase.session.BroadcastSessionUpdateUseCase;
+import com.geomeet.api.application.usecase.session.SessionReadModel;
+import com.geomeet.api.infrastructure.cluster.RemoteBroadcastEvent;
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * WebSocket adapter keeping this node's session read model in line with changes made on other
+ * nodes. Relayed location updates are applied to the held view; a relayed roster update or
+ * meeting location drops it so the next read reloads from storage. A relayed roster update is
+ * also passed on to this node's sparse roster subscribers, which the relayed topic broadcast
+ * does not reach. A relayed session end is republished as a {@link SessionClosedEvent}, so this
+ * node drops everything it holds for the session just like the node that ended it.
+ */
+@Component
+@AllArgsConstructor
+public class RemoteSessionChangeListener {
+
+  private static final Logger logger = LoggerFactory.getLogger(RemoteSessionChangeListener.class);
+  private static final Pattern SESSION_TOPIC =
+      Pattern.compile("^/topic/session/([^/]+)(/locations|/meeting-location|/end)?$");
+
+  private final ObjectMapper objectMapper;
+  private final SessionReadModel sessionReadModel;
+  private final BroadcastSessionUpdateUseCase broadcastSessionUpdateUseCase;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @EventListener
+  public void onRemoteBroadcast(RemoteBroadcastEvent event) {
+    Matcher matcher = SESSION_TOPIC.matcher(event.destination());
+    if (!matcher.matches()) {
+      return;
+    }
+    if (matcher.group(2) == null) {
+      sessionReadModel.forget(matcher.group(1));
+      broadcastSessionUpdateUseCase.executeForFieldSubscribers(matcher.group(1));
+      return;
+    }
+    if ("/end".equals(matcher.group(2))) {
+      eventPublisher.publishEvent(new SessionClosedEvent(matcher.group(1)));
+      return;
+    }
+    if (!sessionReadModel.isCached(matcher.group(1))) {
+      return;
+    }
+    if (!"/locations".equals(matcher.group(2))) {
+      sessionReadModel.forget(matcher.group(1));
+      return;
+    }
+    try {
+      sessionReadModel.recordLocation(objectMapper.readValue(event.payload(), UpdateLocationResult.class));
+    } catch (IOException ex) {
+      logger.warn("Dropping read model of {} after unreadable remote location update", matcher.group(1), ex);
+      sessionReadModel.forget(matcher.group(1));
+    }
+  }
+}
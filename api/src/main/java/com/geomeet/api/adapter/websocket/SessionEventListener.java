@@ -0,0 +1,53 @@
+package com.geomeet.api.adapter.websocket;
+
+import com.geomeet.api.application.event.LocationUpdatedEvent;
+import com.geomeet.api.application.event.MeetingLocationUpdatedEvent;
+import com.geomeet.api.application.event.SessionEndedEvent;
+import com.geomeet.api.application.usecase.location.ParticipantClusterIndex;
+import com.geomeet.api.application.usecase.session.BroadcastLocationUpdateUseCase;
+import com.geomeet.api.application.usecase.session.BroadcastMeetingLocationUseCase;
+import com.geomeet.api.application.usecase.session.BroadcastSessionEndUseCase;
+import com.geomeet.api.application.usecase.session.SessionReadModel;
+import com.geomeet.api.infrastructure.websocket.SessionEventExecutor;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * WebSocket adapter broadcasting session changes once they are committed.
+ * Fan-out runs on the session event lanes rather than the request thread, so it holds neither
+ * the request nor a database connection, and a rolled-back change is never announced.
+ * Changes published outside a transaction are broadcast right away, on the lanes as well.
+ * The in-memory read model and cluster aggregates are updated first, on the committing thread,
+ * so they never show a change that was rolled back and a client reads its own write.
+ */
+@Component
+@AllArgsConstructor
+public class SessionEventListener {
+
+  private final SessionEventExecutor sessionEventExecutor;
+  private final BroadcastLocationUpdateUseCase broadcastLocationUpdateUseCase;
+  private final BroadcastMeetingLocationUseCase broadcastMeetingLocationUseCase;
+  private final BroadcastSessionEndUseCase broadcastSessionEndUseCase;
+  private final ParticipantClusterIndex participantClusterIndex;
+  private final SessionReadModel sessionReadModel;
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onLocationUpdated(LocationUpdatedEvent event) {
+    participantClusterIndex.record(event.result());
+    sessionReadModel.recordLocation(event.result());
+    sessionEventExecutor.executeConflatable(
+        event.sessionId(), () -> broadcastLocationUpdateUseCase.execute(event.result()));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onMeetingLocationUpdated(MeetingLocationUpdatedEvent event) {
+    sessionReadModel.recordMeetingLocation(event.result());
+    sessionEventExecutor.execute(event.sessionId(), () -> broadcastMeetingLocationUseCase.execute(event.result()));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onSessionEnded(SessionEndedEvent event) {
+    sessionEventExecutor.execute(event.sessionId(), () -> broadcastSessionEndUseCase.execute(event.result()));
+  }
+}
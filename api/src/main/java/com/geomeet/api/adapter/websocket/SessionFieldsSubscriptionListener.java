@@ -0,0 +1,69 @@
+package com.geomeet.api.adapter.websocket;
+
+import com.geomeet.api.application.usecase.session.SessionFieldSubscriptions;
+import com.geomeet.api.application.usecase.session.SessionFields;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * WebSocket adapter registering sparse roster subscriptions.
+ * A SUBSCRIBE to {@code /user/queue/session/{sessionId}} with a
+ * {@code fields: participants.userId,participants.latitude} header receives roster updates with
+ * only those fields; without the header, or with an unknown field, it receives all of them.
+ * Unsubscribing or disconnecting removes the subscription.
+ */
+@Component
+@AllArgsConstructor
+public class SessionFieldsSubscriptionListener {
+
+  static final String FIELDS_HEADER = "fields";
+
+  private static final Logger logger = LoggerFactory.getLogger(SessionFieldsSubscriptionListener.class);
+  private static final Pattern SESSION_QUEUE = Pattern.compile("^/user/queue/session/([^/]+)$");
+
+  private final SessionFieldSubscriptions sessionFieldSubscriptions;
+
+  @EventListener
+  public void onSubscribe(SessionSubscribeEvent event) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+    String destination = accessor.getDestination();
+    if (destination == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+      return;
+    }
+    Matcher matcher = SESSION_QUEUE.matcher(destination);
+    if (!matcher.matches()) {
+      return;
+    }
+    SessionFields fields;
+    try {
+      fields = SessionFields.parse(accessor.getFirstNativeHeader(FIELDS_HEADER));
+    } catch (IllegalArgumentException ex) {
+      logger.warn("Sending all fields on subscription {}: {}", destination, ex.getMessage());
+      fields = SessionFields.ALL;
+    }
+    sessionFieldSubscriptions.subscribe(
+        matcher.group(1), accessor.getSessionId(), accessor.getSubscriptionId(), fields);
+  }
+
+  @EventListener
+  public void onUnsubscribe(SessionUnsubscribeEvent event) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+    if (accessor.getSessionId() != null && accessor.getSubscriptionId() != null) {
+      sessionFieldSubscriptions.unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+  }
+
+  @EventListener
+  public void onDisconnect(SessionDisconnectEvent event) {
+    sessionFieldSubscriptions.removeViewer(event.getSessionId());
+  }
+}
@@ -0,0 +1,40 @@
+package com.geomeet.api.adapter.websocket;
+
+import com.geomeet.api.adapter.websocket.dto.ViewportRequest;
+import com.geomeet.api.application.command.UpdateViewportCommand;
+import com.geomeet.api.application.usecase.session.UpdateViewportUseCase;
+import com.geomeet.api.domain.valueobject.Viewport;
+import lombok.AllArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Controller;
+
+/**
+ * WebSocket adapter (STOMP controller) for viewport updates.
+ * Sending to {@code /app/session/{sessionId}/viewport} moves the sender's viewport; the
+ * participants inside it arrive on {@code /user/queue/session/{sessionId}/locations/snapshot}
+ * and later movements on {@code /user/queue/session/{sessionId}/locations}.
+ */
+@Controller
+@AllArgsConstructor
+public class ViewportController {
+
+  private final UpdateViewportUseCase updateViewportUseCase;
+
+  @MessageMapping("/session/{sessionId}/viewport")
+  public void updateViewport(
+      @DestinationVariable String sessionId,
+      ViewportRequest request,
+      @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String viewerId
+  ) {
+    Viewport viewport = Viewport.of(
+        request.getMinLatitude(),
+        request.getMinLongitude(),
+        request.getMaxLatitude(),
+        request.getMaxLongitude()
+    );
+    updateViewportUseCase.execute(UpdateViewportCommand.of(sessionId, viewerId, viewport));
+  }
+}
@@ -0,0 +1,62 @@
+package com.geomeet.api.adapter.websocket;
+
+import com.geomeet.api.application.command.UpdateViewportCommand;
+import com.geomeet.api.application.usecase.session.SessionViewportIndex;
+import com.geomeet.api.application.usecase.session.UpdateViewportUseCase;
+import com.geomeet.api.domain.exception.GeomeetDomainException;
+import com.geomeet.api.domain.valueobject.Viewport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.AllArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+/**
+ * WebSocket adapter registering viewports given on the location subscription itself.
+ * A SUBSCRIBE to {@code /user/queue/session/{sessionId}/locations} with a
+ * {@code viewport: minLat,minLon,maxLat,maxLon} header is the same as a first viewport update;
+ * disconnecting removes the viewer from the index.
+ */
+@Component
+@AllArgsConstructor
+public class ViewportSubscriptionListener {
+
+  static final String VIEWPORT_HEADER = "viewport";
+
+  private static final Logger logger = LoggerFactory.getLogger(ViewportSubscriptionListener.class);
+  private static final Pattern LOCATIONS_DESTINATION =
+      Pattern.compile("^/user/queue/session/([^/]+)/locations$");
+
+  private final UpdateViewportUseCase updateViewportUseCase;
+  private final SessionViewportIndex sessionViewportIndex;
+
+  @EventListener
+  public void onSubscribe(SessionSubscribeEvent event) {
+    StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+    String destination = accessor.getDestination();
+    String viewport = accessor.getFirstNativeHeader(VIEWPORT_HEADER);
+    if (destination == null || viewport == null || accessor.getSessionId() == null) {
+      return;
+    }
+    Matcher matcher = LOCATIONS_DESTINATION.matcher(destination);
+    if (!matcher.matches()) {
+      return;
+    }
+    try {
+      updateViewportUseCase.execute(
+          UpdateViewportCommand.of(matcher.group(1), accessor.getSessionId(), Viewport.parse(viewport)));
+    } catch (IllegalArgumentException | GeomeetDomainException ex) {
+      logger.warn("Ignoring viewport on subscription {}: {}", destination, ex.getMessage());
+    }
+  }
+
+  @EventListener
+  public void onDisconnect(SessionDisconnectEvent event) {
+    sessionViewportIndex.removeViewer(event.getSessionId());
+  }
+}
@@ -0,0 +1,19 @@
+package com.geomeet.api.adapter.websocket.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a viewport update sent over STOMP.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ViewportRequest {
+
+    private Double minLatitude;
+    private Double minLongitude;
+    private Double maxLatitude;
+    private Double maxLongitude;
+}
@@ -0,0 +1,49 @@
+package com.geomeet.api.application.command;
+
+import com.geomeet.api.application.usecase.location.ParticipantClusterIndex;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Command object for get participant clusters use case.
+ * Represents a request for participant aggregates at a map zoom level.
+ */
+@Getter
+@Builder
+public class GetParticipantClustersCommand {
+
+    private final String sessionId;
+    private final Long userId;
+    private final Integer zoom;
+
+    public GetParticipantClustersCommand(String sessionId, Long userId, Integer zoom) {
+        if (sessionId == null || sessionId.isBlank()) {
+            throw new IllegalArgumentException("Session ID cannot be null or empty");
+        }
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (zoom == null || zoom < 0 || zoom > ParticipantClusterIndex.MAX_ZOOM) {
+            throw new IllegalArgumentException("Zoom must be between 0 and " + ParticipantClusterIndex.MAX_ZOOM);
+        }
+        this.sessionId = sessionId;
+        this.userId = userId;
+        this.zoom = zoom;
+    }
+
+    /**
+     * Factory method to create a GetParticipantClustersCommand.
+     *
+     * @param sessionId the session ID string
+     * @param userId the user ID requesting the clusters
+     * @param zoom the map zoom level
+     * @return a new GetParticipantClustersCommand
+     */
+    public static GetParticipantClustersCommand of(String sessionId, Long userId, Integer zoom) {
+        return GetParticipantClustersCommand.builder()
+            .sessionId(sessionId)
+            .userId(userId)
+            .zoom(zoom)
+            .build();
+    }
+}
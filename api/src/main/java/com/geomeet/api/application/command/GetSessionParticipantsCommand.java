@@ -0,0 +1,57 @@
+package com.geomeet.api.application.command;
+
+import com.geomeet.api.application.usecase.session.GetSessionParticipantsUseCase;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Command object for get session participants use case.
+ * Represents a request for the participants after a cursor, one page at a time or streamed.
+ */
+@Getter
+@Builder
+public class GetSessionParticipantsCommand {
+
+    private final String sessionId;
+    private final Long userId;
+    private final Long after; // participant ID the previous page ended with, null for the first page
+    private final Integer limit; // page size, ignored when streaming
+
+    public GetSessionParticipantsCommand(String sessionId, Long userId, Long after, Integer limit) {
+        if (sessionId == null || sessionId.isBlank()) {
+            throw new IllegalArgumentException("Session ID cannot be null or empty");
+        }
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (after != null && after < 0) {
+            throw new IllegalArgumentException("Cursor cannot be negative");
+        }
+        if (limit != null && (limit < 1 || limit > GetSessionParticipantsUseCase.MAX_PAGE_SIZE)) {
+            throw new IllegalArgumentException(
+                "Limit must be between 1 and " + GetSessionParticipantsUseCase.MAX_PAGE_SIZE);
+        }
+        this.sessionId = sessionId;
+        this.userId = userId;
+        this.after = after;
+        this.limit = limit != null ? limit : GetSessionParticipantsUseCase.DEFAULT_PAGE_SIZE;
+    }
+
+    /**
+     * Factory method to create a GetSessionParticipantsCommand.
+     *
+     * @param sessionId the session ID string
+     * @param userId the user ID requesting the participants
+     * @param after the cursor returned with the previous page, null for the first page
+     * @param limit the page size, null for the default
+     * @return a new GetSessionParticipantsCommand
+     */
+    public static GetSessionParticipantsCommand of(String sessionId, Long userId, Long after, Integer limit) {
+        return GetSessionParticipantsCommand.builder()
+            .sessionId(sessionId)
+            .userId(userId)
+            .after(after)
+            .limit(limit)
+            .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.geomeet.api.application.command;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Command object for get trajectory use case.
+ * Represents a request for one participant's recorded locations within a time window.
+ */
+@Getter
+@Builder
+public class GetTrajectoryCommand {
+
+    public static final Duration DEFAULT_WINDOW = Duration.ofHours(1);
+    public static final Duration MAX_WINDOW = Duration.ofDays(1);
+
+    private final String sessionId;
+    private final Long userId; // User ID requesting the trajectory
+    private final Long participantId; // Participant whose trajectory is requested
+    private final LocalDateTime from; // Inclusive
+    private final LocalDateTime to; // Exclusive
+
+    public GetTrajectoryCommand(
+        String sessionId,
+        Long userId,
+        Long participantId,
+        LocalDateTime from,
+        LocalDateTime to
+    ) {
+        if (sessionId == null || sessionId.isBlank()) {
+            throw new IllegalArgumentException("Session ID cannot be null or empty");
+        }
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (participantId == null) {
+            throw new IllegalArgumentException("Participant ID cannot be null");
+        }
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minus(DEFAULT_WINDOW);
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("From must be before to");
+        }
+        if (Duration.between(start, end).compareTo(MAX_WINDOW) > 0) {
+            throw new IllegalArgumentException("Time window cannot exceed " + MAX_WINDOW.toHours() + " hours");
+        }
+        this.sessionId = sessionId;
+        this.userId = userId;
+        this.participantId = participantId;
+        this.from = start;
+        this.to = end;
+    }
+
+    /**
+     * Factory method to create a GetTrajectoryCommand.
+     *
+     * @param sessionId the session ID string
+     * @param userId the user ID requesting the trajectory
+     * @param participantId the participant ID
+     * @param from start of the window, or null for one hour before {@code to}
+     * @param to end of the window, or null for now
+     * @return a new GetTrajectoryCommand
+     */
+    public static GetTrajectoryCommand of(
+        String sessionId,
+        Long userId,
+        Long participantId,
+        LocalDateTime from,
+        LocalDateTime to
+    ) {
+        return GetTrajectoryCommand.builder()
+            .sessionId(sessionId)
+            .userId(userId)
+            .participantId(participantId)
+            .from(from)
+            .to(to)
+            .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.geomeet.api.application.command;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Command object for logout use case.
+ * Either token may be missing; only the tokens given are revoked.
+ */
+@Getter
+@Builder
+public class LogoutCommand {
+
+    private final String accessToken; // Access token from the Authorization header, or null
+    private final String refreshToken; // Refresh token from the body, or null
+
+    public static LogoutCommand of(String accessToken, String refreshToken) {
+        return LogoutCommand.builder()
+            .accessToken(accessToken)
+            .refreshToken(refreshToken)
+            .build();
+    }
+}
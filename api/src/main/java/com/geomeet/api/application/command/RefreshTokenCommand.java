@@ -0,0 +1,28 @@
+package com.geomeet.api.application.command;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Command object for refresh token use case.
+ * Represents a refresh token presented for a new token pair.
+ */
+@Getter
+@Builder
+public class RefreshTokenCommand {
+
+    private final String refreshToken;
+
+    public RefreshTokenCommand(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new IllegalArgumentException("Refresh token cannot be null or empty");
+        }
+        this.refreshToken = refreshToken;
+    }
+
+    public static RefreshTokenCommand of(String refreshToken) {
+        return RefreshTokenCommand.builder()
+            .refreshToken(refreshToken)
+            .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.geomeet.api.application.command;
+
+import com.geomeet.api.domain.valueobject.Viewport;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Command object for update viewport use case.
+ * Represents a subscriber registering or moving the map area it wants location updates for.
+ */
+@Getter
+@Builder
+public class UpdateViewportCommand {
+
+    private final String sessionId; // SessionId value (UUID string)
+    private final String viewerId; // WebSocket session of the subscriber
+    private final Viewport viewport;
+
+    public UpdateViewportCommand(String sessionId, String viewerId, Viewport viewport) {
+        if (sessionId == null || sessionId.isBlank()) {
+            throw new IllegalArgumentException("Session ID cannot be null or empty");
+        }
+        if (viewerId == null || viewerId.isBlank()) {
+            throw new IllegalArgumentException("Viewer ID cannot be null or empty");
+        }
+        if (viewport == null) {
+            throw new IllegalArgumentException("Viewport cannot be null");
+        }
+        this.sessionId = sessionId;
+        this.viewerId = viewerId;
+        this.viewport = viewport;
+    }
+
+    /**
+     * Factory method to create an UpdateViewportCommand.
+     *
+     * @param sessionId the session ID string
+     * @param viewerId the WebSocket session ID of the subscriber
+     * @param viewport the visible map area
+     * @return a new UpdateViewportCommand
+     */
+    public static UpdateViewportCommand of(String sessionId, String viewerId, Viewport viewport) {
+        return UpdateViewportCommand.builder()
+            .sessionId(sessionId)
+            .viewerId(viewerId)
+            .viewport(viewport)
+            .build();
+    }
+}
@@ -0,0 +1,16 @@
+package com.geomeet.api.application.event;
+
+import com.geomeet.api.application.result.UpdateLocationResult;
+
+/**
+ * Published when a participant's location was saved.
+ *
+ * @param result the update location result
+ */
+public record LocationUpdatedEvent(UpdateLocationResult result) implements SessionEvent {
+
+    @Override
+    public String sessionId() {
+        return result.getSessionIdString();
+    }
+}
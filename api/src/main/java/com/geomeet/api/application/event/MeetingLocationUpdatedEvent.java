@@ -0,0 +1,16 @@
+package com.geomeet.api.application.event;
+
+import com.geomeet.api.application.result.UpdateMeetingLocationResult;
+
+/**
+ * Published when the initiator set the meeting location.
+ *
+ * @param result the update meeting location result
+ */
+public record MeetingLocationUpdatedEvent(UpdateMeetingLocationResult result) implements SessionEvent {
+
+    @Override
+    public String sessionId() {
+        return result.getSessionIdString();
+    }
+}
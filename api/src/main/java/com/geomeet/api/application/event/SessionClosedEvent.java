@@ -0,0 +1,11 @@
+package com.geomeet.api.application.event;
+
+/**
+ * Published on every node once a session ended, whether here or on another node, so that
+ * per-session state held in memory can be dropped. Unlike {@link SessionEndedEvent} it is
+ * not tied to a transaction and is handled in the publishing thread.
+ *
+ * @param sessionId the session ID string
+ */
+public record SessionClosedEvent(String sessionId) {
+}
@@ -0,0 +1,16 @@
+package com.geomeet.api.application.event;
+
+import com.geomeet.api.application.result.EndSessionResult;
+
+/**
+ * Published when the initiator ended a session.
+ *
+ * @param result the end session result
+ */
+public record SessionEndedEvent(EndSessionResult result) implements SessionEvent {
+
+    @Override
+    public String sessionId() {
+        return result.getSessionIdString();
+    }
+}
@@ -0,0 +1,14 @@
+package com.geomeet.api.application.event;
+
+/**
+ * A change to a session that its subscribers are told about once the change is committed.
+ */
+public interface SessionEvent {
+
+    /**
+     * The session the change belongs to; events of one session are broadcast in order.
+     *
+     * @return the session ID string
+     */
+    String sessionId();
+}
@@ -0,0 +1,17 @@
+package com.geomeet.api.application.result;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Result object for issuing tokens.
+ * A short-lived access token and the refresh token that replaces it.
+ */
+@Getter
+@Builder
+public class AuthTokensResult {
+
+    private final String accessToken; // JWT sent as Authorization: Bearer
+    private final String refreshToken; // Opaque token exchanged for the next pair
+    private final long expiresIn; // Seconds until the access token expires
+}
@@ -0,0 +1,30 @@
+package com.geomeet.api.application.result;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Result object describing how compact location frames of a session are decoded.
+ * Maps participant indexes used on the wire back to participant and user ids,
+ * and carries the epoch that frame timestamps are relative to.
+ */
+@Getter
+@Builder
+public class CompactLocationIndexResult {
+
+    private final String sessionIdString;
+    private final String epoch;
+    private final List<Entry> participants;
+
+    /**
+     * A single participant index assignment.
+     */
+    @Getter
+    @Builder
+    public static class Entry {
+        private final int index;
+        private final Long participantId;
+        private final Long userId;
+    }
+}
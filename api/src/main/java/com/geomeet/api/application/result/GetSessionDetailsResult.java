@@ -22,13 +22,15 @@ public class GetSessionDetailsResult {
     private final Long participantCount;
     private final Double meetingLocationLatitude;
     private final Double meetingLocationLongitude;
+    // Changes whenever anything above changes; served as the ETag of session details
+    private final String version;
 
     /**
      * Participant information within the result.
      * Contains both participant details and location information.
      */
     @Getter
-    @Builder
+    @Builder(toBuilder = true)
     public static class ParticipantInfo {
         private final Long participantId;
         private final Long userId;
@@ -40,6 +42,8 @@ public class GetSessionDetailsResult {
         private final Double longitude;
         private final Double accuracy;
         private final String locationUpdatedAt;
+        // Whether the user currently has a live connection following the session
+        private final Boolean online;
     }
 }
 
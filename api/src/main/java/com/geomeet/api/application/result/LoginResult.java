@@ -14,5 +14,6 @@ public class LoginResult {
     private final Long userId;
     private final String username;
     private final String email;
+    private final AuthTokensResult tokens; // Issued for the signed-in user
 }
 
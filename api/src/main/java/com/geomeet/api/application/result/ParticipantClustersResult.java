@@ -0,0 +1,31 @@
+package com.geomeet.api.application.result;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Result object for get participant clusters use case.
+ * Contains one aggregate per map tile that holds at least one participant.
+ */
+@Getter
+@Builder
+public class ParticipantClustersResult {
+
+    private final String sessionId;
+    private final Integer zoom;
+    private final List<Cluster> clusters;
+    private final Long participantCount;
+
+    /**
+     * Participants inside one quadkey tile.
+     */
+    @Getter
+    @Builder
+    public static class Cluster {
+        private final String quadkey;
+        private final Integer count;
+        private final Double latitude; // centroid
+        private final Double longitude; // centroid
+    }
+}
@@ -0,0 +1,16 @@
+package com.geomeet.api.application.result;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Result object for a participant going online or offline in a session.
+ */
+@Getter
+@Builder
+public class PresenceChangeResult {
+    private final String sessionIdString;
+    private final Long userId;
+    private final Boolean online;
+    private final String changedAt;
+}
@@ -0,0 +1,18 @@
+package com.geomeet.api.application.result;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Result object for get session participants use case.
+ * Contains one page of participants in join order and the cursor of the next page.
+ */
+@Getter
+@Builder
+public class SessionParticipantsPageResult {
+
+    private final String sessionId;
+    private final List<GetSessionDetailsResult.ParticipantInfo> participants;
+    private final Long nextCursor; // null on the last page
+}
@@ -0,0 +1,34 @@
+package com.geomeet.api.application.result;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Result object for get trajectory use case.
+ * Contains a participant's recorded locations within a time window, oldest first.
+ */
+@Getter
+@Builder
+public class TrajectoryResult {
+
+    private final String sessionId;
+    private final Long participantId;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final List<Point> points;
+    private final boolean truncated; // More points were recorded than returned
+
+    /**
+     * One recorded location fix.
+     */
+    @Getter
+    @Builder
+    public static class Point {
+        private final Double latitude;
+        private final Double longitude;
+        private final Double accuracy;
+        private final LocalDateTime recordedAt;
+    }
+}
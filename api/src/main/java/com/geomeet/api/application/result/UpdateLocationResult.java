@@ -2,13 +2,16 @@ package com.geomeet.api.application.result;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 /**
  * Result object for update location use case.
  * Represents the output after updating a participant's location.
+ * Deserializable so broadcasts relayed from other nodes can be routed locally.
  */
 @Getter
 @Builder
+@Jacksonized
 public class UpdateLocationResult {
 
     private final Long participantId;
@@ -0,0 +1,39 @@
+package com.geomeet.api.application.usecase.auth;
+
+import com.geomeet.api.application.result.AuthTokensResult;
+import com.geomeet.api.domain.exception.InvalidCredentialsExceptionGeomeet;
+
+/**
+ * Port for issuing, rotating and revoking access and refresh tokens.
+ * This port is defined in the application layer (use case layer).
+ */
+public interface AuthTokenIssuer {
+
+  /**
+   * Issues a token pair for a user who just signed in, starting a new refresh token family.
+   *
+   * @param userId the user ID
+   * @param username the username
+   * @return the access and refresh token
+   */
+  AuthTokensResult issue(Long userId, String username);
+
+  /**
+   * Exchanges a refresh token for a new pair. The presented token cannot be used again.
+   *
+   * @param refreshToken the refresh token
+   * @return the new access and refresh token
+   * @throws InvalidCredentialsExceptionGeomeet if the token is unknown, expired or already
+   *     exchanged, or its user can no longer sign in
+   */
+  AuthTokensResult rotate(String refreshToken);
+
+  /**
+   * Revokes an access token and a refresh token's family, with the access tokens issued from it.
+   * Tokens that are missing, invalid or already revoked are ignored.
+   *
+   * @param accessToken the access token, or null
+   * @param refreshToken the refresh token, or null
+   */
+  void revoke(String accessToken, String refreshToken);
+}
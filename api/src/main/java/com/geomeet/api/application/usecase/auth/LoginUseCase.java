@@ -7,6 +7,7 @@ import com.geomeet.api.domain.exception.GeomeetDomainException;
 import com.geomeet.api.domain.exception.InactiveUserExceptionGeomeet;
 import com.geomeet.api.domain.exception.InvalidCredentialsExceptionGeomeet;
 import com.geomeet.api.domain.service.PasswordEncoder;
+import com.geomeet.api.domain.valueobject.PasswordHash;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -20,11 +21,12 @@ public class LoginUseCase {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuthTokenIssuer authTokenIssuer;
 
 
     /**
      * Executes the login use case.
-     * Authenticates a user with username/email and password.
+     * Authenticates a user with username/email and password and issues their tokens.
      *
      * @param command the login command containing credentials
      * @return login result with user information
@@ -45,11 +47,18 @@ public class LoginUseCase {
             throw new InvalidCredentialsExceptionGeomeet();
         }
 
+        // Move the stored hash to the current work factor while the raw password is at hand
+        if (passwordEncoder.needsRehash(user.getPasswordHash().getValue())) {
+            user.changePassword(new PasswordHash(passwordEncoder.encode(command.getPassword())));
+            userRepository.save(user);
+        }
+
         // Return login result
         return LoginResult.builder()
             .userId(user.getId())
             .username(user.getUsername().getValue())
             .email(user.getEmail().getValue())
+            .tokens(authTokenIssuer.issue(user.getId(), user.getUsername().getValue()))
             .build();
     }
 }
@@ -0,0 +1,26 @@
+package com.geomeet.api.application.usecase.auth;
+
+import com.geomeet.api.application.command.LogoutCommand;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Application service (Use Case) for signing out.
+ */
+@Service
+@AllArgsConstructor
+public class LogoutUseCase {
+
+  private final AuthTokenIssuer authTokenIssuer;
+
+  /**
+   * Executes the logout use case.
+   * Revokes the access token and the refresh token's family, so no token from this login
+   * is accepted any more.
+   *
+   * @param command the logout command
+   */
+  public void execute(LogoutCommand command) {
+    authTokenIssuer.revoke(command.getAccessToken(), command.getRefreshToken());
+  }
+}
@@ -0,0 +1,29 @@
+package com.geomeet.api.application.usecase.auth;
+
+import com.geomeet.api.application.command.RefreshTokenCommand;
+import com.geomeet.api.application.result.AuthTokensResult;
+import com.geomeet.api.domain.exception.InvalidCredentialsExceptionGeomeet;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Application service (Use Case) for renewing an access token with a refresh token.
+ */
+@Service
+@AllArgsConstructor
+public class RefreshTokenUseCase {
+
+  private final AuthTokenIssuer authTokenIssuer;
+
+  /**
+   * Executes the refresh token use case.
+   * Each refresh token works once; presenting it again revokes its whole family.
+   *
+   * @param command the refresh token command
+   * @return the new access and refresh token
+   * @throws InvalidCredentialsExceptionGeomeet if the refresh token cannot be exchanged
+   */
+  public AuthTokensResult execute(RefreshTokenCommand command) {
+    return authTokenIssuer.rotate(command.getRefreshToken());
+  }
+}
@@ -22,6 +22,7 @@ public class RegisterUseCase {
 
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
+  private final AuthTokenIssuer authTokenIssuer;
 
 
   /**
@@ -54,6 +55,7 @@ public class RegisterUseCase {
         .userId(cratedUser.getId())
         .username(cratedUser.getUsername().getValue())
         .email(cratedUser.getEmail().getValue())
+        .tokens(authTokenIssuer.issue(cratedUser.getId(), cratedUser.getUsername().getValue()))
         .build();
   }
 }
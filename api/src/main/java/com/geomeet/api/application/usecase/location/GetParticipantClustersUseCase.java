@@ -0,0 +1,77 @@
+package com.geomeet.api.application.usecase.location;
+
+import com.geomeet.api.application.command.GetParticipantClustersCommand;
+import com.geomeet.api.application.result.ParticipantClustersResult;
+import com.geomeet.api.application.result.UpdateLocationResult;
+import com.geomeet.api.application.usecase.session.SessionParticipantRepository;
+import com.geomeet.api.application.usecase.session.SessionRepository;
+import com.geomeet.api.domain.entity.Session;
+import com.geomeet.api.domain.exception.ErrorCode;
+import com.geomeet.api.domain.exception.GeomeetDomainException;
+import com.geomeet.api.domain.valueobject.SessionId;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Application service (Use Case) for getting participant clusters at a zoom level.
+ * Reads the incrementally maintained tile aggregates, loading stored locations only
+ * the first time a session is asked for.
+ */
+@Service
+@AllArgsConstructor
+public class GetParticipantClustersUseCase {
+
+    private final SessionRepository sessionRepository;
+    private final SessionParticipantRepository sessionParticipantRepository;
+    private final ParticipantLocationRepository participantLocationRepository;
+    private final ParticipantClusterIndex participantClusterIndex;
+
+    /**
+     * Executes the get participant clusters use case.
+     * Same access rules as session details: participants and the initiator only, and
+     * "Access denied" for unknown sessions.
+     *
+     * @param command the get participant clusters command
+     * @return the clusters at the requested zoom level
+     * @throws GeomeetDomainException if the session is not found or access is denied
+     */
+    @Transactional(readOnly = true)
+    public ParticipantClustersResult execute(GetParticipantClustersCommand command) {
+        Session session = sessionRepository.findBySessionId(SessionId.fromString(command.getSessionId()))
+            .orElseThrow(() -> ErrorCode.ACCESS_DENIED.toException());
+
+        boolean isParticipant = sessionParticipantRepository.existsBySessionIdAndUserId(
+            session.getId(), command.getUserId()
+        );
+        if (!isParticipant && !session.getInitiatorId().equals(command.getUserId())) {
+            throw ErrorCode.ACCESS_DENIED.toException();
+        }
+
+        String sessionIdString = session.getSessionId().getValue();
+        if (!participantClusterIndex.isSeeded(sessionIdString)) {
+            // Tracked before the read, so a location saved meanwhile is recorded and kept
+            participantClusterIndex.track(sessionIdString);
+            List<UpdateLocationResult> stored = participantLocationRepository.findBySessionId(session.getId())
+                .stream()
+                .map(location -> UpdateLocationResult.builder()
+                    .participantId(location.getParticipantId())
+                    .sessionIdString(sessionIdString)
+                    .latitude(location.getLocation().getLatitude().getValue())
+                    .longitude(location.getLocation().getLongitude().getValue())
+                    .build())
+                .toList();
+            participantClusterIndex.seed(sessionIdString, stored);
+        }
+
+        List<ParticipantClustersResult.Cluster> clusters =
+            participantClusterIndex.clusters(sessionIdString, command.getZoom());
+        return ParticipantClustersResult.builder()
+            .sessionId(sessionIdString)
+            .zoom(command.getZoom())
+            .clusters(clusters)
+            .participantCount(clusters.stream().mapToLong(ParticipantClustersResult.Cluster::getCount).sum())
+            .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.geomeet.api.application.usecase.location;
+
+import com.geomeet.api.application.command.GetTrajectoryCommand;
+import com.geomeet.api.application.result.TrajectoryResult;
+import com.geomeet.api.application.usecase.session.SessionParticipantRepository;
+import com.geomeet.api.application.usecase.session.SessionRepository;
+import com.geomeet.api.domain.entity.Session;
+import com.geomeet.api.domain.exception.ErrorCode;
+import com.geomeet.api.domain.exception.GeomeetDomainException;
+import com.geomeet.api.domain.valueobject.SessionId;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+/**
+ * Application service (Use Case) for getting a participant's trajectory.
+ * Reads the recorded location fixes of one participant within a time window.
+ */
+@Service
+@AllArgsConstructor
+public class GetTrajectoryUseCase {
+
+    static final int MAX_POINTS = 10_000;
+
+    private final SessionRepository sessionRepository;
+    private final SessionParticipantRepository sessionParticipantRepository;
+    private final ObjectProvider<LocationHistoryRepository> locationHistoryRepository; // absent when disabled
+
+    /**
+     * Executes the get trajectory use case.
+     * Same access rules as session details: participants and the initiator only, and
+     * "Access denied" for unknown sessions. At most {@value #MAX_POINTS} fixes are returned,
+     * the earliest ones.
+     *
+     * @param command the get trajectory command
+     * @return the participant's fixes within the window, oldest first
+     * @throws GeomeetDomainException if the session is not found, access is denied or
+     *     location history is disabled
+     */
+    public TrajectoryResult execute(GetTrajectoryCommand command) {
+        Session session = sessionRepository.findBySessionId(SessionId.fromString(command.getSessionId()))
+            .orElseThrow(() -> ErrorCode.ACCESS_DENIED.toException());
+
+        boolean isParticipant = sessionParticipantRepository.existsBySessionIdAndUserId(
+            session.getId(), command.getUserId()
+        );
+        if (!isParticipant && !session.getInitiatorId().equals(command.getUserId())) {
+            throw ErrorCode.ACCESS_DENIED.toException();
+        }
+
+        LocationHistoryRepository history = locationHistoryRepository.getIfAvailable();
+        if (history == null) {
+            throw ErrorCode.LOCATION_HISTORY_DISABLED.toException();
+        }
+
+        // Ask for one more than returned to tell whether the window holds more
+        List<TrajectoryResult.Point> points = history.findTrajectory(
+            session.getId(), command.getParticipantId(), command.getFrom(), command.getTo(), MAX_POINTS + 1);
+        boolean truncated = points.size() > MAX_POINTS;
+        return TrajectoryResult.builder()
+            .sessionId(session.getSessionId().getValue())
+            .participantId(command.getParticipantId())
+            .from(command.getFrom())
+            .to(command.getTo())
+            .points(truncated ? points.subList(0, MAX_POINTS) : points)
+            .truncated(truncated)
+            .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.geomeet.api.application.usecase.location;
+
+import com.geomeet.api.application.result.TrajectoryResult;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for the append-only history of location fixes.
+ * This port is defined in the application layer (use case layer).
+ * Fixes are appended asynchronously after each committed location update.
+ */
+public interface LocationHistoryRepository {
+
+    /**
+     * Finds the fixes a participant recorded within a time window, oldest first.
+     *
+     * @param sessionId the session ID
+     * @param participantId the participant ID
+     * @param from start of the window, inclusive
+     * @param to end of the window, exclusive
+     * @param limit the maximum number of fixes to return
+     * @return list of fixes
+     */
+    List<TrajectoryResult.Point> findTrajectory(
+        Long sessionId,
+        Long participantId,
+        LocalDateTime from,
+        LocalDateTime to,
+        int limit
+    );
+}
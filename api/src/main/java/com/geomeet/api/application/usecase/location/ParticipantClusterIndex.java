@@ -0,0 +1,255 @@
+package com.geomeet.api.application.usecase.location;
+
+import com.geomeet.api.application.event.SessionClosedEvent;
+import com.geomeet.api.application.result.ParticipantClustersResult;
+import com.geomeet.api.application.result.UpdateLocationResult;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-session participant counts and centroids for every quadkey tile at every zoom level.
+ *
+ * <p>A location change moves the participant between at most one tile per level, so an update
+ * costs O({@value #MAX_ZOOM}) and reading all clusters at a zoom level costs O(tiles at that
+ * level) regardless of the number of participants. Tiles follow the Web Mercator tiling used by
+ * map clients, so clusters line up with the tiles the client renders. Coordinate sums are kept
+ * in fixed point, so moving a participant in and out of a tile leaves it exactly as it was.
+ * Sessions nobody updated or read in a while are dropped by {@link #evictIdle(long)} and seeded
+ * from storage again on next read.
+ */
+@Component
+public class ParticipantClusterIndex {
+
+    /**
+     * Deepest zoom level maintained; beyond it clients render individual markers.
+     */
+    public static final int MAX_ZOOM = 20;
+
+    private static final double MAX_MERCATOR_LATITUDE = 85.05112878;
+    private static final double FIXED_POINT_SCALE = 1e7;
+
+    private final Map<String, SessionTiles> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Whether location changes of the session are recorded.
+     *
+     * @param sessionId the session ID string
+     * @return true once the session was tracked or seeded
+     */
+    public boolean isTracked(String sessionId) {
+        return sessions.containsKey(sessionId);
+    }
+
+    /**
+     * Whether the session's aggregates include its stored locations.
+     *
+     * @param sessionId the session ID string
+     * @return true once the session was seeded
+     */
+    public boolean isSeeded(String sessionId) {
+        SessionTiles tiles = sessions.get(sessionId);
+        return tiles != null && tiles.isSeeded();
+    }
+
+    /**
+     * Start recording location changes of a session. Call before reading stored locations to
+     * seed from, so a change saved in between is recorded and wins over the stale read.
+     *
+     * @param sessionId the session ID string
+     */
+    public void track(String sessionId) {
+        sessions.computeIfAbsent(sessionId, id -> new SessionTiles());
+    }
+
+    /**
+     * Seed a session's aggregates from stored locations; positions already recorded or seeded
+     * win, so seeding twice never counts a participant twice.
+     *
+     * @param sessionId the session ID string
+     * @param locations the stored locations
+     */
+    public void seed(String sessionId, List<UpdateLocationResult> locations) {
+        sessions.computeIfAbsent(sessionId, id -> new SessionTiles()).seed(locations);
+    }
+
+    /**
+     * Apply an accepted location change to a tracked session; untracked sessions are ignored.
+     *
+     * @param location the location update
+     */
+    public void record(UpdateLocationResult location) {
+        SessionTiles tiles = sessions.get(location.getSessionIdString());
+        if (tiles != null) {
+            tiles.move(location.getParticipantId(), location.getLatitude(), location.getLongitude(), true);
+        }
+    }
+
+    /**
+     * Clusters of a session at a zoom level.
+     *
+     * @param sessionId the session ID string
+     * @param zoom the zoom level, 0 to {@value #MAX_ZOOM}
+     * @return one cluster per non-empty tile
+     */
+    public List<ParticipantClustersResult.Cluster> clusters(String sessionId, int zoom) {
+        if (zoom < 0 || zoom > MAX_ZOOM) {
+            throw new IllegalArgumentException("Zoom must be between 0 and " + MAX_ZOOM);
+        }
+        SessionTiles tiles = sessions.get(sessionId);
+        return tiles == null ? List.of() : tiles.clusters(zoom);
+    }
+
+    /**
+     * Drop the aggregates of an ended session.
+     *
+     * @param sessionId the session ID string
+     */
+    public void forget(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    /**
+     * Drop aggregates of sessions nobody updated or read since a point in time.
+     *
+     * @param idleBefore aggregates last used before this {@link System#currentTimeMillis()} are dropped
+     * @return the number of sessions dropped
+     */
+    public int evictIdle(long idleBefore) {
+        int before = sessions.size();
+        sessions.values().removeIf(tiles -> tiles.isIdle(idleBefore));
+        return before - sessions.size();
+    }
+
+    /**
+     * Drop the aggregates once the session closed.
+     *
+     * @param event the session closed event
+     */
+    @EventListener
+    public void onSessionClosed(SessionClosedEvent event) {
+        forget(event.sessionId());
+    }
+
+    /**
+     * Tile of a position at a zoom level, packed as {@code y << zoom | x}.
+     */
+    static long tileOf(double latitude, double longitude, int zoom) {
+        long size = 1L << zoom;
+        double clamped = Math.max(-MAX_MERCATOR_LATITUDE, Math.min(MAX_MERCATOR_LATITUDE, latitude));
+        double sinLatitude = Math.sin(Math.toRadians(clamped));
+        double mercatorY = 0.5 - Math.log((1 + sinLatitude) / (1 - sinLatitude)) / (4 * Math.PI);
+        long x = Math.min(size - 1, Math.max(0, (long) Math.floor((longitude + 180.0) / 360.0 * size)));
+        long y = Math.min(size - 1, Math.max(0, (long) Math.floor(mercatorY * size)));
+        return y << zoom | x;
+    }
+
+    /**
+     * Quadkey of a packed tile, one base-4 digit per level.
+     */
+    static String quadkey(long tile, int zoom) {
+        long x = tile & ((1L << zoom) - 1);
+        long y = tile >>> zoom;
+        StringBuilder quadkey = new StringBuilder(zoom);
+        for (int level = zoom; level > 0; level--) {
+            long mask = 1L << (level - 1);
+            int digit = ((x & mask) != 0 ? 1 : 0) + ((y & mask) != 0 ? 2 : 0);
+            quadkey.append((char) ('0' + digit));
+        }
+        return quadkey.toString();
+    }
+
+    /**
+     * Aggregates of a single session, synchronized on the instance.
+     */
+    private static final class SessionTiles {
+
+        private final Map<Long, double[]> positions = new HashMap<>();
+        private final List<Map<Long, TileAggregate>> levels = new ArrayList<>(MAX_ZOOM + 1);
+        private boolean seeded;
+        private long lastUsedMillis = System.currentTimeMillis();
+
+        private SessionTiles() {
+            for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+                levels.add(new HashMap<>());
+            }
+        }
+
+        synchronized boolean isSeeded() {
+            return seeded;
+        }
+
+        synchronized boolean isIdle(long idleBefore) {
+            return lastUsedMillis < idleBefore;
+        }
+
+        synchronized void seed(List<UpdateLocationResult> locations) {
+            for (UpdateLocationResult location : locations) {
+                move(location.getParticipantId(), location.getLatitude(), location.getLongitude(), false);
+            }
+            seeded = true;
+            lastUsedMillis = System.currentTimeMillis();
+        }
+
+        synchronized void move(Long participantId, double latitude, double longitude, boolean replace) {
+            lastUsedMillis = System.currentTimeMillis();
+            double[] previous = positions.get(participantId);
+            if (previous != null && !replace) {
+                return;
+            }
+            positions.put(participantId, new double[] {latitude, longitude});
+            for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+                Map<Long, TileAggregate> level = levels.get(zoom);
+                long tile = tileOf(latitude, longitude, zoom);
+                if (previous != null) {
+                    long previousTile = tileOf(previous[0], previous[1], zoom);
+                    TileAggregate aggregate = level.get(previousTile);
+                    aggregate.remove(previous[0], previous[1]);
+                    if (aggregate.count == 0) {
+                        level.remove(previousTile);
+                    }
+                }
+                level.computeIfAbsent(tile, key -> new TileAggregate()).add(latitude, longitude);
+            }
+        }
+
+        synchronized List<ParticipantClustersResult.Cluster> clusters(int zoom) {
+            lastUsedMillis = System.currentTimeMillis();
+            List<ParticipantClustersResult.Cluster> clusters = new ArrayList<>();
+            levels.get(zoom).forEach((tile, aggregate) -> clusters.add(ParticipantClustersResult.Cluster.builder()
+                .quadkey(quadkey(tile, zoom))
+                .count(aggregate.count)
+                .latitude(aggregate.sumLatitude / FIXED_POINT_SCALE / aggregate.count)
+                .longitude(aggregate.sumLongitude / FIXED_POINT_SCALE / aggregate.count)
+                .build()));
+            return clusters;
+        }
+    }
+
+    /**
+     * Participant count and coordinate sums of a tile, in units of 1e-7 degrees (about 1 cm).
+     * Integer sums cancel exactly on removal, where floating point sums would drift.
+     */
+    private static final class TileAggregate {
+
+        private int count;
+        private long sumLatitude;
+        private long sumLongitude;
+
+        void add(double latitude, double longitude) {
+            count++;
+            sumLatitude += Math.round(latitude * FIXED_POINT_SCALE);
+            sumLongitude += Math.round(longitude * FIXED_POINT_SCALE);
+        }
+
+        void remove(double latitude, double longitude) {
+            count--;
+            sumLatitude -= Math.round(latitude * FIXED_POINT_SCALE);
+            sumLongitude -= Math.round(longitude * FIXED_POINT_SCALE);
+        }
+    }
+}
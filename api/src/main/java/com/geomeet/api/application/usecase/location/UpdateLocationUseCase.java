@@ -1,8 +1,8 @@
 package com.geomeet.api.application.usecase.location;
 
 import com.geomeet.api.application.command.UpdateLocationCommand;
+import com.geomeet.api.application.event.LocationUpdatedEvent;
 import com.geomeet.api.application.result.UpdateLocationResult;
-import com.geomeet.api.application.usecase.session.BroadcastLocationUpdateUseCase;
 import com.geomeet.api.application.usecase.session.SessionParticipantRepository;
 import com.geomeet.api.application.usecase.session.SessionRepository;
 import com.geomeet.api.domain.entity.ParticipantLocation;
@@ -14,6 +14,7 @@ import com.geomeet.api.domain.valueobject.Location;
 import com.geomeet.api.domain.valueobject.SessionId;
 import java.time.format.DateTimeFormatter;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,7 +31,7 @@ public class UpdateLocationUseCase {
     private final SessionRepository sessionRepository;
     private final SessionParticipantRepository sessionParticipantRepository;
     private final ParticipantLocationRepository participantLocationRepository;
-    private final BroadcastLocationUpdateUseCase broadcastLocationUpdateUseCase;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     /**
@@ -99,8 +100,8 @@ public class UpdateLocationUseCase {
             .message("Location updated successfully")
             .build();
 
-        // Broadcast location update to all subscribers
-        broadcastLocationUpdateUseCase.execute(result);
+        // Update in-memory views and broadcast to all subscribers once the location is committed
+        eventPublisher.publishEvent(new LocationUpdatedEvent(result));
 
         return result;
     }
@@ -1,8 +1,8 @@
 package com.geomeet.api.application.usecase.location;
 
 import com.geomeet.api.application.command.UpdateMeetingLocationCommand;
+import com.geomeet.api.application.event.MeetingLocationUpdatedEvent;
 import com.geomeet.api.application.result.UpdateMeetingLocationResult;
-import com.geomeet.api.application.usecase.session.BroadcastMeetingLocationUseCase;
 import com.geomeet.api.application.usecase.session.SessionRepository;
 import com.geomeet.api.domain.entity.Session;
 import com.geomeet.api.domain.exception.ErrorCode;
@@ -10,6 +10,7 @@ import com.geomeet.api.domain.exception.GeomeetDomainException;
 import com.geomeet.api.domain.valueobject.Location;
 import com.geomeet.api.domain.valueobject.SessionId;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,7 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateMeetingLocationUseCase {
 
     private final SessionRepository sessionRepository;
-    private final BroadcastMeetingLocationUseCase broadcastMeetingLocationUseCase;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Executes the update meeting location use case.
@@ -62,8 +63,8 @@ public class UpdateMeetingLocationUseCase {
             .message("Meeting location updated successfully")
             .build();
 
-        // Broadcast meeting location update to all subscribers
-        broadcastMeetingLocationUseCase.execute(result);
+        // Update in-memory views and broadcast to all subscribers once the meeting location is committed
+        eventPublisher.publishEvent(new MeetingLocationUpdatedEvent(result));
 
         return result;
     }
@@ -1,6 +1,7 @@
 package com.geomeet.api.application.usecase.session;
 
 import com.geomeet.api.application.result.UpdateLocationResult;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
@@ -13,19 +14,72 @@ import org.springframework.stereotype.Service;
 @AllArgsConstructor
 public class BroadcastLocationUpdateUseCase {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    /**
+     * STOMP header telling the transport that only the latest frame per destination and key matters,
+     * so a slow subscriber can skip superseded positions instead of queueing them.
+     */
+    public static final String CONFLATION_KEY_HEADER = "x-conflation-key";
 
+    private final SimpMessagingTemplate messagingTemplate;
+    private final CompactLocationFrames compactLocationFrames;
+    private final CompactLocationSubscriptions compactLocationSubscriptions;
+    private final BroadcastViewportLocationUseCase broadcastViewportLocationUseCase;
 
     /**
      * Executes the broadcast location update use case.
-     * Broadcasts the location update to all subscribers of the session.
+     * Broadcasts the location update to all subscribers of the session, as JSON on the
+     * locations topic and as a compact binary frame on its {@code /compact} sub-topic,
+     * then routes it to the viewport subscribers that can see it.
      *
      * @param result the location update result to broadcast
      */
     public void execute(UpdateLocationResult result) {
         // Broadcast to all subscribers of this session's location updates
         String destination = "/topic/session/" + result.getSessionIdString() + "/locations";
-        messagingTemplate.convertAndSend(destination, result);
+        messagingTemplate.convertAndSend(destination, result, conflationHeaders(result));
+
+        executeCompact(result);
+        broadcastViewportLocationUseCase.execute(result);
+    }
+
+    /**
+     * Broadcasts a location update as a compact binary frame, publishing the session's participant
+     * index first when the frame needed a new entry. Also applied to location updates relayed from
+     * other nodes: participant indexes are assigned per node, so compact frames are never relayed.
+     * Nothing is encoded unless someone on this node follows the session's compact topic.
+     *
+     * @param result the location update result to broadcast
+     */
+    public void executeCompact(UpdateLocationResult result) {
+        if (!compactLocationSubscriptions.hasSubscribers(result.getSessionIdString())) {
+            return;
+        }
+        String destination = "/topic/session/" + result.getSessionIdString() + "/locations";
+        CompactLocationFrames.Frame frame = compactLocationFrames.encode(result);
+        if (frame.indexChanged()) {
+            // Publish the new participant index before the first frame that uses it
+            messagingTemplate.convertAndSend(
+                destination + "/index", compactLocationFrames.snapshot(result.getSessionIdString()));
+        }
+        messagingTemplate.convertAndSend(destination + "/compact", frame.payload(), conflationHeaders(result));
+    }
+
+    /**
+     * Removes a user who left a session from its compact participant index, publishing the
+     * updated index to compact subscribers.
+     *
+     * @param sessionIdString the session ID string
+     * @param userId the user who left
+     */
+    public void executeLeave(String sessionIdString, Long userId) {
+        if (compactLocationFrames.remove(sessionIdString, userId)
+            && compactLocationSubscriptions.hasSubscribers(sessionIdString)) {
+            messagingTemplate.convertAndSend("/topic/session/" + sessionIdString + "/locations/index",
+                compactLocationFrames.snapshot(sessionIdString));
+        }
     }
-}
 
+    private static Map<String, Object> conflationHeaders(UpdateLocationResult result) {
+        return Map.of(CONFLATION_KEY_HEADER, String.valueOf(result.getParticipantId()));
+    }
+}
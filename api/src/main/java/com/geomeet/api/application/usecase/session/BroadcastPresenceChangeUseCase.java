@@ -0,0 +1,73 @@
+package com.geomeet.api.application.usecase.session;
+
+import com.geomeet.api.application.result.PresenceChangeResult;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import lombok.AllArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Application service (Use Case) for tracking presence and broadcasting its changes via WebSocket.
+ * Only transitions are broadcast: a second tab of an online user, or closing one of two tabs,
+ * sends nothing. A user goes offline once their last subscription to the session is dropped or
+ * their last connection closes, and going offline also leaves the session's compact location index.
+ */
+@Service
+@AllArgsConstructor
+public class BroadcastPresenceChangeUseCase {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final SessionPresenceRegistry sessionPresenceRegistry;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final BroadcastLocationUpdateUseCase broadcastLocationUpdateUseCase;
+
+    /**
+     * Record that a connection follows a session, broadcasting if the user came online.
+     *
+     * @param sessionIdString the session ID string
+     * @param userId the connected user
+     * @param connectionId the WebSocket session ID
+     * @param subscriptionId the STOMP subscription ID
+     */
+    public void connect(String sessionIdString, Long userId, String connectionId, String subscriptionId) {
+        if (sessionPresenceRegistry.connect(sessionIdString, userId, connectionId, subscriptionId)) {
+            broadcast(sessionIdString, userId, true);
+        }
+    }
+
+    /**
+     * Drop one subscription of a connection, broadcasting if the user went offline with it.
+     *
+     * @param connectionId the WebSocket session ID
+     * @param subscriptionId the STOMP subscription ID
+     */
+    public void unsubscribe(String connectionId, String subscriptionId) {
+        sessionPresenceRegistry.unsubscribe(connectionId, subscriptionId).ifPresent(this::wentOffline);
+    }
+
+    /**
+     * Drop a closed connection, broadcasting every user that went offline with it.
+     *
+     * @param connectionId the WebSocket session ID
+     */
+    public void disconnect(String connectionId) {
+        sessionPresenceRegistry.disconnect(connectionId).forEach(this::wentOffline);
+    }
+
+    private void wentOffline(SessionPresenceRegistry.Membership membership) {
+        broadcast(membership.sessionId(), membership.userId(), false);
+        broadcastLocationUpdateUseCase.executeLeave(membership.sessionId(), membership.userId());
+    }
+
+    private void broadcast(String sessionIdString, Long userId, boolean online) {
+        PresenceChangeResult result = PresenceChangeResult.builder()
+            .sessionIdString(sessionIdString)
+            .userId(userId)
+            .online(online)
+            .changedAt(LocalDateTime.now().format(DATE_TIME_FORMATTER))
+            .build();
+        messagingTemplate.convertAndSend("/topic/session/" + sessionIdString + "/presence", result);
+    }
+}
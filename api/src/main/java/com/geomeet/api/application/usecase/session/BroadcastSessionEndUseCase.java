@@ -1,5 +1,6 @@
 package com.geomeet.api.application.usecase.session;
 
+import com.geomeet.api.application.event.SessionClosedEvent;
 import com.geomeet.api.application.result.EndSessionResult;
 import com.geomeet.api.domain.entity.Session;
 import com.geomeet.api.domain.valueobject.SessionId;
@@ -7,6 +8,7 @@ import java.time.format.DateTimeFormatter;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
@@ -22,12 +24,13 @@ public class BroadcastSessionEndUseCase {
 
     private final SessionRepository sessionRepository;
     private final SimpMessagingTemplate messagingTemplate;
-
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Executes the broadcast session end use case.
      * Broadcasts the session end notification to all subscribers.
-     * Includes meeting location if it exists.
+     * Includes meeting location if it exists, then lets this node drop the session's
+     * in-memory state.
      *
      * @param result the end session result
      */
@@ -59,6 +62,9 @@ public class BroadcastSessionEndUseCase {
         // Broadcast to all subscribers of this session
         String destination = "/topic/session/" + result.getSessionIdString() + "/end";
         messagingTemplate.convertAndSend(destination, notification);
+
+        // No more location frames will be sent for this session
+        eventPublisher.publishEvent(new SessionClosedEvent(result.getSessionIdString()));
     }
 
     /**
@@ -0,0 +1,55 @@
+package com.geomeet.api.application.usecase.session;
+
+import static com.geomeet.api.application.usecase.session.BroadcastLocationUpdateUseCase.CONFLATION_KEY_HEADER;
+
+import com.geomeet.api.application.result.UpdateLocationResult;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Application service (Use Case) for routing location updates to viewport subscribers.
+ * Only viewers whose viewport contains the new or the previous position receive the update,
+ * on their private {@code /user/queue/session/{sessionId}/locations} destination.
+ */
+@Service
+@AllArgsConstructor
+public class BroadcastViewportLocationUseCase {
+
+    private final SessionViewportIndex sessionViewportIndex;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * Executes the broadcast viewport location use case.
+     *
+     * @param result the location update result to route
+     */
+    public void execute(UpdateLocationResult result) {
+        Set<String> viewers = sessionViewportIndex.track(result);
+        if (viewers.isEmpty()) {
+            return;
+        }
+        String destination = "/queue/session/" + result.getSessionIdString() + "/locations";
+        String conflationKey = String.valueOf(result.getParticipantId());
+        for (String viewerId : viewers) {
+            messagingTemplate.convertAndSendToUser(
+                viewerId, destination, result, viewerHeaders(viewerId, conflationKey).getMessageHeaders());
+        }
+    }
+
+    /**
+     * Headers addressing a single WebSocket session, so user destinations resolve without a principal.
+     */
+    static SimpMessageHeaderAccessor viewerHeaders(String viewerId, String conflationKey) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(viewerId);
+        if (conflationKey != null) {
+            accessor.setNativeHeader(CONFLATION_KEY_HEADER, conflationKey);
+        }
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+}
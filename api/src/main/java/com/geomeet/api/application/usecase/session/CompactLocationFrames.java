@@ -0,0 +1,216 @@
+package com.geomeet.api.application.usecase.session;
+
+import com.geomeet.api.application.event.SessionClosedEvent;
+import com.geomeet.api.application.result.CompactLocationIndexResult;
+import com.geomeet.api.application.result.UpdateLocationResult;
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compact binary encoding for location broadcasts, the opt-in alternative to the JSON
+ * {@link UpdateLocationResult} on high-frequency streams.
+ *
+ * <p>Frame layout (big-endian):
+ * <pre>
+ * byte    version (high nibble) and frame type (low nibble)
+ * varint  participant index, see {@link #snapshot(String)}
+ * varint  zigzag milliseconds since the session epoch
+ * int32   latitude  * 1e7
+ * int32   longitude * 1e7
+ * varint  accuracy in decimetres + 1, 0 when unknown
+ * </pre>
+ * A fix is typically 14-16 bytes against roughly 250 for the JSON form. The index of a session
+ * nothing was broadcast for in a while is dropped by {@link #evictIdle(long)}; the next update
+ * starts a fresh one and publishes it before its first frame. Entries of participants who left
+ * are removed; their index numbers are not handed out again within the same index.
+ */
+@Component
+public class CompactLocationFrames {
+
+    public static final byte VERSION = 1;
+    public static final byte TYPE_LOCATION = 1;
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final double COORDINATE_SCALE = 1e7;
+    private static final int MAX_FRAME_SIZE = 24;
+
+    private final Map<String, SessionIndex> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Encode a location update, assigning a participant index on first sight.
+     *
+     * @param result the location update
+     * @return the encoded frame and whether the session's index changed
+     */
+    public Frame encode(UpdateLocationResult result) {
+        LocalDateTime updatedAt = LocalDateTime.parse(result.getUpdatedAt(), DATE_TIME_FORMATTER);
+        SessionIndex index = sessions.computeIfAbsent(result.getSessionIdString(), id -> new SessionIndex(updatedAt));
+
+        int participantIndex;
+        boolean assigned;
+        synchronized (index) {
+            Integer existing = index.indexByParticipant.get(result.getParticipantId());
+            assigned = existing == null;
+            participantIndex = assigned ? index.assign(result.getParticipantId(), result.getUserId()) : existing;
+            index.lastEncodedMillis = System.currentTimeMillis();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(MAX_FRAME_SIZE);
+        out.write((VERSION << 4) | TYPE_LOCATION);
+        writeVarint(out, participantIndex);
+        writeVarint(out, zigzag(Duration.between(index.epoch, updatedAt).toMillis()));
+        writeInt(out, (int) Math.round(result.getLatitude() * COORDINATE_SCALE));
+        writeInt(out, (int) Math.round(result.getLongitude() * COORDINATE_SCALE));
+        writeVarint(out, result.getAccuracy() == null ? 0 : Math.round(result.getAccuracy() * 10) + 1);
+        return new Frame(out.toByteArray(), assigned);
+    }
+
+    /**
+     * Current participant index of a session, for subscribers of the compact stream.
+     *
+     * @param sessionIdString the session id
+     * @return the index snapshot, empty if no location was broadcast yet
+     */
+    public CompactLocationIndexResult snapshot(String sessionIdString) {
+        SessionIndex index = sessions.get(sessionIdString);
+        if (index == null) {
+            return CompactLocationIndexResult.builder()
+                .sessionIdString(sessionIdString)
+                .participants(List.of())
+                .build();
+        }
+        List<CompactLocationIndexResult.Entry> entries;
+        synchronized (index) {
+            entries = new ArrayList<>(index.entries.values());
+        }
+        return CompactLocationIndexResult.builder()
+            .sessionIdString(sessionIdString)
+            .epoch(index.epoch.format(DATE_TIME_FORMATTER))
+            .participants(entries)
+            .build();
+    }
+
+    /**
+     * Remove the entries of a user who left a session.
+     *
+     * @param sessionIdString the session id
+     * @param userId the user who left
+     * @return true if the session's index changed
+     */
+    public boolean remove(String sessionIdString, Long userId) {
+        SessionIndex index = sessions.get(sessionIdString);
+        if (index == null) {
+            return false;
+        }
+        synchronized (index) {
+            return index.remove(userId);
+        }
+    }
+
+    /**
+     * Drop the index of a session that has ended.
+     *
+     * @param sessionIdString the session id
+     */
+    public void forget(String sessionIdString) {
+        sessions.remove(sessionIdString);
+    }
+
+    /**
+     * Drop the index once the session closed; no more frames will be encoded for it.
+     *
+     * @param event the session closed event
+     */
+    @EventListener
+    public void onSessionClosed(SessionClosedEvent event) {
+        forget(event.sessionId());
+    }
+
+    /**
+     * Drop indexes of sessions nothing was broadcast for since a point in time.
+     *
+     * @param idleBefore indexes last used before this {@link System#currentTimeMillis()} are dropped
+     * @return the number of indexes dropped
+     */
+    public int evictIdle(long idleBefore) {
+        int before = sessions.size();
+        sessions.values().removeIf(index -> index.isIdle(idleBefore));
+        return before - sessions.size();
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.write((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.write((int) remaining);
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value) {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    /**
+     * An encoded location frame.
+     *
+     * @param payload the frame bytes
+     * @param indexChanged true if a new participant index was assigned for this frame
+     */
+    public record Frame(byte[] payload, boolean indexChanged) {
+    }
+
+    private static final class SessionIndex {
+
+        private final LocalDateTime epoch;
+        private final Map<Long, Integer> indexByParticipant = new HashMap<>();
+        private final Map<Integer, CompactLocationIndexResult.Entry> entries = new LinkedHashMap<>();
+        private int nextIndex;
+        private long lastEncodedMillis = System.currentTimeMillis();
+
+        private SessionIndex(LocalDateTime epoch) {
+            this.epoch = epoch;
+        }
+
+        private synchronized boolean isIdle(long idleBefore) {
+            return lastEncodedMillis < idleBefore;
+        }
+
+        private int assign(Long participantId, Long userId) {
+            int next = nextIndex++;
+            indexByParticipant.put(participantId, next);
+            entries.put(next, CompactLocationIndexResult.Entry.builder()
+                .index(next)
+                .participantId(participantId)
+                .userId(userId)
+                .build());
+            return next;
+        }
+
+        private boolean remove(Long userId) {
+            boolean removed = entries.values().removeIf(entry -> entry.getUserId().equals(userId));
+            if (removed) {
+                indexByParticipant.keySet().retainAll(
+                    entries.values().stream().map(CompactLocationIndexResult.Entry::getParticipantId).toList());
+            }
+            return removed;
+        }
+    }
+}
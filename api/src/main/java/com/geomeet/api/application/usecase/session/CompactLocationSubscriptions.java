@@ -0,0 +1,92 @@
+package com.geomeet.api.application.usecase.session;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Subscriptions to each session's compact location topic on this node. Compact frames are only
+ * encoded for sessions someone follows here, so sessions watched through JSON alone pay nothing
+ * for them. A subscription is identified by its connection and STOMP subscription ID, so one
+ * connection may follow several sessions and drop them one at a time.
+ */
+@Component
+public class CompactLocationSubscriptions {
+
+    private final Map<String, Set<String>> subscriptionsBySession = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> sessionsByViewer = new ConcurrentHashMap<>();
+
+    /**
+     * Register a subscription to a session's compact topic.
+     *
+     * @param sessionId the session ID string
+     * @param viewerId the WebSocket session ID of the connection
+     * @param subscriptionId the STOMP subscription ID
+     */
+    public void subscribe(String sessionId, String viewerId, String subscriptionId) {
+        // Both maps change inside compute, so a concurrent removal never drops a fresh entry
+        sessionsByViewer.compute(viewerId, (id, subscriptions) -> {
+            Map<String, String> updated = subscriptions != null ? subscriptions : new HashMap<>();
+            updated.put(subscriptionId, sessionId);
+            return updated;
+        });
+        subscriptionsBySession.compute(sessionId, (id, keys) -> {
+            Set<String> updated = keys != null ? keys : new HashSet<>();
+            updated.add(key(viewerId, subscriptionId));
+            return updated;
+        });
+    }
+
+    /**
+     * Drop one subscription, e.g. after an UNSUBSCRIBE; unknown subscriptions are ignored.
+     *
+     * @param viewerId the WebSocket session ID of the connection
+     * @param subscriptionId the STOMP subscription ID
+     */
+    public void unsubscribe(String viewerId, String subscriptionId) {
+        String[] sessionId = new String[1];
+        sessionsByViewer.computeIfPresent(viewerId, (id, subscriptions) -> {
+            sessionId[0] = subscriptions.remove(subscriptionId);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+        if (sessionId[0] != null) {
+            release(sessionId[0], key(viewerId, subscriptionId));
+        }
+    }
+
+    /**
+     * Drop every subscription of a connection, e.g. after it disconnected.
+     *
+     * @param viewerId the WebSocket session ID of the connection
+     */
+    public void removeViewer(String viewerId) {
+        Map<String, String> subscriptions = sessionsByViewer.remove(viewerId);
+        if (subscriptions != null) {
+            subscriptions.forEach((subscriptionId, sessionId) -> release(sessionId, key(viewerId, subscriptionId)));
+        }
+    }
+
+    /**
+     * Whether anyone on this node follows the session's compact topic.
+     *
+     * @param sessionId the session ID string
+     * @return true if there is at least one subscription
+     */
+    public boolean hasSubscribers(String sessionId) {
+        return subscriptionsBySession.containsKey(sessionId);
+    }
+
+    private void release(String sessionId, String key) {
+        subscriptionsBySession.computeIfPresent(sessionId, (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    private static String key(String viewerId, String subscriptionId) {
+        return viewerId + '/' + subscriptionId;
+    }
+}
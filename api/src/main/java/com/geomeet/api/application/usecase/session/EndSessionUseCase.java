@@ -1,6 +1,7 @@
 package com.geomeet.api.application.usecase.session;
 
 import com.geomeet.api.application.command.EndSessionCommand;
+import com.geomeet.api.application.event.SessionEndedEvent;
 import com.geomeet.api.application.result.EndSessionResult;
 import com.geomeet.api.domain.entity.Session;
 import com.geomeet.api.domain.exception.ErrorCode;
@@ -8,6 +9,7 @@ import com.geomeet.api.domain.exception.GeomeetDomainException;
 import com.geomeet.api.domain.valueobject.SessionId;
 import java.time.format.DateTimeFormatter;
 import lombok.AllArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,7 +24,7 @@ public class EndSessionUseCase {
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
     private final SessionRepository sessionRepository;
-    private final BroadcastSessionEndUseCase broadcastSessionEndUseCase;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Executes the end session use case.
@@ -59,8 +61,8 @@ public class EndSessionUseCase {
             .message("Session ended successfully")
             .build();
 
-        // Broadcast session end notification to all subscribers
-        broadcastSessionEndUseCase.execute(result);
+        // Broadcast the end to all subscribers once it is committed, off the request thread
+        eventPublisher.publishEvent(new SessionEndedEvent(result));
 
         return result;
     }
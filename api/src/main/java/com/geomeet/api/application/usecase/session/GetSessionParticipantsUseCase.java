@@ -0,0 +1,114 @@
+package com.geomeet.api.application.usecase.session;
+
+import com.geomeet.api.application.command.GetSessionParticipantsCommand;
+import com.geomeet.api.application.result.GetSessionDetailsResult;
+import com.geomeet.api.application.result.SessionParticipantsPageResult;
+import com.geomeet.api.domain.entity.Session;
+import com.geomeet.api.domain.exception.ErrorCode;
+import com.geomeet.api.domain.exception.GeomeetDomainException;
+import com.geomeet.api.domain.valueobject.SessionId;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Application service (Use Case) for listing the participants of large sessions.
+ * Pages are addressed by the last participant ID of the previous page, so each page is an
+ * index seek rather than an offset scan; the whole list can also be streamed row by row.
+ */
+@Service
+@AllArgsConstructor
+public class GetSessionParticipantsUseCase {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final SessionRepository sessionRepository;
+    private final SessionParticipantRepository sessionParticipantRepository;
+    private final SessionPresenceRegistry sessionPresenceRegistry;
+
+    /**
+     * Executes the get session participants use case for one page.
+     * Same access rules as session details: participants and the initiator only, and
+     * "Access denied" for unknown sessions.
+     *
+     * @param command the get session participants command
+     * @return the page and the cursor of the next one
+     * @throws GeomeetDomainException if the session is not found or access is denied
+     */
+    @Transactional(readOnly = true)
+    public SessionParticipantsPageResult execute(GetSessionParticipantsCommand command) {
+        Session session = authorize(command);
+        int limit = command.getLimit();
+
+        // One extra row tells whether another page follows
+        List<GetSessionDetailsResult.ParticipantInfo> rows =
+            sessionParticipantRepository.findParticipantPage(session.getId(), command.getAfter(), limit + 1);
+        boolean hasMore = rows.size() > limit;
+        List<GetSessionDetailsResult.ParticipantInfo> page = hasMore ? rows.subList(0, limit) : rows;
+
+        Set<Long> onlineUsers = sessionPresenceRegistry.onlineUsers(session.getSessionId().getValue());
+        return SessionParticipantsPageResult.builder()
+            .sessionId(session.getSessionId().getValue())
+            .participants(page.stream().map(participant -> withPresence(participant, onlineUsers)).toList())
+            .nextCursor(hasMore ? page.get(page.size() - 1).getParticipantId() : null)
+            .build();
+    }
+
+    /**
+     * Checks access and returns a cursor over all participants after {@code command.getAfter()}.
+     * Nothing is read until the cursor is consumed, which may happen on another thread; rows
+     * are then handed over as they arrive from the database.
+     *
+     * @param command the get session participants command; the limit is ignored
+     * @return the participant cursor
+     * @throws GeomeetDomainException if the session is not found or access is denied
+     */
+    @Transactional(readOnly = true)
+    public ParticipantCursor stream(GetSessionParticipantsCommand command) {
+        Session session = authorize(command);
+        Long id = session.getId();
+        String sessionIdString = session.getSessionId().getValue();
+        return action -> {
+            Set<Long> onlineUsers = sessionPresenceRegistry.onlineUsers(sessionIdString);
+            sessionParticipantRepository.forEachParticipant(id, command.getAfter(),
+                participant -> action.accept(withPresence(participant, onlineUsers)));
+        };
+    }
+
+    private Session authorize(GetSessionParticipantsCommand command) {
+        Session session = sessionRepository.findBySessionId(SessionId.fromString(command.getSessionId()))
+            .orElseThrow(() -> ErrorCode.ACCESS_DENIED.toException());
+
+        boolean isParticipant = sessionParticipantRepository.existsBySessionIdAndUserId(
+            session.getId(), command.getUserId()
+        );
+        if (!isParticipant && !session.getInitiatorId().equals(command.getUserId())) {
+            throw ErrorCode.ACCESS_DENIED.toException();
+        }
+        return session;
+    }
+
+    private static GetSessionDetailsResult.ParticipantInfo withPresence(
+        GetSessionDetailsResult.ParticipantInfo participant, Set<Long> onlineUsers
+    ) {
+        return participant.toBuilder().online(onlineUsers.contains(participant.getUserId())).build();
+    }
+
+    /**
+     * Participants of a session, read on demand.
+     */
+    @FunctionalInterface
+    public interface ParticipantCursor {
+
+        /**
+         * Hand every remaining participant to {@code action}, in join order.
+         *
+         * @param action receives each participant
+         */
+        void forEachRemaining(Consumer<GetSessionDetailsResult.ParticipantInfo> action);
+    }
+}
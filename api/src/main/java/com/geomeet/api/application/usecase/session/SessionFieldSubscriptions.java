@@ -0,0 +1,138 @@
+package com.geomeet.api.application.usecase.session;
+
+import com.geomeet.api.application.event.SessionClosedEvent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Connections following a session's roster on their private queue, each with the fields it
+ * asked for. Roster broadcasts are projected once per distinct fieldset and sent to every
+ * connection that asked for it. A connection may follow several sessions, each through its own
+ * STOMP subscription, and drop them one at a time; all of its subscriptions to one session
+ * share the fieldset it subscribed with last, since they receive the same messages.
+ */
+@Component
+public class SessionFieldSubscriptions {
+
+    private final Map<String, Map<String, SessionFields>> viewersBySession = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> sessionsByViewer = new ConcurrentHashMap<>();
+
+    /**
+     * Register a subscription with its fieldset, replacing the connection's earlier fieldset
+     * for the session.
+     *
+     * @param sessionId the session ID string
+     * @param viewerId the WebSocket session ID of the connection
+     * @param subscriptionId the STOMP subscription ID
+     * @param fields the fields the connection wants
+     */
+    public void subscribe(String sessionId, String viewerId, String subscriptionId, SessionFields fields) {
+        // Changes of one connection are serialized by its entry, so they never interleave
+        sessionsByViewer.compute(viewerId, (id, subscriptions) -> {
+            Map<String, String> updated = subscriptions != null ? subscriptions : new HashMap<>();
+            String previous = updated.put(subscriptionId, sessionId);
+            if (previous != null && !updated.containsValue(previous)) {
+                removeFrom(previous, viewerId);
+            }
+            viewersBySession.compute(sessionId, (key, viewers) -> {
+                Map<String, SessionFields> added = viewers != null ? viewers : new ConcurrentHashMap<>();
+                added.put(viewerId, fields);
+                return added;
+            });
+            return updated;
+        });
+    }
+
+    /**
+     * Drop one subscription, e.g. after an UNSUBSCRIBE. The connection keeps receiving the
+     * session's roster while another of its subscriptions follows it.
+     *
+     * @param viewerId the WebSocket session ID of the connection
+     * @param subscriptionId the STOMP subscription ID
+     */
+    public void unsubscribe(String viewerId, String subscriptionId) {
+        sessionsByViewer.computeIfPresent(viewerId, (id, subscriptions) -> {
+            String sessionId = subscriptions.remove(subscriptionId);
+            if (sessionId != null && !subscriptions.containsValue(sessionId)) {
+                removeFrom(sessionId, viewerId);
+            }
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+    }
+
+    /**
+     * Forget a connection, e.g. after it disconnected.
+     *
+     * @param viewerId the WebSocket session ID of the connection
+     */
+    public void removeViewer(String viewerId) {
+        Map<String, String> subscriptions = sessionsByViewer.remove(viewerId);
+        if (subscriptions != null) {
+            subscriptions.values().stream().distinct().forEach(sessionId -> removeFrom(sessionId, viewerId));
+        }
+    }
+
+    /**
+     * Whether any connection follows the session on its private queue.
+     *
+     * @param sessionId the session ID string
+     * @return true if there is at least one subscriber
+     */
+    public boolean hasSubscribers(String sessionId) {
+        Map<String, SessionFields> viewers = viewersBySession.get(sessionId);
+        return viewers != null && !viewers.isEmpty();
+    }
+
+    /**
+     * The session's subscribers grouped by fieldset.
+     *
+     * @param sessionId the session ID string
+     * @return WebSocket session IDs by the fields they asked for
+     */
+    public Map<SessionFields, List<String>> subscribersByFields(String sessionId) {
+        Map<String, SessionFields> viewers = viewersBySession.get(sessionId);
+        Map<SessionFields, List<String>> grouped = new HashMap<>();
+        if (viewers != null) {
+            viewers.forEach((viewerId, fields) ->
+                grouped.computeIfAbsent(fields, key -> new ArrayList<>()).add(viewerId));
+        }
+        return grouped;
+    }
+
+    /**
+     * Drop all subscribers of an ended session.
+     *
+     * @param sessionId the session ID string
+     */
+    public void forget(String sessionId) {
+        Map<String, SessionFields> viewers = viewersBySession.remove(sessionId);
+        if (viewers != null) {
+            viewers.keySet().forEach(viewerId -> sessionsByViewer.computeIfPresent(viewerId, (id, subscriptions) -> {
+                subscriptions.values().removeIf(sessionId::equals);
+                return subscriptions.isEmpty() ? null : subscriptions;
+            }));
+        }
+    }
+
+    /**
+     * Drop the roster subscribers once the session closed.
+     *
+     * @param event the session closed event
+     */
+    @EventListener
+    public void onSessionClosed(SessionClosedEvent event) {
+        forget(event.sessionId());
+    }
+
+    private void removeFrom(String sessionId, String viewerId) {
+        viewersBySession.computeIfPresent(sessionId, (id, viewers) -> {
+            viewers.remove(viewerId);
+            return viewers.isEmpty() ? null : viewers;
+        });
+    }
+}
@@ -0,0 +1,151 @@
+package com.geomeet.api.application.usecase.session;
+
+import com.geomeet.api.application.result.GetSessionDetailsResult;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Sparse fieldset of session details, as asked for with
+ * {@code fields=participants.userId,participants.latitude}.
+ *
+ * <p>Top-level names select session fields; {@code participants.<name>} selects single
+ * participant fields and implies {@code participants}. {@code participants} on its own selects
+ * every participant field. Two selections naming the same fields are equal, so subscribers
+ * asking for the same fields share one projection.
+ *
+ * @param fields the selected session fields
+ * @param participantFields the selected participant fields
+ */
+public record SessionFields(Set<String> fields, Set<String> participantFields) {
+
+    private static final String PARTICIPANTS = "participants";
+    private static final String PARTICIPANT_PREFIX = PARTICIPANTS + ".";
+
+    private static final Map<String, Function<GetSessionDetailsResult, Object>> SESSION_FIELDS =
+        new LinkedHashMap<>();
+    private static final Map<String, Function<GetSessionDetailsResult.ParticipantInfo, Object>> PARTICIPANT_FIELDS =
+        new LinkedHashMap<>();
+
+    static {
+        SESSION_FIELDS.put("id", GetSessionDetailsResult::getId);
+        SESSION_FIELDS.put("sessionId", GetSessionDetailsResult::getSessionId);
+        SESSION_FIELDS.put("initiatorId", GetSessionDetailsResult::getInitiatorId);
+        SESSION_FIELDS.put("initiatorUsername", GetSessionDetailsResult::getInitiatorUsername);
+        SESSION_FIELDS.put("status", GetSessionDetailsResult::getStatus);
+        SESSION_FIELDS.put("createdAt", GetSessionDetailsResult::getCreatedAt);
+        SESSION_FIELDS.put(PARTICIPANTS, GetSessionDetailsResult::getParticipants);
+        SESSION_FIELDS.put("participantCount", GetSessionDetailsResult::getParticipantCount);
+        SESSION_FIELDS.put("meetingLocationLatitude", GetSessionDetailsResult::getMeetingLocationLatitude);
+        SESSION_FIELDS.put("meetingLocationLongitude", GetSessionDetailsResult::getMeetingLocationLongitude);
+
+        PARTICIPANT_FIELDS.put("participantId", GetSessionDetailsResult.ParticipantInfo::getParticipantId);
+        PARTICIPANT_FIELDS.put("userId", GetSessionDetailsResult.ParticipantInfo::getUserId);
+        PARTICIPANT_FIELDS.put("username", GetSessionDetailsResult.ParticipantInfo::getUsername);
+        PARTICIPANT_FIELDS.put("email", GetSessionDetailsResult.ParticipantInfo::getEmail);
+        PARTICIPANT_FIELDS.put("joinedAt", GetSessionDetailsResult.ParticipantInfo::getJoinedAt);
+        PARTICIPANT_FIELDS.put("latitude", GetSessionDetailsResult.ParticipantInfo::getLatitude);
+        PARTICIPANT_FIELDS.put("longitude", GetSessionDetailsResult.ParticipantInfo::getLongitude);
+        PARTICIPANT_FIELDS.put("accuracy", GetSessionDetailsResult.ParticipantInfo::getAccuracy);
+        PARTICIPANT_FIELDS.put("locationUpdatedAt", GetSessionDetailsResult.ParticipantInfo::getLocationUpdatedAt);
+        PARTICIPANT_FIELDS.put("online", GetSessionDetailsResult.ParticipantInfo::getOnline);
+    }
+
+    /**
+     * Every field, i.e. the full session details.
+     */
+    public static final SessionFields ALL = new SessionFields(SESSION_FIELDS.keySet(), PARTICIPANT_FIELDS.keySet());
+
+    public SessionFields {
+        fields = Set.copyOf(fields);
+        participantFields = Set.copyOf(participantFields);
+    }
+
+    /**
+     * Parse a comma-separated field list.
+     *
+     * @param value the field list, e.g. {@code participants.userId,participants.latitude}
+     * @return the selection, {@link #ALL} if the list is null or blank
+     * @throws IllegalArgumentException if a field is unknown
+     */
+    public static SessionFields parse(String value) {
+        if (value == null || value.isBlank()) {
+            return ALL;
+        }
+        Set<String> fields = new HashSet<>();
+        Set<String> participantFields = new HashSet<>();
+        for (String part : value.split(",")) {
+            String name = part.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (name.startsWith(PARTICIPANT_PREFIX)
+                && PARTICIPANT_FIELDS.containsKey(name.substring(PARTICIPANT_PREFIX.length()))) {
+                fields.add(PARTICIPANTS);
+                participantFields.add(name.substring(PARTICIPANT_PREFIX.length()));
+            } else if (SESSION_FIELDS.containsKey(name)) {
+                fields.add(name);
+            } else {
+                throw new IllegalArgumentException("Unknown field: " + name);
+            }
+        }
+        if (fields.isEmpty()) {
+            return ALL;
+        }
+        if (fields.contains(PARTICIPANTS) && participantFields.isEmpty()) {
+            participantFields = PARTICIPANT_FIELDS.keySet();
+        }
+        return new SessionFields(fields, participantFields);
+    }
+
+    /**
+     * Version of this selection of a session, so a cached sparse body is never mistaken for
+     * the full one or for another selection. The selected names are spelled out in sorted
+     * order, so two selections only share a version if they select the same fields.
+     *
+     * @param version the version of the full session details
+     * @return the version of the selected fields
+     */
+    public String version(String version) {
+        return version + "-f" + String.join(",", new TreeSet<>(fields))
+            + "-p" + String.join(",", new TreeSet<>(participantFields));
+    }
+
+    /**
+     * Copy only the selected fields of a session, in the order of the full details.
+     *
+     * @param result the full session details
+     * @return the selected fields by name, participants as a list of selected fields by name
+     */
+    public Map<String, Object> project(GetSessionDetailsResult result) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        SESSION_FIELDS.forEach((name, getter) -> {
+            if (!fields.contains(name)) {
+                return;
+            }
+            view.put(name, PARTICIPANTS.equals(name)
+                ? projectParticipants(result.getParticipants())
+                : getter.apply(result));
+        });
+        return view;
+    }
+
+    private List<Map<String, Object>> projectParticipants(List<GetSessionDetailsResult.ParticipantInfo> participants) {
+        List<Map<String, Object>> projected = new ArrayList<>(participants.size());
+        for (GetSessionDetailsResult.ParticipantInfo participant : participants) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            PARTICIPANT_FIELDS.forEach((name, getter) -> {
+                if (participantFields.contains(name)) {
+                    entry.put(name, getter.apply(participant));
+                }
+            });
+            projected.add(entry);
+        }
+        return projected;
+    }
+}
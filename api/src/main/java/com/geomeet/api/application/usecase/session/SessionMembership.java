@@ -0,0 +1,79 @@
+package com.geomeet.api.application.usecase.session;
+
+import com.geomeet.api.application.event.SessionClosedEvent;
+import com.geomeet.api.domain.entity.Session;
+import com.geomeet.api.domain.valueobject.SessionId;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cached answer to "may this user follow this session", for per-subscription authorization.
+ *
+ * <p>Only positive answers are cached: membership never shrinks while a session is running,
+ * while a denied user may join a moment later. Entries are dropped when the session ends.
+ */
+@Component
+public class SessionMembership {
+
+    private final SessionRepository sessionRepository;
+    private final SessionParticipantRepository sessionParticipantRepository;
+    private final Map<String, Set<Long>> membersBySession = new ConcurrentHashMap<>();
+
+    public SessionMembership(
+        SessionRepository sessionRepository,
+        SessionParticipantRepository sessionParticipantRepository
+    ) {
+        this.sessionRepository = sessionRepository;
+        this.sessionParticipantRepository = sessionParticipantRepository;
+    }
+
+    /**
+     * Whether the user is the initiator or a participant of the session.
+     *
+     * @param sessionId the session ID string
+     * @param userId the user ID
+     * @return true if the user may receive the session's broadcasts
+     */
+    public boolean isMember(String sessionId, Long userId) {
+        if (userId == null || !SessionId.isValid(sessionId)) {
+            return false;
+        }
+        Set<Long> members = membersBySession.get(sessionId);
+        if (members != null && members.contains(userId)) {
+            return true;
+        }
+        Optional<Session> session = sessionRepository.findBySessionId(SessionId.fromString(sessionId));
+        if (session.isEmpty()) {
+            return false;
+        }
+        boolean member = session.get().getInitiatorId().equals(userId)
+            || sessionParticipantRepository.existsBySessionIdAndUserId(session.get().getId(), userId);
+        if (member) {
+            membersBySession.computeIfAbsent(sessionId, id -> ConcurrentHashMap.newKeySet()).add(userId);
+        }
+        return member;
+    }
+
+    /**
+     * Drop the cached members of an ended session.
+     *
+     * @param sessionId the session ID string
+     */
+    public void forget(String sessionId) {
+        membersBySession.remove(sessionId);
+    }
+
+    /**
+     * Drop the cached members once the session closed.
+     *
+     * @param event the session closed event
+     */
+    @EventListener
+    public void onSessionClosed(SessionClosedEvent event) {
+        forget(event.sessionId());
+    }
+}
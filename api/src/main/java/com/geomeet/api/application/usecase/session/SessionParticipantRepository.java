@@ -1,8 +1,10 @@
 package com.geomeet.api.application.usecase.session;
 
+import com.geomeet.api.application.result.GetSessionDetailsResult;
 import com.geomeet.api.domain.entity.SessionParticipant;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Repository interface for SessionParticipant aggregate.
@@ -46,5 +48,36 @@ public interface SessionParticipantRepository {
      * @return the count of participants
      */
     long countBySessionId(Long sessionId);
+
+    /**
+     * Loads the roster of a session in a single query: participants, the initiator and users
+     * with a stored location, with user details and last known location.
+     * Presence is not known to storage, so {@code online} is left unset.
+     * @param sessionId the session ID
+     * @return roster entries, the initiator first unless they joined as a participant
+     */
+    List<GetSessionDetailsResult.ParticipantInfo> findRoster(Long sessionId);
+
+    /**
+     * Loads one page of a session's participants, in join order.
+     * Only participant records are paged; the initiator and location-only users are not included
+     * unless they joined. {@code online} is left unset.
+     * @param sessionId the session ID
+     * @param afterParticipantId the last participant ID of the previous page, null for the first page
+     * @param limit the maximum number of participants to return
+     * @return participants with an ID greater than {@code afterParticipantId}, at most {@code limit}
+     */
+    List<GetSessionDetailsResult.ParticipantInfo> findParticipantPage(
+        Long sessionId, Long afterParticipantId, int limit);
+
+    /**
+     * Hands a session's participants to {@code action} one at a time, in join order, as they are
+     * read from the database, without holding the list in memory.
+     * @param sessionId the session ID
+     * @param afterParticipantId the participant ID to continue after, null to start from the beginning
+     * @param action receives each participant; {@code online} is left unset
+     */
+    void forEachParticipant(
+        Long sessionId, Long afterParticipantId, Consumer<GetSessionDetailsResult.ParticipantInfo> action);
 }
 
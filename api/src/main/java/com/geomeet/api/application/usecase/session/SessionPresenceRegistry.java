@@ -0,0 +1,175 @@
+package com.geomeet.api.application.usecase.session;
+
+import com.geomeet.api.application.event.SessionClosedEvent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory online/offline state per (session, user), fed by the WebSocket lifecycle.
+ *
+ * <p>A user is online in a session while at least one of their connections is subscribed to it,
+ * so several tabs count once and closing one of them does not flip the state. A connection
+ * follows a session until it drops its last subscription to it or closes. Dead connections
+ * are detected by the broker's STOMP heartbeats and arrive here as ordinary disconnects.
+ */
+@Component
+public class SessionPresenceRegistry {
+
+    private final Map<String, Map<Long, Set<String>>> connectionsBySession = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Membership>> membershipsByConnection = new ConcurrentHashMap<>();
+    private final Map<String, Long> stamps = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Record that a connection follows a session through one of its subscriptions.
+     *
+     * @param sessionId the session ID string
+     * @param userId the connected user
+     * @param connectionId the WebSocket session ID
+     * @param subscriptionId the STOMP subscription ID
+     * @return true if the user was offline in the session until now
+     */
+    public boolean connect(String sessionId, Long userId, String connectionId, String subscriptionId) {
+        Map<Long, Set<String>> users = connectionsBySession.computeIfAbsent(sessionId, id -> new HashMap<>());
+        boolean cameOnline;
+        synchronized (users) {
+            Set<String> connections = users.computeIfAbsent(userId, id -> new HashSet<>());
+            cameOnline = connections.isEmpty();
+            connections.add(connectionId);
+        }
+        if (cameOnline) {
+            stamps.put(sessionId, sequence.incrementAndGet());
+        }
+        membershipsByConnection.compute(connectionId, (id, subscriptions) -> {
+            Map<String, Membership> updated = subscriptions != null ? subscriptions : new HashMap<>();
+            updated.put(subscriptionId, new Membership(sessionId, userId));
+            return updated;
+        });
+        return cameOnline;
+    }
+
+    /**
+     * Drop one subscription of a connection, e.g. after an UNSUBSCRIBE. The connection keeps
+     * following the session while another of its subscriptions points there.
+     *
+     * @param connectionId the WebSocket session ID
+     * @param subscriptionId the STOMP subscription ID
+     * @return the (session, user) pair that went offline, if any
+     */
+    public Optional<Membership> unsubscribe(String connectionId, String subscriptionId) {
+        Membership[] released = new Membership[1];
+        membershipsByConnection.computeIfPresent(connectionId, (id, subscriptions) -> {
+            Membership membership = subscriptions.remove(subscriptionId);
+            if (membership != null && !subscriptions.containsValue(membership)) {
+                released[0] = membership;
+            }
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+        if (released[0] == null || !release(connectionId, released[0])) {
+            return Optional.empty();
+        }
+        stamps.put(released[0].sessionId(), sequence.incrementAndGet());
+        return Optional.of(released[0]);
+    }
+
+    /**
+     * Drop a closed connection from every session it followed.
+     *
+     * @param connectionId the WebSocket session ID
+     * @return the (session, user) pairs that went offline
+     */
+    public List<Membership> disconnect(String connectionId) {
+        Map<String, Membership> subscriptions = membershipsByConnection.remove(connectionId);
+        if (subscriptions == null) {
+            return List.of();
+        }
+        List<Membership> wentOffline = new ArrayList<>();
+        for (Membership membership : new HashSet<>(subscriptions.values())) {
+            if (release(connectionId, membership)) {
+                wentOffline.add(membership);
+            }
+        }
+        wentOffline.forEach(membership -> stamps.put(membership.sessionId(), sequence.incrementAndGet()));
+        return wentOffline;
+    }
+
+    /**
+     * Stamp of the last presence change in a session, unique across sessions, so a rendered
+     * roster can tell whether its online flags are still current.
+     *
+     * @param sessionId the session ID string
+     * @return the stamp, 0 if nobody has connected since startup
+     */
+    public long stamp(String sessionId) {
+        return stamps.getOrDefault(sessionId, 0L);
+    }
+
+    /**
+     * Users currently online in a session.
+     *
+     * @param sessionId the session ID string
+     * @return a snapshot of the online user IDs
+     */
+    public Set<Long> onlineUsers(String sessionId) {
+        Map<Long, Set<String>> users = connectionsBySession.get(sessionId);
+        if (users == null) {
+            return Set.of();
+        }
+        synchronized (users) {
+            return new HashSet<>(users.keySet());
+        }
+    }
+
+    /**
+     * Drop presence of an ended session; its connections stay known for their other sessions.
+     *
+     * @param sessionId the session ID string
+     */
+    public void forget(String sessionId) {
+        connectionsBySession.remove(sessionId);
+        stamps.remove(sessionId);
+    }
+
+    /**
+     * Drop presence once the session closed.
+     *
+     * @param event the session closed event
+     */
+    @EventListener
+    public void onSessionClosed(SessionClosedEvent event) {
+        forget(event.sessionId());
+    }
+
+    private boolean release(String connectionId, Membership membership) {
+        Map<Long, Set<String>> users = connectionsBySession.get(membership.sessionId());
+        if (users == null) {
+            return false;
+        }
+        synchronized (users) {
+            Set<String> connections = users.get(membership.userId());
+            if (connections != null && connections.remove(connectionId) && connections.isEmpty()) {
+                users.remove(membership.userId());
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A user following a session.
+     *
+     * @param sessionId the session ID string
+     * @param userId the user ID
+     */
+    public record Membership(String sessionId, Long userId) {
+    }
+}
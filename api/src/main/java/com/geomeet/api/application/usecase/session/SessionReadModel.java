@@ -0,0 +1,322 @@
+package com.geomeet.api.application.usecase.session;
+
+import com.geomeet.api.application.event.SessionClosedEvent;
+import com.geomeet.api.application.result.GetSessionDetailsResult;
+import com.geomeet.api.application.result.UpdateLocationResult;
+import com.geomeet.api.application.result.UpdateMeetingLocationResult;
+import com.geomeet.api.domain.entity.Session;
+import com.geomeet.api.domain.valueobject.SessionId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory view of each active session as served by session details and roster broadcasts.
+ *
+ * <p>A view is loaded once, with the session lookup and the roster query, and afterwards kept
+ * current by the events that change it: location and meeting location updates patch it in
+ * place, a roster change reloads it, and ending the session drops it. Ended sessions are
+ * rendered from storage but never kept. Presence is not part of the view; it is merged in
+ * from {@link SessionPresenceRegistry} on every render.
+ *
+ * <p>Every load and every change gives the view a new stamp from a model-wide sequence; with
+ * the presence stamp and a per-process epoch it forms the version clients use for conditional
+ * requests, so an unchanged session can be confirmed without rendering it.
+ *
+ * <p>Loading runs outside the map, so a slow query holds no lock other sessions need. Every change
+ * first bumps a counter for its key's stripe; a load only keeps its view if its stripe did not
+ * move while it ran, so an update that missed the view is never lost, at worst a view is served
+ * once without being kept. Views nobody read for a while, and the least recently read ones beyond
+ * a size cap, are dropped by {@link #evictIdle(long, int)}.
+ */
+@Component
+public class SessionReadModel {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final int CHANGE_STRIPES = 64;
+
+    private final SessionRepository sessionRepository;
+    private final SessionParticipantRepository sessionParticipantRepository;
+    private final SessionPresenceRegistry sessionPresenceRegistry;
+    private final Map<String, SessionView> views = new ConcurrentHashMap<>();
+    private final AtomicLong stamps = new AtomicLong();
+    private final AtomicLongArray changes = new AtomicLongArray(CHANGE_STRIPES);
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    public SessionReadModel(
+        SessionRepository sessionRepository,
+        SessionParticipantRepository sessionParticipantRepository,
+        SessionPresenceRegistry sessionPresenceRegistry
+    ) {
+        this.sessionRepository = sessionRepository;
+        this.sessionParticipantRepository = sessionParticipantRepository;
+        this.sessionPresenceRegistry = sessionPresenceRegistry;
+    }
+
+    /**
+     * Render a session, loading its view on first use.
+     *
+     * @param sessionIdString the session ID string
+     * @return the session details with presence, empty if the session does not exist
+     */
+    public Optional<GetSessionDetailsResult> find(String sessionIdString) {
+        SessionView view = viewOf(sessionIdString);
+        if (view == null) {
+            return Optional.empty();
+        }
+        return Optional.of(view.render(sessionPresenceRegistry.onlineUsers(sessionIdString), version(view)));
+    }
+
+    /**
+     * Current version of a session as seen by one of its members, without rendering it.
+     *
+     * @param sessionIdString the session ID string
+     * @param userId the requesting user
+     * @return the version, empty if the session does not exist or the user is not its initiator
+     *     or a participant
+     */
+    public Optional<String> version(String sessionIdString, Long userId) {
+        SessionView view = viewOf(sessionIdString);
+        if (view == null) {
+            return Optional.empty();
+        }
+        return view.isMember(userId) ? Optional.of(version(view)) : Optional.empty();
+    }
+
+    /**
+     * Reload a session after its roster changed, e.g. someone joined.
+     *
+     * @param sessionIdString the session ID string
+     * @return the fresh session details, empty if the session does not exist
+     */
+    public Optional<GetSessionDetailsResult> refresh(String sessionIdString) {
+        forget(sessionIdString);
+        return find(sessionIdString);
+    }
+
+    /**
+     * Whether a view of the session is held.
+     *
+     * @param sessionIdString the session ID string
+     * @return true if the session is cached
+     */
+    public boolean isCached(String sessionIdString) {
+        return views.containsKey(sessionIdString);
+    }
+
+    /**
+     * Apply a participant's new location to a held view.
+     *
+     * @param location the location update
+     */
+    public void recordLocation(UpdateLocationResult location) {
+        changed(location.getSessionIdString());
+        views.computeIfPresent(location.getSessionIdString(),
+            (id, view) -> view.recordLocation(location, stamps.incrementAndGet()) ? view : null);
+    }
+
+    /**
+     * Apply a new meeting location to a held view.
+     *
+     * @param meetingLocation the meeting location update
+     */
+    public void recordMeetingLocation(UpdateMeetingLocationResult meetingLocation) {
+        changed(meetingLocation.getSessionIdString());
+        views.computeIfPresent(meetingLocation.getSessionIdString(), (id, view) -> {
+            view.recordMeetingLocation(
+                meetingLocation.getLatitude(), meetingLocation.getLongitude(), stamps.incrementAndGet());
+            return view;
+        });
+    }
+
+    /**
+     * Drop the view of a session, e.g. because it ended or changed on another node.
+     *
+     * @param sessionIdString the session ID string
+     */
+    public void forget(String sessionIdString) {
+        changed(sessionIdString);
+        views.remove(sessionIdString);
+    }
+
+    /**
+     * Drop the view once the session closed, on this node or another.
+     *
+     * @param event the session closed event
+     */
+    @EventListener
+    public void onSessionClosed(SessionClosedEvent event) {
+        forget(event.sessionId());
+    }
+
+    /**
+     * Drop views not read since a point in time, then the least recently read ones beyond a cap.
+     *
+     * @param idleBefore views last read before this {@link System#currentTimeMillis()} are dropped
+     * @param maxViews the number of views to keep at most
+     * @return the number of views dropped
+     */
+    public int evictIdle(long idleBefore, int maxViews) {
+        int before = views.size();
+        views.values().removeIf(view -> view.lastReadMillis < idleBefore);
+        int excess = views.size() - maxViews;
+        if (excess > 0) {
+            views.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastReadMillis))
+                .limit(excess)
+                .toList()
+                .forEach(entry -> views.remove(entry.getKey(), entry.getValue()));
+        }
+        return before - views.size();
+    }
+
+    private SessionView viewOf(String sessionIdString) {
+        SessionView view = views.get(sessionIdString);
+        if (view != null) {
+            view.lastReadMillis = System.currentTimeMillis();
+            return view;
+        }
+        int stripe = stripe(sessionIdString);
+        long changesBefore = changes.get(stripe);
+        SessionView loaded = load(sessionIdString);
+        if (loaded == null || !loaded.active || changes.get(stripe) != changesBefore) {
+            return loaded;
+        }
+        SessionView existing = views.putIfAbsent(sessionIdString, loaded);
+        if (existing != null) {
+            return existing;
+        }
+        // A change that missed the view bumped the stripe before missing it, so checking again
+        // after the put catches one that slipped in since the first check
+        if (changes.get(stripe) != changesBefore) {
+            views.remove(sessionIdString, loaded);
+        }
+        return loaded;
+    }
+
+    private void changed(String sessionIdString) {
+        changes.incrementAndGet(stripe(sessionIdString));
+    }
+
+    private static int stripe(String sessionIdString) {
+        return sessionIdString.hashCode() & (CHANGE_STRIPES - 1);
+    }
+
+    private SessionView load(String sessionIdString) {
+        Session session = sessionRepository.findBySessionId(SessionId.fromString(sessionIdString)).orElse(null);
+        if (session == null) {
+            return null;
+        }
+        return new SessionView(
+            session, sessionParticipantRepository.findRoster(session.getId()), stamps.incrementAndGet());
+    }
+
+    private String version(SessionView view) {
+        return epoch + "-" + view.stamp() + "-" + sessionPresenceRegistry.stamp(view.sessionId);
+    }
+
+    /**
+     * View of one session. Mutations run inside the map's compute for its key, renders take the
+     * view's own lock so they see a consistent roster.
+     */
+    private static final class SessionView {
+
+        private final Long id;
+        private final String sessionId;
+        private final Long initiatorId;
+        private final String status;
+        private final String createdAt;
+        private final boolean active;
+        private final Map<Long, GetSessionDetailsResult.ParticipantInfo> roster = new LinkedHashMap<>();
+        private Double meetingLocationLatitude;
+        private Double meetingLocationLongitude;
+        private long stamp;
+        private volatile long lastReadMillis = System.currentTimeMillis();
+
+        SessionView(Session session, List<GetSessionDetailsResult.ParticipantInfo> participants, long stamp) {
+            this.stamp = stamp;
+            this.id = session.getId();
+            this.sessionId = session.getSessionId().getValue();
+            this.initiatorId = session.getInitiatorId();
+            this.status = session.getStatus().getValue();
+            this.createdAt = session.getCreatedAt().format(DATE_TIME_FORMATTER);
+            this.active = session.isActive();
+            if (session.getMeetingLocation() != null) {
+                this.meetingLocationLatitude = session.getMeetingLocation().getLatitude().getValue();
+                this.meetingLocationLongitude = session.getMeetingLocation().getLongitude().getValue();
+            }
+            for (GetSessionDetailsResult.ParticipantInfo participant : participants) {
+                roster.put(participant.getUserId(), participant);
+            }
+        }
+
+        /**
+         * @return false if the user is not on the roster, so the view must be reloaded
+         */
+        synchronized boolean recordLocation(UpdateLocationResult location, long newStamp) {
+            GetSessionDetailsResult.ParticipantInfo participant = roster.get(location.getUserId());
+            if (participant == null) {
+                return false;
+            }
+            roster.put(location.getUserId(), participant.toBuilder()
+                .latitude(location.getLatitude())
+                .longitude(location.getLongitude())
+                .accuracy(location.getAccuracy())
+                .locationUpdatedAt(location.getUpdatedAt())
+                .build());
+            stamp = newStamp;
+            return true;
+        }
+
+        synchronized void recordMeetingLocation(Double latitude, Double longitude, long newStamp) {
+            this.meetingLocationLatitude = latitude;
+            this.meetingLocationLongitude = longitude;
+            this.stamp = newStamp;
+        }
+
+        synchronized long stamp() {
+            return stamp;
+        }
+
+        synchronized boolean isMember(Long userId) {
+            if (initiatorId.equals(userId)) {
+                return true;
+            }
+            GetSessionDetailsResult.ParticipantInfo participant = roster.get(userId);
+            return participant != null && participant.getParticipantId() != null;
+        }
+
+        synchronized GetSessionDetailsResult render(Set<Long> onlineUsers, String version) {
+            List<GetSessionDetailsResult.ParticipantInfo> participants = new ArrayList<>(roster.size());
+            for (GetSessionDetailsResult.ParticipantInfo participant : roster.values()) {
+                participants.add(participant.toBuilder()
+                    .online(onlineUsers.contains(participant.getUserId()))
+                    .build());
+            }
+            GetSessionDetailsResult.ParticipantInfo initiator = roster.get(initiatorId);
+            return GetSessionDetailsResult.builder()
+                .id(id)
+                .sessionId(sessionId)
+                .initiatorId(initiatorId)
+                .initiatorUsername(initiator != null ? initiator.getUsername() : null)
+                .status(status)
+                .createdAt(createdAt)
+                .participants(participants)
+                .participantCount((long) participants.size())
+                .meetingLocationLatitude(meetingLocationLatitude)
+                .meetingLocationLongitude(meetingLocationLongitude)
+                .version(version)
+                .build();
+        }
+    }
+}
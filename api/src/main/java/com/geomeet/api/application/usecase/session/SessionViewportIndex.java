@@ -0,0 +1,336 @@
+package com.geomeet.api.application.usecase.session;
+
+import com.geomeet.api.application.event.SessionClosedEvent;
+import com.geomeet.api.application.result.UpdateLocationResult;
+import com.geomeet.api.domain.valueobject.Viewport;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-session uniform grid of participant positions and subscriber viewports.
+ *
+ * <p>Each viewer is registered in every grid cell its viewport overlaps, so routing a location
+ * update only looks at the viewers of the participant's current and previous cell. Viewports
+ * that would span more than {@code maxCellsPerViewer} cells (zoomed far out) are kept in a
+ * short per-session list and checked directly instead. Grids left without viewers are dropped
+ * by {@link #evictIdle(long)} after a while.
+ */
+@Component
+public class SessionViewportIndex {
+
+    static final double DEFAULT_CELL_SIZE_DEGREES = 0.01;
+    static final int DEFAULT_MAX_CELLS_PER_VIEWER = 4096;
+
+    private final double cellSizeDegrees;
+    private final int maxCellsPerViewer;
+    private final long columns;
+    private final Map<String, SessionGrid> grids = new ConcurrentHashMap<>();
+    private final Map<String, String> sessionByViewer = new ConcurrentHashMap<>();
+
+    public SessionViewportIndex() {
+        this(DEFAULT_CELL_SIZE_DEGREES, DEFAULT_MAX_CELLS_PER_VIEWER);
+    }
+
+    public SessionViewportIndex(double cellSizeDegrees, int maxCellsPerViewer) {
+        if (cellSizeDegrees <= 0 || maxCellsPerViewer <= 0) {
+            throw new IllegalArgumentException("Cell size and cell limit must be positive");
+        }
+        this.cellSizeDegrees = cellSizeDegrees;
+        this.maxCellsPerViewer = maxCellsPerViewer;
+        this.columns = (long) Math.ceil(360.0 / cellSizeDegrees) + 1;
+    }
+
+    /**
+     * Register or move a viewer's viewport. A viewer watches one session at a time.
+     *
+     * @param sessionId the session ID string
+     * @param viewerId the viewer (WebSocket session) ID
+     * @param viewport the visible area
+     */
+    public void updateViewport(String sessionId, String viewerId, Viewport viewport) {
+        String previousSession = sessionByViewer.put(viewerId, sessionId);
+        if (previousSession != null && !previousSession.equals(sessionId)) {
+            SessionGrid previousGrid = grids.get(previousSession);
+            if (previousGrid != null) {
+                previousGrid.removeViewer(viewerId);
+            }
+        }
+        // Registered inside the map's compute, so eviction never drops a grid a viewer just joined
+        grids.compute(sessionId, (id, grid) -> {
+            SessionGrid target = grid != null ? grid : new SessionGrid();
+            target.setViewport(viewerId, viewport);
+            return target;
+        });
+    }
+
+    /**
+     * Forget a viewer, e.g. after it disconnected.
+     *
+     * @param viewerId the viewer ID
+     */
+    public void removeViewer(String viewerId) {
+        String sessionId = sessionByViewer.remove(viewerId);
+        if (sessionId != null) {
+            SessionGrid grid = grids.get(sessionId);
+            if (grid != null) {
+                grid.removeViewer(viewerId);
+            }
+        }
+    }
+
+    /**
+     * Whether positions of the session are tracked, i.e. a viewer has registered since startup.
+     *
+     * @param sessionId the session ID string
+     * @return true if the session has a grid
+     */
+    public boolean isTracked(String sessionId) {
+        return grids.containsKey(sessionId);
+    }
+
+    /**
+     * Seed positions of a session from storage; live updates already tracked win.
+     *
+     * @param sessionId the session ID string
+     * @param locations the stored locations
+     */
+    public void seed(String sessionId, List<UpdateLocationResult> locations) {
+        SessionGrid grid = grid(sessionId);
+        for (UpdateLocationResult location : locations) {
+            grid.seed(location);
+        }
+    }
+
+    /**
+     * Record a participant's new position and find the viewers that must receive it:
+     * those whose viewport contains the new position, and those that contained the previous
+     * one so they see the participant leave.
+     *
+     * @param location the location update
+     * @return viewer IDs to notify, empty if the session has no viewers
+     */
+    public Set<String> track(UpdateLocationResult location) {
+        SessionGrid grid = grids.get(location.getSessionIdString());
+        if (grid == null) {
+            // Nobody has asked for a viewport in this session; no need to index it
+            return Set.of();
+        }
+        return grid.track(location);
+    }
+
+    /**
+     * Current positions inside a viewport.
+     *
+     * @param sessionId the session ID string
+     * @param viewport the visible area
+     * @return the latest location of each participant inside the viewport
+     */
+    public List<UpdateLocationResult> snapshot(String sessionId, Viewport viewport) {
+        SessionGrid grid = grids.get(sessionId);
+        return grid == null ? List.of() : grid.snapshot(viewport);
+    }
+
+    /**
+     * Drop everything held for an ended session.
+     *
+     * @param sessionId the session ID string
+     */
+    public void forget(String sessionId) {
+        SessionGrid grid = grids.remove(sessionId);
+        if (grid != null) {
+            grid.viewerIds().forEach(viewerId -> sessionByViewer.remove(viewerId, sessionId));
+        }
+    }
+
+    /**
+     * Drop the grid and its viewers once the session closed.
+     *
+     * @param event the session closed event
+     */
+    @EventListener
+    public void onSessionClosed(SessionClosedEvent event) {
+        forget(event.sessionId());
+    }
+
+    /**
+     * Drop grids of sessions that have had no viewer since a point in time.
+     *
+     * @param idleBefore grids whose last viewer left before this {@link System#currentTimeMillis()}
+     *     are dropped
+     * @return the number of grids dropped
+     */
+    public int evictIdle(long idleBefore) {
+        int evicted = 0;
+        for (String sessionId : grids.keySet()) {
+            if (grids.computeIfPresent(sessionId, (id, grid) -> grid.isIdle(idleBefore) ? null : grid) == null) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    private SessionGrid grid(String sessionId) {
+        return grids.computeIfAbsent(sessionId, id -> new SessionGrid());
+    }
+
+    private long row(double latitude) {
+        return (long) Math.floor((latitude + 90.0) / cellSizeDegrees);
+    }
+
+    private long column(double longitude) {
+        return (long) Math.floor((longitude + 180.0) / cellSizeDegrees);
+    }
+
+    private long cellOf(double latitude, double longitude) {
+        return row(latitude) * columns + column(longitude);
+    }
+
+    private long cellCount(Viewport viewport) {
+        long rows = row(viewport.getMaxLatitude()) - row(viewport.getMinLatitude()) + 1;
+        long cols = column(viewport.getMaxLongitude()) - column(viewport.getMinLongitude()) + 1;
+        return rows * cols;
+    }
+
+    private List<Long> cellsOf(Viewport viewport) {
+        List<Long> cells = new ArrayList<>();
+        for (long r = row(viewport.getMinLatitude()); r <= row(viewport.getMaxLatitude()); r++) {
+            for (long c = column(viewport.getMinLongitude()); c <= column(viewport.getMaxLongitude()); c++) {
+                cells.add(r * columns + c);
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Grid of a single session. All access is synchronized on the grid, so contention is
+     * limited to updates of the same session.
+     */
+    private final class SessionGrid {
+
+        private final Map<Long, Set<String>> viewersByCell = new HashMap<>();
+        private final Map<String, Viewport> viewports = new HashMap<>();
+        private final Set<String> wideViewers = new HashSet<>();
+        private final Map<Long, Set<Long>> participantsByCell = new HashMap<>();
+        private final Map<Long, UpdateLocationResult> positions = new HashMap<>();
+        private long lastViewerMillis = System.currentTimeMillis();
+
+        synchronized void setViewport(String viewerId, Viewport viewport) {
+            removeViewer(viewerId);
+            lastViewerMillis = System.currentTimeMillis();
+            viewports.put(viewerId, viewport);
+            if (cellCount(viewport) > maxCellsPerViewer) {
+                wideViewers.add(viewerId);
+                return;
+            }
+            for (Long cell : cellsOf(viewport)) {
+                viewersByCell.computeIfAbsent(cell, key -> new HashSet<>()).add(viewerId);
+            }
+        }
+
+        synchronized void removeViewer(String viewerId) {
+            Viewport viewport = viewports.remove(viewerId);
+            if (viewport != null) {
+                lastViewerMillis = System.currentTimeMillis();
+            }
+            if (viewport == null || wideViewers.remove(viewerId)) {
+                return;
+            }
+            for (Long cell : cellsOf(viewport)) {
+                Set<String> viewers = viewersByCell.get(cell);
+                if (viewers != null) {
+                    viewers.remove(viewerId);
+                    if (viewers.isEmpty()) {
+                        viewersByCell.remove(cell);
+                    }
+                }
+            }
+        }
+
+        synchronized boolean isIdle(long idleBefore) {
+            return viewports.isEmpty() && lastViewerMillis < idleBefore;
+        }
+
+        synchronized Set<String> viewerIds() {
+            return new HashSet<>(viewports.keySet());
+        }
+
+        synchronized void seed(UpdateLocationResult location) {
+            if (!positions.containsKey(location.getParticipantId())) {
+                move(location);
+            }
+        }
+
+        synchronized Set<String> track(UpdateLocationResult location) {
+            UpdateLocationResult previous = move(location);
+            Set<String> targets = new HashSet<>();
+            collectViewers(location, targets);
+            if (previous != null) {
+                collectViewers(previous, targets);
+            }
+            return targets;
+        }
+
+        synchronized List<UpdateLocationResult> snapshot(Viewport viewport) {
+            List<UpdateLocationResult> visible = new ArrayList<>();
+            if (cellCount(viewport) > maxCellsPerViewer) {
+                for (UpdateLocationResult position : positions.values()) {
+                    if (viewport.contains(position.getLatitude(), position.getLongitude())) {
+                        visible.add(position);
+                    }
+                }
+                return visible;
+            }
+            for (Long cell : cellsOf(viewport)) {
+                for (Long participantId : participantsByCell.getOrDefault(cell, Set.of())) {
+                    UpdateLocationResult position = positions.get(participantId);
+                    if (viewport.contains(position.getLatitude(), position.getLongitude())) {
+                        visible.add(position);
+                    }
+                }
+            }
+            return visible;
+        }
+
+        private UpdateLocationResult move(UpdateLocationResult location) {
+            UpdateLocationResult previous = positions.put(location.getParticipantId(), location);
+            long cell = cellOf(location.getLatitude(), location.getLongitude());
+            if (previous != null) {
+                long previousCell = cellOf(previous.getLatitude(), previous.getLongitude());
+                if (previousCell == cell) {
+                    return previous;
+                }
+                Set<Long> participants = participantsByCell.get(previousCell);
+                if (participants != null) {
+                    participants.remove(location.getParticipantId());
+                    if (participants.isEmpty()) {
+                        participantsByCell.remove(previousCell);
+                    }
+                }
+            }
+            participantsByCell.computeIfAbsent(cell, key -> new HashSet<>()).add(location.getParticipantId());
+            return previous;
+        }
+
+        private void collectViewers(UpdateLocationResult position, Set<String> targets) {
+            double latitude = position.getLatitude();
+            double longitude = position.getLongitude();
+            for (String viewerId : viewersByCell.getOrDefault(cellOf(latitude, longitude), Set.of())) {
+                if (viewports.get(viewerId).contains(latitude, longitude)) {
+                    targets.add(viewerId);
+                }
+            }
+            for (String viewerId : wideViewers) {
+                if (viewports.get(viewerId).contains(latitude, longitude)) {
+                    targets.add(viewerId);
+                }
+            }
+        }
+    }
+}
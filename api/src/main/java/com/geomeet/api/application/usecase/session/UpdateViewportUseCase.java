@@ -0,0 +1,80 @@
+package com.geomeet.api.application.usecase.session;
+
+import com.geomeet.api.application.command.UpdateViewportCommand;
+import com.geomeet.api.application.result.UpdateLocationResult;
+import com.geomeet.api.application.usecase.location.ParticipantLocationRepository;
+import com.geomeet.api.domain.entity.ParticipantLocation;
+import com.geomeet.api.domain.entity.Session;
+import com.geomeet.api.domain.exception.ErrorCode;
+import com.geomeet.api.domain.exception.GeomeetDomainException;
+import com.geomeet.api.domain.valueobject.SessionId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Application service (Use Case) for registering or moving a subscriber's viewport.
+ * The first viewport of a session seeds the session's grid index from stored locations;
+ * every viewport change answers with the participants currently inside it.
+ */
+@Service
+@AllArgsConstructor
+public class UpdateViewportUseCase {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final SessionRepository sessionRepository;
+    private final ParticipantLocationRepository participantLocationRepository;
+    private final SessionViewportIndex sessionViewportIndex;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * Executes the update viewport use case.
+     *
+     * @param command the update viewport command
+     * @return the locations currently inside the viewport
+     * @throws GeomeetDomainException if the session is not found
+     */
+    @Transactional(readOnly = true)
+    public List<UpdateLocationResult> execute(UpdateViewportCommand command) {
+        String sessionIdString = command.getSessionId();
+        if (!sessionViewportIndex.isTracked(sessionIdString)) {
+            Session session = sessionRepository.findBySessionId(SessionId.fromString(sessionIdString))
+                .orElseThrow(() -> ErrorCode.SESSION_NOT_FOUND.toException());
+            List<UpdateLocationResult> stored = participantLocationRepository.findBySessionId(session.getId())
+                .stream()
+                .map(location -> toResult(location, sessionIdString))
+                .toList();
+            sessionViewportIndex.seed(sessionIdString, stored);
+        }
+
+        sessionViewportIndex.updateViewport(sessionIdString, command.getViewerId(), command.getViewport());
+        List<UpdateLocationResult> visible = sessionViewportIndex.snapshot(sessionIdString, command.getViewport());
+
+        // Replace whatever the viewer showed for its previous viewport
+        messagingTemplate.convertAndSendToUser(
+            command.getViewerId(),
+            "/queue/session/" + sessionIdString + "/locations/snapshot",
+            visible,
+            BroadcastViewportLocationUseCase.viewerHeaders(command.getViewerId(), null).getMessageHeaders()
+        );
+        return visible;
+    }
+
+    private static UpdateLocationResult toResult(ParticipantLocation location, String sessionIdString) {
+        return UpdateLocationResult.builder()
+            .participantId(location.getParticipantId())
+            .sessionId(location.getSessionId())
+            .sessionIdString(sessionIdString)
+            .userId(location.getUserId())
+            .latitude(location.getLocation().getLatitude().getValue())
+            .longitude(location.getLocation().getLongitude().getValue())
+            .accuracy(location.getLocation().getAccuracy())
+            .updatedAt(location.getUpdatedAt() != null ? location.getUpdatedAt().format(DATE_TIME_FORMATTER) : null)
+            .message("Location loaded")
+            .build();
+    }
+}
@@ -30,6 +30,7 @@ public enum ErrorCode {
     CANNOT_UPDATE_MEETING_LOC_ENDED("Cannot update meeting location for an ended session", HttpStatus.BAD_REQUEST),
     CANNOT_CALCULATE_OPTIMAL_LOC_ENDED(
         "Cannot calculate optimal location for an ended session", HttpStatus.BAD_REQUEST),
+    LOCATION_HISTORY_DISABLED("Location history is not enabled", HttpStatus.NOT_FOUND),
     
     // User related errors
     USER_NOT_FOUND("User not found", HttpStatus.BAD_REQUEST),
@@ -40,7 +41,10 @@ public enum ErrorCode {
     // Optimal location errors
     INSUFFICIENT_PARTICIPANTS(
         "Cannot calculate optimal location. At least one participant must share their location",
-        HttpStatus.BAD_REQUEST);
+        HttpStatus.BAD_REQUEST),
+
+    // Capacity errors
+    PASSWORD_HASHING_BUSY("Too many sign-ins in progress, please try again shortly", HttpStatus.SERVICE_UNAVAILABLE);
 
 
     private final String message;
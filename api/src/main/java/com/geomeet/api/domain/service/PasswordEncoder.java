@@ -22,5 +22,14 @@ public interface PasswordEncoder {
      * @return true if the raw password matches the encoded password
      */
     boolean matches(String rawPassword, String encodedPassword);
+
+    /**
+     * Whether an encoded password was made with other settings than new passwords are,
+     * e.g. a lower work factor, and should be encoded again.
+     *
+     * @param encodedPassword the encoded password from storage
+     * @return true if the password should be re-encoded the next time it is known
+     */
+    boolean needsRehash(String encodedPassword);
 }
 
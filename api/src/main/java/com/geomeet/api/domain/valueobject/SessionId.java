@@ -7,37 +7,90 @@ import lombok.ToString;
 
 /**
  * Session ID value object.
- * Represents a unique identifier for a session.
+ * Represents a unique identifier for a session, a UUID kept in its binary form.
+ * The string form is only parsed from and rendered for clients.
  */
 @Getter
 @EqualsAndHashCode
 @ToString
 public class SessionId {
 
-    private final String value;
+    private static final int STRING_LENGTH = 36;
 
-    public SessionId(String value) {
-        if (value == null || value.isBlank()) {
+    private final UUID uuid;
+
+    public SessionId(UUID uuid) {
+        if (uuid == null) {
             throw new IllegalArgumentException("Session ID cannot be null or empty");
         }
-        this.value = value;
+        this.uuid = uuid;
     }
 
     /**
      * Factory method to generate a new unique session ID.
      */
     public static SessionId generate() {
-        return new SessionId(UUID.randomUUID().toString());
+        return new SessionId(UUID.randomUUID());
     }
 
+    /**
+     * Factory method to create SessionId from its binary form.
+     * @param uuid the UUID of the session ID
+     * @return a SessionId instance
+     */
+    public static SessionId fromUuid(UUID uuid) {
+        return new SessionId(uuid);
+    }
 
     /**
      * Factory method to create SessionId from a string value.
-     * @param value the string value of the session ID
+     * @param value the string value of the session ID, in canonical UUID form
      * @return a SessionId instance
+     * @throws IllegalArgumentException if the value is empty or not a UUID
      */
     public static SessionId fromString(String value) {
-        return new SessionId(value);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Session ID cannot be null or empty");
+        }
+        if (!isValid(value)) {
+            throw new IllegalArgumentException("Invalid session ID");
+        }
+        return new SessionId(UUID.fromString(value));
     }
-}
 
+    /**
+     * Canonical string form of a session ID supplied by a client, e.g. in a path or destination.
+     * Everything keyed by session ID uses this form, so the same session is never cached twice.
+     * @param value the string value of the session ID, in any case
+     * @return the lowercase UUID string
+     * @throws IllegalArgumentException if the value is empty or not a UUID
+     */
+    public static String canonical(String value) {
+        return fromString(value).getValue();
+    }
+
+    /**
+     * Whether a string is a session ID in canonical UUID form.
+     * @param value the string value to check
+     * @return true if {@link #fromString(String)} accepts it
+     */
+    public static boolean isValid(String value) {
+        if (value == null || value.length() != STRING_LENGTH) {
+            return false;
+        }
+        try {
+            UUID.fromString(value);
+            return true;
+        } catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * The string form of the session ID, as clients see it.
+     * @return the canonical UUID string
+     */
+    public String getValue() {
+        return uuid.toString();
+    }
+}
@@ -0,0 +1,92 @@
+package com.geomeet.api.domain.valueobject;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Viewport value object.
+ * Represents the bounding box a client's map currently shows.
+ * Boxes crossing the antimeridian are not supported.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class Viewport {
+
+    private final double minLatitude;
+    private final double minLongitude;
+    private final double maxLatitude;
+    private final double maxLongitude;
+
+    private Viewport(Latitude minLatitude, Longitude minLongitude, Latitude maxLatitude, Longitude maxLongitude) {
+        if (minLatitude.getValue() > maxLatitude.getValue()) {
+            throw new IllegalArgumentException("Viewport minimum latitude must not exceed maximum latitude");
+        }
+        if (minLongitude.getValue() > maxLongitude.getValue()) {
+            throw new IllegalArgumentException("Viewport minimum longitude must not exceed maximum longitude");
+        }
+        this.minLatitude = minLatitude.getValue();
+        this.minLongitude = minLongitude.getValue();
+        this.maxLatitude = maxLatitude.getValue();
+        this.maxLongitude = maxLongitude.getValue();
+    }
+
+    /**
+     * Factory method to create a Viewport.
+     *
+     * @param minLatitude southern edge
+     * @param minLongitude western edge
+     * @param maxLatitude northern edge
+     * @param maxLongitude eastern edge
+     * @return a new Viewport instance
+     * @throws IllegalArgumentException if a coordinate is invalid or the box is inverted
+     */
+    public static Viewport of(Double minLatitude, Double minLongitude, Double maxLatitude, Double maxLongitude) {
+        return new Viewport(
+            Latitude.of(minLatitude),
+            Longitude.of(minLongitude),
+            Latitude.of(maxLatitude),
+            Longitude.of(maxLongitude)
+        );
+    }
+
+    /**
+     * Parses a viewport from {@code minLat,minLon,maxLat,maxLon}.
+     *
+     * @param value the comma separated bounds
+     * @return a new Viewport instance
+     * @throws IllegalArgumentException if the value is malformed
+     */
+    public static Viewport parse(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Viewport cannot be null");
+        }
+        String[] parts = value.split(",");
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Viewport must be minLat,minLon,maxLat,maxLon");
+        }
+        try {
+            return of(
+                Double.valueOf(parts[0].trim()),
+                Double.valueOf(parts[1].trim()),
+                Double.valueOf(parts[2].trim()),
+                Double.valueOf(parts[3].trim())
+            );
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Viewport bounds must be numbers", ex);
+        }
+    }
+
+    /**
+     * Checks whether a position lies inside the viewport, edges included.
+     *
+     * @param latitude the latitude
+     * @param longitude the longitude
+     * @return true if the position is inside
+     */
+    public boolean contains(double latitude, double longitude) {
+        return latitude >= minLatitude && latitude <= maxLatitude
+            && longitude >= minLongitude && longitude <= maxLongitude;
+    }
+}
@@ -0,0 +1,428 @@
+package com.geomeet.api.infrastructure.cluster;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * Fans broadcasts out to every node through PostgreSQL LISTEN/NOTIFY.
+ *
+ * <p>As an interceptor on the broker channel it sees every {@code /topic} message this node
+ * publishes; the message is delivered locally as usual and also queued for the cluster.
+ * A publisher thread batches the queue into NOTIFY payloads (bounded by the 8000 byte
+ * limit, larger broadcasts are stored in CLUSTER_BROADCAST_PAYLOADS and referenced by id).
+ * A listener thread opens its own connection outside the pool, LISTENs on the channel and
+ * re-injects other nodes' broadcasts into the local broker, marked so they are not published
+ * again, and announces each one as a {@link RemoteBroadcastEvent}.
+ *
+ * <p>The compact location stream and its participant index are not relayed: participant
+ * indexes and the epoch are assigned per node, so each node encodes them from the relayed JSON
+ * location update instead.
+ */
+@Component
+@ConditionalOnProperty(name = "geomeet.cluster.enabled", havingValue = "true")
+public class ClusterBroadcastRelay implements ChannelInterceptor, SmartLifecycle {
+
+    static final String ORIGIN_HEADER = "geomeetClusterOrigin";
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterBroadcastRelay.class);
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+    private static final TypeReference<List<ClusterEnvelope>> BATCH_TYPE = new TypeReference<>() {
+    };
+    private static final int MAX_NOTIFY_BYTES = 7900;
+    private static final long PURGE_INTERVAL_MILLIS = 60_000;
+    private static final String COMPACT_SUFFIX = "/locations/compact";
+    private static final String INDEX_SUFFIX = "/locations/index";
+
+    private final ListenerConnections listenerConnections;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId;
+    private final String channel;
+    private final long batchWindowMillis;
+
+    private final BlockingQueue<ClusterEnvelope> outbound;
+    private final AtomicLong sequence = new AtomicLong();
+    private final RecentMessageIds recentIds = new RecentMessageIds(10_000);
+    private final Counter published;
+    private final Counter received;
+    private final Counter duplicates;
+    private final Counter dropped;
+
+    private volatile boolean running;
+    private Thread publisherThread;
+    private Thread listenerThread;
+    private long lastPurge;
+
+    @Autowired
+    public ClusterBroadcastRelay(
+        DataSourceProperties dataSourceProperties,
+        JdbcTemplate jdbcTemplate,
+        ObjectMapper objectMapper,
+        ObjectProvider<SimpMessagingTemplate> messagingTemplate,
+        ApplicationEventPublisher eventPublisher,
+        MeterRegistry meterRegistry,
+        @Value("${geomeet.cluster.node-id:}") String nodeId,
+        @Value("${geomeet.cluster.channel:geomeet_broadcast}") String channel,
+        @Value("${geomeet.cluster.batch-window-ms:10}") long batchWindowMillis,
+        @Value("${geomeet.cluster.queue-capacity:10000}") int queueCapacity
+    ) {
+        // A LISTEN connection is held for the life of the node, so it must not take a pool slot
+        this(() -> DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword()),
+            jdbcTemplate, objectMapper, messagingTemplate, eventPublisher, meterRegistry,
+            nodeId, channel, batchWindowMillis, queueCapacity);
+    }
+
+    ClusterBroadcastRelay(
+        ListenerConnections listenerConnections,
+        JdbcTemplate jdbcTemplate,
+        ObjectMapper objectMapper,
+        ObjectProvider<SimpMessagingTemplate> messagingTemplate,
+        ApplicationEventPublisher eventPublisher,
+        MeterRegistry meterRegistry,
+        String nodeId,
+        String channel,
+        long batchWindowMillis,
+        int queueCapacity
+    ) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid cluster channel name: " + channel);
+        }
+        this.listenerConnections = listenerConnections;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.messagingTemplate = messagingTemplate;
+        this.eventPublisher = eventPublisher;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.channel = channel;
+        this.batchWindowMillis = batchWindowMillis;
+        this.outbound = new LinkedBlockingQueue<>(queueCapacity);
+        this.published = meterRegistry.counter("geomeet.cluster.broadcasts", "direction", "published");
+        this.received = meterRegistry.counter("geomeet.cluster.broadcasts", "direction", "received");
+        this.duplicates = meterRegistry.counter("geomeet.cluster.broadcasts", "direction", "duplicate");
+        this.dropped = meterRegistry.counter("geomeet.cluster.broadcasts", "direction", "dropped");
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel messageChannel) {
+        ClusterEnvelope envelope = toEnvelope(message);
+        if (envelope != null && !outbound.offer(envelope)) {
+            dropped.increment();
+            logger.warn("Cluster broadcast queue full, {} not fanned out", envelope.destination());
+        }
+        return message;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        publisherThread = new Thread(this::publishLoop, "cluster-publisher");
+        publisherThread.setDaemon(true);
+        publisherThread.start();
+        listenerThread = new Thread(this::listenLoop, "cluster-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        logger.info("Cluster fan-out started on channel {} as node {}", channel, nodeId);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (publisherThread != null) {
+            publisherThread.interrupt();
+        }
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Capture a local /topic broadcast; returns null for anything that must stay on this node,
+     * including the node-local compact location frames.
+     */
+    ClusterEnvelope toEnvelope(Message<?> message) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE
+            || destination == null
+            || !destination.startsWith("/topic/")
+            || isNodeLocal(destination)
+            || accessor.getHeader(ORIGIN_HEADER) != null
+            || !(message.getPayload() instanceof byte[] payload)) {
+            return null;
+        }
+        MimeType contentType = accessor.getContentType();
+        @SuppressWarnings("unchecked")
+        Map<String, List<String>> nativeHeaders =
+            (Map<String, List<String>>) message.getHeaders().get(NativeMessageHeaderAccessor.NATIVE_HEADERS);
+        return new ClusterEnvelope(
+            nodeId,
+            sequence.incrementAndGet(),
+            destination,
+            contentType != null ? contentType.toString() : null,
+            nativeHeaders == null || nativeHeaders.isEmpty() ? null : nativeHeaders,
+            Base64.getEncoder().encodeToString(payload),
+            null
+        );
+    }
+
+    /**
+     * Split envelopes into NOTIFY payloads no larger than the server limit.
+     * Envelopes that cannot fit on their own are handed to {@code store} and replaced by a reference.
+     */
+    List<String> toNotifications(List<ClusterEnvelope> batch, EnvelopeStore store) throws JsonProcessingException {
+        List<String> notifications = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (ClusterEnvelope envelope : batch) {
+            String json = objectMapper.writeValueAsString(envelope);
+            if (json.getBytes(StandardCharsets.UTF_8).length + 2 > MAX_NOTIFY_BYTES) {
+                long ref = store.save(json);
+                json = objectMapper.writeValueAsString(ClusterEnvelope.reference(envelope.node(), envelope.id(), ref));
+            }
+            if (current.length() > 0 && current.length() + json.length() + 2 > MAX_NOTIFY_BYTES) {
+                notifications.add(current.append(']').toString());
+                current.setLength(0);
+            }
+            current.append(current.length() == 0 ? '[' : ',').append(json);
+        }
+        if (current.length() > 0) {
+            notifications.add(current.append(']').toString());
+        }
+        return notifications;
+    }
+
+    /**
+     * Deliver a received notification to the local broker.
+     */
+    void onNotification(String notification, EnvelopeLoader loader) {
+        List<ClusterEnvelope> batch;
+        try {
+            batch = objectMapper.readValue(notification, BATCH_TYPE);
+        } catch (JsonProcessingException ex) {
+            logger.warn("Ignoring malformed cluster notification", ex);
+            return;
+        }
+        for (ClusterEnvelope envelope : batch) {
+            if (nodeId.equals(envelope.node())) {
+                continue;
+            }
+            if (!recentIds.add(envelope.key())) {
+                duplicates.increment();
+                continue;
+            }
+            ClusterEnvelope resolved = envelope.referencesStoredPayload() ? loader.load(envelope.ref()) : envelope;
+            if (resolved != null) {
+                deliver(resolved);
+                received.increment();
+            }
+        }
+    }
+
+    /**
+     * Compact location frames and their participant index only decode against this node's encoder.
+     */
+    static boolean isNodeLocal(String destination) {
+        return destination.endsWith(COMPACT_SUFFIX) || destination.endsWith(INDEX_SUFFIX);
+    }
+
+    private void deliver(ClusterEnvelope envelope) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(envelope.destination());
+        if (envelope.contentType() != null) {
+            accessor.setContentType(MimeTypeUtils.parseMimeType(envelope.contentType()));
+        }
+        if (envelope.headers() != null) {
+            envelope.headers().forEach((name, values) ->
+                values.forEach(value -> accessor.addNativeHeader(name, value)));
+        }
+        accessor.setHeader(ORIGIN_HEADER, envelope.node());
+        accessor.setLeaveMutable(true);
+        byte[] payload = Base64.getDecoder().decode(envelope.payload());
+        messagingTemplate.getObject()
+            .send(envelope.destination(), MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+        eventPublisher.publishEvent(new RemoteBroadcastEvent(envelope.destination(), payload));
+    }
+
+    private void publishLoop() {
+        while (running) {
+            try {
+                ClusterEnvelope first = outbound.poll(500, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    publish(collectBatch(first));
+                }
+                purgeStoredPayloads();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException | JsonProcessingException ex) {
+                logger.error("Failed to publish cluster broadcasts", ex);
+            }
+        }
+    }
+
+    private List<ClusterEnvelope> collectBatch(ClusterEnvelope first) throws InterruptedException {
+        List<ClusterEnvelope> batch = new ArrayList<>();
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchWindowMillis);
+        long remaining = deadline - System.nanoTime();
+        while (remaining > 0) {
+            ClusterEnvelope next = outbound.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+            remaining = deadline - System.nanoTime();
+        }
+        return batch;
+    }
+
+    private void publish(List<ClusterEnvelope> batch) throws JsonProcessingException {
+        for (String notification : toNotifications(batch, this::storePayload)) {
+            jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, notification);
+        }
+        published.increment(batch.size());
+    }
+
+    long storePayload(String json) {
+        Long id = jdbcTemplate.queryForObject(
+            "INSERT INTO CLUSTER_BROADCAST_PAYLOADS (payload) VALUES (?) RETURNING id", Long.class, json);
+        if (id == null) {
+            throw new IllegalStateException("Failed to store cluster broadcast payload");
+        }
+        return id;
+    }
+
+    ClusterEnvelope loadPayload(long ref) {
+        List<String> rows = jdbcTemplate.queryForList(
+            "SELECT payload FROM CLUSTER_BROADCAST_PAYLOADS WHERE id = ?", String.class, ref);
+        if (rows.isEmpty()) {
+            logger.warn("Cluster broadcast payload {} already purged", ref);
+            return null;
+        }
+        try {
+            return objectMapper.readValue(rows.get(0), ClusterEnvelope.class);
+        } catch (JsonProcessingException ex) {
+            logger.warn("Ignoring malformed cluster broadcast payload {}", ref, ex);
+            return null;
+        }
+    }
+
+    private void purgeStoredPayloads() {
+        long now = System.currentTimeMillis();
+        if (now - lastPurge < PURGE_INTERVAL_MILLIS) {
+            return;
+        }
+        lastPurge = now;
+        jdbcTemplate.update(
+            "DELETE FROM CLUSTER_BROADCAST_PAYLOADS WHERE created_at < CURRENT_TIMESTAMP - INTERVAL '5 minutes'");
+    }
+
+    private void listenLoop() {
+        long backoffMillis = 500;
+        while (running) {
+            try (Connection connection = listenerConnections.open()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                backoffMillis = 500;
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(500);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            onNotification(notification.getParameter(), this::loadPayload);
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException ex) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("Cluster listener connection lost, retrying in {} ms", backoffMillis, ex);
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, 30_000);
+            }
+        }
+    }
+
+    /**
+     * Opens the connection the listener thread LISTENs on.
+     */
+    @FunctionalInterface
+    interface ListenerConnections {
+        Connection open() throws SQLException;
+    }
+
+    /**
+     * Stores an envelope that is too large for a notification.
+     */
+    @FunctionalInterface
+    interface EnvelopeStore {
+        long save(String json);
+    }
+
+    /**
+     * Loads a stored envelope by id.
+     */
+    @FunctionalInterface
+    interface EnvelopeLoader {
+        ClusterEnvelope load(long ref);
+    }
+}
@@ -0,0 +1,45 @@
+package com.geomeet.api.infrastructure.cluster;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A broadcast as it travels between nodes.
+ *
+ * @param node id of the node that accepted the broadcast
+ * @param id sequence number of the broadcast on that node
+ * @param destination the broker destination, e.g. {@code /topic/session/{id}/locations}
+ * @param contentType content type of the payload
+ * @param headers native STOMP headers to keep, e.g. the conflation key
+ * @param payload base64 encoded payload
+ * @param ref id of the stored row holding this envelope, when it was too large for a notification
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ClusterEnvelope(
+    String node,
+    long id,
+    String destination,
+    String contentType,
+    Map<String, List<String>> headers,
+    String payload,
+    Long ref
+) {
+
+    static ClusterEnvelope reference(String node, long id, long ref) {
+        return new ClusterEnvelope(node, id, null, null, null, null, ref);
+    }
+
+    boolean referencesStoredPayload() {
+        return ref != null;
+    }
+
+    /**
+     * Dedup key, unique across the cluster.
+     *
+     * @return node and sequence number
+     */
+    String key() {
+        return node + ':' + id;
+    }
+}
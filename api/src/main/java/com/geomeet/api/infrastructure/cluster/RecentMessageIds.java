@@ -0,0 +1,34 @@
+package com.geomeet.api.infrastructure.cluster;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded set of recently delivered broadcast keys, evicting the oldest first.
+ * Catches broadcasts that reach a node twice, e.g. after the listener reconnects.
+ */
+final class RecentMessageIds {
+
+    private final Map<String, Boolean> seen;
+
+    RecentMessageIds(int capacity) {
+        this.seen = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75f, false) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Record a key.
+     *
+     * @param key the broadcast key
+     * @return true if the key had not been seen before
+     */
+    synchronized boolean add(String key) {
+        return seen.put(key, Boolean.TRUE) == null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.geomeet.api.infrastructure.cluster;
+
+/**
+ * Published after a broadcast from another node was delivered to the local broker,
+ * for local state that follows broadcasts rather than the database.
+ *
+ * @param destination the broker destination, e.g. {@code /topic/session/{id}/locations}
+ * @param payload the serialized message body
+ */
+public record RemoteBroadcastEvent(String destination, byte[] payload) {
+}
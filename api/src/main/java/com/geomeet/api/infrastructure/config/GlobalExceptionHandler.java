@@ -8,6 +8,7 @@ import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -110,7 +111,12 @@ public class GlobalExceptionHandler {
                 path
         );
 
-        return ResponseEntity.status(ex.getHttpStatus()).body(errorResponse);
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(ex.getHttpStatus());
+        if (httpStatus == HttpStatus.SERVICE_UNAVAILABLE) {
+            // Capacity refusals clear within moments, tell clients when to come back
+            response.header(HttpHeaders.RETRY_AFTER, "1");
+        }
+        return response.body(errorResponse);
     }
 
     /**
@@ -134,6 +140,8 @@ public class GlobalExceptionHandler {
             return "Unprocessable Entity";
         } else if (httpStatus == HttpStatus.INTERNAL_SERVER_ERROR) {
             return "Internal Server Error";
+        } else if (httpStatus == HttpStatus.SERVICE_UNAVAILABLE) {
+            return "Service Unavailable";
         } else {
             return "Error";
         }
@@ -1,6 +1,7 @@
 package com.geomeet.api.infrastructure.config;
 
 import com.geomeet.api.infrastructure.security.JwtTokenService;
+import com.geomeet.api.infrastructure.security.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,6 +17,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 /**
  * JWT Authentication Filter.
  * Extracts JWT token from request and sets authentication in security context.
+ * The token is verified once per request, and not at all while its verification is cached.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -36,28 +38,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
-            try {
-                String username = jwtTokenService.extractUsername(token);
-                Long userId = jwtTokenService.extractUserId(token);
-
-                if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    if (jwtTokenService.validateToken(token, username)) {
-                        UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                userId, // Principal is userId
-                                null,
-                                java.util.Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
-                            );
-                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
-                    }
-                }
-            } catch (RuntimeException e) {
-                // Token is invalid, continue without authentication
+            // An invalid token leaves the request unauthenticated
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                jwtTokenService.verify(token).ifPresent(verified -> authenticate(verified, request));
             }
         }
 
         filterChain.doFilter(request, response);
     }
-}
 
+    private static void authenticate(VerifiedToken verified, HttpServletRequest request) {
+        UsernamePasswordAuthenticationToken authentication =
+            new UsernamePasswordAuthenticationToken(
+                verified.userId(), // Principal is userId
+                null,
+                java.util.Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+            );
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+}
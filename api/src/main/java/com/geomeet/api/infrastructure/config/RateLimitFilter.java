@@ -0,0 +1,127 @@
+package com.geomeet.api.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.geomeet.api.adapter.web.auth.dto.ErrorResponse;
+import com.geomeet.api.infrastructure.ratelimit.RateLimit;
+import com.geomeet.api.infrastructure.ratelimit.RateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Rate limits the endpoints a misbehaving client can hammer into saturating the connection pool.
+ * Login and register are limited per client IP; location and optimal location per user, falling
+ * back to the IP for anonymous calls. Refresh and logout are left alone: they need a valid
+ * refresh token, which is single use, so they cannot be used to guess credentials, and many
+ * users behind one NAT must not lock each other out of them. Refused requests get 429 with
+ * {@code Retry-After}.
+ * Runs after {@link JwtAuthenticationFilter}, so the user is known.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_PATH = "/api/auth/login";
+    private static final String REGISTER_PATH = "/api/auth/register";
+    private static final String SESSIONS_PREFIX = "/api/sessions/";
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final RateLimit authLimit;
+    private final RateLimit locationLimit;
+    private final RateLimit optimalLocationLimit;
+
+    public RateLimitFilter(
+        RateLimiter rateLimiter,
+        ObjectMapper objectMapper,
+        @Value("${geomeet.ratelimit.enabled:true}") boolean enabled,
+        @Value("${geomeet.ratelimit.auth.capacity:10}") int authCapacity,
+        @Value("${geomeet.ratelimit.auth.refill-per-second:0.2}") double authRefill,
+        @Value("${geomeet.ratelimit.location.capacity:10}") int locationCapacity,
+        @Value("${geomeet.ratelimit.location.refill-per-second:2}") double locationRefill,
+        @Value("${geomeet.ratelimit.optimal-location.capacity:5}") int optimalLocationCapacity,
+        @Value("${geomeet.ratelimit.optimal-location.refill-per-second:0.5}") double optimalLocationRefill
+    ) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.authLimit = new RateLimit("auth", authCapacity, authRefill);
+        this.locationLimit = new RateLimit("location", locationCapacity, locationRefill);
+        this.optimalLocationLimit = new RateLimit("optimal-location", optimalLocationCapacity, optimalLocationRefill);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || limitFor(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        RateLimit limit = limitFor(request);
+        String client = limit == authLimit ? "ip:" + request.getRemoteAddr() : clientOf(request);
+        long waitNanos = rateLimiter.tryAcquire(limit, client);
+        if (waitNanos > 0) {
+            reject(request, response, waitNanos);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimit limitFor(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = request.getRequestURI();
+        if (HttpMethod.POST.matches(method) && (LOGIN_PATH.equals(path) || REGISTER_PATH.equals(path))) {
+            return authLimit;
+        }
+        if (!path.startsWith(SESSIONS_PREFIX)) {
+            return null;
+        }
+        if (HttpMethod.PUT.matches(method) && (path.endsWith("/location") || path.endsWith("/meeting-location"))) {
+            return locationLimit;
+        }
+        if (HttpMethod.POST.matches(method) && path.endsWith("/optimal-location")) {
+            return optimalLocationLimit;
+        }
+        return null;
+    }
+
+    private static String clientOf(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return "user:" + userId;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos)
+        throws IOException {
+        // Round up, so a client that waits as told is let through
+        long nanosPerSecond = TimeUnit.SECONDS.toNanos(1);
+        long retryAfterSeconds = Math.max(1, (waitNanos + nanosPerSecond - 1) / nanosPerSecond);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            "Too Many Requests",
+            "Too many requests, please retry in " + retryAfterSeconds + " seconds",
+            request.getRequestURI()
+        ));
+    }
+}
@@ -0,0 +1,10 @@
+package com.geomeet.api.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // Scheduled maintenance, e.g. reloading token revocations
+}
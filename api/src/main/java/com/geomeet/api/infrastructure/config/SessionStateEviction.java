@@ -0,0 +1,67 @@
+package com.geomeet.api.infrastructure.config;
+
+import com.geomeet.api.application.usecase.location.ParticipantClusterIndex;
+import com.geomeet.api.application.usecase.session.CompactLocationFrames;
+import com.geomeet.api.application.usecase.session.SessionReadModel;
+import com.geomeet.api.application.usecase.session.SessionViewportIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops per-session state held in memory once a session goes quiet: session views nobody read
+ * for {@code geomeet.session-state.idle-ms} (and the least recently read beyond
+ * {@code geomeet.session-state.max-views}), viewport grids without viewers, compact location
+ * indexes nothing was broadcast for, and participant clusters nobody updated or read. Sessions
+ * that never end explicitly would otherwise stay in memory until restart. Everything dropped is
+ * rebuilt from storage on next use.
+ */
+@Component
+public class SessionStateEviction {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionStateEviction.class);
+
+    private final SessionReadModel sessionReadModel;
+    private final SessionViewportIndex sessionViewportIndex;
+    private final CompactLocationFrames compactLocationFrames;
+    private final ParticipantClusterIndex participantClusterIndex;
+    private final long idleMillis;
+    private final int maxViews;
+
+    public SessionStateEviction(
+        SessionReadModel sessionReadModel,
+        SessionViewportIndex sessionViewportIndex,
+        CompactLocationFrames compactLocationFrames,
+        ParticipantClusterIndex participantClusterIndex,
+        @Value("${geomeet.session-state.idle-ms:1800000}") long idleMillis,
+        @Value("${geomeet.session-state.max-views:10000}") int maxViews
+    ) {
+        if (idleMillis <= 0 || maxViews < 0) {
+            throw new IllegalArgumentException("Session state needs idle-ms > 0 and max-views >= 0");
+        }
+        this.sessionReadModel = sessionReadModel;
+        this.sessionViewportIndex = sessionViewportIndex;
+        this.compactLocationFrames = compactLocationFrames;
+        this.participantClusterIndex = participantClusterIndex;
+        this.idleMillis = idleMillis;
+        this.maxViews = maxViews;
+    }
+
+    /**
+     * Drop idle session state.
+     */
+    @Scheduled(fixedDelayString = "${geomeet.session-state.eviction-ms:60000}")
+    public void evictIdle() {
+        long idleBefore = System.currentTimeMillis() - idleMillis;
+        int views = sessionReadModel.evictIdle(idleBefore, maxViews);
+        int grids = sessionViewportIndex.evictIdle(idleBefore);
+        int indexes = compactLocationFrames.evictIdle(idleBefore);
+        int clusters = participantClusterIndex.evictIdle(idleBefore);
+        if (views + grids + indexes + clusters > 0) {
+            logger.debug("Evicted {} session views, {} viewport grids, {} compact indexes and {} cluster indexes",
+                views, grids, indexes, clusters);
+        }
+    }
+}
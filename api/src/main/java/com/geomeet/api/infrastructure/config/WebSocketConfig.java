@@ -1,10 +1,30 @@
 package com.geomeet.api.infrastructure.config;
 
+import com.geomeet.api.infrastructure.cluster.ClusterBroadcastRelay;
+import com.geomeet.api.infrastructure.websocket.BackpressureDecoratorFactory;
+import com.geomeet.api.infrastructure.websocket.CompressionHandshakeHandler;
+import com.geomeet.api.infrastructure.websocket.OutboundLimits;
+import com.geomeet.api.infrastructure.websocket.ServerContainerCustomizer;
+import com.geomeet.api.infrastructure.websocket.SessionEventExecutor;
+import com.geomeet.api.infrastructure.websocket.SessionLaneTaskExecutor;
+import com.geomeet.api.infrastructure.websocket.StompAuthChannelInterceptor;
+import com.geomeet.api.infrastructure.websocket.WebSocketTransportMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 /**
  * WebSocket configuration for real-time session updates.
@@ -13,20 +33,145 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final MeterRegistry meterRegistry;
+    private final int brokerLanes;
+    private final int brokerLaneCapacity;
+    private final OutboundLimits outboundLimits;
+    private final WebSocketTransportMetrics transportMetrics;
+    private final ObjectProvider<ClusterBroadcastRelay> clusterBroadcastRelay;
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final boolean compressionEnabled;
+    private final long heartbeatMillis;
+    private final int inboundMessageSizeLimit;
+    private TaskScheduler heartbeatScheduler;
+
+    public WebSocketConfig(
+        MeterRegistry meterRegistry,
+        WebSocketTransportMetrics transportMetrics,
+        ObjectProvider<ClusterBroadcastRelay> clusterBroadcastRelay,
+        StompAuthChannelInterceptor stompAuthChannelInterceptor,
+        @Value("${geomeet.websocket.broker.lanes:0}") int brokerLanes,
+        @Value("${geomeet.websocket.broker.lane-capacity:10000}") int brokerLaneCapacity,
+        @Value("${geomeet.websocket.outbound.send-time-limit-ms:10000}") long sendTimeLimitMillis,
+        @Value("${geomeet.websocket.outbound.buffer-size-limit:131072}") int bufferSizeLimit,
+        @Value("${geomeet.websocket.outbound.grace-period-ms:5000}") long gracePeriodMillis,
+        @Value("${geomeet.websocket.compression.enabled:true}") boolean compressionEnabled,
+        @Value("${geomeet.websocket.heartbeat-ms:10000}") long heartbeatMillis,
+        @Value("${geomeet.websocket.inbound.message-size-limit:65536}") int inboundMessageSizeLimit
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.transportMetrics = transportMetrics;
+        this.clusterBroadcastRelay = clusterBroadcastRelay;
+        this.stompAuthChannelInterceptor = stompAuthChannelInterceptor;
+        // 0 means one lane per available processor
+        this.brokerLanes = brokerLanes > 0 ? brokerLanes : Runtime.getRuntime().availableProcessors();
+        this.brokerLaneCapacity = brokerLaneCapacity;
+        this.outboundLimits = new OutboundLimits(sendTimeLimitMillis, bufferSizeLimit, gracePeriodMillis);
+        this.compressionEnabled = compressionEnabled;
+        this.heartbeatMillis = heartbeatMillis;
+        this.inboundMessageSizeLimit = inboundMessageSizeLimit;
+    }
+
+    /**
+     * The broker's own scheduler drives STOMP heartbeats; it is created by the broker
+     * configuration itself, hence the lazy injection.
+     */
+    @Autowired
+    public void setHeartbeatScheduler(
+        @Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler heartbeatScheduler
+    ) {
+        this.heartbeatScheduler = heartbeatScheduler;
+    }
+
+    /**
+     * Buffer and idle settings for the servlet container's WebSocket server.
+     */
+    @Bean
+    public ServerContainerCustomizer webSocketServerContainerCustomizer(
+        @Value("${geomeet.websocket.container.max-text-buffer:65536}") int maxTextBuffer,
+        @Value("${geomeet.websocket.container.max-binary-buffer:65536}") int maxBinaryBuffer,
+        @Value("${geomeet.websocket.container.idle-timeout-ms:120000}") long idleTimeoutMillis
+    ) {
+        return new ServerContainerCustomizer(
+            maxTextBuffer, maxBinaryBuffer, idleTimeoutMillis, outboundLimits.sendTimeLimitMillis());
+    }
+
+    /**
+     * Writes queued frames to subscriber connections, shared by all connections.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor webSocketSendExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("ws-send-");
+        executor.setCorePoolSize(Runtime.getRuntime().availableProcessors());
+        executor.setMaxPoolSize(Runtime.getRuntime().availableProcessors() * 4);
+        executor.setQueueCapacity(10_000);
+        return executor;
+    }
+
+    /**
+     * Budgets outbound frames per connection and closes stuck connections and connections
+     * whose token expired or was revoked.
+     */
+    @Bean
+    public BackpressureDecoratorFactory backpressureDecoratorFactory() {
+        return new BackpressureDecoratorFactory(
+            outboundLimits, webSocketSendExecutor(), meterRegistry, stompAuthChannelInterceptor::hasExpiredToken);
+    }
+
+    /**
+     * Broadcasts committed session changes, one lane per available processor unless configured.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public SessionEventExecutor sessionEventExecutor(
+        @Value("${geomeet.events.lanes:0}") int eventLanes,
+        @Value("${geomeet.events.lane-capacity:10000}") int eventLaneCapacity
+    ) {
+        return new SessionEventExecutor(
+            eventLanes > 0 ? eventLanes : Runtime.getRuntime().availableProcessors(), eventLaneCapacity, meterRegistry);
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        // Enable a simple in-memory message broker to carry messages back to the client
-        config.enableSimpleBroker("/topic");
+        // Enable a simple in-memory message broker to carry messages back to the client;
+        // /queue carries per-viewer destinations such as viewport-filtered locations
+        config.enableSimpleBroker("/topic", "/queue")
+            .setHeartbeatValue(new long[] {heartbeatMillis, heartbeatMillis})
+            .setTaskScheduler(heartbeatScheduler);
         // Prefix for messages from client to server
         config.setApplicationDestinationPrefixes("/app");
+        // With clustering enabled, every local broadcast is also fanned out to the other nodes
+        clusterBroadcastRelay.ifAvailable(relay -> config.configureBrokerChannel().interceptors(relay));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // Deliver each session's frames on its own lane so a busy session cannot delay the others
+        registration.taskExecutor(new SessionLaneTaskExecutor(brokerLanes, brokerLaneCapacity, meterRegistry));
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // Spring's own limits stay as a safety net; the decorator below does the real budgeting
+        registration.setSendTimeLimit((int) outboundLimits.sendTimeLimitMillis());
+        registration.setSendBufferSizeLimit(outboundLimits.bufferSizeLimit() * 2);
+        registration.setMessageSizeLimit(inboundMessageSizeLimit);
+        registration.addDecoratorFactory(backpressureDecoratorFactory());
     }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
-        // Register the /ws endpoint for WebSocket connections
+        // Native WebSocket endpoint for clients that support it: no SockJS framing, compression negotiated
+        registry.addEndpoint("/ws-native")
+            .setHandshakeHandler(new CompressionHandshakeHandler(compressionEnabled))
+            .addInterceptors(transportMetrics.forEndpoint("native"))
+            .setAllowedOriginPatterns("*");
+        // Register the /ws endpoint for SockJS connections, kept for clients without WebSocket support
         registry.addEndpoint("/ws")
+            .setHandshakeHandler(new CompressionHandshakeHandler(compressionEnabled))
+            .addInterceptors(transportMetrics.forEndpoint("sockjs"))
             .setAllowedOriginPatterns("*")
-            .withSockJS();
+            .withSockJS()
+            .setHeartbeatTime(heartbeatMillis * 2);
     }
 }
-
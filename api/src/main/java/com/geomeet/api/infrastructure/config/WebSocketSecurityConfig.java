@@ -1,14 +1,30 @@
 package com.geomeet.api.infrastructure.config;
 
+import com.geomeet.api.infrastructure.websocket.StompAuthChannelInterceptor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
 /**
  * WebSocket security configuration.
- * In production, should implement proper authentication for WebSocket connections.
+ * The handshake itself stays open (SockJS cannot send headers); authentication happens once on
+ * the STOMP CONNECT frame, the token is re-checked for expiry and revocation on every SUBSCRIBE
+ * and SEND, and session topics are authorized per SUBSCRIBE and SEND.
  */
 @Configuration
-public class WebSocketSecurityConfig {
-    // WebSocket security can be configured here if needed
-    // For now, we rely on the HTTP authentication before WebSocket upgrade
-}
+@Order(Ordered.HIGHEST_PRECEDENCE + 99)
+public class WebSocketSecurityConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
 
+    public WebSocketSecurityConfig(StompAuthChannelInterceptor stompAuthChannelInterceptor) {
+        this.stompAuthChannelInterceptor = stompAuthChannelInterceptor;
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
+}
@@ -0,0 +1,149 @@
+package com.geomeet.api.infrastructure.history;
+
+import com.geomeet.api.application.result.TrajectoryResult;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One fixed-size segment file of a session's location history, mapped into memory.
+ *
+ * <p>Records are {@value #RECORD_BYTES} bytes: participant id (long), recorded at in epoch
+ * milliseconds (long), latitude and longitude in 1e-7 degrees (int), accuracy in meters (float,
+ * NaN when unknown) and 4 bytes of padding. The file is created at its full size, so records not
+ * yet written read as zeros and the first zero timestamp marks the end on reopen. Every
+ * {@value #INDEX_INTERVAL} records share an index entry holding their earliest and latest
+ * timestamps, so a range scan only reads the blocks that overlap it, whatever order the fixes
+ * arrived in. Not thread-safe; {@link SessionHistoryLog} serializes access.
+ */
+final class HistorySegment {
+
+    static final int RECORD_BYTES = 32;
+    static final int INDEX_INTERVAL = 512;
+
+    private static final double FIXED_POINT = 1e7;
+    private static final int TIMESTAMP_OFFSET = 8;
+    private static final int LATITUDE_OFFSET = 16;
+    private static final int LONGITUDE_OFFSET = 20;
+    private static final int ACCURACY_OFFSET = 24;
+
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final long[] blockMin;
+    private final long[] blockMax;
+    private int count;
+
+    private HistorySegment(MappedByteBuffer buffer, int capacity) {
+        this.buffer = buffer;
+        this.capacity = capacity;
+        int blocks = (capacity + INDEX_INTERVAL - 1) / INDEX_INTERVAL;
+        this.blockMin = new long[blocks];
+        this.blockMax = new long[blocks];
+        Arrays.fill(blockMin, Long.MAX_VALUE);
+        Arrays.fill(blockMax, Long.MIN_VALUE);
+    }
+
+    /**
+     * Create a new, empty segment file holding up to {@code capacity} records.
+     */
+    static HistorySegment create(Path path, int capacity) throws IOException {
+        try (FileChannel channel = FileChannel.open(path,
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // Mapping past the end grows the file; the mapping outlives the channel
+            return new HistorySegment(channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                (long) capacity * RECORD_BYTES), capacity);
+        }
+    }
+
+    /**
+     * Map an existing segment file and rebuild its index from the records written so far.
+     */
+    static HistorySegment open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            int capacity = (int) (channel.size() / RECORD_BYTES);
+            HistorySegment segment = new HistorySegment(channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                (long) capacity * RECORD_BYTES), capacity);
+            while (segment.count < capacity && segment.timestampAt(segment.count) != 0) {
+                segment.index(segment.count, segment.timestampAt(segment.count));
+                segment.count++;
+            }
+            return segment;
+        }
+    }
+
+    boolean isFull() {
+        return count == capacity;
+    }
+
+    /**
+     * Write one record after the last one; the caller rolls to a new segment when full.
+     */
+    void append(long participantId, long recordedAtMillis, double latitude, double longitude, Double accuracy) {
+        int offset = count * RECORD_BYTES;
+        buffer.putLong(offset, participantId);
+        buffer.putInt(offset + LATITUDE_OFFSET, (int) Math.round(latitude * FIXED_POINT));
+        buffer.putInt(offset + LONGITUDE_OFFSET, (int) Math.round(longitude * FIXED_POINT));
+        buffer.putFloat(offset + ACCURACY_OFFSET, accuracy == null ? Float.NaN : accuracy.floatValue());
+        // Timestamp last: a record is only visible on reopen once it is complete
+        buffer.putLong(offset + TIMESTAMP_OFFSET, recordedAtMillis);
+        index(count, recordedAtMillis);
+        count++;
+    }
+
+    /**
+     * Add the participant's records within [from, to) to {@code points}, in file order.
+     */
+    void scan(long participantId, long fromMillis, long toMillis, List<TrajectoryResult.Point> points) {
+        for (int block = 0; block * INDEX_INTERVAL < count; block++) {
+            if (blockMax[block] < fromMillis || blockMin[block] >= toMillis) {
+                continue;
+            }
+            int end = Math.min(count, (block + 1) * INDEX_INTERVAL);
+            for (int record = block * INDEX_INTERVAL; record < end; record++) {
+                int offset = record * RECORD_BYTES;
+                long recordedAt = buffer.getLong(offset + TIMESTAMP_OFFSET);
+                if (buffer.getLong(offset) == participantId && recordedAt >= fromMillis && recordedAt < toMillis) {
+                    points.add(toPoint(offset, recordedAt));
+                }
+            }
+        }
+    }
+
+    /**
+     * Flush written records to the file.
+     */
+    void force() {
+        buffer.force();
+    }
+
+    static long toMillis(LocalDateTime recordedAt) {
+        return recordedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private TrajectoryResult.Point toPoint(int offset, long recordedAt) {
+        float accuracy = buffer.getFloat(offset + ACCURACY_OFFSET);
+        return TrajectoryResult.Point.builder()
+            .latitude(buffer.getInt(offset + LATITUDE_OFFSET) / FIXED_POINT)
+            .longitude(buffer.getInt(offset + LONGITUDE_OFFSET) / FIXED_POINT)
+            .accuracy(Float.isNaN(accuracy) ? null : (double) accuracy)
+            .recordedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(recordedAt), ZoneOffset.UTC))
+            .build();
+    }
+
+    private long timestampAt(int record) {
+        return buffer.getLong(record * RECORD_BYTES + TIMESTAMP_OFFSET);
+    }
+
+    private void index(int record, long recordedAtMillis) {
+        int block = record / INDEX_INTERVAL;
+        blockMin[block] = Math.min(blockMin[block], recordedAtMillis);
+        blockMax[block] = Math.max(blockMax[block], recordedAtMillis);
+    }
+}
@@ -0,0 +1,16 @@
+package com.geomeet.api.infrastructure.history;
+
+/**
+ * Conditions selecting the location history backend: {@code geomeet.history.store=postgres}
+ * (the default) or {@code mmap}, both only when {@code geomeet.history.enabled=true}.
+ */
+final class HistoryStores {
+
+    static final String POSTGRES =
+        "${geomeet.history.enabled:false} and '${geomeet.history.store:postgres}' == 'postgres'";
+    static final String MMAP =
+        "${geomeet.history.enabled:false} and '${geomeet.history.store:postgres}' == 'mmap'";
+
+    private HistoryStores() {
+    }
+}
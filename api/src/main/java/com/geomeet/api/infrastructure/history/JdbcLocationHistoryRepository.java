@@ -0,0 +1,56 @@
+package com.geomeet.api.infrastructure.history;
+
+import com.geomeet.api.application.result.TrajectoryResult;
+import com.geomeet.api.application.usecase.location.LocationHistoryRepository;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Implementation of LocationHistoryRepository reading PARTICIPANT_LOCATION_HISTORY with JDBC.
+ * The recorded_at bounds let PostgreSQL skip every partition outside the window.
+ */
+@Component
+@ConditionalOnExpression(HistoryStores.POSTGRES)
+public class JdbcLocationHistoryRepository implements LocationHistoryRepository {
+
+    static final String TRAJECTORY_SQL = """
+        SELECT latitude, longitude, accuracy, recorded_at
+        FROM PARTICIPANT_LOCATION_HISTORY
+        WHERE participant_id = ? AND session_id = ? AND recorded_at >= ? AND recorded_at < ?
+        ORDER BY recorded_at
+        LIMIT ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcLocationHistoryRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<TrajectoryResult.Point> findTrajectory(
+        Long sessionId,
+        Long participantId,
+        LocalDateTime from,
+        LocalDateTime to,
+        int limit
+    ) {
+        return jdbcTemplate.query(TRAJECTORY_SQL, JdbcLocationHistoryRepository::toPoint,
+            participantId, sessionId, Timestamp.valueOf(from), Timestamp.valueOf(to), limit);
+    }
+
+    static TrajectoryResult.Point toPoint(ResultSet rs, int rowNum) throws SQLException {
+        return TrajectoryResult.Point.builder()
+            .latitude(rs.getDouble("latitude"))
+            .longitude(rs.getDouble("longitude"))
+            .accuracy(rs.getObject("accuracy", Double.class))
+            .recordedAt(rs.getTimestamp("recorded_at").toLocalDateTime())
+            .build();
+    }
+}
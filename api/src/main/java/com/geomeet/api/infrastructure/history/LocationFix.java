@@ -0,0 +1,17 @@
+package com.geomeet.api.infrastructure.history;
+
+import java.time.LocalDateTime;
+
+/**
+ * One location fix waiting to be appended to PARTICIPANT_LOCATION_HISTORY.
+ */
+record LocationFix(
+    Long sessionId,
+    Long participantId,
+    Long userId,
+    Double latitude,
+    Double longitude,
+    Double accuracy,
+    LocalDateTime recordedAt
+) {
+}
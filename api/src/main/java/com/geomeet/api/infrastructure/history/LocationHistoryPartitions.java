@@ -0,0 +1,127 @@
+package com.geomeet.api.infrastructure.history;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the daily partitions of PARTICIPANT_LOCATION_HISTORY in place: creates today's and the
+ * next {@code geomeet.history.days-ahead}, and drops whole partitions once all of their rows are
+ * older than {@code geomeet.history.retention-days}. Dropping a partition frees its space at
+ * once and leaves nothing for vacuum, unlike deleting its rows. Runs at startup and then every
+ * {@code geomeet.history.partition-check-ms}; every step is idempotent, so instances may race.
+ *
+ * <p>Fixes for a day without a partition land in the default partition rather than failing their
+ * COPY. Creating a day's partition moves that day's rows out of the default partition, under a
+ * lock that holds back new rows until the partition is attached, and rows the default partition
+ * keeps past retention are deleted.
+ */
+@Component
+@ConditionalOnExpression(HistoryStores.POSTGRES)
+public class LocationHistoryPartitions {
+
+    static final String PARTITION_PREFIX = "participant_location_history_p";
+    static final String DEFAULT_PARTITION = "participant_location_history_default";
+
+    private static final Logger logger = LoggerFactory.getLogger(LocationHistoryPartitions.class);
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final int daysAhead;
+    private final int retentionDays;
+
+    @Autowired
+    public LocationHistoryPartitions(
+        JdbcTemplate jdbcTemplate,
+        @Value("${geomeet.history.days-ahead:2}") int daysAhead,
+        @Value("${geomeet.history.retention-days:30}") int retentionDays
+    ) {
+        this(jdbcTemplate, Clock.systemDefaultZone(), daysAhead, retentionDays);
+    }
+
+    LocationHistoryPartitions(JdbcTemplate jdbcTemplate, Clock clock, int daysAhead, int retentionDays) {
+        if (daysAhead < 0 || retentionDays < 1) {
+            throw new IllegalArgumentException("Location history needs days-ahead >= 0 and retention-days >= 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.daysAhead = daysAhead;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * Create upcoming partitions and drop expired ones.
+     */
+    @Scheduled(fixedDelayString = "${geomeet.history.partition-check-ms:3600000}")
+    public void maintain() {
+        LocalDate today = LocalDate.now(clock);
+        for (int day = 0; day <= daysAhead; day++) {
+            jdbcTemplate.execute(createPartitionSql(today.plusDays(day)));
+        }
+
+        LocalDate oldestKept = today.minusDays(retentionDays);
+        jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE recorded_at < ?", oldestKept.atStartOfDay());
+        List<String> partitions = jdbcTemplate.queryForList(
+            "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                + "WHERE i.inhparent = 'participant_location_history'::regclass",
+            String.class);
+        for (String partition : partitions) {
+            LocalDate date = dateOf(partition);
+            if (date != null && date.isBefore(oldestKept)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                logger.info("Dropped location history partition {}", partition);
+            }
+        }
+    }
+
+    /**
+     * One statement creating a day's partition unless it exists, with the day's rows moved over
+     * from the default partition. Attaching a partition validates that the default partition
+     * holds none of its rows, so new rows are held back by the lock until it is attached.
+     */
+    static String createPartitionSql(LocalDate date) {
+        String partition = partitionName(date);
+        String range = "recorded_at >= '" + date + "' AND recorded_at < '" + date.plusDays(1) + "'";
+        return "DO $$ BEGIN"
+            + " IF to_regclass('" + partition + "') IS NULL THEN"
+            + " LOCK TABLE " + DEFAULT_PARTITION + " IN ACCESS EXCLUSIVE MODE;"
+            + " IF to_regclass('" + partition + "') IS NULL THEN"
+            + " CREATE TABLE " + partition + " (LIKE PARTICIPANT_LOCATION_HISTORY);"
+            + " INSERT INTO " + partition + " SELECT * FROM " + DEFAULT_PARTITION + " WHERE " + range + ";"
+            + " DELETE FROM " + DEFAULT_PARTITION + " WHERE " + range + ";"
+            + " ALTER TABLE PARTICIPANT_LOCATION_HISTORY ATTACH PARTITION " + partition
+            + " FOR VALUES FROM ('" + date + "') TO ('" + date.plusDays(1) + "');"
+            + " END IF;"
+            + " END IF;"
+            + " END $$";
+    }
+
+    static String partitionName(LocalDate date) {
+        return PARTITION_PREFIX + date.format(SUFFIX);
+    }
+
+    /**
+     * The day a partition holds, or null for a table this class did not name.
+     */
+    static LocalDate dateOf(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), SUFFIX);
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.geomeet.api.infrastructure.history;
+
+import com.geomeet.api.application.event.LocationUpdatedEvent;
+import com.geomeet.api.application.result.UpdateLocationResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Appends committed location fixes to PARTICIPANT_LOCATION_HISTORY.
+ *
+ * <p>Fixes are queued when their update commits and a writer thread sends them with COPY, in
+ * batches of up to {@code geomeet.history.batch-size} gathered for at most
+ * {@code geomeet.history.flush-interval-ms}, so history costs one statement per batch rather than
+ * one insert per fix. History is best effort: when the queue is full, or a batch fails, the
+ * fixes are counted and dropped, and the current location is unaffected. Queued fixes are
+ * written on shutdown, which happens after the web server stopped taking updates.
+ */
+@Component
+@ConditionalOnExpression(HistoryStores.POSTGRES)
+public class LocationHistoryWriter implements SmartLifecycle {
+
+    static final String COPY_SQL = "COPY PARTICIPANT_LOCATION_HISTORY "
+        + "(session_id, participant_id, user_id, latitude, longitude, accuracy, recorded_at) FROM STDIN";
+
+    private static final Logger logger = LoggerFactory.getLogger(LocationHistoryWriter.class);
+    private static final long POLL_MILLIS = 500;
+    private static final long STOP_TIMEOUT_MILLIS = 10_000;
+
+    /**
+     * Below the web server's lifecycle phases (graceful shutdown at {@code DEFAULT_PHASE - 1024},
+     * the server itself at {@code DEFAULT_PHASE - 2048}), so the writer stops last and in-flight
+     * updates are still queued and written.
+     */
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final DataSource dataSource;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final BlockingQueue<LocationFix> queue;
+    private final Counter written;
+    private final Counter dropped;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public LocationHistoryWriter(
+        DataSource dataSource,
+        MeterRegistry meterRegistry,
+        @Value("${geomeet.history.queue-capacity:100000}") int queueCapacity,
+        @Value("${geomeet.history.batch-size:5000}") int batchSize,
+        @Value("${geomeet.history.flush-interval-ms:1000}") long flushIntervalMillis
+    ) {
+        this.dataSource = dataSource;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.written = meterRegistry.counter("geomeet.history.fixes", "outcome", "written");
+        this.dropped = meterRegistry.counter("geomeet.history.fixes", "outcome", "dropped");
+    }
+
+    /**
+     * Queue a fix once its update has committed. Never blocks the caller.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLocationUpdated(LocationUpdatedEvent event) {
+        UpdateLocationResult result = event.result();
+        LocationFix fix = new LocationFix(
+            result.getSessionId(),
+            result.getParticipantId(),
+            result.getUserId(),
+            result.getLatitude(),
+            result.getLongitude(),
+            result.getAccuracy(),
+            LocalDateTime.parse(result.getUpdatedAt())
+        );
+        if (!queue.offer(fix)) {
+            dropped.increment();
+            logger.warn("Location history queue full, fix of participant {} not recorded", fix.participantId());
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::writeLoop, "location-history-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            writerThread.interrupt();
+            try {
+                writerThread.join(STOP_TIMEOUT_MILLIS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Fixes queued after the writer thread drained the queue are written here
+        writeQueued(new ArrayList<>());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Send a batch with one COPY; failures are logged and the batch is dropped.
+     */
+    void write(List<LocationFix> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            connection.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn(COPY_SQL, new StringReader(toCopyText(batch)));
+            written.increment(batch.size());
+        } catch (SQLException | IOException ex) {
+            dropped.increment(batch.size());
+            logger.error("Failed to write {} location history fixes", batch.size(), ex);
+        }
+    }
+
+    /**
+     * Fixes in COPY text format: tab-separated columns, one row per line, \N for null.
+     */
+    static String toCopyText(List<LocationFix> batch) {
+        StringBuilder text = new StringBuilder(batch.size() * 96);
+        for (LocationFix fix : batch) {
+            text.append(fix.sessionId()).append('\t')
+                .append(fix.participantId()).append('\t')
+                .append(fix.userId()).append('\t')
+                .append(fix.latitude()).append('\t')
+                .append(fix.longitude()).append('\t')
+                .append(fix.accuracy() == null ? "\\N" : fix.accuracy().toString()).append('\t')
+                .append(fix.recordedAt()).append('\n');
+        }
+        return text.toString();
+    }
+
+    int queued() {
+        return queue.size();
+    }
+
+    private void writeLoop() {
+        List<LocationFix> batch = new ArrayList<>(batchSize);
+        try {
+            while (running) {
+                LocationFix first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    fill(batch);
+                    write(batch);
+                    batch.clear();
+                }
+            }
+        } catch (InterruptedException ex) {
+            logger.debug("Location history writer stopping, writing {} queued fixes", queue.size() + batch.size());
+        }
+        // Clear the interrupt, so the final writes can still wait for a connection
+        Thread.interrupted();
+        writeQueued(batch);
+    }
+
+    private void writeQueued(List<LocationFix> batch) {
+        queue.drainTo(batch);
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            write(batch.subList(from, Math.min(from + batchSize, batch.size())));
+        }
+    }
+
+    private void fill(List<LocationFix> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        long remaining = deadline - System.nanoTime();
+        while (batch.size() < batchSize && remaining > 0) {
+            LocationFix next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, batchSize - batch.size());
+            remaining = deadline - System.nanoTime();
+        }
+    }
+}
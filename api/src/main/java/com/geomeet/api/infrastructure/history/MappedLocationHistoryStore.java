@@ -0,0 +1,265 @@
+package com.geomeet.api.infrastructure.history;
+
+import com.geomeet.api.application.event.LocationUpdatedEvent;
+import com.geomeet.api.application.event.SessionEndedEvent;
+import com.geomeet.api.application.result.TrajectoryResult;
+import com.geomeet.api.application.result.UpdateLocationResult;
+import com.geomeet.api.application.usecase.location.LocationHistoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Location history kept in memory-mapped files on local disk instead of PostgreSQL, for a
+ * single instance whose database I/O is the bottleneck ({@code geomeet.history.store=mmap}).
+ *
+ * <p>Each session has a directory of fixed-size segment files under
+ * {@code geomeet.history.mmap.directory}, rolled every {@code geomeet.history.mmap.segment-bytes}.
+ * A committed fix is written straight into the mapped segment with a few absolute puts: no
+ * queue, statement or per-fix object beyond the event itself. The OS writes the pages back, so
+ * fixes survive a crash of the process but not of the machine; segments are forced on shutdown.
+ * A session's files are deleted when it ends, or once nothing was appended for
+ * {@code geomeet.history.retention-days}; fixes still in flight when it ended are dropped rather
+ * than starting a new log. Logs unused for {@code geomeet.history.mmap.idle-close-ms} are closed
+ * and reopened on next use, so only active sessions hold mappings. Each instance only sees the
+ * fixes it wrote.
+ */
+@Component
+@ConditionalOnExpression(HistoryStores.MMAP)
+public class MappedLocationHistoryStore implements LocationHistoryRepository, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedLocationHistoryStore.class);
+
+    private final Path directory;
+    private final int segmentCapacity;
+    private final Duration retention;
+    private final Duration idleClose;
+    private final Clock clock;
+    private final Map<Long, SessionHistoryLog> logs = new ConcurrentHashMap<>();
+    private final Map<Long, Long> endedAtMillis = new ConcurrentHashMap<>();
+    private final Counter written;
+    private final Counter dropped;
+
+    @Autowired
+    public MappedLocationHistoryStore(
+        MeterRegistry meterRegistry,
+        @Value("${geomeet.history.mmap.directory:data/location-history}") String directory,
+        @Value("${geomeet.history.mmap.segment-bytes:8388608}") int segmentBytes,
+        @Value("${geomeet.history.retention-days:30}") int retentionDays,
+        @Value("${geomeet.history.mmap.idle-close-ms:600000}") long idleCloseMillis
+    ) {
+        this(meterRegistry, Paths.get(directory), segmentBytes, Duration.ofDays(retentionDays),
+            Duration.ofMillis(idleCloseMillis), Clock.systemUTC());
+    }
+
+    MappedLocationHistoryStore(MeterRegistry meterRegistry, Path directory, int segmentBytes, Duration retention,
+        Duration idleClose, Clock clock) {
+        if (segmentBytes < HistorySegment.RECORD_BYTES || retention.isNegative() || retention.isZero()
+            || idleClose.isNegative() || idleClose.isZero()) {
+            throw new IllegalArgumentException("Location history needs segment-bytes >= "
+                + HistorySegment.RECORD_BYTES + ", retention-days >= 1 and mmap.idle-close-ms > 0");
+        }
+        this.directory = directory;
+        this.segmentCapacity = segmentBytes / HistorySegment.RECORD_BYTES;
+        this.retention = retention;
+        this.idleClose = idleClose;
+        this.clock = clock;
+        this.written = meterRegistry.counter("geomeet.history.fixes", "outcome", "written");
+        this.dropped = meterRegistry.counter("geomeet.history.fixes", "outcome", "dropped");
+    }
+
+    /**
+     * Append a fix once its update has committed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLocationUpdated(LocationUpdatedEvent event) {
+        UpdateLocationResult result = event.result();
+        LocationFix fix = new LocationFix(
+            result.getSessionId(),
+            result.getParticipantId(),
+            result.getUserId(),
+            result.getLatitude(),
+            result.getLongitude(),
+            result.getAccuracy(),
+            LocalDateTime.parse(result.getUpdatedAt())
+        );
+        try {
+            if (append(fix)) {
+                written.increment();
+            } else {
+                dropped.increment();
+                logger.debug("Dropped location history fix of ended session {}", fix.sessionId());
+            }
+        } catch (IOException | UncheckedIOException ex) {
+            dropped.increment();
+            logger.error("Failed to record location history fix of participant {}", fix.participantId(), ex);
+        }
+    }
+
+    /**
+     * Delete an ended session's history.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionEnded(SessionEndedEvent event) {
+        Long sessionId = event.result().getSessionId();
+        // Marked first, so a fix arriving during or after the delete cannot recreate the log
+        endedAtMillis.put(sessionId, clock.millis());
+        delete(sessionId);
+    }
+
+    @Override
+    public List<TrajectoryResult.Point> findTrajectory(
+        Long sessionId,
+        Long participantId,
+        LocalDateTime from,
+        LocalDateTime to,
+        int limit
+    ) {
+        List<TrajectoryResult.Point> points = null;
+        while (points == null) {
+            SessionHistoryLog log = logs.get(sessionId);
+            if (log == null) {
+                log = Files.isDirectory(sessionDirectory(sessionId)) ? logFor(sessionId) : null;
+                if (log == null) {
+                    return List.of();
+                }
+            }
+            // Null when the log was closed meanwhile; the next round reopens it
+            points = log.scan(participantId, HistorySegment.toMillis(from), HistorySegment.toMillis(to),
+                clock.millis());
+        }
+        // Concurrent updates may commit out of order, so appends are only roughly chronological
+        points.sort(Comparator.comparing(TrajectoryResult.Point::getRecordedAt));
+        return points.size() > limit ? points.subList(0, limit) : points;
+    }
+
+    /**
+     * Delete the history of sessions nothing was appended to within the retention.
+     */
+    @Scheduled(fixedDelayString = "${geomeet.history.mmap.expiry-check-ms:3600000}")
+    public void expire() {
+        long oldestKept = clock.millis() - retention.toMillis();
+        for (Long sessionId : storedSessionIds()) {
+            try {
+                SessionHistoryLog log = logs.get(sessionId);
+                long lastAppend = log != null
+                    ? log.lastAppendMillis()
+                    : SessionHistoryLog.lastModifiedMillis(sessionDirectory(sessionId));
+                if (lastAppend < oldestKept) {
+                    delete(sessionId);
+                    logger.info("Deleted expired location history of session {}", sessionId);
+                }
+            } catch (IOException ex) {
+                logger.error("Failed to check location history of session {}", sessionId, ex);
+            }
+        }
+    }
+
+    /**
+     * Close logs nothing used within {@code geomeet.history.mmap.idle-close-ms}, and forget
+     * sessions that ended longer ago than that.
+     */
+    @Scheduled(fixedDelayString = "${geomeet.history.mmap.idle-check-ms:60000}")
+    public void closeIdle() {
+        long idleBefore = clock.millis() - idleClose.toMillis();
+        for (Long sessionId : logs.keySet()) {
+            logs.computeIfPresent(sessionId, (id, log) -> log.closeIfIdle(idleBefore) ? null : log);
+        }
+        endedAtMillis.values().removeIf(endedAt -> endedAt < idleBefore);
+    }
+
+    @Override
+    public void destroy() {
+        logs.values().forEach(SessionHistoryLog::close);
+    }
+
+    int openLogs() {
+        return logs.size();
+    }
+
+    /**
+     * Append to the session's log, reopening it if it was closed meanwhile.
+     *
+     * @return false if the session ended
+     */
+    private boolean append(LocationFix fix) throws IOException {
+        long nowMillis = clock.millis();
+        SessionHistoryLog log = logFor(fix.sessionId());
+        while (log != null && !log.append(fix, nowMillis)) {
+            log = logFor(fix.sessionId());
+        }
+        return log != null;
+    }
+
+    /**
+     * The open log of a session, opened if needed; null for a session that ended.
+     */
+    private SessionHistoryLog logFor(Long sessionId) {
+        return logs.computeIfAbsent(sessionId, id -> {
+            if (endedAtMillis.containsKey(id)) {
+                return null;
+            }
+            try {
+                return SessionHistoryLog.open(sessionDirectory(id), segmentCapacity);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    private void delete(Long sessionId) {
+        // Under the map's lock for the session, so no append opens the log while it is deleted
+        logs.compute(sessionId, (id, log) -> {
+            try {
+                if (log != null) {
+                    log.delete();
+                } else {
+                    SessionHistoryLog.deleteDirectory(sessionDirectory(id));
+                }
+            } catch (IOException ex) {
+                logger.error("Failed to delete location history of session {}", id, ex);
+            }
+            return null;
+        });
+    }
+
+    private List<Long> storedSessionIds() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.map(path -> path.getFileName().toString())
+                .filter(name -> !name.isEmpty() && name.chars().allMatch(Character::isDigit))
+                .map(Long::valueOf)
+                .toList();
+        } catch (IOException ex) {
+            logger.error("Failed to list location history in {}", directory, ex);
+            return List.of();
+        }
+    }
+
+    private Path sessionDirectory(Long sessionId) {
+        return directory.resolve(sessionId.toString());
+    }
+}
@@ -0,0 +1,154 @@
+package com.geomeet.api.infrastructure.history;
+
+import com.geomeet.api.application.result.TrajectoryResult;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * The location history of one session: a directory of numbered segment files, appended to the
+ * last one and rolled to a new one when it is full. Once closed or deleted, appends and scans
+ * are refused, so the caller opens the log again or gives up.
+ */
+final class SessionHistoryLog {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int segmentCapacity;
+    private final List<HistorySegment> segments;
+    private volatile long lastAppendMillis;
+    private volatile long lastUsedMillis;
+    private boolean closed;
+
+    private SessionHistoryLog(Path directory, int segmentCapacity, List<HistorySegment> segments,
+        long lastAppendMillis) {
+        this.directory = directory;
+        this.segmentCapacity = segmentCapacity;
+        this.segments = segments;
+        this.lastAppendMillis = lastAppendMillis;
+        this.lastUsedMillis = lastAppendMillis;
+    }
+
+    /**
+     * Open the log in {@code directory}, mapping the segments already there.
+     */
+    static SessionHistoryLog open(Path directory, int segmentCapacity) throws IOException {
+        Files.createDirectories(directory);
+        List<HistorySegment> segments = new ArrayList<>();
+        for (Path path : segmentPaths(directory)) {
+            segments.add(HistorySegment.open(path));
+        }
+        return new SessionHistoryLog(directory, segmentCapacity, segments, lastModifiedMillis(directory));
+    }
+
+    /**
+     * When a log directory was last written to, for logs not opened since startup.
+     */
+    static long lastModifiedMillis(Path directory) throws IOException {
+        long lastModified = Files.getLastModifiedTime(directory).toMillis();
+        for (Path path : segmentPaths(directory)) {
+            lastModified = Math.max(lastModified, Files.getLastModifiedTime(path).toMillis());
+        }
+        return lastModified;
+    }
+
+    /**
+     * Append a fix to the last segment, rolling to a new one when it is full.
+     *
+     * @return false if the log was closed or deleted
+     */
+    synchronized boolean append(LocationFix fix, long nowMillis) throws IOException {
+        if (closed) {
+            return false;
+        }
+        HistorySegment segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (segment == null || segment.isFull()) {
+            segment = HistorySegment.create(
+                directory.resolve(String.format("%08d%s", segments.size(), SEGMENT_SUFFIX)), segmentCapacity);
+            segments.add(segment);
+        }
+        segment.append(fix.participantId(), HistorySegment.toMillis(fix.recordedAt()),
+            fix.latitude(), fix.longitude(), fix.accuracy());
+        lastAppendMillis = nowMillis;
+        lastUsedMillis = nowMillis;
+        return true;
+    }
+
+    /**
+     * The participant's records within [from, to), in the order they were appended, or null if
+     * the log was closed or deleted.
+     */
+    synchronized List<TrajectoryResult.Point> scan(long participantId, long fromMillis, long toMillis,
+        long nowMillis) {
+        if (closed) {
+            return null;
+        }
+        lastUsedMillis = nowMillis;
+        List<TrajectoryResult.Point> points = new ArrayList<>();
+        for (HistorySegment segment : segments) {
+            segment.scan(participantId, fromMillis, toMillis, points);
+        }
+        return points;
+    }
+
+    /**
+     * Close the log if it was neither appended to nor scanned since {@code idleBefore}.
+     *
+     * @return true if it was closed
+     */
+    synchronized boolean closeIfIdle(long idleBefore) {
+        if (lastUsedMillis >= idleBefore) {
+            return false;
+        }
+        close();
+        return true;
+    }
+
+    /**
+     * Flush the segments and drop them. The JVM has no way to unmap a buffer explicitly, so the
+     * mappings are released once the dropped segments are collected.
+     */
+    synchronized void close() {
+        if (!closed) {
+            segments.forEach(HistorySegment::force);
+            segments.clear();
+            closed = true;
+        }
+    }
+
+    /**
+     * Delete the segment files and the directory, closing the log.
+     */
+    synchronized void delete() throws IOException {
+        closed = true;
+        segments.clear();
+        deleteDirectory(directory);
+    }
+
+    long lastAppendMillis() {
+        return lastAppendMillis;
+    }
+
+    static void deleteDirectory(Path directory) throws IOException {
+        for (Path path : segmentPaths(directory)) {
+            Files.deleteIfExists(path);
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    private static List<Path> segmentPaths(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            // Zero-padded numbers, so name order is append order
+            return paths.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                .sorted()
+                .toList();
+        }
+    }
+}
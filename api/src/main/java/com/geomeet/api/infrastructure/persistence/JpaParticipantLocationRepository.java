@@ -1,9 +1,11 @@
 package com.geomeet.api.infrastructure.persistence;
 
 import com.geomeet.api.infrastructure.persistence.entity.ParticipantLocationEntity;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -22,5 +24,29 @@ public interface JpaParticipantLocationRepository extends JpaRepository<Particip
 
     @Query("SELECT pl FROM ParticipantLocationEntity pl WHERE pl.sessionId = :sessionId")
     List<ParticipantLocationEntity> findBySessionIdQuery(@Param("sessionId") Long sessionId);
+
+    /**
+     * Move an existing location in place, writing only the coordinates and audit columns. A bulk
+     * update bypasses the entity listeners, so the timestamp and updater are passed in as a merge
+     * would have written them. Entities loaded earlier in the transaction would be stale
+     * afterwards, so pending changes are flushed and the persistence context is cleared.
+     *
+     * @return 1 if the row was updated, 0 if it no longer exists
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+        UPDATE ParticipantLocationEntity pl
+        SET pl.latitude = :latitude, pl.longitude = :longitude, pl.accuracy = :accuracy,
+            pl.updatedAt = :updatedAt, pl.updatedBy = :updatedBy
+        WHERE pl.id = :id
+        """)
+    int updateLocation(
+        @Param("id") Long id,
+        @Param("latitude") Double latitude,
+        @Param("longitude") Double longitude,
+        @Param("accuracy") Double accuracy,
+        @Param("updatedAt") LocalDateTime updatedAt,
+        @Param("updatedBy") String updatedBy
+    );
 }
 
@@ -0,0 +1,44 @@
+package com.geomeet.api.infrastructure.persistence;
+
+import com.geomeet.api.infrastructure.persistence.entity.RefreshTokenEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for RefreshTokenEntity.
+ */
+@Repository
+public interface JpaRefreshTokenRepository extends JpaRepository<RefreshTokenEntity, Long> {
+
+    Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
+
+    /**
+     * Mark a token as used, unless it already was. Two requests rotating the same token race
+     * on this single statement, and only one of them sees a count of 1.
+     *
+     * @return 1 if the token was marked, 0 if it had been used or revoked before
+     */
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity rt SET rt.revokedAt = :now WHERE rt.id = :id AND rt.revokedAt IS NULL")
+    int revoke(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity rt SET rt.revokedAt = :now "
+        + "WHERE rt.familyId = :familyId AND rt.revokedAt IS NULL")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+    /**
+     * Tokens of a family whose access token is still accepted, to revoke those access tokens too.
+     */
+    List<RefreshTokenEntity> findByFamilyIdAndAccessExpiresAtAfter(String familyId, LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity rt WHERE rt.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,54 @@
+package com.geomeet.api.infrastructure.persistence;
+
+import com.geomeet.api.infrastructure.persistence.entity.RevokedTokenEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for RevokedTokenEntity.
+ */
+@Repository
+public interface JpaRevokedTokenRepository extends JpaRepository<RevokedTokenEntity, Long> {
+
+    boolean existsByTokenId(String tokenId);
+
+    /**
+     * Record a revocation unless the token is revoked already. A single statement, so two
+     * instances revoking the same token at once cannot fail on the unique token ID.
+     *
+     * @return 1 if the revocation was recorded, 0 if it already existed
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO REVOKED_TOKENS (token_id, expires_at, revoked_at)
+        VALUES (:tokenId, :expiresAt, :revokedAt)
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(
+        @Param("tokenId") String tokenId,
+        @Param("expiresAt") LocalDateTime expiresAt,
+        @Param("revokedAt") LocalDateTime revokedAt
+    );
+
+    /**
+     * All revocations after the given row, in ID order, for a full load.
+     */
+    List<RevokedTokenEntity> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    /**
+     * Revocations recorded since the given time after the given row, in ID order, for
+     * incremental loading. Pages are read by ID within the window.
+     */
+    List<RevokedTokenEntity> findByRevokedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+        LocalDateTime since, Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM RevokedTokenEntity rt WHERE rt.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,10 +1,14 @@
 package com.geomeet.api.infrastructure.persistence;
 
 import com.geomeet.api.infrastructure.persistence.entity.SessionParticipantEntity;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -22,5 +26,97 @@ public interface JpaSessionParticipantRepository extends JpaRepository<SessionPa
     long countBySessionId(@Param("sessionId") Long sessionId);
 
     boolean existsBySessionIdAndUserId(Long sessionId, Long userId);
-}
 
+    /**
+     * Everyone shown on a session's roster in one statement: participants, the initiator and
+     * users with a stored location, each with their user details and last location.
+     * The initiator comes first unless they joined as a participant, then participants in join
+     * order, then location owners without a participant record.
+     */
+    @Query(value = """
+        WITH members AS (
+            SELECT user_id FROM SESSION_PARTICIPANTS WHERE session_id = :sessionId
+            UNION
+            SELECT user_id FROM PARTICIPANT_LOCATIONS WHERE session_id = :sessionId
+            UNION
+            SELECT initiator_id FROM SESSIONS WHERE id = :sessionId
+        )
+        SELECT sp.id AS "participantId",
+               u.id AS "userId",
+               u.username AS "username",
+               u.email AS "email",
+               COALESCE(sp.joined_at, CASE WHEN u.id = s.initiator_id THEN s.created_at END) AS "joinedAt",
+               pl.latitude AS "latitude",
+               pl.longitude AS "longitude",
+               pl.accuracy AS "accuracy",
+               pl.updated_at AS "locationUpdatedAt"
+        FROM members m
+        JOIN USERS u ON u.id = m.user_id
+        JOIN SESSIONS s ON s.id = :sessionId
+        LEFT JOIN SESSION_PARTICIPANTS sp ON sp.session_id = s.id AND sp.user_id = u.id
+        LEFT JOIN PARTICIPANT_LOCATIONS pl ON pl.session_id = s.id AND pl.user_id = u.id
+        ORDER BY CASE
+                     WHEN sp.id IS NULL AND u.id = s.initiator_id THEN 0
+                     WHEN sp.id IS NOT NULL THEN 1
+                     ELSE 2
+                 END,
+                 sp.id,
+                 u.id
+        """, nativeQuery = true)
+    List<SessionRosterRow> findRosterBySessionId(@Param("sessionId") Long sessionId);
+
+    /**
+     * One page of a session's participants after the given participant ID, in join order,
+     * with user details and last location. Seeks on the (session_id, id) index, so a page deep
+     * into a large roster costs the same as the first one.
+     */
+    @Query(value = """
+        SELECT sp.id AS "participantId",
+               u.id AS "userId",
+               u.username AS "username",
+               u.email AS "email",
+               sp.joined_at AS "joinedAt",
+               pl.latitude AS "latitude",
+               pl.longitude AS "longitude",
+               pl.accuracy AS "accuracy",
+               pl.updated_at AS "locationUpdatedAt"
+        FROM SESSION_PARTICIPANTS sp
+        JOIN USERS u ON u.id = sp.user_id
+        LEFT JOIN PARTICIPANT_LOCATIONS pl ON pl.session_id = sp.session_id AND pl.user_id = sp.user_id
+        WHERE sp.session_id = :sessionId AND sp.id > :afterId
+        ORDER BY sp.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<SessionRosterRow> findParticipantPage(
+        @Param("sessionId") Long sessionId,
+        @Param("afterId") Long afterId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * All of a session's participants after the given participant ID, in join order, read
+     * through a forward-only cursor one fetch at a time. The stream must be consumed and
+     * closed inside a transaction.
+     */
+    @Query(value = """
+        SELECT sp.id AS "participantId",
+               u.id AS "userId",
+               u.username AS "username",
+               u.email AS "email",
+               sp.joined_at AS "joinedAt",
+               pl.latitude AS "latitude",
+               pl.longitude AS "longitude",
+               pl.accuracy AS "accuracy",
+               pl.updated_at AS "locationUpdatedAt"
+        FROM SESSION_PARTICIPANTS sp
+        JOIN USERS u ON u.id = sp.user_id
+        LEFT JOIN PARTICIPANT_LOCATIONS pl ON pl.session_id = sp.session_id AND pl.user_id = sp.user_id
+        WHERE sp.session_id = :sessionId AND sp.id > :afterId
+        ORDER BY sp.id
+        """, nativeQuery = true)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<SessionRosterRow> streamParticipants(@Param("sessionId") Long sessionId, @Param("afterId") Long afterId);
+}
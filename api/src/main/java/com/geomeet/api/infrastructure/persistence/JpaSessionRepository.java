@@ -2,6 +2,7 @@ package com.geomeet.api.infrastructure.persistence;
 
 import com.geomeet.api.infrastructure.persistence.entity.SessionEntity;
 import java.util.Optional;
+import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,9 +15,9 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface JpaSessionRepository extends JpaRepository<SessionEntity, Long> {
 
-    Optional<SessionEntity> findBySessionId(String sessionId);
+    Optional<SessionEntity> findBySessionId(UUID sessionId);
 
     @Query("SELECT s FROM SessionEntity s WHERE s.sessionId = :sessionId")
-    Optional<SessionEntity> findBySessionIdValue(@Param("sessionId") String sessionId);
+    Optional<SessionEntity> findBySessionIdValue(@Param("sessionId") UUID sessionId);
 }
 
@@ -18,9 +18,13 @@ public interface JpaUserRepository extends JpaRepository<UserEntity, Long> {
 
     Optional<UserEntity> findByEmail(String email);
 
-    Optional<UserEntity> findByEmailOrUsername(String email, String username);
-
-    @Query("SELECT u FROM UserEntity u WHERE u.username = :identifier OR u.email = :identifier")
-    Optional<UserEntity> findByUsernameOrEmail(@Param("identifier") String usernameOrEmail);
+    /**
+     * Find a user by username ignoring case, with a single probe on the unique
+     * {@code lower(username)} index.
+     *
+     * @param username the username, already lower-case
+     */
+    @Query("SELECT u FROM UserEntity u WHERE LOWER(u.username) = :username")
+    Optional<UserEntity> findByLowerCaseUsername(@Param("username") String username);
 }
 
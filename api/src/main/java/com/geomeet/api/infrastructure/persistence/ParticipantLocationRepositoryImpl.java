@@ -29,6 +29,18 @@ public class ParticipantLocationRepositoryImpl implements ParticipantLocationRep
 
     @Override
     public ParticipantLocation save(ParticipantLocation location) {
+        // An existing location only ever moves: update it with one statement instead of merging,
+        // which would load the row again and write every column
+        if (location.getId() != null && jpaParticipantLocationRepository.updateLocation(
+            location.getId(),
+            location.getLocation().getLatitude().getValue(),
+            location.getLocation().getLongitude().getValue(),
+            location.getLocation().getAccuracy(),
+            location.getUpdatedAt(),
+            location.getUpdatedBy()
+        ) > 0) {
+            return location;
+        }
         ParticipantLocationEntity entity = participantLocationMapper.toEntity(location);
         ParticipantLocationEntity savedEntity = jpaParticipantLocationRepository.save(entity);
         return participantLocationMapper.toDomain(savedEntity);
@@ -1,13 +1,19 @@
 package com.geomeet.api.infrastructure.persistence;
 
+import com.geomeet.api.application.result.GetSessionDetailsResult;
 import com.geomeet.api.application.usecase.session.SessionParticipantRepository;
 import com.geomeet.api.domain.entity.SessionParticipant;
 import com.geomeet.api.infrastructure.persistence.entity.SessionParticipantEntity;
 import com.geomeet.api.infrastructure.persistence.mapper.SessionParticipantMapper;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Implementation of SessionParticipantRepository using JPA.
@@ -16,6 +22,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class SessionParticipantRepositoryImpl implements SessionParticipantRepository {
 
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
     private final JpaSessionParticipantRepository jpaSessionParticipantRepository;
     private final SessionParticipantMapper sessionParticipantMapper;
 
@@ -56,5 +64,56 @@ public class SessionParticipantRepositoryImpl implements SessionParticipantRepos
     public long countBySessionId(Long sessionId) {
         return jpaSessionParticipantRepository.countBySessionId(sessionId);
     }
+
+    @Override
+    public List<GetSessionDetailsResult.ParticipantInfo> findRoster(Long sessionId) {
+        return jpaSessionParticipantRepository.findRosterBySessionId(sessionId).stream()
+            .map(SessionParticipantRepositoryImpl::toParticipantInfo)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<GetSessionDetailsResult.ParticipantInfo> findParticipantPage(
+        Long sessionId, Long afterParticipantId, int limit
+    ) {
+        return jpaSessionParticipantRepository.findParticipantPage(sessionId, after(afterParticipantId), limit)
+            .stream()
+            .map(SessionParticipantRepositoryImpl::toParticipantInfo)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachParticipant(
+        Long sessionId, Long afterParticipantId, Consumer<GetSessionDetailsResult.ParticipantInfo> action
+    ) {
+        try (Stream<SessionRosterRow> rows =
+                 jpaSessionParticipantRepository.streamParticipants(sessionId, after(afterParticipantId))) {
+            rows.forEach(row -> action.accept(toParticipantInfo(row)));
+        }
+    }
+
+    private static GetSessionDetailsResult.ParticipantInfo toParticipantInfo(SessionRosterRow row) {
+        return GetSessionDetailsResult.ParticipantInfo.builder()
+            .participantId(row.getParticipantId())
+            .userId(row.getUserId())
+            .username(row.getUsername())
+            .email(row.getEmail())
+            .joinedAt(format(row.getJoinedAt()))
+            .latitude(row.getLatitude())
+            .longitude(row.getLongitude())
+            .accuracy(row.getAccuracy())
+            .locationUpdatedAt(format(row.getLocationUpdatedAt()))
+            .build();
+    }
+
+    // Participant IDs are positive, so 0 starts from the beginning
+    private static long after(Long afterParticipantId) {
+        return afterParticipantId != null ? afterParticipantId : 0L;
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.format(DATE_TIME_FORMATTER) : null;
+    }
 }
 
@@ -32,7 +32,7 @@ public class SessionRepositoryImpl implements SessionRepository {
 
     @Override
     public Optional<Session> findBySessionId(SessionId sessionId) {
-        return jpaSessionRepository.findBySessionId(sessionId.getValue())
+        return jpaSessionRepository.findBySessionId(sessionId.getUuid())
             .map(sessionMapper::toDomain);
     }
 
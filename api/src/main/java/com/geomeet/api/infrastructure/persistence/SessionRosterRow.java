@@ -0,0 +1,27 @@
+package com.geomeet.api.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of one roster row: a user of a session with their participation and last location.
+ */
+public interface SessionRosterRow {
+
+    Long getParticipantId();
+
+    Long getUserId();
+
+    String getUsername();
+
+    String getEmail();
+
+    LocalDateTime getJoinedAt();
+
+    Double getLatitude();
+
+    Double getLongitude();
+
+    Double getAccuracy();
+
+    LocalDateTime getLocationUpdatedAt();
+}
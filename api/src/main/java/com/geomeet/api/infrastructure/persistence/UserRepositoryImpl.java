@@ -4,6 +4,7 @@ import com.geomeet.api.application.usecase.auth.UserRepository;
 import com.geomeet.api.domain.entity.User;
 import com.geomeet.api.infrastructure.persistence.entity.UserEntity;
 import com.geomeet.api.infrastructure.persistence.mapper.UserMapper;
+import java.util.Locale;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
 
@@ -33,10 +34,17 @@ public class UserRepositoryImpl implements UserRepository {
         .map(UserMapper::toDomain);
   }
 
+  /**
+   * Usernames cannot contain '@', so the identifier's shape decides which unique index to probe.
+   * Both lookups ignore case.
+   */
   @Override
   public Optional<User> findByUsernameOrEmail(String usernameOrEmail) {
-    return jpaUserRepository.findByUsernameOrEmail(usernameOrEmail)
-        .map(UserMapper::toDomain);
+    String identifier = usernameOrEmail.toLowerCase(Locale.ROOT);
+    Optional<UserEntity> entity = identifier.indexOf('@') >= 0
+        ? jpaUserRepository.findByEmail(identifier)
+        : jpaUserRepository.findByLowerCaseUsername(identifier);
+    return entity.map(UserMapper::toDomain);
   }
 
   @Override
@@ -52,9 +60,14 @@ public class UserRepositoryImpl implements UserRepository {
         .map(UserMapper::toDomain);
   }
 
+  /**
+   * Two unique-index probes, the second only if the email is free, rather than one OR query.
+   */
   @Override
   public Optional<User> findByEmailAndUserName(String email, String username) {
-    return jpaUserRepository.findByEmailOrUsername(email, username).map(UserMapper::toDomain);
+    return jpaUserRepository.findByEmail(email.toLowerCase(Locale.ROOT))
+        .or(() -> jpaUserRepository.findByLowerCaseUsername(username.toLowerCase(Locale.ROOT)))
+        .map(UserMapper::toDomain);
   }
 
 }
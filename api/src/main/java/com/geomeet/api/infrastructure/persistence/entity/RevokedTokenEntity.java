@@ -0,0 +1,49 @@
+package com.geomeet.api.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * JPA Entity for a revoked access token, kept until the token would have expired.
+ */
+@Entity
+@Table(name = "REVOKED_TOKENS")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokedTokenEntity {
+
+    // Not pooled like the other entities: rows are mostly written by a native insert
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 36, name = "token_id")
+    private String tokenId;
+
+    @Column(nullable = false, name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false, updatable = false, name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (revokedAt == null) {
+            revokedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -8,8 +8,10 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
+import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -34,11 +36,13 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 public class SessionEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sessions_id_seq")
+    @SequenceGenerator(
+        name = "sessions_id_seq", sequenceName = "sessions_id_seq", allocationSize = 50)
     private Long id;
 
-    @Column(nullable = false, unique = true, name = "session_id", length = 255)
-    private String sessionId;
+    @Column(nullable = false, unique = true, name = "session_id")
+    private UUID sessionId;
 
     @Column(nullable = false, unique = true, name = "invite_code", length = 20)
     private String inviteCode;
@@ -69,7 +73,7 @@ public class SessionEntity {
     @Column(name = "meeting_location_longitude")
     private Double meetingLocationLongitude;
 
-    public SessionEntity(String sessionId, Long initiatorId, String status) {
+    public SessionEntity(UUID sessionId, Long initiatorId, String status) {
         this.sessionId = sessionId;
         this.initiatorId = initiatorId;
         this.status = status;
@@ -8,6 +8,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
@@ -34,7 +35,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 public class SessionParticipantEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "session_participants_id_seq")
+    @SequenceGenerator(
+        name = "session_participants_id_seq", sequenceName = "session_participants_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, name = "session_id")
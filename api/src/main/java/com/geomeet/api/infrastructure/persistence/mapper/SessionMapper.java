@@ -28,7 +28,7 @@ public interface SessionMapper {
         }
         return Session.reconstruct(
             entity.getId(),
-            SessionId.fromString(entity.getSessionId()),
+            SessionId.fromUuid(entity.getSessionId()),
             InviteCode.fromString(entity.getInviteCode()),
             entity.getInitiatorId(),
             SessionStatus.fromString(entity.getStatus()),
@@ -46,7 +46,7 @@ public interface SessionMapper {
         }
         SessionEntity.SessionEntityBuilder builder = SessionEntity.builder()
             .id(domain.getId())
-            .sessionId(domain.getSessionId().getValue())
+            .sessionId(domain.getSessionId().getUuid())
             .inviteCode(domain.getInviteCode() != null ? domain.getInviteCode().getValue() : null)
             .initiatorId(domain.getInitiatorId())
             .status(domain.getStatus().getValue())
@@ -0,0 +1,33 @@
+package com.geomeet.api.infrastructure.ratelimit;
+
+/**
+ * Token bucket settings for one group of endpoints.
+ *
+ * @param name the group name, used in bucket keys and as metric tag
+ * @param capacity how many requests may arrive back to back
+ * @param refillPerSecond how many requests per second are allowed in the long run
+ */
+public record RateLimit(String name, int capacity, double refillPerSecond) {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    public RateLimit {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit " + name + " needs capacity >= 1 and refill > 0");
+        }
+    }
+
+    /**
+     * Time for one token to refill.
+     */
+    long intervalNanos() {
+        return (long) (NANOS_PER_SECOND / refillPerSecond);
+    }
+
+    /**
+     * How far ahead of the sustained rate a client may run, i.e. the burst beyond one request.
+     */
+    long burstNanos() {
+        return (capacity - 1) * intervalNanos();
+    }
+}
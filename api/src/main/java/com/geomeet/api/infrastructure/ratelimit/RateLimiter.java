@@ -0,0 +1,77 @@
+package com.geomeet.api.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process rate limiter with one token bucket per endpoint group and client.
+ * Buckets live in a concurrent map, which locks per bin only while a bucket is created;
+ * taking a token is lock-free. Buckets that have been full for {@code geomeet.ratelimit.idle-ms}
+ * are evicted, so clients that went away cost no memory.
+ */
+@Component
+public class RateLimiter {
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final long idleNanos;
+    private final LongSupplier clock;
+
+    @Autowired
+    public RateLimiter(MeterRegistry meterRegistry, @Value("${geomeet.ratelimit.idle-ms:600000}") long idleMillis) {
+        this(meterRegistry, idleMillis, System::nanoTime);
+    }
+
+    RateLimiter(MeterRegistry meterRegistry, long idleMillis, LongSupplier clock) {
+        this.meterRegistry = meterRegistry;
+        this.idleNanos = Duration.ofMillis(idleMillis).toNanos();
+        this.clock = clock;
+        Gauge.builder("geomeet.ratelimit.buckets", buckets, Map::size)
+            .description("Token buckets currently held in memory")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Take a token from the client's bucket for the given endpoint group.
+     *
+     * @param limit the endpoint group's settings
+     * @param client the client key, e.g. a user ID or IP address
+     * @return 0 if the request may proceed, otherwise nanoseconds until it would be allowed
+     */
+    public long tryAcquire(RateLimit limit, String client) {
+        long now = clock.getAsLong();
+        long wait = buckets.computeIfAbsent(limit.name() + ':' + client, key -> new TokenBucket(now))
+            .tryAcquire(limit, now);
+        if (wait > 0) {
+            rejections.computeIfAbsent(limit.name(), name -> Counter.builder("geomeet.ratelimit.rejected")
+                    .description("Requests refused with 429")
+                    .tag("endpoint", name)
+                    .register(meterRegistry))
+                .increment();
+        }
+        return wait;
+    }
+
+    /**
+     * Drop buckets of clients that have been quiet long enough for their bucket to be full.
+     */
+    @Scheduled(fixedDelayString = "${geomeet.ratelimit.eviction-ms:60000}")
+    public void evictIdle() {
+        long now = clock.getAsLong();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+    }
+
+    int size() {
+        return buckets.size();
+    }
+}
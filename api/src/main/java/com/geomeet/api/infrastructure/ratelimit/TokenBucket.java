@@ -0,0 +1,45 @@
+package com.geomeet.api.infrastructure.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket kept as a single timestamp: the time at which the bucket would be full again
+ * (the generic cell rate algorithm). Refill is implicit in the passing of time, so nothing runs
+ * between requests, and taking a token is one compare-and-set.
+ */
+final class TokenBucket {
+
+    private final AtomicLong fullAt;
+
+    TokenBucket(long now) {
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * Take a token if one is available.
+     *
+     * @param limit the bucket settings
+     * @param now the current {@link System#nanoTime()}
+     * @return 0 if a token was taken, otherwise nanoseconds until one will be available
+     */
+    long tryAcquire(RateLimit limit, long now) {
+        while (true) {
+            long current = fullAt.get();
+            long start = Math.max(current, now);
+            long wait = start - now - limit.burstNanos();
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, start + limit.intervalNanos())) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Whether the bucket has been full for at least {@code idleNanos}, so dropping it loses nothing.
+     */
+    boolean isIdle(long now, long idleNanos) {
+        return now - fullAt.get() >= idleNanos;
+    }
+}
@@ -1,26 +1,120 @@
 package com.geomeet.api.infrastructure.security;
 
+import com.geomeet.api.domain.exception.ErrorCode;
 import com.geomeet.api.domain.service.PasswordEncoder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.security.crypto.bcrypt.BCrypt;
 import org.springframework.stereotype.Component;
 
 /**
  * Infrastructure implementation of domain PasswordEncoder port.
  * Uses BCrypt for password hashing.
+ *
+ * <p>Hashing runs on a small pool of its own, so a burst of sign-ins occupies at most the pool
+ * and its queue rather than every request thread. When both are full the caller is turned
+ * away at once with 503 instead of waiting in line.
  */
 @Component
-public class BcryptPasswordEncoder implements PasswordEncoder {
+public class BcryptPasswordEncoder implements PasswordEncoder, DisposableBean {
 
-    private static final int BCRYPT_ROUNDS = 12;
+    private static final int MIN_ROUNDS = 4;
+    private static final int MAX_ROUNDS = 31;
+
+    private final int rounds;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejections;
+
+    public BcryptPasswordEncoder(
+        @Value("${geomeet.security.bcrypt.rounds:12}") int rounds,
+        @Value("${geomeet.security.bcrypt.threads:0}") int threads,
+        @Value("${geomeet.security.bcrypt.queue-capacity:64}") int queueCapacity,
+        MeterRegistry meterRegistry
+    ) {
+        if (rounds < MIN_ROUNDS || rounds > MAX_ROUNDS) {
+            throw new IllegalArgumentException("BCrypt rounds must be between 4 and 31");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        this.rounds = rounds;
+        // 0 means one thread per available processor, as hashing is pure CPU work
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("bcrypt-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(
+            poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("geomeet.security.bcrypt.queue.depth", executor, pool -> pool.getQueue().size())
+            .description("Password hashing tasks waiting for a thread")
+            .register(meterRegistry);
+        Gauge.builder("geomeet.security.bcrypt.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Password hashing tasks running")
+            .register(meterRegistry);
+        this.rejections = Counter.builder("geomeet.security.bcrypt.rejected")
+            .description("Password hashing tasks turned away because the pool was saturated")
+            .register(meterRegistry);
+    }
 
     @Override
     public String encode(String rawPassword) {
-        return BCrypt.hashpw(rawPassword, BCrypt.gensalt(BCRYPT_ROUNDS));
+        return run(() -> BCrypt.hashpw(rawPassword, BCrypt.gensalt(rounds)));
     }
 
     @Override
     public boolean matches(String rawPassword, String encodedPassword) {
-        return BCrypt.checkpw(rawPassword, encodedPassword);
+        return run(() -> BCrypt.checkpw(rawPassword, encodedPassword));
     }
-}
 
+    @Override
+    public boolean needsRehash(String encodedPassword) {
+        // BCrypt hashes read $2a$<two-digit cost>$<salt and hash>
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') {
+            return true;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) != rounds;
+        } catch (NumberFormatException ex) {
+            return true;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            rejections.increment();
+            throw ErrorCode.PASSWORD_HASHING_BUSY.toException();
+        }
+        try {
+            return future.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        } catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw ErrorCode.PASSWORD_HASHING_BUSY.toException();
+        }
+    }
+}
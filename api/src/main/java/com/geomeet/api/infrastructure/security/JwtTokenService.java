@@ -1,46 +1,117 @@
 package com.geomeet.api.infrastructure.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 @Service
 public class JwtTokenService {
 
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+    private final TokenRevocations tokenRevocations;
+    private final Clock clock;
+    private volatile SigningKeys signingKeys;
+
     @Value("${jwt.secret:geomeet-secret-key-change-this-in-production-to-a-strong-random-secret-key}")
     private String secret;
 
-    @Value("${jwt.expiration:86400000}") // 24 hours in milliseconds
+    @Value("${jwt.expiration:900000}") // 15 minutes in milliseconds, renewed with a refresh token
     private Long expiration;
 
+    @Value("${jwt.cache.max-entries:10000}")
+    private int maxCachedTokens = 10_000;
+
+    @Autowired
+    public JwtTokenService(TokenRevocations tokenRevocations) {
+        this(tokenRevocations, Clock.systemUTC());
+    }
+
+    JwtTokenService(TokenRevocations tokenRevocations, Clock clock) {
+        this.tokenRevocations = tokenRevocations;
+        this.clock = clock;
+    }
+
+    /**
+     * The key and parser are built once, on first use, after the secret has been injected.
+     */
+    private SigningKeys getSigningKeys() {
+        SigningKeys keys = signingKeys;
+        if (keys == null) {
+            synchronized (this) {
+                keys = signingKeys;
+                if (keys == null) {
+                    SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+                    keys = new SigningKeys(key, Jwts.parser()
+                        .verifyWith(key)
+                        .clock(() -> Date.from(clock.instant()))
+                        .build());
+                    signingKeys = keys;
+                }
+            }
+        }
+        return keys;
+    }
+
     private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return getSigningKeys().key();
+    }
+
+    /**
+     * Lifetime of the access tokens this service issues.
+     *
+     * @return the lifetime in seconds
+     */
+    public long getExpirationSeconds() {
+        return expiration / 1000;
     }
 
     public String generateToken(Long userId, String username) {
+        return generateToken(userId, username, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Issue a token with a known ID, for callers that may have to revoke it later.
+     *
+     * @param userId the user ID
+     * @param username the username
+     * @param tokenId the unique token ID ({@code jti})
+     * @return the compact JWT
+     */
+    public String generateToken(Long userId, String username, String tokenId) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", userId);
         claims.put("username", username);
-        return createToken(claims, username);
+        return createToken(claims, username, tokenId);
     }
 
-    private String createToken(Map<String, Object> claims, String subject) {
-        Date now = new Date();
+    private String createToken(Map<String, Object> claims, String subject, String tokenId) {
+        Date now = Date.from(clock.instant());
         Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
-            .id(UUID.randomUUID().toString()) // Add unique ID to ensure different tokens
+            .id(tokenId) // Unique ID, also used to revoke the token
             .claims(claims)
             .subject(subject)
             .issuedAt(now)
@@ -72,20 +143,109 @@ public class JwtTokenService {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-            .verifyWith(getSigningKey())
-            .build()
+        return getSigningKeys().parser()
             .parseSignedClaims(token)
             .getPayload();
     }
 
+    /**
+     * Verify a token and read its user ID and subject with a single parse.
+     * Verified tokens are remembered by a digest of their compact form until they expire, so a client
+     * sending the same token on every request is only parsed and signature-checked once;
+     * the cache holds at most {@code jwt.cache.max-entries} tokens and expired ones are purged
+     * every {@code jwt.cache.purge-ms}. Revocation is checked on every call, cached or not.
+     *
+     * @param token the compact JWT
+     * @return the verified claims, or empty if the token is malformed, forged, expired, revoked,
+     *     or lacks an ID, subject or user ID
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        Instant now = clock.instant();
+        String key = digest(token);
+        VerifiedToken cached = verifiedTokens.get(key);
+        if (cached != null) {
+            if (cached.isValidAt(now)) {
+                return tokenRevocations.isRevoked(cached.tokenId()) ? Optional.empty() : Optional.of(cached);
+            }
+            verifiedTokens.remove(key, cached);
+            return Optional.empty();
+        }
+
+        VerifiedToken verified;
+        try {
+            Claims claims = extractAllClaims(token);
+            Object userIdObj = claims.get("userId");
+            if (claims.getId() == null || claims.getSubject() == null || !(userIdObj instanceof Number)
+                || claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            verified = new VerifiedToken(claims.getId(), ((Number) userIdObj).longValue(), claims.getSubject(),
+                claims.getExpiration().toInstant());
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+        if (tokenRevocations.isRevoked(verified.tokenId())) {
+            return Optional.empty();
+        }
+        remember(key, verified);
+        return Optional.of(verified);
+    }
+
+    /**
+     * Whether a token verified earlier is still accepted, e.g. for a connection authenticated
+     * with it: not expired and not revoked since.
+     *
+     * @param verified the verified token
+     * @return true while the token is valid
+     */
+    public boolean isStillValid(VerifiedToken verified) {
+        return verified.isValidAt(clock.instant()) && !tokenRevocations.isRevoked(verified.tokenId());
+    }
+
+    private void remember(String key, VerifiedToken verified) {
+        if (verifiedTokens.size() >= maxCachedTokens) {
+            // Make room by dropping a single entry; a dropped token is simply parsed again
+            Iterator<String> cachedTokens = verifiedTokens.keySet().iterator();
+            if (cachedTokens.hasNext()) {
+                cachedTokens.next();
+                cachedTokens.remove();
+            }
+        }
+        verifiedTokens.put(key, verified);
+    }
+
+    /**
+     * Drop remembered tokens that have expired.
+     */
+    @Scheduled(fixedDelayString = "${jwt.cache.purge-ms:60000}")
+    public void purgeExpired() {
+        Instant now = clock.instant();
+        verifiedTokens.values().removeIf(token -> !token.isValidAt(now));
+    }
+
+    int cachedTokens() {
+        return verifiedTokens.size();
+    }
+
+    static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException ex) {
+            // Every Java platform is required to provide SHA-256
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
     public Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return extractExpiration(token).before(Date.from(clock.instant()));
     }
 
     public Boolean validateToken(String token, String username) {
         final String tokenUsername = extractUsername(token);
         return tokenUsername.equals(username) && !isTokenExpired(token);
     }
-}
 
+    private record SigningKeys(SecretKey key, JwtParser parser) {
+    }
+}
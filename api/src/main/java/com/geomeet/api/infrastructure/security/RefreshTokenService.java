@@ -0,0 +1,138 @@
+package com.geomeet.api.infrastructure.security;
+
+import com.geomeet.api.application.result.AuthTokensResult;
+import com.geomeet.api.application.usecase.auth.AuthTokenIssuer;
+import com.geomeet.api.application.usecase.auth.UserRepository;
+import com.geomeet.api.domain.entity.User;
+import com.geomeet.api.domain.exception.InvalidCredentialsExceptionGeomeet;
+import com.geomeet.api.infrastructure.persistence.JpaRefreshTokenRepository;
+import com.geomeet.api.infrastructure.persistence.entity.RefreshTokenEntity;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Issues access tokens together with rotating refresh tokens.
+ *
+ * <p>A refresh token is 32 random bytes; only its SHA-256 digest is stored. Each token can be
+ * exchanged once, for a new pair in the same family. Presenting a token that was already
+ * exchanged means a copy of it is in someone else's hands, so the whole family is revoked and
+ * both holders have to sign in again. Each stored token keeps the ID of the access token issued
+ * with it, so revoking a family also revokes the access tokens that are still valid.
+ */
+@Service
+public class RefreshTokenService implements AuthTokenIssuer {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final JpaRefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenService jwtTokenService;
+    private final TokenRevocations tokenRevocations;
+    private final UserRepository userRepository;
+    private final long refreshExpiration;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenService(
+        JpaRefreshTokenRepository refreshTokenRepository,
+        JwtTokenService jwtTokenService,
+        TokenRevocations tokenRevocations,
+        UserRepository userRepository,
+        @Value("${jwt.refresh-expiration:2592000000}") long refreshExpiration // 30 days in milliseconds
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtTokenService = jwtTokenService;
+        this.tokenRevocations = tokenRevocations;
+        this.userRepository = userRepository;
+        this.refreshExpiration = refreshExpiration;
+    }
+
+    @Override
+    @Transactional
+    public AuthTokensResult issue(Long userId, String username) {
+        return issue(userId, username, UUID.randomUUID().toString());
+    }
+
+    @Override
+    @Transactional(noRollbackFor = InvalidCredentialsExceptionGeomeet.class)
+    public AuthTokensResult rotate(String refreshToken) {
+        RefreshTokenEntity current = refreshTokenRepository.findByTokenHash(JwtTokenService.digest(refreshToken))
+            .orElseThrow(InvalidCredentialsExceptionGeomeet::new);
+        LocalDateTime now = LocalDateTime.now();
+
+        // Conditional update: of two requests racing with the same token, only one gets a new pair
+        if (refreshTokenRepository.revoke(current.getId(), now) == 0) {
+            revokeFamily(current.getFamilyId(), now);
+            throw new InvalidCredentialsExceptionGeomeet();
+        }
+        if (!current.getExpiresAt().isAfter(now)) {
+            throw new InvalidCredentialsExceptionGeomeet();
+        }
+
+        User user = userRepository.findById(current.getUserId())
+            .filter(User::canAuthenticate)
+            .orElseThrow(InvalidCredentialsExceptionGeomeet::new);
+        return issue(user.getId(), user.getUsername().getValue(), current.getFamilyId());
+    }
+
+    @Override
+    @Transactional
+    public void revoke(String accessToken, String refreshToken) {
+        if (accessToken != null && !accessToken.isBlank()) {
+            jwtTokenService.verify(accessToken)
+                .ifPresent(verified -> tokenRevocations.revoke(verified.tokenId(), verified.expiresAt()));
+        }
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenRepository.findByTokenHash(JwtTokenService.digest(refreshToken))
+                .ifPresent(token -> revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+        }
+    }
+
+    /**
+     * Delete refresh tokens past their expiry, once a day.
+     */
+    @Scheduled(cron = "${jwt.refresh-cleanup-cron:0 30 3 * * *}")
+    @Transactional
+    public void deleteExpired() {
+        refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private void revokeFamily(String familyId, LocalDateTime now) {
+        refreshTokenRepository.revokeFamily(familyId, now);
+        for (RefreshTokenEntity token : refreshTokenRepository.findByFamilyIdAndAccessExpiresAtAfter(familyId, now)) {
+            tokenRevocations.revoke(
+                token.getAccessTokenId(), token.getAccessExpiresAt().atZone(ZoneId.systemDefault()).toInstant());
+        }
+    }
+
+    private AuthTokensResult issue(Long userId, String username, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        String accessTokenId = UUID.randomUUID().toString();
+        String accessToken = jwtTokenService.generateToken(userId, username, accessTokenId);
+        long expiresIn = jwtTokenService.getExpirationSeconds();
+        LocalDateTime now = LocalDateTime.now();
+
+        refreshTokenRepository.save(RefreshTokenEntity.builder()
+            .userId(userId)
+            .tokenHash(JwtTokenService.digest(refreshToken))
+            .familyId(familyId)
+            .expiresAt(now.plus(Duration.ofMillis(refreshExpiration)))
+            .accessTokenId(accessTokenId)
+            // Rounded up: the revocation must outlive the token, never the other way round
+            .accessExpiresAt(now.plusSeconds(expiresIn + 1))
+            .build());
+        return AuthTokensResult.builder()
+            .accessToken(accessToken)
+            .refreshToken(refreshToken)
+            .expiresIn(expiresIn)
+            .build();
+    }
+}
@@ -0,0 +1,130 @@
+package com.geomeet.api.infrastructure.security;
+
+import com.geomeet.api.infrastructure.persistence.JpaRevokedTokenRepository;
+import com.geomeet.api.infrastructure.persistence.entity.RevokedTokenEntity;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Revoked access token IDs. Every authenticated request asks {@link #isRevoked}, so the answer
+ * for a live token comes from an in-memory Bloom filter without touching the database; only the
+ * rare positive is confirmed against the REVOKED_TOKENS table.
+ *
+ * <p>Revocations made on this instance enter the filter at once. Those made elsewhere are read
+ * every {@code geomeet.security.revocation.refresh-ms}: each poll re-reads the rows revoked since
+ * the previous poll started, less {@code geomeet.security.revocation.overlap-ms}. Row IDs are
+ * assigned at insert, not commit, so polling by ID would skip a revocation that commits after a
+ * higher ID; the overlap covers commit delays and clock skew between instances. Since a Bloom
+ * filter cannot forget, it is rebuilt from the rows that have not expired yet every
+ * {@code geomeet.security.revocation.rebuild-ms}, and expired rows are deleted.
+ */
+@Component
+public class TokenRevocations {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocations.class);
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int PAGE_SIZE = 1000;
+
+    private final JpaRevokedTokenRepository revokedTokenRepository;
+    private final int capacity;
+    private final Duration overlap;
+    private volatile RevocationBloomFilter filter;
+    private LocalDateTime lastRefresh = LocalDateTime.now();
+
+    public TokenRevocations(
+        JpaRevokedTokenRepository revokedTokenRepository,
+        @Value("${geomeet.security.revocation.capacity:100000}") int capacity,
+        @Value("${geomeet.security.revocation.overlap-ms:60000}") long overlapMillis
+    ) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.capacity = capacity;
+        this.overlap = Duration.ofMillis(overlapMillis);
+        this.filter = new RevocationBloomFilter(capacity, FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * Whether the access token with this ID has been revoked.
+     *
+     * @param tokenId the token's {@code jti} claim
+     * @return true if the token must no longer be accepted
+     */
+    public boolean isRevoked(String tokenId) {
+        return filter.mightContain(tokenId) && revokedTokenRepository.existsByTokenId(tokenId);
+    }
+
+    /**
+     * Revoke an access token until it would have expired anyway. Revoking a token twice, here
+     * or on another instance at the same time, is a no-op.
+     *
+     * @param tokenId the token's {@code jti} claim
+     * @param expiresAt when the token expires
+     */
+    @Transactional
+    public void revoke(String tokenId, Instant expiresAt) {
+        revokedTokenRepository.insertIfAbsent(
+            tokenId, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()), LocalDateTime.now());
+        filter.add(tokenId);
+    }
+
+    /**
+     * Add revocations recorded since the last refresh, e.g. by other instances.
+     */
+    @Scheduled(
+        fixedDelayString = "${geomeet.security.revocation.refresh-ms:5000}",
+        initialDelayString = "${geomeet.security.revocation.refresh-ms:5000}"
+    )
+    public synchronized void refresh() {
+        LocalDateTime started = LocalDateTime.now();
+        LocalDateTime since = lastRefresh.minus(overlap);
+        long lastId = 0L;
+        List<RevokedTokenEntity> page;
+        do {
+            page = revokedTokenRepository.findByRevokedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+                since, lastId, PageRequest.of(0, PAGE_SIZE));
+            lastId = addAll(filter, page, lastId);
+        } while (page.size() == PAGE_SIZE);
+        lastRefresh = started;
+    }
+
+    /**
+     * Delete expired revocations and rebuild the filter from the rest. Runs once at startup.
+     */
+    @Scheduled(fixedDelayString = "${geomeet.security.revocation.rebuild-ms:3600000}")
+    @Transactional
+    public synchronized void rebuild() {
+        LocalDateTime started = LocalDateTime.now();
+        int purged = revokedTokenRepository.deleteExpired(started);
+        RevocationBloomFilter rebuilt = new RevocationBloomFilter(capacity, FALSE_POSITIVE_RATE);
+        long lastId = 0L;
+        List<RevokedTokenEntity> page;
+        do {
+            page = revokedTokenRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, PAGE_SIZE));
+            lastId = addAll(rebuilt, page, lastId);
+        } while (page.size() == PAGE_SIZE);
+        filter = rebuilt;
+        // Rows that commit while this runs are read by the next refresh's overlap
+        lastRefresh = started;
+        if (purged > 0 && logger.isDebugEnabled()) {
+            logger.debug("Purged {} expired token revocations", purged);
+        }
+    }
+
+    private static long addAll(RevocationBloomFilter target, List<RevokedTokenEntity> page, long lastId) {
+        long last = lastId;
+        for (RevokedTokenEntity revoked : page) {
+            target.add(revoked.getTokenId());
+            last = revoked.getId();
+        }
+        return last;
+    }
+}
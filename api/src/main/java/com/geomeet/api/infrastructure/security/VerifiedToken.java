@@ -0,0 +1,24 @@
+package com.geomeet.api.infrastructure.security;
+
+import java.time.Instant;
+
+/**
+ * The claims of a JWT whose signature and expiry have been checked.
+ *
+ * @param tokenId the token ID ({@code jti}) claim, used to revoke it
+ * @param userId the user ID claim
+ * @param username the subject
+ * @param expiresAt when the token stops being accepted
+ */
+public record VerifiedToken(String tokenId, Long userId, String username, Instant expiresAt) {
+
+    /**
+     * Whether the token is still accepted at the given instant.
+     *
+     * @param now the current instant
+     * @return true until the token expires
+     */
+    public boolean isValidAt(Instant now) {
+        return now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,60 @@
+package com.geomeet.api.infrastructure.websocket;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+/**
+ * Installs {@link BackpressureWebSocketHandlerDecorator} on the STOMP endpoint handler and
+ * checks the connections it decorated every {@code geomeet.websocket.outbound.check-ms}.
+ */
+public class BackpressureDecoratorFactory implements WebSocketHandlerDecoratorFactory {
+
+    private final OutboundLimits limits;
+    private final Executor sendExecutor;
+    private final OutboundMeters meters;
+    private final Predicate<WebSocketSession> expired;
+    private final List<BackpressureWebSocketHandlerDecorator> decorators = new CopyOnWriteArrayList<>();
+
+    /**
+     * Create the factory.
+     *
+     * @param limits the per-connection outbound budget
+     * @param sendExecutor the executor writing queued frames
+     * @param meterRegistry the registry for the outbound meters
+     * @param expired whether a connection's credentials are no longer valid, so it must be closed
+     */
+    public BackpressureDecoratorFactory(
+        OutboundLimits limits,
+        Executor sendExecutor,
+        MeterRegistry meterRegistry,
+        Predicate<WebSocketSession> expired
+    ) {
+        this.limits = limits;
+        this.sendExecutor = sendExecutor;
+        this.meters = new OutboundMeters(meterRegistry);
+        this.expired = expired;
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        BackpressureWebSocketHandlerDecorator decorator =
+            new BackpressureWebSocketHandlerDecorator(handler, limits, sendExecutor, meters, expired);
+        decorators.add(decorator);
+        return decorator;
+    }
+
+    /**
+     * Close stuck connections and connections whose credentials are no longer valid.
+     */
+    @Scheduled(fixedDelayString = "${geomeet.websocket.outbound.check-ms:1000}")
+    public void checkSessions() {
+        decorators.forEach(BackpressureWebSocketHandlerDecorator::checkSessions);
+    }
+}
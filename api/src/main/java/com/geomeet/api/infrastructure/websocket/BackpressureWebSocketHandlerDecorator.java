@@ -0,0 +1,95 @@
+package com.geomeet.api.infrastructure.websocket;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+/**
+ * Hands the STOMP handler a {@link BackpressureWebSocketSession} instead of the raw
+ * connection, so every outbound frame goes through the per-connection budget. Open connections
+ * are checked periodically against that budget and against the credentials they connected with.
+ */
+public class BackpressureWebSocketHandlerDecorator extends WebSocketHandlerDecorator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BackpressureWebSocketHandlerDecorator.class);
+
+    private final OutboundLimits limits;
+    private final Executor sendExecutor;
+    private final OutboundMeters meters;
+    private final Predicate<WebSocketSession> expired;
+    private final Map<String, BackpressureWebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    BackpressureWebSocketHandlerDecorator(
+        WebSocketHandler delegate,
+        OutboundLimits limits,
+        Executor sendExecutor,
+        OutboundMeters meters,
+        Predicate<WebSocketSession> expired
+    ) {
+        super(delegate);
+        this.limits = limits;
+        this.sendExecutor = sendExecutor;
+        this.meters = meters;
+        this.expired = expired;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        BackpressureWebSocketSession decorated =
+            new BackpressureWebSocketSession(session, limits, sendExecutor, meters);
+        sessions.put(session.getId(), decorated);
+        super.afterConnectionEstablished(decorated);
+    }
+
+    @Override
+    public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+        super.handleMessage(decorated(session), message);
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+        super.handleTransportError(decorated(session), exception);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        BackpressureWebSocketSession decorated = sessions.remove(session.getId());
+        if (decorated == null) {
+            super.afterConnectionClosed(session, closeStatus);
+            return;
+        }
+        // Release whatever was still queued for the connection
+        decorated.release();
+        super.afterConnectionClosed(decorated, closeStatus);
+    }
+
+    /**
+     * Close connections that are stuck on a write, or whose credentials are no longer valid.
+     */
+    void checkSessions() {
+        for (BackpressureWebSocketSession session : sessions.values()) {
+            session.checkLimits();
+            if (session.isOpen() && expired.test(session)) {
+                try {
+                    session.close(CloseStatus.POLICY_VIOLATION.withReason("Token expired or revoked"));
+                } catch (IOException ex) {
+                    logger.debug("Failed to close WebSocket session {}", session.getId(), ex);
+                }
+            }
+        }
+    }
+
+    private WebSocketSession decorated(WebSocketSession session) {
+        WebSocketSession decorated = sessions.get(session.getId());
+        return decorated != null ? decorated : session;
+    }
+}
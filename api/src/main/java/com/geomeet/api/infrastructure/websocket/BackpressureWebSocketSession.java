@@ -0,0 +1,308 @@
+package com.geomeet.api.infrastructure.websocket;
+
+import static com.geomeet.api.application.usecase.session.BroadcastLocationUpdateUseCase.CONFLATION_KEY_HEADER;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+/**
+ * Session decorator that never blocks the broker on a slow subscriber.
+ * Outbound frames are queued per connection and written by a shared executor. While a frame
+ * tagged with the {@code x-conflation-key} header is still queued, a newer frame with the same
+ * destination and key replaces it in place. When the queue exceeds the buffer budget the
+ * oldest conflatable frames are dropped; a connection that stays over budget past the grace
+ * period, or whose current write exceeds the send time limit, is closed. Both limits are also
+ * checked periodically, so a stuck connection is closed even when no further frame arrives.
+ */
+public class BackpressureWebSocketSession extends WebSocketSessionDecorator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BackpressureWebSocketSession.class);
+    private static final int MAX_HEADER_SCAN = 1024;
+
+    private final OutboundLimits limits;
+    private final Executor sendExecutor;
+    private final OutboundMeters meters;
+
+    private final Object lock = new Object();
+    private final Deque<PendingFrame> queue = new ArrayDeque<>();
+    private final Map<String, PendingFrame> pendingByKey = new HashMap<>();
+    private long bufferedBytes;
+    private long overBudgetSince;
+    private long sendStartedAt;
+    private boolean draining;
+    private boolean closed;
+
+    BackpressureWebSocketSession(
+        WebSocketSession delegate,
+        OutboundLimits limits,
+        Executor sendExecutor,
+        OutboundMeters meters
+    ) {
+        super(delegate);
+        this.limits = limits;
+        this.sendExecutor = sendExecutor;
+        this.meters = meters;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        String key = conflationKey(message);
+        int size = message.getPayloadLength();
+        CloseStatus closeStatus = null;
+        boolean startDrain = false;
+
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            long now = System.nanoTime();
+            PendingFrame pending = key == null ? null : pendingByKey.get(key);
+            if (pending == null) {
+                PendingFrame frame = new PendingFrame(message, key);
+                queue.addLast(frame);
+                if (key != null) {
+                    pendingByKey.put(key, frame);
+                }
+                addBuffered(size);
+            } else {
+                addBuffered(size - pending.message.getPayloadLength());
+                pending.message = message;
+                meters.conflated.increment();
+            }
+
+            if (bufferedBytes > limits.bufferSizeLimit()) {
+                dropConflatable();
+            }
+            if (bufferedBytes > limits.bufferSizeLimit()) {
+                if (overBudgetSince == 0) {
+                    overBudgetSince = now;
+                }
+            } else {
+                overBudgetSince = 0;
+            }
+            closeStatus = exceededLimit(now);
+            if (closeStatus == null && !draining) {
+                draining = true;
+                startDrain = true;
+            }
+        }
+
+        if (closeStatus != null) {
+            disconnect(closeStatus);
+        } else if (startDrain) {
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * Close the connection if it broke its budget while no new frame arrived, e.g. a write
+     * that has been stuck since the last frame was queued.
+     */
+    void checkLimits() {
+        CloseStatus closeStatus;
+        synchronized (lock) {
+            closeStatus = closed ? null : exceededLimit(System.nanoTime());
+        }
+        if (closeStatus != null) {
+            try {
+                disconnect(closeStatus);
+            } catch (IOException ex) {
+                logger.debug("Failed to close WebSocket session {}", getId(), ex);
+            }
+        }
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            discardQueue();
+        }
+        super.close(status);
+    }
+
+    /**
+     * Discard queued frames after the underlying connection has already closed.
+     */
+    void release() {
+        synchronized (lock) {
+            closed = true;
+            discardQueue();
+        }
+    }
+
+    /**
+     * Bytes currently queued for this connection.
+     *
+     * @return the queued byte count
+     */
+    public long getBufferedBytes() {
+        synchronized (lock) {
+            return bufferedBytes;
+        }
+    }
+
+    private CloseStatus exceededLimit(long now) {
+        if (overBudgetSince != 0 && bufferedBytes > limits.bufferSizeLimit()
+            && (now - overBudgetSince > TimeUnit.MILLISECONDS.toNanos(limits.gracePeriodMillis())
+                || bufferedBytes > 2L * limits.bufferSizeLimit())) {
+            return CloseStatus.SESSION_NOT_RELIABLE.withReason("Outbound buffer limit exceeded");
+        }
+        if (draining && sendStartedAt != 0
+            && now - sendStartedAt > TimeUnit.MILLISECONDS.toNanos(limits.sendTimeLimitMillis())) {
+            return CloseStatus.SESSION_NOT_RELIABLE.withReason("Send time limit exceeded");
+        }
+        return null;
+    }
+
+    private void disconnect(CloseStatus closeStatus) throws IOException {
+        logger.warn("Closing slow WebSocket session {}: {}", getId(), closeStatus.getReason());
+        meters.disconnected.increment();
+        close(closeStatus);
+    }
+
+    private void scheduleDrain() {
+        try {
+            sendExecutor.execute(this::drain);
+        } catch (RejectedExecutionException ex) {
+            synchronized (lock) {
+                draining = false;
+            }
+            logger.warn("Send executor rejected drain for WebSocket session {}", getId());
+        }
+    }
+
+    private void drain() {
+        PendingFrame frame = nextFrame();
+        while (frame != null) {
+            long start = System.nanoTime();
+            try {
+                getDelegate().sendMessage(frame.message);
+            } catch (IOException | RuntimeException ex) {
+                logger.debug("Failed to send to WebSocket session {}", getId(), ex);
+                closeQuietly();
+                return;
+            } finally {
+                meters.sendTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            frame = nextFrame();
+        }
+    }
+
+    private PendingFrame nextFrame() {
+        synchronized (lock) {
+            PendingFrame frame = closed ? null : queue.pollFirst();
+            if (frame == null) {
+                draining = false;
+                sendStartedAt = 0;
+                return null;
+            }
+            if (frame.key != null) {
+                pendingByKey.remove(frame.key);
+            }
+            addBuffered(-frame.message.getPayloadLength());
+            sendStartedAt = System.nanoTime();
+            return frame;
+        }
+    }
+
+    private void dropConflatable() {
+        Iterator<PendingFrame> iterator = queue.iterator();
+        while (iterator.hasNext() && bufferedBytes > limits.bufferSizeLimit()) {
+            PendingFrame frame = iterator.next();
+            if (frame.key != null) {
+                iterator.remove();
+                pendingByKey.remove(frame.key);
+                addBuffered(-frame.message.getPayloadLength());
+                meters.dropped.increment();
+            }
+        }
+    }
+
+    private void discardQueue() {
+        addBuffered(-bufferedBytes);
+        queue.clear();
+        pendingByKey.clear();
+    }
+
+    private void addBuffered(long delta) {
+        bufferedBytes += delta;
+        meters.bufferedBytes.addAndGet(delta);
+    }
+
+    private void closeQuietly() {
+        try {
+            close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException ex) {
+            logger.debug("Failed to close WebSocket session {}", getId(), ex);
+        }
+    }
+
+    /**
+     * Extract the conflation key from an outbound STOMP MESSAGE frame.
+     *
+     * @param message the raw WebSocket message
+     * @return destination and conflation key, or null if the frame must not be conflated
+     */
+    static String conflationKey(WebSocketMessage<?> message) {
+        String head;
+        if (message instanceof TextMessage text) {
+            String payload = text.getPayload();
+            head = payload.substring(0, Math.min(payload.length(), MAX_HEADER_SCAN));
+        } else if (message instanceof BinaryMessage binary) {
+            ByteBuffer buffer = binary.getPayload().duplicate();
+            byte[] bytes = new byte[Math.min(buffer.remaining(), MAX_HEADER_SCAN)];
+            buffer.get(bytes);
+            head = new String(bytes, StandardCharsets.UTF_8);
+        } else {
+            return null;
+        }
+        if (!head.startsWith("MESSAGE\n") && !head.startsWith("MESSAGE\r\n")) {
+            return null;
+        }
+        String destination = null;
+        String key = null;
+        for (String line : head.split("\r?\n")) {
+            if (line.isEmpty()) {
+                break;
+            }
+            if (destination == null && line.startsWith("destination:")) {
+                destination = line.substring("destination:".length());
+            } else if (key == null && line.startsWith(CONFLATION_KEY_HEADER + ":")) {
+                key = line.substring(CONFLATION_KEY_HEADER.length() + 1);
+            }
+        }
+        return destination == null || key == null ? null : destination + '|' + key;
+    }
+
+    private static final class PendingFrame {
+
+        private WebSocketMessage<?> message;
+        private final String key;
+
+        private PendingFrame(WebSocketMessage<?> message, String key) {
+            this.message = message;
+            this.key = key;
+        }
+    }
+}
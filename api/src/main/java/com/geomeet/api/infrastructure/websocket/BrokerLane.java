@@ -0,0 +1,244 @@
+package com.geomeet.api.infrastructure.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A single-threaded delivery lane of the outbound broker channel, also used to dispatch
+ * session events. Tasks are queued per partition key (the session) and drained round-robin,
+ * so a hot session sharing the lane cannot starve the other sessions hashed onto it.
+ * A lane holds at most {@code capacity} tasks. When it is full, the oldest conflatable task,
+ * one a later task of the same kind supersedes such as a participant's location, is dropped;
+ * if none is queued the submitting thread waits for room, so other tasks (connection frames,
+ * session ends) are never discarded. The lane's own thread never waits on itself.
+ */
+final class BrokerLane implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrokerLane.class);
+
+    private final String name;
+    private final Object lock = new Object();
+    private final Map<Object, Deque<QueuedTask>> queuesByKey = new HashMap<>();
+    private final Deque<Object> readyKeys = new ArrayDeque<>();
+    private final Set<QueuedTask> conflatableTasks = new LinkedHashSet<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final int capacity;
+    private final Timer drainLatency;
+    private final Counter dropped;
+    private final Counter blocked;
+    private Thread laneThread;
+    private boolean running = true;
+
+    BrokerLane(int index, int capacity, MeterRegistry meterRegistry) {
+        this("broker-lane-", "geomeet.websocket.lane", index, capacity, meterRegistry);
+    }
+
+    /**
+     * A lane with its own thread name and meter names, for lanes outside the broker channel.
+     *
+     * @param namePrefix the thread name prefix, followed by the lane index
+     * @param meterPrefix the meter name prefix, followed by {@code .queue.depth}, {@code .drain.latency}
+     *     {@code .dropped} and {@code .blocked}
+     * @param index the lane index
+     * @param capacity the maximum number of queued tasks
+     * @param meterRegistry the registry the lane's meters are added to
+     */
+    BrokerLane(String namePrefix, String meterPrefix, int index, int capacity, MeterRegistry meterRegistry) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Lane capacity must be positive");
+        }
+        this.name = namePrefix + index;
+        this.capacity = capacity;
+        String laneTag = String.valueOf(index);
+        Gauge.builder(meterPrefix + ".queue.depth", depth, AtomicInteger::get)
+            .description("Tasks waiting in the lane")
+            .tag("lane", laneTag)
+            .register(meterRegistry);
+        this.drainLatency = Timer.builder(meterPrefix + ".drain.latency")
+            .description("Time a task waited in the lane before being run")
+            .tag("lane", laneTag)
+            .register(meterRegistry);
+        this.dropped = Counter.builder(meterPrefix + ".dropped")
+            .description("Conflatable tasks dropped because the lane was full")
+            .tag("lane", laneTag)
+            .register(meterRegistry);
+        this.blocked = Counter.builder(meterPrefix + ".blocked")
+            .description("Submissions that waited for room in the full lane")
+            .tag("lane", laneTag)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Queue a task under the given partition key, waiting for room if the lane is full.
+     *
+     * @param key the partition key, tasks with the same key run in submission order
+     * @param task the task to run
+     * @throws RejectedExecutionException if the lane has been stopped
+     */
+    void submit(Object key, Runnable task) {
+        submit(key, task, false);
+    }
+
+    /**
+     * Queue a task under the given partition key.
+     *
+     * @param key the partition key, tasks with the same key run in submission order
+     * @param task the task to run
+     * @param conflatable whether a newer task supersedes this one, so it may be dropped when the lane is full
+     * @throws RejectedExecutionException if the lane has been stopped, or the caller was interrupted
+     *     while waiting for room
+     */
+    void submit(Object key, Runnable task, boolean conflatable) {
+        synchronized (lock) {
+            awaitRoom();
+            Deque<QueuedTask> queue = queuesByKey.get(key);
+            if (queue == null) {
+                queue = new ArrayDeque<>();
+                queuesByKey.put(key, queue);
+                readyKeys.addLast(key);
+            }
+            QueuedTask queued = new QueuedTask(key, task, System.nanoTime());
+            queue.addLast(queued);
+            if (conflatable) {
+                conflatableTasks.add(queued);
+            }
+            depth.incrementAndGet();
+            lock.notifyAll();
+        }
+    }
+
+    int getDepth() {
+        return depth.get();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * Stop accepting tasks. Tasks already queued are still drained.
+     */
+    void stop() {
+        synchronized (lock) {
+            running = false;
+            lock.notifyAll();
+        }
+    }
+
+    @Override
+    public void run() {
+        synchronized (lock) {
+            laneThread = Thread.currentThread();
+        }
+        QueuedTask next = take();
+        while (next != null) {
+            drainLatency.record(System.nanoTime() - next.enqueuedAt, TimeUnit.NANOSECONDS);
+            try {
+                next.task.run();
+            } catch (RuntimeException ex) {
+                logger.error("Task failed on {}", name, ex);
+            }
+            next = take();
+        }
+    }
+
+    private void awaitRoom() {
+        boolean waited = false;
+        while (running && depth.get() >= capacity && !dropOldestConflatable()
+            && Thread.currentThread() != laneThread) {
+            if (!waited) {
+                blocked.increment();
+                waited = true;
+            }
+            try {
+                lock.wait();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException(name + " is full", ex);
+            }
+        }
+        if (!running) {
+            throw new RejectedExecutionException(name + " has been shut down");
+        }
+    }
+
+    private boolean dropOldestConflatable() {
+        Iterator<QueuedTask> oldest = conflatableTasks.iterator();
+        if (!oldest.hasNext()) {
+            return false;
+        }
+        QueuedTask task = oldest.next();
+        oldest.remove();
+        Deque<QueuedTask> queue = queuesByKey.get(task.key);
+        queue.remove(task);
+        if (queue.isEmpty()) {
+            queuesByKey.remove(task.key);
+            readyKeys.remove(task.key);
+        }
+        depth.decrementAndGet();
+        dropped.increment();
+        logger.debug("{} full, dropped the oldest conflatable task of {}", name, task.key);
+        return true;
+    }
+
+    private QueuedTask take() {
+        synchronized (lock) {
+            while (readyKeys.isEmpty()) {
+                if (!running) {
+                    return null;
+                }
+                try {
+                    lock.wait();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+            // Take one task from the key at the head, then rotate that key to the back
+            Object key = readyKeys.pollFirst();
+            Deque<QueuedTask> queue = queuesByKey.get(key);
+            QueuedTask next = queue.pollFirst();
+            if (queue.isEmpty()) {
+                queuesByKey.remove(key);
+            } else {
+                readyKeys.addLast(key);
+            }
+            conflatableTasks.remove(next);
+            if (depth.getAndDecrement() >= capacity) {
+                // Wake submitters waiting for room
+                lock.notifyAll();
+            }
+            return next;
+        }
+    }
+
+    /**
+     * A queued task. Compared by identity, so a task submitted twice is dropped or taken once per submission.
+     */
+    private static final class QueuedTask {
+
+        private final Object key;
+        private final Runnable task;
+        private final long enqueuedAt;
+
+        private QueuedTask(Object key, Runnable task, long enqueuedAt) {
+            this.key = key;
+            this.task = task;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.geomeet.api.infrastructure.websocket;
+
+import java.util.List;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+/**
+ * Handshake handler that negotiates only the permessage-deflate extension.
+ * When compression is disabled every requested extension is declined, so the
+ * container never compresses frames behind our back.
+ */
+public class CompressionHandshakeHandler extends DefaultHandshakeHandler {
+
+    static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+
+    private final boolean compressionEnabled;
+
+    public CompressionHandshakeHandler(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    @Override
+    protected List<WebSocketExtension> filterRequestedExtensions(
+        ServerHttpRequest request,
+        List<WebSocketExtension> requestedExtensions,
+        List<WebSocketExtension> supportedExtensions
+    ) {
+        if (!compressionEnabled) {
+            return List.of();
+        }
+        return super.filterRequestedExtensions(request, requestedExtensions, supportedExtensions).stream()
+            .filter(extension -> PERMESSAGE_DEFLATE.equalsIgnoreCase(extension.getName()))
+            .toList();
+    }
+}
@@ -0,0 +1,17 @@
+package com.geomeet.api.infrastructure.websocket;
+
+/**
+ * Per-connection outbound budget for WebSocket subscribers.
+ *
+ * @param sendTimeLimitMillis how long a single write may block before the connection is considered stuck
+ * @param bufferSizeLimit how many bytes may be queued for a connection before it is over budget
+ * @param gracePeriodMillis how long a connection may stay over budget before it is disconnected
+ */
+public record OutboundLimits(long sendTimeLimitMillis, int bufferSizeLimit, long gracePeriodMillis) {
+
+    public OutboundLimits {
+        if (sendTimeLimitMillis <= 0 || bufferSizeLimit <= 0 || gracePeriodMillis < 0) {
+            throw new IllegalArgumentException("Outbound limits must be positive");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.geomeet.api.infrastructure.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Meters shared by all backpressured WebSocket connections.
+ */
+final class OutboundMeters {
+
+    final Counter conflated;
+    final Counter dropped;
+    final Counter disconnected;
+    final Timer sendTime;
+    final AtomicLong bufferedBytes = new AtomicLong();
+
+    OutboundMeters(MeterRegistry meterRegistry) {
+        this.conflated = Counter.builder("geomeet.websocket.outbound.conflated")
+            .description("Location frames replaced by a newer frame before being sent")
+            .register(meterRegistry);
+        this.dropped = Counter.builder("geomeet.websocket.outbound.dropped")
+            .description("Superseded location frames dropped to keep a connection within budget")
+            .register(meterRegistry);
+        this.disconnected = Counter.builder("geomeet.websocket.outbound.disconnected")
+            .description("Connections closed for staying over their outbound budget")
+            .register(meterRegistry);
+        this.sendTime = Timer.builder("geomeet.websocket.outbound.send.time")
+            .description("Time spent writing a single frame to a connection")
+            .register(meterRegistry);
+        Gauge.builder("geomeet.websocket.outbound.buffered.bytes", bufferedBytes, AtomicLong::get)
+            .description("Bytes queued for all connections")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,47 @@
+package com.geomeet.api.infrastructure.websocket;
+
+import jakarta.servlet.ServletContext;
+import jakarta.websocket.server.ServerContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.context.ServletContextAware;
+
+/**
+ * Applies buffer and timeout settings to the servlet container's WebSocket server.
+ * Unlike {@code ServletServerContainerFactoryBean} it does nothing when no container is
+ * present, which keeps mock-servlet application contexts (tests) starting.
+ */
+public class ServerContainerCustomizer implements ServletContextAware {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServerContainerCustomizer.class);
+
+    private final int maxTextMessageBufferSize;
+    private final int maxBinaryMessageBufferSize;
+    private final long maxSessionIdleTimeoutMillis;
+    private final long asyncSendTimeoutMillis;
+
+    public ServerContainerCustomizer(
+        int maxTextMessageBufferSize,
+        int maxBinaryMessageBufferSize,
+        long maxSessionIdleTimeoutMillis,
+        long asyncSendTimeoutMillis
+    ) {
+        this.maxTextMessageBufferSize = maxTextMessageBufferSize;
+        this.maxBinaryMessageBufferSize = maxBinaryMessageBufferSize;
+        this.maxSessionIdleTimeoutMillis = maxSessionIdleTimeoutMillis;
+        this.asyncSendTimeoutMillis = asyncSendTimeoutMillis;
+    }
+
+    @Override
+    public void setServletContext(ServletContext servletContext) {
+        Object attribute = servletContext.getAttribute(ServerContainer.class.getName());
+        if (!(attribute instanceof ServerContainer container)) {
+            logger.debug("No WebSocket ServerContainer in servlet context, skipping container tuning");
+            return;
+        }
+        container.setDefaultMaxTextMessageBufferSize(maxTextMessageBufferSize);
+        container.setDefaultMaxBinaryMessageBufferSize(maxBinaryMessageBufferSize);
+        container.setDefaultMaxSessionIdleTimeout(maxSessionIdleTimeoutMillis);
+        container.setAsyncSendTimeout(asyncSendTimeoutMillis);
+    }
+}
@@ -0,0 +1,71 @@
+package com.geomeet.api.infrastructure.websocket;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs broadcasts of committed session changes off the request thread.
+ * Tasks of one GeoMeet session always run on the same lane, in submission order, so a
+ * location update is never announced after the end of its session; lanes serve their
+ * sessions round-robin like the outbound broker lanes. A full lane drops the oldest
+ * conflatable task, a location broadcast a newer one supersedes; if none is queued the
+ * committing thread waits for room, so session ends and meeting locations are never lost.
+ */
+public final class SessionEventExecutor {
+
+    private final List<BrokerLane> lanes = new ArrayList<>();
+
+    public SessionEventExecutor(int laneCount, int laneCapacity, MeterRegistry meterRegistry) {
+        if (laneCount <= 0) {
+            throw new IllegalArgumentException("Lane count must be positive");
+        }
+        for (int i = 0; i < laneCount; i++) {
+            BrokerLane lane = new BrokerLane(
+                "session-event-lane-", "geomeet.events.lane", i, laneCapacity, meterRegistry);
+            Thread thread = new Thread(lane, lane.getName());
+            thread.setDaemon(true);
+            lanes.add(lane);
+            thread.start();
+        }
+    }
+
+    /**
+     * Queue a task after the earlier tasks of the same session, waiting for room if its lane is full.
+     *
+     * @param sessionId the session ID string
+     * @param task the task to run
+     * @throws java.util.concurrent.RejectedExecutionException if the executor has been shut down
+     */
+    public void execute(String sessionId, Runnable task) {
+        lanes.get(Math.floorMod(sessionId.hashCode(), lanes.size())).submit(sessionId, task);
+    }
+
+    /**
+     * Queue a task a later conflatable task of the same kind supersedes, such as broadcasting a
+     * participant's location. It may be dropped when its lane is full.
+     *
+     * @param sessionId the session ID string
+     * @param task the task to run
+     * @throws java.util.concurrent.RejectedExecutionException if the executor has been shut down
+     */
+    public void executeConflatable(String sessionId, Runnable task) {
+        lanes.get(Math.floorMod(sessionId.hashCode(), lanes.size())).submit(sessionId, task, true);
+    }
+
+    /**
+     * Stop accepting tasks. Tasks already queued are still run.
+     */
+    public void shutdown() {
+        lanes.forEach(BrokerLane::stop);
+    }
+
+    /**
+     * Number of tasks currently queued across all lanes.
+     *
+     * @return the total lane depth
+     */
+    public int getQueuedTaskCount() {
+        return lanes.stream().mapToInt(BrokerLane::getDepth).sum();
+    }
+}
@@ -0,0 +1,116 @@
+package com.geomeet.api.infrastructure.websocket;
+
+import static com.geomeet.api.application.usecase.session.BroadcastLocationUpdateUseCase.CONFLATION_KEY_HEADER;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor for the clientOutboundChannel that partitions delivery by GeoMeet session.
+ * Frames for {@code /topic/session/{id}/...} are always handled by the same lane, which keeps
+ * per-session ordering without a global lock, and a lane serves its sessions round-robin.
+ * Frames that carry no session destination (CONNECTED, RECEIPT, ERROR) are keyed by the
+ * WebSocket session id; anything that is not a message falls back to the regular pool.
+ * Each lane is bounded: when full it drops the oldest frame carrying a conflation key, a
+ * location a newer one supersedes, and otherwise makes the sending thread wait for room, so
+ * connection, roster, presence and session-end frames are never discarded.
+ */
+public class SessionLaneTaskExecutor extends ThreadPoolTaskExecutor {
+
+    private static final long serialVersionUID = 1L;
+    private static final String SESSION_TOPIC_PREFIX = "/topic/session/";
+
+    private final int laneCount;
+    private final int laneCapacity;
+    private final transient MeterRegistry meterRegistry;
+    private final transient List<BrokerLane> lanes = new ArrayList<>();
+
+    public SessionLaneTaskExecutor(int laneCount, int laneCapacity, MeterRegistry meterRegistry) {
+        if (laneCount <= 0) {
+            throw new IllegalArgumentException("Lane count must be positive");
+        }
+        if (laneCapacity <= 0) {
+            throw new IllegalArgumentException("Lane capacity must be positive");
+        }
+        this.laneCount = laneCount;
+        this.laneCapacity = laneCapacity;
+        this.meterRegistry = meterRegistry;
+        setThreadNamePrefix("broker-lane-");
+        setCorePoolSize(1);
+        setMaxPoolSize(Math.max(2, laneCount));
+    }
+
+    @Override
+    protected ExecutorService initializeExecutor(
+        ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+        for (int i = 0; i < laneCount; i++) {
+            BrokerLane lane = new BrokerLane(i, laneCapacity, meterRegistry);
+            Thread thread = threadFactory.newThread(lane);
+            thread.setName(lane.getName());
+            lanes.add(lane);
+            thread.start();
+        }
+        return super.initializeExecutor(threadFactory, rejectedExecutionHandler);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Object key = partitionKey(task);
+        if (key == null || lanes.isEmpty()) {
+            super.execute(task);
+            return;
+        }
+        lanes.get(Math.floorMod(key.hashCode(), lanes.size())).submit(key, task, isConflatable(task));
+    }
+
+    @Override
+    public void shutdown() {
+        lanes.forEach(BrokerLane::stop);
+        super.shutdown();
+    }
+
+    /**
+     * Number of frames currently queued across all lanes.
+     *
+     * @return the total lane depth
+     */
+    public int getQueuedTaskCount() {
+        return lanes.stream().mapToInt(BrokerLane::getDepth).sum();
+    }
+
+    static Object partitionKey(Runnable task) {
+        if (!(task instanceof MessageHandlingRunnable runnable)) {
+            return null;
+        }
+        Message<?> message = runnable.getMessage();
+        String sessionId = sessionIdFromDestination(SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+        if (sessionId != null) {
+            return sessionId;
+        }
+        return SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+    }
+
+    static boolean isConflatable(Runnable task) {
+        return task instanceof MessageHandlingRunnable runnable && NativeMessageHeaderAccessor.getFirstNativeHeader(
+            CONFLATION_KEY_HEADER, runnable.getMessage().getHeaders()) != null;
+    }
+
+    static String sessionIdFromDestination(String destination) {
+        if (destination == null || !destination.startsWith(SESSION_TOPIC_PREFIX)) {
+            return null;
+        }
+        int start = SESSION_TOPIC_PREFIX.length();
+        int end = destination.indexOf('/', start);
+        String sessionId = end < 0 ? destination.substring(start) : destination.substring(start, end);
+        return sessionId.isEmpty() ? null : sessionId;
+    }
+}
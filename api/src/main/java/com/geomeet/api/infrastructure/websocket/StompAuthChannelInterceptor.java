@@ -0,0 +1,145 @@
+package com.geomeet.api.infrastructure.websocket;
+
+import com.geomeet.api.application.usecase.session.SessionMembership;
+import com.geomeet.api.domain.valueobject.SessionId;
+import com.geomeet.api.infrastructure.security.JwtTokenService;
+import com.geomeet.api.infrastructure.security.VerifiedToken;
+import java.security.Principal;
+import java.util.Collections;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * Authenticates a STOMP session once, keeps checking its token, and authorizes its
+ * session-scoped frames.
+ *
+ * <p>At CONNECT the {@code Authorization: Bearer <jwt>} header is validated and the user ID
+ * becomes the WebSocket principal, which Spring keeps for the rest of the connection; the
+ * verified claims are kept in the session attributes. Every SUBSCRIBE and SEND is refused once
+ * that token has expired or was revoked, without parsing it again, and connections that only
+ * listen are closed by {@link #hasExpiredToken(WebSocketSession)}.
+ *
+ * <p>Destinations are denied by default. A SUBSCRIBE is only accepted for
+ * {@code /topic/session/{id}[/...]} and {@code /user/queue/session/{id}[/...]}, and a SEND only
+ * for {@code /app/...}; the simple broker matches Ant patterns, so any destination containing
+ * {@code *}, {@code ?} or <code>{</code> is refused outright. Frames for {@code /topic/session/{id}},
+ * {@code /user/queue/session/{id}} and {@code /app/session/{id}} are also checked against the
+ * cached session membership. The session ID in such a destination is rewritten to its canonical
+ * lowercase form first, so the broker, the listeners and everything keyed by session ID see one
+ * destination per session whatever case the client used.
+ */
+@Component
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    static final String AUTHORIZATION_HEADER = "Authorization";
+    static final String TOKEN_ATTRIBUTE = "geomeet.verifiedToken";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String APPLICATION_PREFIX = "/app/";
+    private static final Pattern SUBSCRIBE_DESTINATION =
+        Pattern.compile("^/(?:topic|user/queue)/session/([^/]+)(?:/.*)?$");
+    private static final Pattern SEND_DESTINATION = Pattern.compile("^/app/session/([^/]+)(?:/.*)?$");
+    private static final Pattern BROKER_PATTERN = Pattern.compile("[*?{]");
+
+    private final JwtTokenService jwtTokenService;
+    private final SessionMembership sessionMembership;
+
+    public StompAuthChannelInterceptor(JwtTokenService jwtTokenService, SessionMembership sessionMembership) {
+        this.jwtTokenService = jwtTokenService;
+        this.sessionMembership = sessionMembership;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+        StompCommand command = accessor.getCommand();
+        if (command == StompCommand.CONNECT || command == StompCommand.STOMP) {
+            VerifiedToken verified = authenticate(accessor.getFirstNativeHeader(AUTHORIZATION_HEADER));
+            Map<String, Object> attributes = accessor.getSessionAttributes();
+            if (attributes != null) {
+                attributes.put(TOKEN_ATTRIBUTE, verified);
+            }
+            // Same principal shape as JwtAuthenticationFilter, so the user ID reads the same everywhere
+            accessor.setUser(new UsernamePasswordAuthenticationToken(
+                verified.userId(), null, Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))));
+        } else if (command == StompCommand.SUBSCRIBE || command == StompCommand.SEND) {
+            Map<String, Object> attributes = accessor.getSessionAttributes();
+            if (attributes == null || !(attributes.get(TOKEN_ATTRIBUTE) instanceof VerifiedToken verified)
+                || !jwtTokenService.isStillValid(verified)) {
+                throw new BadCredentialsException("Token expired or revoked");
+            }
+            authorize(accessor, accessor.getUser());
+        }
+        return message;
+    }
+
+    /**
+     * Whether a connection authenticated with a token that has since expired or been revoked.
+     * Connections that have not sent CONNECT yet carry no token and are left alone.
+     *
+     * @param session the WebSocket connection
+     * @return true if the connection must be closed
+     */
+    public boolean hasExpiredToken(WebSocketSession session) {
+        return session.getAttributes().get(TOKEN_ATTRIBUTE) instanceof VerifiedToken verified
+            && !jwtTokenService.isStillValid(verified);
+    }
+
+    private VerifiedToken authenticate(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            throw new BadCredentialsException("Missing bearer token on STOMP CONNECT");
+        }
+        String token = authorization.substring(BEARER_PREFIX.length());
+        return jwtTokenService.verify(token)
+            .orElseThrow(() -> new BadCredentialsException("Invalid token"));
+    }
+
+    private void authorize(StompHeaderAccessor accessor, Principal user) {
+        String destination = accessor.getDestination();
+        if (destination == null || BROKER_PATTERN.matcher(destination).find()) {
+            throw new AccessDeniedException("Access denied: Destination not allowed");
+        }
+        Matcher matcher;
+        if (accessor.getCommand() == StompCommand.SUBSCRIBE) {
+            matcher = SUBSCRIBE_DESTINATION.matcher(destination);
+            if (!matcher.matches()) {
+                throw new AccessDeniedException("Access denied: Destination not allowed");
+            }
+        } else {
+            if (!destination.startsWith(APPLICATION_PREFIX)) {
+                throw new AccessDeniedException("Access denied: Destination not allowed");
+            }
+            matcher = SEND_DESTINATION.matcher(destination);
+            if (!matcher.matches()) {
+                return;
+            }
+        }
+        String sessionId = matcher.group(1);
+        String canonical = SessionId.isValid(sessionId) ? SessionId.canonical(sessionId) : null;
+        if (canonical == null
+            || !(user instanceof UsernamePasswordAuthenticationToken authentication)
+            || !(authentication.getPrincipal() instanceof Long userId)
+            || !sessionMembership.isMember(canonical, userId)) {
+            throw new AccessDeniedException("Access denied: User is not a participant or initiator");
+        }
+        if (!canonical.equals(sessionId)) {
+            accessor.setDestination(destination.substring(0, matcher.start(1)) + canonical
+                + destination.substring(matcher.end(1)));
+        }
+    }
+}
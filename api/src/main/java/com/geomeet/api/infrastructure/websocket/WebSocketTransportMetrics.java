@@ -0,0 +1,125 @@
+package com.geomeet.api.infrastructure.websocket;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+/**
+ * Reports WebSocket usage per STOMP endpoint and transport, so SockJS fallback traffic
+ * can be told apart from native WebSocket connections.
+ * Handshakes are counted by the interceptor returned from {@link #forEndpoint(String)};
+ * the active-connection gauge follows STOMP connect and disconnect events.
+ */
+@Component
+public class WebSocketTransportMetrics {
+
+    static final String ENDPOINT_ATTRIBUTE = "geomeet.ws.endpoint";
+    static final String TRANSPORT_ATTRIBUTE = "geomeet.ws.transport";
+    private static final String NATIVE_TRANSPORT = "websocket";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> activeConnections = new ConcurrentHashMap<>();
+
+    public WebSocketTransportMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Create a handshake interceptor that tags connections with the given endpoint name.
+     *
+     * @param endpoint the endpoint name used as metric tag, e.g. "native" or "sockjs"
+     * @return the handshake interceptor
+     */
+    public HandshakeInterceptor forEndpoint(String endpoint) {
+        return new HandshakeInterceptor() {
+            @Override
+            public boolean beforeHandshake(
+                ServerHttpRequest request,
+                ServerHttpResponse response,
+                WebSocketHandler wsHandler,
+                Map<String, Object> attributes
+            ) {
+                String transport = transportOf(request.getURI().getPath());
+                attributes.put(ENDPOINT_ATTRIBUTE, endpoint);
+                attributes.put(TRANSPORT_ATTRIBUTE, transport);
+                meterRegistry.counter("geomeet.websocket.handshakes", "endpoint", endpoint, "transport", transport)
+                    .increment();
+                return true;
+            }
+
+            @Override
+            public void afterHandshake(
+                ServerHttpRequest request,
+                ServerHttpResponse response,
+                WebSocketHandler wsHandler,
+                Exception exception
+            ) {
+                // Nothing to do, the handshake was already counted
+            }
+        };
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        AtomicInteger gauge = gaugeFor(SimpMessageHeaderAccessor.getSessionAttributes(event.getMessage().getHeaders()));
+        if (gauge != null) {
+            gauge.incrementAndGet();
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        AtomicInteger gauge = gaugeFor(SimpMessageHeaderAccessor.getSessionAttributes(event.getMessage().getHeaders()));
+        if (gauge != null) {
+            gauge.updateAndGet(count -> Math.max(0, count - 1));
+        }
+    }
+
+    int getActiveConnections(String endpoint, String transport) {
+        AtomicInteger gauge = activeConnections.get(endpoint + '|' + transport);
+        return gauge == null ? 0 : gauge.get();
+    }
+
+    private AtomicInteger gaugeFor(Map<String, Object> sessionAttributes) {
+        if (sessionAttributes == null || !(sessionAttributes.get(ENDPOINT_ATTRIBUTE) instanceof String endpoint)
+            || !(sessionAttributes.get(TRANSPORT_ATTRIBUTE) instanceof String transport)) {
+            return null;
+        }
+        return activeConnections.computeIfAbsent(endpoint + '|' + transport, key -> {
+            AtomicInteger count = new AtomicInteger();
+            Gauge.builder("geomeet.websocket.connections.active", count, AtomicInteger::get)
+                .description("Open STOMP connections")
+                .tag("endpoint", endpoint)
+                .tag("transport", transport)
+                .register(meterRegistry);
+            return count;
+        });
+    }
+
+    /**
+     * SockJS puts the transport in the last path segment ({@code /ws/{server}/{session}/xhr_streaming});
+     * a plain WebSocket upgrade is always "websocket".
+     */
+    static String transportOf(String path) {
+        if (path == null || path.isEmpty()) {
+            return NATIVE_TRANSPORT;
+        }
+        String trimmed = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+        String lastSegment = trimmed.substring(trimmed.lastIndexOf('/') + 1);
+        return switch (lastSegment) {
+            case "xhr", "xhr_streaming", "xhr_send", "eventsource", "htmlfile", "jsonp" -> lastSegment;
+            default -> NATIVE_TRANSPORT;
+        };
+    }
+}
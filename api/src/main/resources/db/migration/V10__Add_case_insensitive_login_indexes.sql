@@ -0,0 +1,34 @@
+-- Flyway migration script: Case-insensitive login lookups
+-- Version: 10
+-- Sign-in picks the column from the identifier's shape: usernames cannot contain '@', so an
+-- identifier with one is an email and anything else a username. Each login is then a single
+-- probe on a unique index instead of "username = ? OR email = ?" across two.
+-- Usernames keep the case they were registered with and are matched on lower(username), which
+-- the functional index below serves; it is unique, so "Alice" and "alice" can no longer both
+-- register. Emails are stored lower-case by the application; existing ones are lower-cased
+-- here and the check constraint makes that a guarantee, so the existing unique index on email
+-- serves case-insensitive lookups without a second, identical one on lower(email).
+-- Accounts whose usernames or emails differ only in case cannot be merged automatically, so the
+-- migration stops with a list of them instead of failing on the index; rename or merge them and
+-- migrate again.
+
+DO $$
+DECLARE
+    duplicate_usernames TEXT;
+    duplicate_emails TEXT;
+BEGIN
+    SELECT string_agg(login, ', ' ORDER BY login) INTO duplicate_usernames
+    FROM (SELECT lower(username) AS login FROM USERS GROUP BY lower(username) HAVING count(*) > 1) duplicates;
+    SELECT string_agg(login, ', ' ORDER BY login) INTO duplicate_emails
+    FROM (SELECT lower(email) AS login FROM USERS GROUP BY lower(email) HAVING count(*) > 1) duplicates;
+    IF duplicate_usernames IS NOT NULL OR duplicate_emails IS NOT NULL THEN
+        RAISE EXCEPTION 'Accounts differ only in case; rename or merge them. Usernames: [%], emails: [%]',
+            coalesce(duplicate_usernames, ''), coalesce(duplicate_emails, '');
+    END IF;
+END $$;
+
+UPDATE USERS SET email = lower(email) WHERE email <> lower(email);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_username_lower ON USERS(lower(username));
+
+ALTER TABLE USERS ADD CONSTRAINT chk_users_email_lower CHECK (email = lower(email));
@@ -0,0 +1,15 @@
+-- Flyway migration script: Use pooled id sequences
+-- Version: 11
+-- Hibernate now draws ids from the BIGSERIAL sequences 50 at a time (pooled optimizer) instead
+-- of reading them back from each INSERT, so inserts can be sent in JDBC batches. A sequence's
+-- increment must match the entity's allocationSize. Plain SQL inserts still work through the
+-- column default; they just skip 49 values each.
+-- REVOKED_TOKENS keeps increment 1: its rows are mostly written by a native INSERT ... ON CONFLICT
+-- DO NOTHING that takes its id from the column default, one at a time, so there is nothing to
+-- pool. Nothing relies on its ids following commit order; revocations are read by revoked_at (V15).
+
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE sessions_id_seq INCREMENT BY 50;
+ALTER SEQUENCE session_participants_id_seq INCREMENT BY 50;
+ALTER SEQUENCE participant_locations_id_seq INCREMENT BY 50;
+ALTER SEQUENCE refresh_tokens_id_seq INCREMENT BY 50;
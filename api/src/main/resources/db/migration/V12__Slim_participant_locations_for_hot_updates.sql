@@ -0,0 +1,20 @@
+-- Flyway migration script: Slim PARTICIPANT_LOCATIONS down for HOT updates
+-- Version: 12
+-- PARTICIPANT_LOCATIONS holds one current row per participant that is rewritten on every GPS fix.
+-- An update can stay on its heap page without touching any index (a heap-only tuple update) only
+-- if no indexed column changes and the page has room for the new row version. So:
+--   * updated_at, which changes on every fix, is no longer indexed; nothing orders by it, and the
+--     latest positions are served from memory (session read model, cluster index)
+--   * participant_id was indexed twice; the unique index stays
+--   * session_id alone is a prefix of (session_id, user_id), which serves session reads and joins
+--   * user_id alone serves no query; deleting a user is rare and may scan the table
+--   * pages are left 30% empty for new row versions
+-- The unique participant_id index, the (session_id, user_id) index and the primary key remain.
+
+DROP INDEX IF EXISTS idx_participant_locations_updated_at;
+DROP INDEX IF EXISTS idx_participant_locations_participant_id;
+DROP INDEX IF EXISTS idx_participant_locations_session_id;
+DROP INDEX IF EXISTS idx_participant_locations_user_id;
+
+-- Honoured by pages filled from now on; a VACUUM FULL in a quiet period applies it to existing pages
+ALTER TABLE PARTICIPANT_LOCATIONS SET (fillfactor = 70);
@@ -0,0 +1,25 @@
+-- Flyway migration script: Create participant location history table
+-- Version: 13
+-- Every location fix is appended here, next to the single current row in PARTICIPANT_LOCATIONS,
+-- so a participant's movement can be replayed. Rows are never updated: they are written in
+-- batches with COPY and removed by dropping whole partitions.
+-- The table is range-partitioned by day on recorded_at. The application creates the partitions
+-- a few days ahead and drops those past the retention period (geomeet.history.*); partitions
+-- are named participant_location_history_pYYYYMMDD. There are no foreign keys, so COPY does not
+-- check every row against three tables, and no primary key, which nothing reads by.
+-- Trajectory queries filter on participant_id and a recorded_at window, so only the partitions
+-- of that window are scanned, each through its (participant_id, recorded_at) index.
+
+CREATE TABLE IF NOT EXISTS PARTICIPANT_LOCATION_HISTORY (
+    session_id BIGINT NOT NULL,
+    participant_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    latitude DOUBLE PRECISION NOT NULL,
+    longitude DOUBLE PRECISION NOT NULL,
+    accuracy DOUBLE PRECISION,
+    recorded_at TIMESTAMP NOT NULL
+) PARTITION BY RANGE (recorded_at);
+
+-- Created on each partition as it is attached
+CREATE INDEX IF NOT EXISTS idx_participant_location_history_participant_recorded
+ON PARTICIPANT_LOCATION_HISTORY(participant_id, recorded_at);
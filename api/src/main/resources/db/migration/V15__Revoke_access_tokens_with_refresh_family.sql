@@ -0,0 +1,12 @@
+-- Flyway migration script: Revoke access tokens with their refresh token family
+-- Version: 15
+-- Each refresh token records the ID and expiry of the access token issued with it, so
+-- revoking a family also revokes the access tokens still in use. Existing rows keep NULLs;
+-- their access tokens expire on their own within minutes.
+-- Revocations are now read incrementally by revoked_at over an overlapping window instead of
+-- by id, since ids are assigned at insert and can commit out of order.
+
+ALTER TABLE REFRESH_TOKENS ADD COLUMN IF NOT EXISTS access_token_id VARCHAR(36);
+ALTER TABLE REFRESH_TOKENS ADD COLUMN IF NOT EXISTS access_expires_at TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_revoked_at ON REVOKED_TOKENS(revoked_at);
@@ -0,0 +1,9 @@
+-- Flyway migration script: Add default partition to participant location history
+-- Version: 16
+-- Catches fixes recorded on a day that has no partition yet, e.g. while partition maintenance
+-- was not running, so a single such fix no longer fails the whole COPY batch it was sent in.
+-- LocationHistoryPartitions moves a day's rows out of it when it creates that day's partition,
+-- and deletes its rows once they are past the retention period. It is expected to stay empty.
+
+CREATE TABLE IF NOT EXISTS participant_location_history_default
+PARTITION OF PARTICIPANT_LOCATION_HISTORY DEFAULT;
@@ -0,0 +1,13 @@
+-- Flyway migration script: Create cluster broadcast payloads table
+-- Version: 7
+-- NOTIFY payloads are limited to 8000 bytes. Broadcasts that do not fit are stored here
+-- and only their id is sent over the notification channel. Rows are short-lived and
+-- purged by the publishing node.
+
+CREATE TABLE IF NOT EXISTS CLUSTER_BROADCAST_PAYLOADS (
+    id BIGSERIAL PRIMARY KEY,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_cluster_broadcast_payloads_created_at ON CLUSTER_BROADCAST_PAYLOADS(created_at);
@@ -0,0 +1,9 @@
+-- Flyway migration script: Index session participants for keyset pagination
+-- Version: 8
+-- Participant pages are read as "session_id = ? AND id > ? ORDER BY id LIMIT ?". The composite
+-- index answers that with a seek, in order, and also serves plain session_id lookups, so the
+-- single-column index it replaces is dropped.
+
+CREATE INDEX IF NOT EXISTS idx_session_participants_session_id_id ON SESSION_PARTICIPANTS(session_id, id);
+
+DROP INDEX IF EXISTS idx_session_participants_session_id;
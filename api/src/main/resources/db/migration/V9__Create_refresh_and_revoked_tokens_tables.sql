@@ -0,0 +1,32 @@
+-- Flyway migration script: Create refresh and revoked tokens tables
+-- Version: 9
+-- Access tokens are short-lived; clients trade a refresh token for a new pair. Refresh tokens
+-- are stored as SHA-256 digests and rotated on every use; all tokens rotated from one login
+-- share a family, which is revoked as a whole when a rotated token is presented again.
+-- Revoked access token ids are kept until the token would have expired, and are loaded
+-- into each node's in-memory filter by ascending id.
+
+CREATE TABLE IF NOT EXISTS REFRESH_TOKENS (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    token_hash VARCHAR(64) NOT NULL,
+    family_id VARCHAR(36) NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES USERS(id) ON DELETE CASCADE
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_refresh_tokens_token_hash ON REFRESH_TOKENS(token_hash);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family_id ON REFRESH_TOKENS(family_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at ON REFRESH_TOKENS(expires_at);
+
+CREATE TABLE IF NOT EXISTS REVOKED_TOKENS (
+    id BIGSERIAL PRIMARY KEY,
+    token_id VARCHAR(36) NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_revoked_tokens_token_id ON REVOKED_TOKENS(token_id);
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_expires_at ON REVOKED_TOKENS(expires_at);
@@ -1,14 +1,17 @@
 package com.geomeet.api.adapter.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.geomeet.api.adapter.web.auth.dto.RegisterRequest;
 import com.geomeet.api.adapter.web.auth.dto.LoginRequest;
+import com.geomeet.api.adapter.web.auth.dto.RefreshTokenRequest;
 import com.geomeet.api.application.usecase.auth.UserRepository;
 import com.geomeet.api.domain.entity.User;
 import com.geomeet.api.domain.service.PasswordEncoder;
 import com.geomeet.api.domain.valueobject.Email;
 import com.geomeet.api.domain.valueobject.PasswordHash;
 import com.geomeet.api.domain.valueobject.Username;
+import com.geomeet.api.infrastructure.security.JwtTokenService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +22,8 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -41,6 +46,9 @@ class AuthControllerTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JwtTokenService jwtTokenService;
+
     @BeforeEach
     void setUp() {
         // Create a test user using domain factory method
@@ -64,6 +72,8 @@ class AuthControllerTest {
                 .content(loginRequest))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.token").exists())
+            .andExpect(jsonPath("$.refreshToken").exists())
+            .andExpect(jsonPath("$.expiresIn").isNumber())
             .andExpect(jsonPath("$.username").value("testuser"))
             .andExpect(jsonPath("$.email").value("test@example.com"))
             .andExpect(jsonPath("$.message").value("Login successful"));
@@ -111,6 +121,17 @@ class AuthControllerTest {
             .andExpect(jsonPath("$.username").value("testuser"));
     }
 
+    @Test
+    void testLoginIgnoresCase() throws Exception {
+        for (String identifier : new String[] {"TestUser", "Test@Example.com"}) {
+            mockMvc.perform(post("/api/auth/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new LoginRequest(identifier, "test123"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("testuser"));
+        }
+    }
+
     @Test
     void testRegisterSuccess() throws Exception {
         String registerRequest = objectMapper.writeValueAsString(
@@ -154,5 +175,116 @@ class AuthControllerTest {
             .andExpect(jsonPath("$.error").value("Bad Request"))
             .andExpect(jsonPath("$.message").value("Invalid email: existing email or username"));
     }
-}
 
+    @Test
+    void testRegisterWithUsernameDifferingOnlyInCase() throws Exception {
+        String registerRequest = objectMapper.writeValueAsString(
+            new RegisterRequest("TESTUSER", "password123", "different@example.com", "123456")
+        );
+
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(registerRequest))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Invalid email: existing email or username"));
+    }
+
+    @Test
+    void testRefreshRotatesTokens() throws Exception {
+        JsonNode login = login();
+        String refreshToken = login.get("refreshToken").asText();
+
+        String body = mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.token").exists())
+            .andExpect(jsonPath("$.refreshToken").exists())
+            .andReturn().getResponse().getContentAsString();
+
+        JsonNode refreshed = objectMapper.readTree(body);
+        assertNotEquals(refreshToken, refreshed.get("refreshToken").asText());
+        assertTrue(jwtTokenService.verify(refreshed.get("token").asText()).isPresent());
+    }
+
+    @Test
+    void testRefreshTokenReuseRevokesFamily() throws Exception {
+        String refreshToken = login().get("refreshToken").asText();
+        String body = mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        String rotated = objectMapper.readTree(body).get("refreshToken").asText();
+        String rotatedAccessToken = objectMapper.readTree(body).get("token").asText();
+
+        // Replaying the old token fails and takes the rotated pair down with it
+        mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+            .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(rotated))))
+            .andExpect(status().isUnauthorized());
+        assertTrue(jwtTokenService.verify(rotatedAccessToken).isEmpty());
+    }
+
+    @Test
+    void testRefreshWithUnknownToken() throws Exception {
+        mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest("unknown"))))
+            .andExpect(status().isUnauthorized())
+            .andExpect(jsonPath("$.message").value("Invalid credentials"));
+    }
+
+    @Test
+    void testLogoutRevokesAccessAndRefreshToken() throws Exception {
+        JsonNode login = login();
+        String token = login.get("token").asText();
+        String refreshToken = login.get("refreshToken").asText();
+
+        mockMvc.perform(post("/api/auth/logout")
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+            .andExpect(status().isNoContent());
+
+        assertTrue(jwtTokenService.verify(token).isEmpty());
+        mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void testLogoutTwiceWithSameTokens() throws Exception {
+        JsonNode login = login();
+        String token = login.get("token").asText();
+        String refreshToken = login.get("refreshToken").asText();
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/auth/logout")
+                    .header("Authorization", "Bearer " + token)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new RefreshTokenRequest(refreshToken))))
+                .andExpect(status().isNoContent());
+        }
+    }
+
+    @Test
+    void testLogoutWithoutTokens() throws Exception {
+        mockMvc.perform(post("/api/auth/logout"))
+            .andExpect(status().isNoContent());
+    }
+
+    private JsonNode login() throws Exception {
+        String body = mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new LoginRequest("testuser", "test123"))))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+}
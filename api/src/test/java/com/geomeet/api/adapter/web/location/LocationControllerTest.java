@@ -7,19 +7,25 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.geomeet.api.adapter.web.location.dto.CalculateOptimalLocationResponse;
+import com.geomeet.api.adapter.web.location.dto.TrajectoryResponse;
 import com.geomeet.api.adapter.web.location.dto.UpdateLocationRequest;
 import com.geomeet.api.adapter.web.location.dto.UpdateLocationResponse;
 import com.geomeet.api.adapter.web.location.dto.UpdateMeetingLocationRequest;
 import com.geomeet.api.adapter.web.location.dto.UpdateMeetingLocationResponse;
 import com.geomeet.api.application.command.CalculateOptimalLocationCommand;
+import com.geomeet.api.application.command.GetTrajectoryCommand;
 import com.geomeet.api.application.command.UpdateLocationCommand;
 import com.geomeet.api.application.command.UpdateMeetingLocationCommand;
 import com.geomeet.api.application.result.CalculateOptimalLocationResult;
+import com.geomeet.api.application.result.TrajectoryResult;
 import com.geomeet.api.application.result.UpdateLocationResult;
 import com.geomeet.api.application.result.UpdateMeetingLocationResult;
 import com.geomeet.api.application.usecase.location.CalculateOptimalLocationUseCase;
+import com.geomeet.api.application.usecase.location.GetTrajectoryUseCase;
 import com.geomeet.api.application.usecase.location.UpdateLocationUseCase;
 import com.geomeet.api.application.usecase.location.UpdateMeetingLocationUseCase;
+import java.time.LocalDateTime;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -42,6 +48,9 @@ class LocationControllerTest {
     @Mock
     private UpdateMeetingLocationUseCase updateMeetingLocationUseCase;
 
+    @Mock
+    private GetTrajectoryUseCase getTrajectoryUseCase;
+
     @Mock
     private Authentication authentication;
 
@@ -54,7 +63,7 @@ class LocationControllerTest {
     @BeforeEach
     void setUp() {
         userId = 1L;
-        sessionId = "test-session-id-123";
+        sessionId = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
     }
 
     @Test
@@ -212,5 +221,47 @@ class LocationControllerTest {
 
         verify(updateMeetingLocationUseCase).execute(any(UpdateMeetingLocationCommand.class));
     }
-}
 
+    @Test
+    void shouldGetTrajectorySuccessfully() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 10, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 1, 1, 11, 0);
+        TrajectoryResult result = TrajectoryResult.builder()
+            .sessionId(sessionId)
+            .participantId(10L)
+            .from(from)
+            .to(to)
+            .points(List.of(TrajectoryResult.Point.builder()
+                .latitude(1.3521)
+                .longitude(103.8198)
+                .accuracy(5.0)
+                .recordedAt(from.plusMinutes(5))
+                .build()))
+            .truncated(false)
+            .build();
+
+        when(authentication.getPrincipal()).thenReturn(userId);
+        when(getTrajectoryUseCase.execute(any(GetTrajectoryCommand.class))).thenReturn(result);
+
+        // When
+        ResponseEntity<TrajectoryResponse> response = locationController.getTrajectory(
+            sessionId, 10L, from, to, authentication
+        );
+
+        // Then
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(sessionId, response.getBody().getSessionId());
+        assertEquals(10L, response.getBody().getParticipantId());
+        assertEquals("2024-01-01T10:00:00", response.getBody().getFrom());
+        assertEquals("2024-01-01T11:00:00", response.getBody().getTo());
+        assertEquals(false, response.getBody().getTruncated());
+        assertEquals(1, response.getBody().getPoints().size());
+        assertEquals(1.3521, response.getBody().getPoints().get(0).getLatitude());
+        assertEquals("2024-01-01T10:05:00", response.getBody().getPoints().get(0).getRecordedAt());
+
+        verify(getTrajectoryUseCase).execute(any(GetTrajectoryCommand.class));
+    }
+}
@@ -3,43 +3,66 @@ package com.geomeet.api.adapter.web.session;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.geomeet.api.adapter.web.session.dto.CreateSessionRequest;
 import com.geomeet.api.adapter.web.session.dto.CreateSessionResponse;
 import com.geomeet.api.adapter.web.session.dto.EndSessionResponse;
 import com.geomeet.api.adapter.web.session.dto.InviteLinkResponse;
 import com.geomeet.api.adapter.web.session.dto.JoinSessionRequest;
 import com.geomeet.api.adapter.web.session.dto.JoinSessionResponse;
+import com.geomeet.api.adapter.web.session.dto.ParticipantClustersResponse;
 import com.geomeet.api.adapter.web.session.dto.SessionDetailResponse;
+import com.geomeet.api.adapter.web.session.dto.SessionParticipantsResponse;
 import com.geomeet.api.application.command.CreateSessionCommand;
 import com.geomeet.api.application.command.EndSessionCommand;
 import com.geomeet.api.application.command.GenerateInviteLinkCommand;
+import com.geomeet.api.application.command.GetParticipantClustersCommand;
 import com.geomeet.api.application.command.GetSessionDetailsCommand;
+import com.geomeet.api.application.command.GetSessionParticipantsCommand;
 import com.geomeet.api.application.command.JoinSessionCommand;
 import com.geomeet.api.application.result.CreateSessionResult;
 import com.geomeet.api.application.result.EndSessionResult;
 import com.geomeet.api.application.result.GenerateInviteLinkResult;
 import com.geomeet.api.application.result.GetSessionDetailsResult;
 import com.geomeet.api.application.result.JoinSessionResult;
+import com.geomeet.api.application.result.ParticipantClustersResult;
+import com.geomeet.api.application.result.SessionParticipantsPageResult;
+import com.geomeet.api.application.usecase.location.GetParticipantClustersUseCase;
 import com.geomeet.api.application.usecase.session.BroadcastSessionUpdateUseCase;
 import com.geomeet.api.application.usecase.session.CreateSessionUseCase;
 import com.geomeet.api.application.usecase.session.EndSessionUseCase;
 import com.geomeet.api.application.usecase.session.GenerateInviteLinkUseCase;
 import com.geomeet.api.application.usecase.session.GetSessionDetailsUseCase;
+import com.geomeet.api.application.usecase.session.GetSessionParticipantsUseCase;
 import com.geomeet.api.application.usecase.session.JoinSessionUseCase;
+import com.geomeet.api.application.usecase.session.SessionFields;
 import com.geomeet.api.domain.valueobject.SessionStatus;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @ExtendWith(MockitoExtension.class)
 class SessionControllerTest {
@@ -62,9 +85,17 @@ class SessionControllerTest {
     @Mock
     private EndSessionUseCase endSessionUseCase;
 
+    @Mock
+    private GetParticipantClustersUseCase getParticipantClustersUseCase;
+
+    @Mock
+    private GetSessionParticipantsUseCase getSessionParticipantsUseCase;
+
     @Mock
     private Authentication authentication;
 
+    private static final String VERSION = "m0-3-1";
+
     private SessionController sessionController;
 
     private Long initiatorId;
@@ -79,11 +110,14 @@ class SessionControllerTest {
             getSessionDetailsUseCase,
             generateInviteLinkUseCase,
             broadcastSessionUpdateUseCase,
-            endSessionUseCase
+            endSessionUseCase,
+            getParticipantClustersUseCase,
+            getSessionParticipantsUseCase,
+            new ObjectMapper()
         );
         initiatorId = 1L;
         sessionId = 100L;
-        sessionIdString = "test-session-id-123";
+        sessionIdString = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
     }
 
     @Test
@@ -222,15 +256,18 @@ class SessionControllerTest {
             .createdAt("2024-01-01T00:00:00")
             .participants(java.util.List.of(participantInfo))
             .participantCount(1L)
+            .version(VERSION)
             .build();
 
         when(authentication.getPrincipal()).thenReturn(userId);
+        when(getSessionDetailsUseCase.currentVersion(any(GetSessionDetailsCommand.class))).thenReturn(VERSION);
         when(getSessionDetailsUseCase.execute(any(GetSessionDetailsCommand.class))).thenReturn(result);
 
         // When
         ResponseEntity<SessionDetailResponse> response = sessionController.getSessionDetails(
             sessionIdString,
-            authentication
+            authentication,
+            webRequest()
         );
 
         // Then
@@ -246,11 +283,78 @@ class SessionControllerTest {
         assertEquals(SessionStatus.ACTIVE.getValue(), responseBody.getStatus());
         assertEquals(1, responseBody.getParticipants().size());
         assertEquals(1L, responseBody.getParticipantCount());
+        assertEquals("\"" + VERSION + "\"", response.getHeaders().getETag());
 
         verify(authentication, atLeastOnce()).getPrincipal();
         verify(getSessionDetailsUseCase).execute(any(GetSessionDetailsCommand.class));
     }
 
+    @Test
+    void shouldAnswerUnchangedSessionDetailsWithNotModified() {
+        // Given
+        when(authentication.getPrincipal()).thenReturn(1L);
+        when(getSessionDetailsUseCase.currentVersion(any(GetSessionDetailsCommand.class))).thenReturn(VERSION);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/sessions/" + sessionIdString);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"" + VERSION + "\"");
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        // When
+        ResponseEntity<SessionDetailResponse> response = sessionController.getSessionDetails(
+            sessionIdString,
+            authentication,
+            new ServletWebRequest(request, servletResponse)
+        );
+
+        // Then
+        assertNull(response);
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), servletResponse.getStatus());
+        verify(getSessionDetailsUseCase, never()).execute(any(GetSessionDetailsCommand.class));
+    }
+
+    @Test
+    void shouldGetOnlySelectedSessionFields() {
+        // Given
+        GetSessionDetailsResult.ParticipantInfo participantInfo = GetSessionDetailsResult.ParticipantInfo.builder()
+            .participantId(200L)
+            .userId(1L)
+            .username("testuser")
+            .latitude(35.0)
+            .build();
+        GetSessionDetailsResult result = GetSessionDetailsResult.builder()
+            .id(sessionId)
+            .sessionId(sessionIdString)
+            .participants(java.util.List.of(participantInfo))
+            .version(VERSION)
+            .build();
+        SessionFields selection = SessionFields.parse("participants.userId,participants.latitude");
+
+        when(authentication.getPrincipal()).thenReturn(1L);
+        when(getSessionDetailsUseCase.currentVersion(any(GetSessionDetailsCommand.class))).thenReturn(VERSION);
+        when(getSessionDetailsUseCase.execute(any(GetSessionDetailsCommand.class))).thenReturn(result);
+
+        // When
+        ResponseEntity<Map<String, Object>> response = sessionController.getSessionDetailFields(
+            sessionIdString,
+            "participants.userId,participants.latitude",
+            authentication,
+            webRequest()
+        );
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(Map.of("participants", List.of(Map.of("userId", 1L, "latitude", 35.0))),
+            response.getBody());
+        assertEquals("\"" + selection.version(VERSION) + "\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void shouldRejectUnknownSessionField() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> sessionController.getSessionDetailFields(
+            sessionIdString, "participants.password", authentication, webRequest()));
+        verify(getSessionDetailsUseCase, never()).execute(any(GetSessionDetailsCommand.class));
+    }
+
     @Test
     void shouldEndSessionSuccessfully() {
         // Given
@@ -311,15 +415,18 @@ class SessionControllerTest {
             .participantCount(1L)
             .meetingLocationLatitude(1.3521)
             .meetingLocationLongitude(103.8198)
+            .version(VERSION)
             .build();
 
         when(authentication.getPrincipal()).thenReturn(userId);
+        when(getSessionDetailsUseCase.currentVersion(any(GetSessionDetailsCommand.class))).thenReturn(VERSION);
         when(getSessionDetailsUseCase.execute(any(GetSessionDetailsCommand.class))).thenReturn(result);
 
         // When
         ResponseEntity<SessionDetailResponse> response = sessionController.getSessionDetails(
             sessionIdString,
-            authentication
+            authentication,
+            webRequest()
         );
 
         // Then
@@ -367,15 +474,18 @@ class SessionControllerTest {
             .participantCount(1L)
             .meetingLocationLatitude(1.3521)
             .meetingLocationLongitude(103.8198)
+            .version(VERSION)
             .build();
 
         when(authentication.getPrincipal()).thenReturn(userId);
+        when(getSessionDetailsUseCase.currentVersion(any(GetSessionDetailsCommand.class))).thenReturn(VERSION);
         when(getSessionDetailsUseCase.execute(any(GetSessionDetailsCommand.class))).thenReturn(result);
 
         // When
         ResponseEntity<SessionDetailResponse> response = sessionController.getSessionDetails(
             sessionIdString,
-            authentication
+            authentication,
+            webRequest()
         );
 
         // Then
@@ -396,5 +506,148 @@ class SessionControllerTest {
         verify(authentication, atLeastOnce()).getPrincipal();
         verify(getSessionDetailsUseCase).execute(any(GetSessionDetailsCommand.class));
     }
-}
 
+    @Test
+    void shouldGetParticipantClustersSuccessfully() {
+        // Given
+        Long userId = 1L;
+        ParticipantClustersResult result = ParticipantClustersResult.builder()
+            .sessionId(sessionIdString)
+            .zoom(3)
+            .participantCount(2L)
+            .clusters(List.of(ParticipantClustersResult.Cluster.builder()
+                .quadkey("132")
+                .count(2)
+                .latitude(1.35)
+                .longitude(103.85)
+                .build()))
+            .build();
+
+        when(authentication.getPrincipal()).thenReturn(userId);
+        when(getParticipantClustersUseCase.execute(any(GetParticipantClustersCommand.class))).thenReturn(result);
+
+        // When
+        ResponseEntity<ParticipantClustersResponse> response = sessionController.getParticipantClusters(
+            sessionIdString,
+            3,
+            authentication
+        );
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        ParticipantClustersResponse responseBody = response.getBody();
+        assertNotNull(responseBody);
+        assertEquals(sessionIdString, responseBody.getSessionId());
+        assertEquals(3, responseBody.getZoom());
+        assertEquals(2L, responseBody.getParticipantCount());
+        assertEquals("132", responseBody.getClusters().get(0).getQuadkey());
+        assertEquals(2, responseBody.getClusters().get(0).getCount());
+        verify(getParticipantClustersUseCase).execute(any(GetParticipantClustersCommand.class));
+    }
+
+    @Test
+    void shouldGetSessionParticipantPage() {
+        // Given
+        when(authentication.getPrincipal()).thenReturn(1L);
+        SessionParticipantsPageResult result = SessionParticipantsPageResult.builder()
+            .sessionId(sessionIdString)
+            .participants(List.of(GetSessionDetailsResult.ParticipantInfo.builder()
+                .participantId(201L)
+                .userId(2L)
+                .username("participant")
+                .online(true)
+                .build()))
+            .nextCursor(201L)
+            .build();
+        when(getSessionParticipantsUseCase.execute(any(GetSessionParticipantsCommand.class))).thenReturn(result);
+
+        // When
+        ResponseEntity<SessionParticipantsResponse> response = sessionController.getSessionParticipants(
+            sessionIdString,
+            200L,
+            1,
+            authentication
+        );
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        SessionParticipantsResponse responseBody = response.getBody();
+        assertNotNull(responseBody);
+        assertEquals(sessionIdString, responseBody.getSessionId());
+        assertEquals(201L, responseBody.getNextCursor());
+        assertEquals("participant", responseBody.getParticipants().get(0).getUsername());
+        assertEquals(true, responseBody.getParticipants().get(0).getOnline());
+    }
+
+    @Test
+    void shouldStreamSessionParticipantsAsJsonArray() throws Exception {
+        // Given
+        when(authentication.getPrincipal()).thenReturn(1L);
+        when(getSessionParticipantsUseCase.stream(any(GetSessionParticipantsCommand.class))).thenReturn(action -> {
+            action.accept(GetSessionDetailsResult.ParticipantInfo.builder().participantId(201L).userId(2L).build());
+            action.accept(GetSessionDetailsResult.ParticipantInfo.builder().participantId(202L).userId(3L).build());
+        });
+
+        // When
+        ResponseEntity<StreamingResponseBody> response = sessionController.streamSessionParticipants(
+            sessionIdString,
+            null,
+            authentication
+        );
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        JsonNode participants = new ObjectMapper().readTree(output.toByteArray());
+        assertEquals(2, participants.size());
+        assertEquals(201L, participants.get(0).get("participantId").asLong());
+        assertEquals(3L, participants.get(1).get("userId").asLong());
+    }
+
+    @Test
+    void shouldNotWriteAnythingWhenSmallRosterFails() throws Exception {
+        // Given
+        when(authentication.getPrincipal()).thenReturn(1L);
+        when(getSessionParticipantsUseCase.stream(any(GetSessionParticipantsCommand.class))).thenReturn(action -> {
+            action.accept(GetSessionDetailsResult.ParticipantInfo.builder().participantId(201L).userId(2L).build());
+            throw new IllegalStateException("connection lost");
+        });
+        ResponseEntity<StreamingResponseBody> response = sessionController.streamSessionParticipants(
+            sessionIdString, null, authentication);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> response.getBody().writeTo(output));
+        assertEquals(0, output.size());
+    }
+
+    @Test
+    void shouldMarkLargeRosterAsBrokenWhenStreamFails() throws Exception {
+        // Given
+        when(authentication.getPrincipal()).thenReturn(1L);
+        when(getSessionParticipantsUseCase.stream(any(GetSessionParticipantsCommand.class))).thenReturn(action -> {
+            for (long id = 1; id <= GetSessionParticipantsUseCase.MAX_PAGE_SIZE + 1; id++) {
+                action.accept(GetSessionDetailsResult.ParticipantInfo.builder().participantId(id).userId(id).build());
+            }
+            throw new IllegalStateException("connection lost");
+        });
+        ResponseEntity<StreamingResponseBody> response = sessionController.streamSessionParticipants(
+            sessionIdString, null, authentication);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        assertThrows(IllegalStateException.class, () -> response.getBody().writeTo(output));
+
+        // Then
+        String body = output.toString(StandardCharsets.UTF_8);
+        assertTrue(body.startsWith("[{"));
+        assertTrue(body.endsWith(",{\"error\":\"Participant stream aborted\"}"));
+    }
+
+    private static ServletWebRequest webRequest() {
+        return new ServletWebRequest(
+            new MockHttpServletRequest("GET", "/api/sessions/7c9e6679-7425-40de-944b-e07fc1f90ae7"),
+            new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,78 @@
+package com.geomeet.api.adapter.websocket;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.geomeet.api.application.usecase.session.CompactLocationSubscriptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+@ExtendWith(MockitoExtension.class)
+class CompactLocationSubscriptionListenerTest {
+
+    @Mock
+    private CompactLocationSubscriptions compactLocationSubscriptions;
+
+    private CompactLocationSubscriptionListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new CompactLocationSubscriptionListener(compactLocationSubscriptions);
+    }
+
+    @Test
+    void shouldRegisterCompactTopicSubscription() {
+        // When
+        listener.onSubscribe(new SessionSubscribeEvent(this,
+            frame(StompCommand.SUBSCRIBE, "/topic/session/s1/locations/compact", "sub-0")));
+
+        // Then
+        verify(compactLocationSubscriptions).subscribe("s1", "ws-1", "sub-0");
+    }
+
+    @Test
+    void shouldIgnoreOtherSubscriptions() {
+        // When
+        listener.onSubscribe(new SessionSubscribeEvent(this,
+            frame(StompCommand.SUBSCRIBE, "/topic/session/s1/locations", "sub-0")));
+        listener.onSubscribe(new SessionSubscribeEvent(this, frame(StompCommand.SUBSCRIBE, null, "sub-0")));
+        listener.onSubscribe(new SessionSubscribeEvent(this,
+            frame(StompCommand.SUBSCRIBE, "/topic/session/s1/locations/compact", null)));
+
+        // Then
+        verify(compactLocationSubscriptions, never()).subscribe(any(), any(), any());
+    }
+
+    @Test
+    void shouldRemoveSubscriptionOnUnsubscribeAndDisconnect() {
+        // When
+        listener.onUnsubscribe(new SessionUnsubscribeEvent(this, frame(StompCommand.UNSUBSCRIBE, null, "sub-0")));
+        listener.onUnsubscribe(new SessionUnsubscribeEvent(this, frame(StompCommand.UNSUBSCRIBE, null, null)));
+        listener.onDisconnect(new SessionDisconnectEvent(this,
+            frame(StompCommand.DISCONNECT, null, null), "ws-1", CloseStatus.NORMAL));
+
+        // Then
+        verify(compactLocationSubscriptions).unsubscribe("ws-1", "sub-0");
+        verify(compactLocationSubscriptions).removeViewer("ws-1");
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String destination, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setDestination(destination);
+        accessor.setSessionId("ws-1");
+        accessor.setSubscriptionId(subscriptionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,117 @@
+package com.geomeet.api.adapter.websocket;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.geomeet.api.application.usecase.session.BroadcastPresenceChangeUseCase;
+import java.security.Principal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+@ExtendWith(MockitoExtension.class)
+class PresenceListenerTest {
+
+    @Mock
+    private BroadcastPresenceChangeUseCase broadcastPresenceChangeUseCase;
+
+    private PresenceListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new PresenceListener(broadcastPresenceChangeUseCase);
+    }
+
+    @Test
+    void shouldConnectAuthenticatedSessionSubscriber() {
+        // When
+        listener.onSubscribe(subscribe("/topic/session/s1", user(7L)));
+
+        // Then
+        verify(broadcastPresenceChangeUseCase).connect("s1", 7L, "ws-1", "sub-0");
+    }
+
+    @Test
+    void shouldConnectSparseRosterSubscriber() {
+        // When
+        listener.onSubscribe(subscribe("/user/queue/session/s1", user(7L)));
+
+        // Then
+        verify(broadcastPresenceChangeUseCase).connect("s1", 7L, "ws-1", "sub-0");
+    }
+
+    @Test
+    void shouldIgnoreSubTopicsAndAnonymousSubscribers() {
+        // When
+        listener.onSubscribe(subscribe("/topic/session/s1/locations", user(7L)));
+        listener.onSubscribe(subscribe("/user/queue/session/s1/locations", user(7L)));
+        listener.onSubscribe(subscribe("/topic/session/s1", null));
+        listener.onSubscribe(subscribe("/topic/session/s1", user("someone")));
+        listener.onSubscribe(subscribe(null, user(7L)));
+
+        // Then
+        verify(broadcastPresenceChangeUseCase, never()).connect(anyString(), anyLong(), any(), any());
+    }
+
+    @Test
+    void shouldDropUnsubscribedSubscription() {
+        // Given
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId("ws-1");
+        accessor.setSubscriptionId("sub-0");
+        StompHeaderAccessor withoutId = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        withoutId.setSessionId("ws-1");
+
+        // When
+        listener.onUnsubscribe(new SessionUnsubscribeEvent(this,
+            MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+        listener.onUnsubscribe(new SessionUnsubscribeEvent(this,
+            MessageBuilder.createMessage(new byte[0], withoutId.getMessageHeaders())));
+
+        // Then
+        verify(broadcastPresenceChangeUseCase).unsubscribe("ws-1", "sub-0");
+    }
+
+    @Test
+    void shouldDisconnectClosedConnection() {
+        // Given
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0],
+            StompHeaderAccessor.create(StompCommand.DISCONNECT).getMessageHeaders());
+
+        // When
+        listener.onDisconnect(new SessionDisconnectEvent(this, message, "ws-1", CloseStatus.NORMAL));
+
+        // Then
+        verify(broadcastPresenceChangeUseCase).disconnect("ws-1");
+    }
+
+    private static Principal user(Object principal) {
+        return new UsernamePasswordAuthenticationToken(
+            principal, null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
+    private SessionSubscribeEvent subscribe(String destination, Principal user) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setSessionId("ws-1");
+        accessor.setSubscriptionId("sub-0");
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+        return new SessionSubscribeEvent(this, message, user);
+    }
+}
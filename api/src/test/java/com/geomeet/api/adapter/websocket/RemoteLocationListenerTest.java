@@ -0,0 +1,122 @@
+package com.geomeet.api.adapter.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.geomeet.api.application.result.UpdateLocationResult;
+import com.geomeet.api.application.usecase.location.ParticipantClusterIndex;
+import com.geomeet.api.application.usecase.session.BroadcastLocationUpdateUseCase;
+import com.geomeet.api.application.usecase.session.BroadcastViewportLocationUseCase;
+import com.geomeet.api.application.usecase.session.SessionViewportIndex;
+import com.geomeet.api.infrastructure.cluster.RemoteBroadcastEvent;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RemoteLocationListenerTest {
+
+    @Mock
+    private BroadcastLocationUpdateUseCase broadcastLocationUpdateUseCase;
+
+    @Mock
+    private SessionViewportIndex sessionViewportIndex;
+
+    @Mock
+    private BroadcastViewportLocationUseCase broadcastViewportLocationUseCase;
+
+    @Mock
+    private ParticipantClusterIndex participantClusterIndex;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private RemoteLocationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new RemoteLocationListener(
+            objectMapper, broadcastLocationUpdateUseCase, sessionViewportIndex, broadcastViewportLocationUseCase,
+            participantClusterIndex);
+    }
+
+    @Test
+    void shouldRouteRemoteLocationToLocalViewers() throws Exception {
+        // Given
+        when(sessionViewportIndex.isTracked("s1")).thenReturn(true);
+        byte[] payload = objectMapper.writeValueAsBytes(UpdateLocationResult.builder()
+            .participantId(7L)
+            .sessionIdString("s1")
+            .latitude(1.35)
+            .longitude(103.85)
+            .build());
+
+        // When
+        listener.onRemoteBroadcast(new RemoteBroadcastEvent("/topic/session/s1/locations", payload));
+
+        // Then
+        ArgumentCaptor<UpdateLocationResult> result = ArgumentCaptor.forClass(UpdateLocationResult.class);
+        verify(broadcastViewportLocationUseCase).execute(result.capture());
+        assertEquals(7L, result.getValue().getParticipantId());
+        assertEquals(1.35, result.getValue().getLatitude());
+        verify(broadcastLocationUpdateUseCase).executeCompact(result.getValue());
+        verify(participantClusterIndex).record(result.getValue());
+    }
+
+    @Test
+    void shouldApplyRemoteLocationToClusterAggregatesWithoutViewers() throws Exception {
+        // Given
+        when(participantClusterIndex.isTracked("s1")).thenReturn(true);
+        byte[] payload = objectMapper.writeValueAsBytes(UpdateLocationResult.builder()
+            .participantId(7L)
+            .sessionIdString("s1")
+            .latitude(1.35)
+            .longitude(103.85)
+            .build());
+
+        // When
+        listener.onRemoteBroadcast(new RemoteBroadcastEvent("/topic/session/s1/locations", payload));
+
+        // Then
+        verify(participantClusterIndex).record(any(UpdateLocationResult.class));
+        verify(broadcastViewportLocationUseCase, never()).execute(any());
+    }
+
+    @Test
+    void shouldEncodeRemoteLocationForLocalCompactSubscribersOnly() throws Exception {
+        // Given
+        byte[] payload = objectMapper.writeValueAsBytes(UpdateLocationResult.builder()
+            .participantId(7L)
+            .sessionIdString("s1")
+            .latitude(1.35)
+            .longitude(103.85)
+            .build());
+
+        // When
+        listener.onRemoteBroadcast(new RemoteBroadcastEvent("/topic/session/s1/locations", payload));
+
+        // Then
+        verify(broadcastLocationUpdateUseCase).executeCompact(any(UpdateLocationResult.class));
+        verify(participantClusterIndex, never()).record(any());
+        verify(broadcastViewportLocationUseCase, never()).execute(any());
+    }
+
+    @Test
+    void shouldIgnoreOtherTopicsAndMalformedPayloads() {
+        // When
+        listener.onRemoteBroadcast(new RemoteBroadcastEvent("/topic/session/s1/locations/compact", new byte[0]));
+        listener.onRemoteBroadcast(new RemoteBroadcastEvent("/topic/session/s2/locations", new byte[0]));
+        listener.onRemoteBroadcast(new RemoteBroadcastEvent(
+            "/topic/session/s3/locations", "not json".getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        verify(broadcastLocationUpdateUseCase, never()).executeCompact(any());
+        verify(broadcastViewportLocationUseCase, never()).execute(any());
+    }
+}
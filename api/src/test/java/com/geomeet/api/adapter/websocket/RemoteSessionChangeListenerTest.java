@@ -0,0 +1,134 @@
+package com.geomeet.api.adapter.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.geomeet.api.application.event.SessionClosedEvent;
+import com.geomeet.api.application.result.UpdateLocationResult;
+import com.geomeet.api.application.usecase.session.BroadcastSessionUpdateUseCase;
+import com.geomeet.api.application.usecase.session.SessionReadModel;
+import com.geomeet.api.infrastructure.cluster.RemoteBroadcastEvent;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class RemoteSessionChangeListenerTest {
+
+    @Mock
+    private SessionReadModel sessionReadModel;
+
+    @Mock
+    private BroadcastSessionUpdateUseCase broadcastSessionUpdateUseCase;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private RemoteSessionChangeListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new RemoteSessionChangeListener(
+            objectMapper, sessionReadModel, broadcastSessionUpdateUseCase, eventPublisher);
+    }
+
+    @Test
+    void shouldApplyRemoteLocationToHeldView() throws Exception {
+        // Given
+        when(sessionReadModel.isCached("s1")).thenReturn(true);
+        byte[] payload = objectMapper.writeValueAsBytes(UpdateLocationResult.builder()
+            .sessionIdString("s1")
+            .userId(7L)
+            .latitude(1.35)
+            .longitude(103.85)
+            .build());
+
+        // When
+        listener.onRemoteBroadcast(new RemoteBroadcastEvent("/topic/session/s1/locations", payload));
+
+        // Then
+        ArgumentCaptor<UpdateLocationResult> result = ArgumentCaptor.forClass(UpdateLocationResult.class);
+        verify(sessionReadModel).recordLocation(result.capture());
+        assertEquals(7L, result.getValue().getUserId());
+        verify(sessionReadModel, never()).forget(anyString());
+    }
+
+    @Test
+    void shouldDropViewOnRemoteRosterOrMeetingLocation() {
+        // Given
+        when(sessionReadModel.isCached("s1")).thenReturn(true);
+        byte[] payload = "{}".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        listener.onRemoteBroadcast(new RemoteBroadcastEvent("/topic/session/s1", payload));
+        listener.onRemoteBroadcast(new RemoteBroadcastEvent("/topic/session/s1/meeting-location", payload));
+
+        // Then
+        verify(sessionReadModel, times(2)).forget("s1");
+        verify(broadcastSessionUpdateUseCase).executeForFieldSubscribers("s1");
+    }
+
+    @Test
+    void shouldPublishSessionClosedOnRemoteEndEvenIfUncached() {
+        // When
+        listener.onRemoteBroadcast(
+            new RemoteBroadcastEvent("/topic/session/s2/end", "{}".getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        verify(eventPublisher).publishEvent(new SessionClosedEvent("s2"));
+        verify(sessionReadModel, never()).isCached(anyString());
+    }
+
+    @Test
+    void shouldPassRemoteRosterToFieldSubscribersOfUncachedSession() {
+        // When
+        listener.onRemoteBroadcast(new RemoteBroadcastEvent("/topic/session/s2", "{}".getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        verify(sessionReadModel).forget("s2");
+        verify(broadcastSessionUpdateUseCase).executeForFieldSubscribers("s2");
+    }
+
+    @Test
+    void shouldIgnoreUncachedSessionsAndOtherTopics() {
+        // Given
+        when(sessionReadModel.isCached("s2")).thenReturn(false);
+        byte[] payload = "{}".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        listener.onRemoteBroadcast(new RemoteBroadcastEvent("/topic/session/s2/locations", payload));
+        listener.onRemoteBroadcast(new RemoteBroadcastEvent("/topic/session/s1/presence", payload));
+        listener.onRemoteBroadcast(new RemoteBroadcastEvent("/topic/session/s1/locations/compact", payload));
+
+        // Then
+        verify(sessionReadModel, never()).recordLocation(any());
+        verify(sessionReadModel, never()).forget(anyString());
+        verify(broadcastSessionUpdateUseCase, never()).executeForFieldSubscribers(anyString());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void shouldDropViewOnUnreadableLocation() {
+        // Given
+        when(sessionReadModel.isCached("s1")).thenReturn(true);
+
+        // When
+        listener.onRemoteBroadcast(new RemoteBroadcastEvent(
+            "/topic/session/s1/locations", "not json".getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        verify(sessionReadModel).forget("s1");
+    }
+}
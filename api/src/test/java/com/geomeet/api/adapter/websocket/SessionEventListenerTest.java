@@ -0,0 +1,113 @@
+package com.geomeet.api.adapter.websocket;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.geomeet.api.application.event.LocationUpdatedEvent;
+import com.geomeet.api.application.event.MeetingLocationUpdatedEvent;
+import com.geomeet.api.application.event.SessionEndedEvent;
+import com.geomeet.api.application.result.EndSessionResult;
+import com.geomeet.api.application.result.UpdateLocationResult;
+import com.geomeet.api.application.result.UpdateMeetingLocationResult;
+import com.geomeet.api.application.usecase.location.ParticipantClusterIndex;
+import com.geomeet.api.application.usecase.session.BroadcastLocationUpdateUseCase;
+import com.geomeet.api.application.usecase.session.BroadcastMeetingLocationUseCase;
+import com.geomeet.api.application.usecase.session.BroadcastSessionEndUseCase;
+import com.geomeet.api.application.usecase.session.SessionReadModel;
+import com.geomeet.api.infrastructure.websocket.SessionEventExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SessionEventListenerTest {
+
+    @Mock
+    private SessionEventExecutor sessionEventExecutor;
+
+    @Mock
+    private BroadcastLocationUpdateUseCase broadcastLocationUpdateUseCase;
+
+    @Mock
+    private BroadcastMeetingLocationUseCase broadcastMeetingLocationUseCase;
+
+    @Mock
+    private BroadcastSessionEndUseCase broadcastSessionEndUseCase;
+
+    @Mock
+    private ParticipantClusterIndex participantClusterIndex;
+
+    @Mock
+    private SessionReadModel sessionReadModel;
+
+    private SessionEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new SessionEventListener(
+            sessionEventExecutor,
+            broadcastLocationUpdateUseCase,
+            broadcastMeetingLocationUseCase,
+            broadcastSessionEndUseCase,
+            participantClusterIndex,
+            sessionReadModel
+        );
+    }
+
+    @Test
+    void shouldBroadcastLocationUpdateOnTheSessionLaneAsConflatable() {
+        // Given
+        UpdateLocationResult result = UpdateLocationResult.builder().sessionIdString("s1").build();
+
+        // When
+        listener.onLocationUpdated(new LocationUpdatedEvent(result));
+
+        // Then
+        verify(participantClusterIndex).record(result);
+        verify(sessionReadModel).recordLocation(result);
+        verify(broadcastLocationUpdateUseCase, never()).execute(any());
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(sessionEventExecutor).executeConflatable(eq("s1"), task.capture());
+        verify(sessionEventExecutor, never()).execute(any(), any());
+        task.getValue().run();
+        verify(broadcastLocationUpdateUseCase).execute(result);
+    }
+
+    @Test
+    void shouldBroadcastMeetingLocationOnTheSessionLane() {
+        // Given
+        UpdateMeetingLocationResult result = UpdateMeetingLocationResult.builder().sessionIdString("s1").build();
+
+        // When
+        listener.onMeetingLocationUpdated(new MeetingLocationUpdatedEvent(result));
+
+        // Then
+        verify(sessionReadModel).recordMeetingLocation(result);
+        runQueuedTask();
+        verify(broadcastMeetingLocationUseCase).execute(result);
+    }
+
+    @Test
+    void shouldBroadcastSessionEndOnTheSessionLane() {
+        // Given
+        EndSessionResult result = EndSessionResult.builder().sessionIdString("s1").build();
+
+        // When
+        listener.onSessionEnded(new SessionEndedEvent(result));
+
+        // Then
+        runQueuedTask();
+        verify(broadcastSessionEndUseCase).execute(result);
+    }
+
+    private void runQueuedTask() {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(sessionEventExecutor).execute(eq("s1"), task.capture());
+        task.getValue().run();
+    }
+}
@@ -0,0 +1,115 @@
+package com.geomeet.api.adapter.websocket;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.geomeet.api.application.usecase.session.SessionFieldSubscriptions;
+import com.geomeet.api.application.usecase.session.SessionFields;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+@ExtendWith(MockitoExtension.class)
+class SessionFieldsSubscriptionListenerTest {
+
+    @Mock
+    private SessionFieldSubscriptions sessionFieldSubscriptions;
+
+    private SessionFieldsSubscriptionListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new SessionFieldsSubscriptionListener(sessionFieldSubscriptions);
+    }
+
+    @Test
+    void shouldRegisterFieldsGivenOnSessionQueueSubscription() {
+        // When
+        listener.onSubscribe(subscribe("/user/queue/session/s1", "participants.userId,participants.latitude"));
+
+        // Then
+        verify(sessionFieldSubscriptions).subscribe(
+            "s1", "ws-1", "sub-0", SessionFields.parse("participants.latitude,participants.userId"));
+    }
+
+    @Test
+    void shouldSendAllFieldsWithoutOrWithInvalidHeader() {
+        // When
+        listener.onSubscribe(subscribe("/user/queue/session/s1", null));
+        listener.onSubscribe(subscribe("/user/queue/session/s2", "participants.password"));
+
+        // Then
+        verify(sessionFieldSubscriptions).subscribe("s1", "ws-1", "sub-0", SessionFields.ALL);
+        verify(sessionFieldSubscriptions).subscribe("s2", "ws-1", "sub-0", SessionFields.ALL);
+    }
+
+    @Test
+    void shouldIgnoreOtherSubscriptions() {
+        // When
+        listener.onSubscribe(subscribe("/topic/session/s1", "participants.userId"));
+        listener.onSubscribe(subscribe("/user/queue/session/s1/locations", "participants.userId"));
+        listener.onSubscribe(subscribe(null, "participants.userId"));
+        StompHeaderAccessor withoutId = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        withoutId.setDestination("/user/queue/session/s1");
+        withoutId.setSessionId("ws-1");
+        listener.onSubscribe(new SessionSubscribeEvent(this,
+            MessageBuilder.createMessage(new byte[0], withoutId.getMessageHeaders())));
+
+        // Then
+        verify(sessionFieldSubscriptions, never()).subscribe(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldRemoveSubscriberOnDisconnect() {
+        // Given
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0],
+            StompHeaderAccessor.create(StompCommand.DISCONNECT).getMessageHeaders());
+
+        // When
+        listener.onDisconnect(new SessionDisconnectEvent(this, message, "ws-1", CloseStatus.NORMAL));
+
+        // Then
+        verify(sessionFieldSubscriptions).removeViewer("ws-1");
+    }
+
+    @Test
+    void shouldRemoveSubscriptionOnUnsubscribe() {
+        // Given
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId("ws-1");
+        accessor.setSubscriptionId("sub-0");
+        StompHeaderAccessor withoutId = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        withoutId.setSessionId("ws-1");
+
+        // When
+        listener.onUnsubscribe(new SessionUnsubscribeEvent(this,
+            MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+        listener.onUnsubscribe(new SessionUnsubscribeEvent(this,
+            MessageBuilder.createMessage(new byte[0], withoutId.getMessageHeaders())));
+
+        // Then
+        verify(sessionFieldSubscriptions).unsubscribe("ws-1", "sub-0");
+    }
+
+    private SessionSubscribeEvent subscribe(String destination, String fields) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setSessionId("ws-1");
+        accessor.setSubscriptionId("sub-0");
+        if (fields != null) {
+            accessor.setNativeHeader(SessionFieldsSubscriptionListener.FIELDS_HEADER, fields);
+        }
+        return new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+}
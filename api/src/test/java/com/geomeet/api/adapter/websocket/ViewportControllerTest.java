@@ -0,0 +1,38 @@
+package com.geomeet.api.adapter.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+
+import com.geomeet.api.adapter.websocket.dto.ViewportRequest;
+import com.geomeet.api.application.command.UpdateViewportCommand;
+import com.geomeet.api.application.usecase.session.UpdateViewportUseCase;
+import com.geomeet.api.domain.valueobject.Viewport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ViewportControllerTest {
+
+    @Mock
+    private UpdateViewportUseCase updateViewportUseCase;
+
+    @InjectMocks
+    private ViewportController viewportController;
+
+    @Test
+    void shouldUpdateSendersViewport() {
+        // When
+        viewportController.updateViewport("s1", new ViewportRequest(1.3, 103.8, 1.4, 103.9), "ws-1");
+
+        // Then
+        ArgumentCaptor<UpdateViewportCommand> command = ArgumentCaptor.forClass(UpdateViewportCommand.class);
+        verify(updateViewportUseCase).execute(command.capture());
+        assertEquals("s1", command.getValue().getSessionId());
+        assertEquals("ws-1", command.getValue().getViewerId());
+        assertEquals(Viewport.of(1.3, 103.8, 1.4, 103.9), command.getValue().getViewport());
+    }
+}
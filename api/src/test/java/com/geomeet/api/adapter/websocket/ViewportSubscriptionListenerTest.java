@@ -0,0 +1,102 @@
+package com.geomeet.api.adapter.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.geomeet.api.application.command.UpdateViewportCommand;
+import com.geomeet.api.application.usecase.session.SessionViewportIndex;
+import com.geomeet.api.application.usecase.session.UpdateViewportUseCase;
+import com.geomeet.api.domain.exception.ErrorCode;
+import com.geomeet.api.domain.valueobject.Viewport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+@ExtendWith(MockitoExtension.class)
+class ViewportSubscriptionListenerTest {
+
+    @Mock
+    private UpdateViewportUseCase updateViewportUseCase;
+
+    @Mock
+    private SessionViewportIndex sessionViewportIndex;
+
+    private ViewportSubscriptionListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new ViewportSubscriptionListener(updateViewportUseCase, sessionViewportIndex);
+    }
+
+    @Test
+    void shouldRegisterViewportGivenOnLocationSubscription() {
+        // When
+        listener.onSubscribe(subscribe("/user/queue/session/s1/locations", "1.3,103.8,1.4,103.9"));
+
+        // Then
+        ArgumentCaptor<UpdateViewportCommand> command = ArgumentCaptor.forClass(UpdateViewportCommand.class);
+        verify(updateViewportUseCase).execute(command.capture());
+        assertEquals("s1", command.getValue().getSessionId());
+        assertEquals("ws-1", command.getValue().getViewerId());
+        assertEquals(Viewport.of(1.3, 103.8, 1.4, 103.9), command.getValue().getViewport());
+    }
+
+    @Test
+    void shouldIgnoreOtherSubscriptionsAndMissingViewport() {
+        // When
+        listener.onSubscribe(subscribe("/topic/session/s1/locations", "1.3,103.8,1.4,103.9"));
+        listener.onSubscribe(subscribe("/user/queue/session/s1/locations", null));
+
+        // Then
+        verify(updateViewportUseCase, never()).execute(any());
+    }
+
+    @Test
+    void shouldIgnoreInvalidViewportAndUnknownSession() {
+        // Given
+        when(updateViewportUseCase.execute(any())).thenThrow(ErrorCode.SESSION_NOT_FOUND.toException());
+
+        // When
+        listener.onSubscribe(subscribe("/user/queue/session/s1/locations", "1.3,103.8"));
+        listener.onSubscribe(subscribe("/user/queue/session/s1/locations", "1.3,103.8,1.4,103.9"));
+
+        // Then
+        verify(updateViewportUseCase).execute(any());
+    }
+
+    @Test
+    void shouldRemoveViewerOnDisconnect() {
+        // Given
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0],
+            StompHeaderAccessor.create(StompCommand.DISCONNECT).getMessageHeaders());
+
+        // When
+        listener.onDisconnect(new SessionDisconnectEvent(this, message, "ws-1", CloseStatus.NORMAL));
+
+        // Then
+        verify(sessionViewportIndex).removeViewer("ws-1");
+    }
+
+    private SessionSubscribeEvent subscribe(String destination, String viewport) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setSessionId("ws-1");
+        if (viewport != null) {
+            accessor.setNativeHeader(ViewportSubscriptionListener.VIEWPORT_HEADER, viewport);
+        }
+        return new SessionSubscribeEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+}
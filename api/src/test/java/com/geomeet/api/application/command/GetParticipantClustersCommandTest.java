@@ -0,0 +1,57 @@
+package com.geomeet.api.application.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class GetParticipantClustersCommandTest {
+
+    @Test
+    void shouldCreateCommandSuccessfully() {
+        // When
+        GetParticipantClustersCommand command = GetParticipantClustersCommand.of("session-id", 1L, 12);
+
+        // Then
+        assertNotNull(command);
+        assertEquals("session-id", command.getSessionId());
+        assertEquals(1L, command.getUserId());
+        assertEquals(12, command.getZoom());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenSessionIdIsNull() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> new GetParticipantClustersCommand(null, 1L, 12)
+        );
+
+        assertEquals("Session ID cannot be null or empty", exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenUserIdIsNull() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> new GetParticipantClustersCommand("session-id", null, 12)
+        );
+
+        assertEquals("User ID cannot be null", exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenZoomIsOutOfRange() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> new GetParticipantClustersCommand("session-id", 1L, 21)
+        );
+        assertThrows(IllegalArgumentException.class, () -> new GetParticipantClustersCommand("session-id", 1L, -1));
+        assertThrows(IllegalArgumentException.class, () -> new GetParticipantClustersCommand("session-id", 1L, null));
+
+        assertEquals("Zoom must be between 0 and 20", exception.getMessage());
+    }
+}
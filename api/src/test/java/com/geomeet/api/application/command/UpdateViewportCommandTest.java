@@ -0,0 +1,58 @@
+package com.geomeet.api.application.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.geomeet.api.domain.valueobject.Viewport;
+import org.junit.jupiter.api.Test;
+
+class UpdateViewportCommandTest {
+
+    private final Viewport viewport = Viewport.of(1.0, 103.0, 2.0, 104.0);
+
+    @Test
+    void shouldCreateCommandSuccessfully() {
+        // When
+        UpdateViewportCommand command = UpdateViewportCommand.of("session-id", "ws-1", viewport);
+
+        // Then
+        assertNotNull(command);
+        assertEquals("session-id", command.getSessionId());
+        assertEquals("ws-1", command.getViewerId());
+        assertEquals(viewport, command.getViewport());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenSessionIdIsBlank() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> new UpdateViewportCommand(" ", "ws-1", viewport)
+        );
+
+        assertEquals("Session ID cannot be null or empty", exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenViewerIdIsNull() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> new UpdateViewportCommand("session-id", null, viewport)
+        );
+
+        assertEquals("Viewer ID cannot be null or empty", exception.getMessage());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenViewportIsNull() {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> new UpdateViewportCommand("session-id", "ws-1", null)
+        );
+
+        assertEquals("Viewport cannot be null", exception.getMessage());
+    }
+}
@@ -1,14 +1,22 @@
 package com.geomeet.api.application.usecase;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.geomeet.api.application.result.CompactLocationIndexResult;
 import com.geomeet.api.application.result.UpdateLocationResult;
 import com.geomeet.api.application.usecase.session.BroadcastLocationUpdateUseCase;
+import com.geomeet.api.application.usecase.session.BroadcastViewportLocationUseCase;
+import com.geomeet.api.application.usecase.session.CompactLocationFrames;
+import com.geomeet.api.application.usecase.session.CompactLocationSubscriptions;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -19,13 +27,21 @@ class BroadcastLocationUpdateUseCaseTest {
     @Mock
     private SimpMessagingTemplate messagingTemplate;
 
-    @InjectMocks
+    @Mock
+    private BroadcastViewportLocationUseCase broadcastViewportLocationUseCase;
+
+    private CompactLocationSubscriptions compactLocationSubscriptions;
     private BroadcastLocationUpdateUseCase broadcastLocationUpdateUseCase;
 
     private UpdateLocationResult updateLocationResult;
 
     @BeforeEach
     void setUp() {
+        compactLocationSubscriptions = new CompactLocationSubscriptions();
+        compactLocationSubscriptions.subscribe("test-session-id-123", "ws-1", "sub-0");
+        broadcastLocationUpdateUseCase = new BroadcastLocationUpdateUseCase(
+            messagingTemplate, new CompactLocationFrames(), compactLocationSubscriptions,
+            broadcastViewportLocationUseCase);
         updateLocationResult = UpdateLocationResult.builder()
             .participantId(1L)
             .sessionId(100L)
@@ -46,7 +62,12 @@ class BroadcastLocationUpdateUseCaseTest {
 
         // Then
         String expectedDestination = "/topic/session/test-session-id-123/locations";
-        verify(messagingTemplate).convertAndSend(eq(expectedDestination), eq(updateLocationResult));
+        verify(messagingTemplate).convertAndSend(
+            eq(expectedDestination),
+            eq(updateLocationResult),
+            eq(Map.<String, Object>of(BroadcastLocationUpdateUseCase.CONFLATION_KEY_HEADER, "1"))
+        );
+        verify(broadcastViewportLocationUseCase).execute(updateLocationResult);
     }
 
     @Test
@@ -69,7 +90,68 @@ class BroadcastLocationUpdateUseCaseTest {
 
         // Then
         String expectedDestination = "/topic/session/different-session-id-456/locations";
-        verify(messagingTemplate).convertAndSend(eq(expectedDestination), eq(differentResult));
+        verify(messagingTemplate).convertAndSend(
+            eq(expectedDestination),
+            eq(differentResult),
+            eq(Map.<String, Object>of(BroadcastLocationUpdateUseCase.CONFLATION_KEY_HEADER, "2"))
+        );
     }
-}
 
+    @Test
+    void shouldBroadcastCompactFrameAndIndexOnFirstUpdate() {
+        // When
+        broadcastLocationUpdateUseCase.execute(updateLocationResult);
+        broadcastLocationUpdateUseCase.execute(updateLocationResult);
+
+        // Then
+        String destination = "/topic/session/test-session-id-123/locations";
+        Map<String, Object> headers = Map.of(BroadcastLocationUpdateUseCase.CONFLATION_KEY_HEADER, "1");
+        verify(messagingTemplate, times(2))
+            .convertAndSend(eq(destination + "/compact"), any(byte[].class), eq(headers));
+        verify(messagingTemplate, times(1))
+            .convertAndSend(eq(destination + "/index"), any(CompactLocationIndexResult.class));
+    }
+
+    @Test
+    void shouldOnlyEncodeCompactFrameForRelayedUpdate() {
+        // When
+        broadcastLocationUpdateUseCase.executeCompact(updateLocationResult);
+
+        // Then
+        String destination = "/topic/session/test-session-id-123/locations";
+        verify(messagingTemplate)
+            .convertAndSend(eq(destination + "/compact"), any(byte[].class), any(Map.class));
+        verify(messagingTemplate, never())
+            .convertAndSend(eq(destination), any(UpdateLocationResult.class), any(Map.class));
+        verify(broadcastViewportLocationUseCase, never()).execute(any());
+    }
+
+    @Test
+    void shouldNotEncodeCompactFrameWithoutCompactSubscribers() {
+        // Given
+        compactLocationSubscriptions.unsubscribe("ws-1", "sub-0");
+
+        // When
+        broadcastLocationUpdateUseCase.execute(updateLocationResult);
+
+        // Then
+        String destination = "/topic/session/test-session-id-123/locations";
+        verify(messagingTemplate, never())
+            .convertAndSend(eq(destination + "/compact"), any(byte[].class), any(Map.class));
+        verify(messagingTemplate, never()).convertAndSend(eq(destination + "/index"), any(Object.class));
+    }
+
+    @Test
+    void shouldPublishIndexWithoutParticipantWhoLeft() {
+        // Given
+        broadcastLocationUpdateUseCase.execute(updateLocationResult);
+
+        // When
+        broadcastLocationUpdateUseCase.executeLeave("test-session-id-123", 1L);
+        broadcastLocationUpdateUseCase.executeLeave("test-session-id-123", 1L);
+
+        // Then
+        verify(messagingTemplate).convertAndSend(eq("/topic/session/test-session-id-123/locations/index"),
+            argThat((CompactLocationIndexResult index) -> index.getParticipants().isEmpty()));
+    }
+}
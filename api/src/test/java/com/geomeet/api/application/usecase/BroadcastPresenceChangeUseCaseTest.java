@@ -0,0 +1,88 @@
+package com.geomeet.api.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.geomeet.api.application.result.PresenceChangeResult;
+import com.geomeet.api.application.usecase.session.BroadcastLocationUpdateUseCase;
+import com.geomeet.api.application.usecase.session.BroadcastPresenceChangeUseCase;
+import com.geomeet.api.application.usecase.session.SessionPresenceRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class BroadcastPresenceChangeUseCaseTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private BroadcastLocationUpdateUseCase broadcastLocationUpdateUseCase;
+
+    private BroadcastPresenceChangeUseCase broadcastPresenceChangeUseCase;
+
+    @BeforeEach
+    void setUp() {
+        broadcastPresenceChangeUseCase = new BroadcastPresenceChangeUseCase(
+            new SessionPresenceRegistry(), messagingTemplate, broadcastLocationUpdateUseCase);
+    }
+
+    @Test
+    void shouldBroadcastOnlyPresenceTransitions() {
+        // When - two tabs open, then both close
+        broadcastPresenceChangeUseCase.connect("s1", 1L, "ws-1", "sub-0");
+        broadcastPresenceChangeUseCase.connect("s1", 1L, "ws-2", "sub-0");
+        broadcastPresenceChangeUseCase.disconnect("ws-1");
+        broadcastPresenceChangeUseCase.disconnect("ws-2");
+
+        // Then
+        ArgumentCaptor<PresenceChangeResult> captor = ArgumentCaptor.forClass(PresenceChangeResult.class);
+        verify(messagingTemplate, times(2)).convertAndSend(eq("/topic/session/s1/presence"), captor.capture());
+        List<PresenceChangeResult> changes = captor.getAllValues();
+        assertTrue(changes.get(0).getOnline());
+        assertFalse(changes.get(1).getOnline());
+        assertEquals(1L, changes.get(1).getUserId());
+        assertEquals("s1", changes.get(1).getSessionIdString());
+        verify(broadcastLocationUpdateUseCase, times(1)).executeLeave("s1", 1L);
+    }
+
+    @Test
+    void shouldBroadcastOfflineWhenLastSubscriptionIsDropped() {
+        // Given - the roster and its sparse variant on one connection
+        broadcastPresenceChangeUseCase.connect("s1", 1L, "ws-1", "sub-0");
+        broadcastPresenceChangeUseCase.connect("s1", 1L, "ws-1", "sub-1");
+
+        // When
+        broadcastPresenceChangeUseCase.unsubscribe("ws-1", "sub-0");
+        broadcastPresenceChangeUseCase.unsubscribe("ws-1", "sub-1");
+        broadcastPresenceChangeUseCase.disconnect("ws-1");
+
+        // Then
+        ArgumentCaptor<PresenceChangeResult> captor = ArgumentCaptor.forClass(PresenceChangeResult.class);
+        verify(messagingTemplate, times(2)).convertAndSend(eq("/topic/session/s1/presence"), captor.capture());
+        assertFalse(captor.getAllValues().get(1).getOnline());
+        verify(broadcastLocationUpdateUseCase, times(1)).executeLeave("s1", 1L);
+    }
+
+    @Test
+    void shouldNotBroadcastForUnknownConnection() {
+        // When
+        broadcastPresenceChangeUseCase.disconnect("ws-unknown");
+        broadcastPresenceChangeUseCase.unsubscribe("ws-unknown", "sub-0");
+
+        // Then
+        verify(messagingTemplate, times(0)).convertAndSend(anyString(), any(Object.class));
+    }
+}
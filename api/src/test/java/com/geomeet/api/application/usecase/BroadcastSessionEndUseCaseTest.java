@@ -5,6 +5,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.geomeet.api.application.event.SessionClosedEvent;
 import com.geomeet.api.application.result.EndSessionResult;
 import com.geomeet.api.application.usecase.session.BroadcastSessionEndUseCase;
 import com.geomeet.api.application.usecase.session.SessionRepository;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +32,9 @@ class BroadcastSessionEndUseCaseTest {
     @Mock
     private SimpMessagingTemplate messagingTemplate;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private BroadcastSessionEndUseCase broadcastSessionEndUseCase;
 
     private Long sessionDbId;
@@ -39,10 +44,14 @@ class BroadcastSessionEndUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        broadcastSessionEndUseCase = new BroadcastSessionEndUseCase(sessionRepository, messagingTemplate);
+        broadcastSessionEndUseCase = new BroadcastSessionEndUseCase(
+            sessionRepository,
+            messagingTemplate,
+            eventPublisher
+        );
 
         sessionDbId = 100L;
-        sessionIdString = "test-session-id-123";
+        sessionIdString = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
         sessionId = SessionId.fromString(sessionIdString);
         endSessionResult = EndSessionResult.builder()
             .sessionId(sessionDbId)
@@ -121,6 +130,7 @@ class BroadcastSessionEndUseCaseTest {
         String expectedDestination = "/topic/session/" + sessionIdString + "/end";
         verify(messagingTemplate).convertAndSend(
                 eq(expectedDestination), any(BroadcastSessionEndUseCase.SessionEndNotification.class));
+        verify(eventPublisher).publishEvent(new SessionClosedEvent(sessionIdString));
     }
 }
 
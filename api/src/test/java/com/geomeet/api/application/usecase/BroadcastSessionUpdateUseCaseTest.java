@@ -1,31 +1,38 @@
 package com.geomeet.api.application.usecase;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.geomeet.api.application.usecase.auth.UserRepository;
-import com.geomeet.api.application.usecase.location.ParticipantLocationRepository;
+import com.geomeet.api.application.result.GetSessionDetailsResult;
 import com.geomeet.api.application.usecase.session.BroadcastSessionUpdateUseCase;
+import com.geomeet.api.application.usecase.session.SessionFieldSubscriptions;
+import com.geomeet.api.application.usecase.session.SessionFields;
 import com.geomeet.api.application.usecase.session.SessionParticipantRepository;
+import com.geomeet.api.application.usecase.session.SessionPresenceRegistry;
+import com.geomeet.api.application.usecase.session.SessionReadModel;
 import com.geomeet.api.application.usecase.session.SessionRepository;
 import com.geomeet.api.domain.entity.Session;
-import com.geomeet.api.domain.entity.SessionParticipant;
-import com.geomeet.api.domain.entity.User;
-import com.geomeet.api.domain.valueobject.Email;
-import com.geomeet.api.domain.valueobject.PasswordHash;
 import com.geomeet.api.domain.valueobject.SessionId;
 import com.geomeet.api.domain.valueobject.SessionStatus;
-import com.geomeet.api.domain.valueobject.Username;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -40,13 +47,11 @@ class BroadcastSessionUpdateUseCaseTest {
     private SessionParticipantRepository sessionParticipantRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private SimpMessagingTemplate messagingTemplate;
 
-    @Mock
-    private ParticipantLocationRepository participantLocationRepository;
+    private final SessionPresenceRegistry sessionPresenceRegistry = new SessionPresenceRegistry();
 
-    @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private final SessionFieldSubscriptions sessionFieldSubscriptions = new SessionFieldSubscriptions();
 
     private BroadcastSessionUpdateUseCase broadcastSessionUpdateUseCase;
 
@@ -55,22 +60,19 @@ class BroadcastSessionUpdateUseCaseTest {
     private Long initiatorId;
     private Long userId;
     private Session session;
-    private User initiator;
-    private User participantUser;
-    private SessionParticipant participant;
+    private GetSessionDetailsResult.ParticipantInfo initiatorInfo;
+    private GetSessionDetailsResult.ParticipantInfo participantInfo;
 
     @BeforeEach
     void setUp() {
         broadcastSessionUpdateUseCase = new BroadcastSessionUpdateUseCase(
-            sessionRepository,
-            sessionParticipantRepository,
-            userRepository,
-            participantLocationRepository,
+            new SessionReadModel(sessionRepository, sessionParticipantRepository, sessionPresenceRegistry),
+            sessionFieldSubscriptions,
             messagingTemplate
         );
 
         sessionId = 100L;
-        sessionIdString = "test-session-id-123";
+        sessionIdString = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
         initiatorId = 1L;
         userId = 2L;
 
@@ -86,64 +88,40 @@ class BroadcastSessionUpdateUseCaseTest {
             null
         );
 
-        initiator = User.reconstruct(
-            initiatorId,
-            new Username("initiator"),
-            new Email("initiator@example.com"),
-            new PasswordHash("hash"),
-            true,
-            LocalDateTime.now(),
-            LocalDateTime.now(),
-            null,
-            null
-        );
-
-        participantUser = User.reconstruct(
-            userId,
-            new Username("participant"),
-            new Email("participant@example.com"),
-            new PasswordHash("hash"),
-            true,
-            LocalDateTime.now(),
-            LocalDateTime.now(),
-            null,
-            null
-        );
-
-        participant = SessionParticipant.reconstruct(
-            200L,
-            sessionId,
-            userId,
-            LocalDateTime.now(),
-            LocalDateTime.now(),
-            LocalDateTime.now(),
-            null,
-            null
-        );
+        initiatorInfo = GetSessionDetailsResult.ParticipantInfo.builder()
+            .userId(initiatorId)
+            .username("initiator")
+            .email("initiator@example.com")
+            .joinedAt("2024-01-01T12:00:00")
+            .build();
+
+        participantInfo = GetSessionDetailsResult.ParticipantInfo.builder()
+            .participantId(200L)
+            .userId(userId)
+            .username("participant")
+            .email("participant@example.com")
+            .joinedAt("2024-01-01T12:05:00")
+            .build();
     }
 
     @Test
     void shouldExecuteBroadcastSessionUpdateSuccessfully() {
         // Given
         when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.of(initiator));
-        when(sessionParticipantRepository.findBySessionId(sessionId)).thenReturn(List.of(participant));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(participantUser));
-        when(participantLocationRepository.findBySessionId(sessionId)).thenReturn(List.of());
+        when(sessionParticipantRepository.findRoster(sessionId)).thenReturn(List.of(initiatorInfo, participantInfo));
 
         // When
         broadcastSessionUpdateUseCase.execute(sessionIdString);
 
         // Then
-        verify(sessionRepository).findBySessionId(any(SessionId.class));
-        verify(userRepository).findById(initiatorId);
-        verify(sessionParticipantRepository).findBySessionId(sessionId);
-        verify(userRepository).findById(userId);
-        verify(participantLocationRepository).findBySessionId(sessionId);
-        verify(messagingTemplate).convertAndSend(
-            eq("/topic/session/" + sessionIdString),
-            any(com.geomeet.api.application.result.GetSessionDetailsResult.class)
-        );
+        GetSessionDetailsResult result = captureBroadcast();
+        assertEquals(sessionId, result.getId());
+        assertEquals(sessionIdString, result.getSessionId());
+        assertEquals("initiator", result.getInitiatorUsername());
+        assertEquals(2L, result.getParticipantCount());
+        assertEquals(initiatorId, result.getParticipants().get(0).getUserId());
+        assertEquals(userId, result.getParticipants().get(1).getUserId());
+        verify(sessionParticipantRepository).findRoster(sessionId);
     }
 
     @Test
@@ -156,6 +134,7 @@ class BroadcastSessionUpdateUseCaseTest {
 
         // Then
         verify(sessionRepository).findBySessionId(any(SessionId.class));
+        verify(sessionParticipantRepository, never()).findRoster(anyLong());
         // Should not call messagingTemplate when session not found
         verify(messagingTemplate, never()).convertAndSend(
             eq("/topic/session/" + sessionIdString),
@@ -165,16 +144,14 @@ class BroadcastSessionUpdateUseCaseTest {
 
     @Test
     void shouldNotBroadcastWhenInitiatorNotFound() {
-        // Given
+        // Given - the roster has no row for the initiator
         when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.empty());
+        when(sessionParticipantRepository.findRoster(sessionId)).thenReturn(List.of(participantInfo));
 
         // When
         broadcastSessionUpdateUseCase.execute(sessionIdString);
 
         // Then
-        verify(sessionRepository).findBySessionId(any(SessionId.class));
-        verify(userRepository).findById(initiatorId);
         // Should not call messagingTemplate when initiator not found
         verify(messagingTemplate, never()).convertAndSend(
             eq("/topic/session/" + sessionIdString),
@@ -183,99 +160,32 @@ class BroadcastSessionUpdateUseCaseTest {
     }
 
     @Test
-    void shouldHandleNullParticipantUser() {
-        // Given
-        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.of(initiator));
-        when(sessionParticipantRepository.findBySessionId(sessionId)).thenReturn(List.of(participant));
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
-        when(participantLocationRepository.findBySessionId(sessionId)).thenReturn(List.of());
-
-        // When
-        broadcastSessionUpdateUseCase.execute(sessionIdString);
-
-        // Then
-        verify(sessionRepository).findBySessionId(any(SessionId.class));
-        verify(userRepository).findById(initiatorId);
-        verify(sessionParticipantRepository).findBySessionId(sessionId);
-        verify(userRepository).findById(userId);
-        verify(participantLocationRepository).findBySessionId(sessionId);
-        // Should still broadcast even if some participant users are not found (filtered out)
-        verify(messagingTemplate).convertAndSend(
-            eq("/topic/session/" + sessionIdString),
-            any(com.geomeet.api.application.result.GetSessionDetailsResult.class)
-        );
-    }
-
-    @Test
-    void shouldNotAddInitiatorWhenAlreadyInParticipants() {
-        // Given - initiator is already a participant
-        SessionParticipant initiatorParticipant = SessionParticipant.reconstruct(
-            201L,
-            sessionId,
-            initiatorId,
-            LocalDateTime.now(),
-            LocalDateTime.now(),
-            LocalDateTime.now(),
-            null,
-            null
-        );
-
+    void shouldKeepRosterLocationsAndUsersWithoutParticipantRecord() {
+        // Given - a user who shared a location but is no longer a participant
+        GetSessionDetailsResult.ParticipantInfo disconnectedInfo = GetSessionDetailsResult.ParticipantInfo.builder()
+            .userId(3L)
+            .username("disconnected")
+            .email("disconnected@example.com")
+            .latitude(1.36)
+            .longitude(103.82)
+            .accuracy(15.0)
+            .locationUpdatedAt("2024-01-01T12:10:00")
+            .build();
         when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.of(initiator));
-        when(sessionParticipantRepository.findBySessionId(sessionId))
-            .thenReturn(List.of(initiatorParticipant, participant));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(participantUser));
-        when(participantLocationRepository.findBySessionId(sessionId)).thenReturn(List.of());
+        when(sessionParticipantRepository.findRoster(sessionId))
+            .thenReturn(List.of(initiatorInfo, participantInfo, disconnectedInfo));
 
         // When
         broadcastSessionUpdateUseCase.execute(sessionIdString);
 
         // Then
-        verify(sessionRepository).findBySessionId(any(SessionId.class));
-        verify(userRepository, times(2)).findById(initiatorId); // Called once for initiator, once in participant stream
-        verify(sessionParticipantRepository).findBySessionId(sessionId);
-        verify(userRepository).findById(userId);
-        verify(participantLocationRepository).findBySessionId(sessionId);
-        verify(messagingTemplate).convertAndSend(
-            eq("/topic/session/" + sessionIdString),
-            any(com.geomeet.api.application.result.GetSessionDetailsResult.class)
-        );
-    }
-
-    @Test
-    void shouldIncludeParticipantLocations() {
-        // Given - participant with location
-        com.geomeet.api.domain.entity.ParticipantLocation participantLocation = 
-            com.geomeet.api.domain.entity.ParticipantLocation.reconstruct(
-                300L,
-                200L,
-                sessionId,
-                userId,
-                1.3521,  // latitude
-                103.8198,  // longitude
-                10.5,  // accuracy
-                LocalDateTime.now(),
-                LocalDateTime.now(),
-                null,
-                null
-            );
-
-        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.of(initiator));
-        when(sessionParticipantRepository.findBySessionId(sessionId)).thenReturn(List.of(participant));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(participantUser));
-        when(participantLocationRepository.findBySessionId(sessionId))
-            .thenReturn(List.of(participantLocation));
-
-        // When
-        broadcastSessionUpdateUseCase.execute(sessionIdString);
-
-        // Then
-        verify(messagingTemplate).convertAndSend(
-            eq("/topic/session/" + sessionIdString),
-            any(com.geomeet.api.application.result.GetSessionDetailsResult.class)
-        );
+        GetSessionDetailsResult.ParticipantInfo broadcast = captureBroadcast().getParticipants().get(2);
+        assertNull(broadcast.getParticipantId());
+        assertNull(broadcast.getJoinedAt());
+        assertEquals(1.36, broadcast.getLatitude());
+        assertEquals(103.82, broadcast.getLongitude());
+        assertEquals(15.0, broadcast.getAccuracy());
+        assertEquals("2024-01-01T12:10:00", broadcast.getLocationUpdatedAt());
     }
 
     @Test
@@ -297,257 +207,85 @@ class BroadcastSessionUpdateUseCaseTest {
 
         when(sessionRepository.findBySessionId(any(SessionId.class)))
             .thenReturn(Optional.of(sessionWithMeetingLocation));
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.of(initiator));
-        when(sessionParticipantRepository.findBySessionId(sessionId)).thenReturn(List.of());
-        when(participantLocationRepository.findBySessionId(sessionId)).thenReturn(List.of());
+        when(sessionParticipantRepository.findRoster(sessionId)).thenReturn(List.of(initiatorInfo));
 
         // When
         broadcastSessionUpdateUseCase.execute(sessionIdString);
 
         // Then
-        verify(messagingTemplate).convertAndSend(
-            eq("/topic/session/" + sessionIdString),
-            any(com.geomeet.api.application.result.GetSessionDetailsResult.class)
-        );
+        GetSessionDetailsResult result = captureBroadcast();
+        assertEquals(1.3521, result.getMeetingLocationLatitude());
+        assertEquals(103.8198, result.getMeetingLocationLongitude());
     }
 
     @Test
-    void shouldIncludeDisconnectedUsersWithLocation() {
-        // Given - disconnected user with location (not in participants list)
-        Long disconnectedUserId = 3L;
-        User disconnectedUser = User.reconstruct(
-            disconnectedUserId,
-            new Username("disconnected"),
-            new Email("disconnected@example.com"),
-            new PasswordHash("hash"),
-            true,
-            LocalDateTime.now(),
-            LocalDateTime.now(),
-            null,
-            null
-        );
-
-        com.geomeet.api.domain.entity.ParticipantLocation disconnectedUserLocation = 
-            com.geomeet.api.domain.entity.ParticipantLocation.reconstruct(
-                301L,
-                null,  // No participant ID (disconnected)
-                sessionId,
-                disconnectedUserId,
-                1.3600,  // latitude
-                103.8200,  // longitude
-                15.0,  // accuracy
-                LocalDateTime.now(),
-                LocalDateTime.now(),
-                null,
-                null
-            );
+    void shouldMarkOnlineUsersAndListEachUserOnce() {
+        // Given - the participant has two open connections
+        sessionPresenceRegistry.connect(sessionIdString, userId, "ws-1", "sub-0");
+        sessionPresenceRegistry.connect(sessionIdString, userId, "ws-2", "sub-0");
 
         when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.of(initiator));
-        when(sessionParticipantRepository.findBySessionId(sessionId)).thenReturn(List.of(participant));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(participantUser));
-        when(participantLocationRepository.findBySessionId(sessionId))
-            .thenReturn(List.of(disconnectedUserLocation));
-        when(userRepository.findById(disconnectedUserId)).thenReturn(Optional.of(disconnectedUser));
+        when(sessionParticipantRepository.findRoster(sessionId)).thenReturn(List.of(initiatorInfo, participantInfo));
 
         // When
         broadcastSessionUpdateUseCase.execute(sessionIdString);
 
         // Then
-        verify(messagingTemplate).convertAndSend(
-            eq("/topic/session/" + sessionIdString),
-            any(com.geomeet.api.application.result.GetSessionDetailsResult.class)
-        );
+        List<GetSessionDetailsResult.ParticipantInfo> roster = captureBroadcast().getParticipants();
+        assertEquals(2, roster.size());
+        assertEquals(initiatorId, roster.get(0).getUserId());
+        assertFalse(roster.get(0).getOnline());
+        assertEquals(userId, roster.get(1).getUserId());
+        assertTrue(roster.get(1).getOnline());
     }
 
     @Test
-    void shouldHandleLocationWithNullAccuracy() {
-        // Given - location with null accuracy
-        com.geomeet.api.domain.entity.ParticipantLocation participantLocation = 
-            com.geomeet.api.domain.entity.ParticipantLocation.reconstruct(
-                300L,
-                200L,
-                sessionId,
-                userId,
-                1.3521,  // latitude
-                103.8198,  // longitude
-                null,  // accuracy (null)
-                LocalDateTime.now(),
-                LocalDateTime.now(),
-                null,
-                null
-            );
-
+    @SuppressWarnings("unchecked")
+    void shouldSendOneProjectionPerFieldsetToQueueSubscribers() {
+        // Given
+        SessionFields coordinates = SessionFields.parse("participants.userId,participants.latitude");
+        sessionFieldSubscriptions.subscribe(sessionIdString, "ws-1", "sub-0", coordinates);
+        sessionFieldSubscriptions.subscribe(sessionIdString, "ws-2", "sub-0", coordinates);
         when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.of(initiator));
-        when(sessionParticipantRepository.findBySessionId(sessionId)).thenReturn(List.of(participant));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(participantUser));
-        when(participantLocationRepository.findBySessionId(sessionId))
-            .thenReturn(List.of(participantLocation));
+        when(sessionParticipantRepository.findRoster(sessionId)).thenReturn(List.of(initiatorInfo, participantInfo));
 
         // When
         broadcastSessionUpdateUseCase.execute(sessionIdString);
 
         // Then
-        verify(messagingTemplate).convertAndSend(
-            eq("/topic/session/" + sessionIdString),
-            any(com.geomeet.api.application.result.GetSessionDetailsResult.class)
-        );
+        captureBroadcast();
+        ArgumentCaptor<Object> views = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSendToUser(
+            eq("ws-1"), eq("/queue/session/" + sessionIdString), views.capture(), any(Map.class));
+        verify(messagingTemplate).convertAndSendToUser(
+            eq("ws-2"), eq("/queue/session/" + sessionIdString), views.capture(), any(Map.class));
+        assertSame(views.getAllValues().get(0), views.getAllValues().get(1));
+        Map<String, Object> view = (Map<String, Object>) views.getValue();
+        assertEquals(Set.of("participants"), view.keySet());
+        List<Map<String, Object>> participants = (List<Map<String, Object>>) view.get("participants");
+        assertEquals(Map.of("userId", userId, "latitude", 1.3521), participants.get(1));
     }
 
     @Test
-    void shouldHandleLocationWithNullUpdatedAt() {
-        // Given - location with null updatedAt
-        com.geomeet.api.domain.entity.ParticipantLocation participantLocation = 
-            com.geomeet.api.domain.entity.ParticipantLocation.reconstruct(
-                300L,
-                200L,
-                sessionId,
-                userId,
-                1.3521,  // latitude
-                103.8198,  // longitude
-                10.5,  // accuracy
-                null,  // updatedAt (null)
-                LocalDateTime.now(),
-                null,
-                null
-            );
-
-        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.of(initiator));
-        when(sessionParticipantRepository.findBySessionId(sessionId)).thenReturn(List.of(participant));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(participantUser));
-        when(participantLocationRepository.findBySessionId(sessionId))
-            .thenReturn(List.of(participantLocation));
-
-        // When
-        broadcastSessionUpdateUseCase.execute(sessionIdString);
-
-        // Then
-        verify(messagingTemplate).convertAndSend(
-            eq("/topic/session/" + sessionIdString),
-            any(com.geomeet.api.application.result.GetSessionDetailsResult.class)
-        );
-    }
-
-    @Test
-    void shouldSkipDisconnectedUserWhenUserNotFound() {
-        // Given - disconnected user location but user not found
-        Long disconnectedUserId = 3L;
-        com.geomeet.api.domain.entity.ParticipantLocation disconnectedUserLocation = 
-            com.geomeet.api.domain.entity.ParticipantLocation.reconstruct(
-                301L,
-                null,
-                sessionId,
-                disconnectedUserId,
-                1.3600,
-                103.8200,
-                15.0,
-                LocalDateTime.now(),
-                LocalDateTime.now(),
-                null,
-                null
-            );
-
+    void shouldSendRemoteRosterChangesOnlyToFieldsetSubscribers() {
+        // Given
+        broadcastSessionUpdateUseCase.executeForFieldSubscribers(sessionIdString);
+        sessionFieldSubscriptions.subscribe(sessionIdString, "ws-1", "sub-0", SessionFields.parse("participantCount"));
         when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.of(initiator));
-        when(sessionParticipantRepository.findBySessionId(sessionId)).thenReturn(List.of(participant));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(participantUser));
-        when(participantLocationRepository.findBySessionId(sessionId))
-            .thenReturn(List.of(disconnectedUserLocation));
-        when(userRepository.findById(disconnectedUserId)).thenReturn(Optional.empty());
+        when(sessionParticipantRepository.findRoster(sessionId)).thenReturn(List.of(initiatorInfo, participantInfo));
 
         // When
-        broadcastSessionUpdateUseCase.execute(sessionIdString);
-
-        // Then - should still broadcast, but without the disconnected user
-        verify(messagingTemplate).convertAndSend(
-            eq("/topic/session/" + sessionIdString),
-            any(com.geomeet.api.application.result.GetSessionDetailsResult.class)
-        );
-    }
-
-    @Test
-    void shouldIncludeInitiatorLocationWhenAvailable() {
-        // Given - initiator has location
-        com.geomeet.api.domain.entity.ParticipantLocation initiatorLocation = 
-            com.geomeet.api.domain.entity.ParticipantLocation.reconstruct(
-                301L,
-                null,  // No participant ID for initiator
-                sessionId,
-                initiatorId,
-                1.3521,  // latitude
-                103.8198,  // longitude
-                10.5,  // accuracy
-                LocalDateTime.now(),
-                LocalDateTime.now(),
-                null,
-                null
-            );
-
-        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.of(initiator));
-        when(sessionParticipantRepository.findBySessionId(sessionId)).thenReturn(List.of());
-        when(participantLocationRepository.findBySessionId(sessionId))
-            .thenReturn(List.of(initiatorLocation));
-
-        // When
-        broadcastSessionUpdateUseCase.execute(sessionIdString);
+        broadcastSessionUpdateUseCase.executeForFieldSubscribers(sessionIdString);
 
         // Then
-        verify(messagingTemplate).convertAndSend(
-            eq("/topic/session/" + sessionIdString),
-            any(com.geomeet.api.application.result.GetSessionDetailsResult.class)
-        );
+        verify(messagingTemplate).convertAndSendToUser(
+            eq("ws-1"), eq("/queue/session/" + sessionIdString), eq(Map.of("participantCount", 2L)), any(Map.class));
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
     }
 
-    @Test
-    void shouldHandleDuplicateLocationKeysInMap() {
-        // Given - two locations for same user (should keep first)
-        com.geomeet.api.domain.entity.ParticipantLocation location1 = 
-            com.geomeet.api.domain.entity.ParticipantLocation.reconstruct(
-                300L,
-                200L,
-                sessionId,
-                userId,
-                1.3521,
-                103.8198,
-                10.5,
-                LocalDateTime.now(),
-                LocalDateTime.now(),
-                null,
-                null
-            );
-        com.geomeet.api.domain.entity.ParticipantLocation location2 = 
-            com.geomeet.api.domain.entity.ParticipantLocation.reconstruct(
-                301L,
-                200L,
-                sessionId,
-                userId,
-                1.3600,
-                103.8200,
-                15.0,
-                LocalDateTime.now(),
-                LocalDateTime.now(),
-                null,
-                null
-            );
-
-        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.of(initiator));
-        when(sessionParticipantRepository.findBySessionId(sessionId)).thenReturn(List.of(participant));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(participantUser));
-        when(participantLocationRepository.findBySessionId(sessionId))
-            .thenReturn(List.of(location1, location2));
-
-        // When
-        broadcastSessionUpdateUseCase.execute(sessionIdString);
-
-        // Then
-        verify(messagingTemplate).convertAndSend(
-            eq("/topic/session/" + sessionIdString),
-            any(com.geomeet.api.application.result.GetSessionDetailsResult.class)
-        );
+    private GetSessionDetailsResult captureBroadcast() {
+        ArgumentCaptor<GetSessionDetailsResult> captor = ArgumentCaptor.forClass(GetSessionDetailsResult.class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/session/" + sessionIdString), captor.capture());
+        return captor.getValue();
     }
 }
-
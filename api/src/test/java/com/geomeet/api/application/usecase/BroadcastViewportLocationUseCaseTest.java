@@ -0,0 +1,90 @@
+package com.geomeet.api.application.usecase;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.geomeet.api.application.result.UpdateLocationResult;
+import com.geomeet.api.application.usecase.session.BroadcastLocationUpdateUseCase;
+import com.geomeet.api.application.usecase.session.BroadcastViewportLocationUseCase;
+import com.geomeet.api.application.usecase.session.SessionViewportIndex;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+
+@ExtendWith(MockitoExtension.class)
+class BroadcastViewportLocationUseCaseTest {
+
+    @Mock
+    private SessionViewportIndex sessionViewportIndex;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private BroadcastViewportLocationUseCase broadcastViewportLocationUseCase;
+
+    private UpdateLocationResult updateLocationResult;
+
+    @BeforeEach
+    void setUp() {
+        broadcastViewportLocationUseCase = new BroadcastViewportLocationUseCase(
+            sessionViewportIndex, messagingTemplate);
+        updateLocationResult = UpdateLocationResult.builder()
+            .participantId(7L)
+            .sessionId(100L)
+            .sessionIdString("test-session-id-123")
+            .userId(1L)
+            .latitude(1.3521)
+            .longitude(103.8198)
+            .build();
+    }
+
+    @Test
+    void shouldSendToEachViewerWhoseViewportContainsUpdate() {
+        // Given
+        when(sessionViewportIndex.track(updateLocationResult)).thenReturn(Set.of("ws-1", "ws-2"));
+
+        // When
+        broadcastViewportLocationUseCase.execute(updateLocationResult);
+
+        // Then
+        String destination = "/queue/session/test-session-id-123/locations";
+        verify(messagingTemplate).convertAndSendToUser(
+            eq("ws-1"), eq(destination), eq(updateLocationResult), argThat(headers -> addressedTo(headers, "ws-1")));
+        verify(messagingTemplate).convertAndSendToUser(
+            eq("ws-2"), eq(destination), eq(updateLocationResult), argThat(headers -> addressedTo(headers, "ws-2")));
+    }
+
+    @Test
+    void shouldSendNothingWhenNoViewerCanSeeUpdate() {
+        // Given
+        when(sessionViewportIndex.track(updateLocationResult)).thenReturn(Set.of());
+
+        // When
+        broadcastViewportLocationUseCase.execute(updateLocationResult);
+
+        // Then
+        verify(messagingTemplate, never())
+            .convertAndSendToUser(anyString(), anyString(), any(), any(Map.class));
+    }
+
+    private static boolean addressedTo(Map<String, Object> headers, String viewerId) {
+        SimpMessageHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(
+            (MessageHeaders) headers, SimpMessageHeaderAccessor.class);
+        return accessor != null
+            && viewerId.equals(accessor.getSessionId())
+            && "7".equals(accessor.getFirstNativeHeader(BroadcastLocationUpdateUseCase.CONFLATION_KEY_HEADER));
+    }
+}
@@ -68,7 +68,7 @@ class CalculateOptimalLocationUseCaseTest {
 
         userId = 1L;
         sessionDbId = 100L;
-        sessionIdString = "test-session-id-123";
+        sessionIdString = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
         sessionId = SessionId.fromString(sessionIdString);
         activeSession = Session.reconstruct(
             sessionDbId,
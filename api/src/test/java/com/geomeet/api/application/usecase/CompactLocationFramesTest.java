@@ -0,0 +1,133 @@
+package com.geomeet.api.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.geomeet.api.application.event.SessionClosedEvent;
+import com.geomeet.api.application.result.CompactLocationIndexResult;
+import com.geomeet.api.application.result.UpdateLocationResult;
+import com.geomeet.api.application.usecase.session.CompactLocationFrames;
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CompactLocationFramesTest {
+
+    private CompactLocationFrames compactLocationFrames;
+
+    @BeforeEach
+    void setUp() {
+        compactLocationFrames = new CompactLocationFrames();
+    }
+
+    @Test
+    void shouldEncodeFixedPointCoordinatesAndTimestampDelta() {
+        compactLocationFrames.encode(result(1L, 10L, "2024-01-01T00:00:00", 1.0, 2.0, null));
+
+        CompactLocationFrames.Frame frame = compactLocationFrames.encode(
+            result(2L, 20L, "2024-01-01T00:00:01.5", 1.3521, 103.8198, 12.5));
+
+        ByteBuffer buffer = ByteBuffer.wrap(frame.payload());
+        assertEquals(0x11, buffer.get());
+        assertEquals(1, buffer.get());
+        // 1500 ms zigzag-encoded is 3000: varint 0xB8 0x17
+        assertEquals((byte) 0xB8, buffer.get());
+        assertEquals(0x17, buffer.get());
+        assertEquals(13_521_000, buffer.getInt());
+        assertEquals(1_038_198_000, buffer.getInt());
+        assertEquals(126, buffer.get());
+        assertFalse(buffer.hasRemaining());
+        assertTrue(frame.indexChanged());
+    }
+
+    @Test
+    void shouldReuseParticipantIndex() {
+        CompactLocationFrames.Frame first = compactLocationFrames.encode(
+            result(1L, 10L, "2024-01-01T00:00:00", 1.0, 2.0, null));
+        CompactLocationFrames.Frame second = compactLocationFrames.encode(
+            result(1L, 10L, "2024-01-01T00:00:00", 1.0, 2.0, null));
+
+        assertTrue(first.indexChanged());
+        assertFalse(second.indexChanged());
+        assertArrayEquals(first.payload(), second.payload());
+        assertEquals(0, first.payload()[first.payload().length - 1]);
+    }
+
+    @Test
+    void shouldEncodeTimestampsBeforeEpochAsNegativeDelta() {
+        compactLocationFrames.encode(result(1L, 10L, "2024-01-01T00:00:01", 1.0, 2.0, null));
+
+        byte[] payload = compactLocationFrames.encode(result(1L, 10L, "2024-01-01T00:00:00.999", 1.0, 2.0, null))
+            .payload();
+
+        // -1 ms zigzag-encoded is 1
+        assertEquals(1, payload[2]);
+    }
+
+    @Test
+    void shouldExposeIndexSnapshotAndForgetEndedSession() {
+        compactLocationFrames.encode(result(5L, 50L, "2024-01-01T00:00:00", 1.0, 2.0, null));
+        compactLocationFrames.encode(result(6L, 60L, "2024-01-01T00:00:02", 1.0, 2.0, null));
+
+        CompactLocationIndexResult snapshot = compactLocationFrames.snapshot("session-1");
+        assertEquals("2024-01-01T00:00:00", snapshot.getEpoch());
+        assertEquals(2, snapshot.getParticipants().size());
+        assertEquals(1, snapshot.getParticipants().get(1).getIndex());
+        assertEquals(6L, snapshot.getParticipants().get(1).getParticipantId());
+        assertEquals(60L, snapshot.getParticipants().get(1).getUserId());
+
+        compactLocationFrames.onSessionClosed(new SessionClosedEvent("session-1"));
+
+        CompactLocationIndexResult empty = compactLocationFrames.snapshot("session-1");
+        assertNull(empty.getEpoch());
+        assertTrue(empty.getParticipants().isEmpty());
+    }
+
+    @Test
+    void shouldStartFreshIndexAfterIdleEviction() {
+        compactLocationFrames.encode(result(5L, 50L, "2024-01-01T00:00:00", 1.0, 2.0, null));
+
+        assertEquals(0, compactLocationFrames.evictIdle(0L));
+        assertEquals(1, compactLocationFrames.evictIdle(Long.MAX_VALUE));
+
+        assertTrue(compactLocationFrames.snapshot("session-1").getParticipants().isEmpty());
+        assertTrue(compactLocationFrames.encode(result(5L, 50L, "2024-01-01T00:00:05", 1.0, 2.0, null))
+            .indexChanged());
+    }
+
+    @Test
+    void shouldRemoveLeavingUserWithoutReusingIndex() {
+        compactLocationFrames.encode(result(5L, 50L, "2024-01-01T00:00:00", 1.0, 2.0, null));
+        compactLocationFrames.encode(result(6L, 60L, "2024-01-01T00:00:01", 1.0, 2.0, null));
+
+        assertTrue(compactLocationFrames.remove("session-1", 50L));
+        assertFalse(compactLocationFrames.remove("session-1", 50L));
+        assertFalse(compactLocationFrames.remove("session-2", 50L));
+        CompactLocationFrames.Frame rejoined = compactLocationFrames.encode(
+            result(5L, 50L, "2024-01-01T00:00:02", 1.0, 2.0, null));
+
+        assertTrue(rejoined.indexChanged());
+        CompactLocationIndexResult snapshot = compactLocationFrames.snapshot("session-1");
+        assertEquals(2, snapshot.getParticipants().size());
+        assertEquals(60L, snapshot.getParticipants().get(0).getUserId());
+        assertEquals(2, snapshot.getParticipants().get(1).getIndex());
+    }
+
+    private static UpdateLocationResult result(
+        Long participantId, Long userId, String updatedAt, double latitude, double longitude, Double accuracy) {
+        return UpdateLocationResult.builder()
+            .participantId(participantId)
+            .sessionId(100L)
+            .sessionIdString("session-1")
+            .userId(userId)
+            .latitude(latitude)
+            .longitude(longitude)
+            .accuracy(accuracy)
+            .updatedAt(updatedAt)
+            .message("Location updated successfully")
+            .build();
+    }
+}
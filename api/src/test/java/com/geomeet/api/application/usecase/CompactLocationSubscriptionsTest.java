@@ -0,0 +1,52 @@
+package com.geomeet.api.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.geomeet.api.application.usecase.session.CompactLocationSubscriptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CompactLocationSubscriptionsTest {
+
+    private CompactLocationSubscriptions subscriptions;
+
+    @BeforeEach
+    void setUp() {
+        subscriptions = new CompactLocationSubscriptions();
+    }
+
+    @Test
+    void shouldTrackSubscriptionsPerConnectionAndSubscriptionId() {
+        // Given
+        subscriptions.subscribe("s1", "ws-1", "sub-0");
+        subscriptions.subscribe("s2", "ws-1", "sub-1");
+        subscriptions.subscribe("s1", "ws-2", "sub-0");
+
+        // When
+        subscriptions.unsubscribe("ws-1", "sub-0");
+        subscriptions.unsubscribe("ws-1", "sub-unknown");
+        subscriptions.unsubscribe("ws-unknown", "sub-0");
+
+        // Then
+        assertTrue(subscriptions.hasSubscribers("s1"));
+        assertTrue(subscriptions.hasSubscribers("s2"));
+        subscriptions.unsubscribe("ws-2", "sub-0");
+        assertFalse(subscriptions.hasSubscribers("s1"));
+    }
+
+    @Test
+    void shouldDropAllSubscriptionsOfDisconnectedConnection() {
+        // Given
+        subscriptions.subscribe("s1", "ws-1", "sub-0");
+        subscriptions.subscribe("s2", "ws-1", "sub-1");
+
+        // When
+        subscriptions.removeViewer("ws-1");
+        subscriptions.removeViewer("ws-1");
+
+        // Then
+        assertFalse(subscriptions.hasSubscribers("s1"));
+        assertFalse(subscriptions.hasSubscribers("s2"));
+    }
+}
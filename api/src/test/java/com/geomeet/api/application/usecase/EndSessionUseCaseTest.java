@@ -9,8 +9,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.geomeet.api.application.command.EndSessionCommand;
+import com.geomeet.api.application.event.SessionEndedEvent;
 import com.geomeet.api.application.result.EndSessionResult;
-import com.geomeet.api.application.usecase.session.BroadcastSessionEndUseCase;
 import com.geomeet.api.application.usecase.session.EndSessionUseCase;
 import com.geomeet.api.application.usecase.session.SessionRepository;
 import com.geomeet.api.domain.entity.Session;
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class EndSessionUseCaseTest {
@@ -32,7 +33,7 @@ class EndSessionUseCaseTest {
     private SessionRepository sessionRepository;
 
     @Mock
-    private BroadcastSessionEndUseCase broadcastSessionEndUseCase;
+    private ApplicationEventPublisher eventPublisher;
 
     private EndSessionUseCase endSessionUseCase;
 
@@ -45,12 +46,12 @@ class EndSessionUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        endSessionUseCase = new EndSessionUseCase(sessionRepository, broadcastSessionEndUseCase);
+        endSessionUseCase = new EndSessionUseCase(sessionRepository, eventPublisher);
 
         initiatorId = 1L;
         differentUserId = 2L;
         sessionDbId = 100L;
-        sessionIdString = "test-session-id-123";
+        sessionIdString = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
         sessionId = SessionId.fromString(sessionIdString);
         activeSession = Session.reconstruct(
             sessionDbId,
@@ -87,7 +88,7 @@ class EndSessionUseCaseTest {
 
         verify(sessionRepository).findBySessionId(sessionId);
         verify(sessionRepository).save(any(Session.class));
-        verify(broadcastSessionEndUseCase).execute(any(EndSessionResult.class));
+        verify(eventPublisher).publishEvent(any(SessionEndedEvent.class));
     }
 
     @Test
@@ -152,7 +153,7 @@ class EndSessionUseCaseTest {
 
         verify(sessionRepository).findBySessionId(sessionId);
         verify(sessionRepository, never()).save(any(Session.class));
-        verify(broadcastSessionEndUseCase, never()).execute(any(EndSessionResult.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 }
 
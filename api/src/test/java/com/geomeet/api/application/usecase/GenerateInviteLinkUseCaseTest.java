@@ -42,7 +42,7 @@ class GenerateInviteLinkUseCaseTest {
         generateInviteLinkUseCase = new GenerateInviteLinkUseCase(sessionRepository);
 
         sessionId = 100L;
-        sessionIdString = "test-session-id-123";
+        sessionIdString = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
         initiatorId = 1L;
         otherUserId = 2L;
 
@@ -0,0 +1,163 @@
+package com.geomeet.api.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.geomeet.api.application.command.GetParticipantClustersCommand;
+import com.geomeet.api.application.result.ParticipantClustersResult;
+import com.geomeet.api.application.result.UpdateLocationResult;
+import com.geomeet.api.application.usecase.location.GetParticipantClustersUseCase;
+import com.geomeet.api.application.usecase.location.ParticipantClusterIndex;
+import com.geomeet.api.application.usecase.location.ParticipantLocationRepository;
+import com.geomeet.api.application.usecase.session.SessionParticipantRepository;
+import com.geomeet.api.application.usecase.session.SessionRepository;
+import com.geomeet.api.domain.entity.ParticipantLocation;
+import com.geomeet.api.domain.entity.Session;
+import com.geomeet.api.domain.exception.GeomeetDomainException;
+import com.geomeet.api.domain.valueobject.SessionId;
+import com.geomeet.api.domain.valueobject.SessionStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GetParticipantClustersUseCaseTest {
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private SessionParticipantRepository sessionParticipantRepository;
+
+    @Mock
+    private ParticipantLocationRepository participantLocationRepository;
+
+    private ParticipantClusterIndex participantClusterIndex;
+    private GetParticipantClustersUseCase getParticipantClustersUseCase;
+
+    private String sessionIdString;
+    private Session session;
+
+    @BeforeEach
+    void setUp() {
+        participantClusterIndex = new ParticipantClusterIndex();
+        getParticipantClustersUseCase = new GetParticipantClustersUseCase(
+            sessionRepository,
+            sessionParticipantRepository,
+            participantLocationRepository,
+            participantClusterIndex
+        );
+        sessionIdString = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
+        session = Session.reconstruct(
+            100L,
+            SessionId.fromString(sessionIdString),
+            1L,
+            SessionStatus.ACTIVE,
+            LocalDateTime.now(),
+            LocalDateTime.now(),
+            null,
+            null,
+            null
+        );
+    }
+
+    @Test
+    void shouldSeedAggregatesOnceAndReturnClusters() {
+        // Given
+        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
+        when(sessionParticipantRepository.existsBySessionIdAndUserId(100L, 2L)).thenReturn(true);
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(participantLocationRepository.findBySessionId(100L)).thenReturn(List.of(
+            ParticipantLocation.reconstruct(1L, 10L, 100L, 1L, 1.30, 103.80, 5.0, now, now, null, null),
+            ParticipantLocation.reconstruct(2L, 20L, 100L, 2L, 1.40, 103.90, 5.0, now, now, null, null)
+        ));
+
+        // When
+        ParticipantClustersResult result = getParticipantClustersUseCase.execute(
+            GetParticipantClustersCommand.of(sessionIdString, 2L, 3));
+        ParticipantClustersResult again = getParticipantClustersUseCase.execute(
+            GetParticipantClustersCommand.of(sessionIdString, 2L, 0));
+
+        // Then
+        assertEquals(sessionIdString, result.getSessionId());
+        assertEquals(3, result.getZoom());
+        assertEquals(2L, result.getParticipantCount());
+        assertEquals(1, result.getClusters().size());
+        assertEquals(1.35, result.getClusters().get(0).getLatitude(), 1e-9);
+        assertEquals(2L, again.getParticipantCount());
+        verify(participantLocationRepository).findBySessionId(100L);
+    }
+
+    @Test
+    void shouldKeepLocationRecordedWhileSeeding() {
+        // Given
+        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
+        when(sessionParticipantRepository.existsBySessionIdAndUserId(100L, 2L)).thenReturn(true);
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(participantLocationRepository.findBySessionId(100L)).thenAnswer(invocation -> {
+            participantClusterIndex.record(UpdateLocationResult.builder()
+                .participantId(10L)
+                .sessionIdString(sessionIdString)
+                .latitude(51.5)
+                .longitude(-0.12)
+                .build());
+            return List.of(ParticipantLocation.reconstruct(1L, 10L, 100L, 1L, 1.30, 103.80, 5.0, now, now, null, null));
+        });
+
+        // When
+        ParticipantClustersResult result = getParticipantClustersUseCase.execute(
+            GetParticipantClustersCommand.of(sessionIdString, 2L, 0));
+
+        // Then
+        assertEquals(1L, result.getParticipantCount());
+        assertEquals(51.5, result.getClusters().get(0).getLatitude(), 1e-9);
+    }
+
+    @Test
+    void shouldAllowInitiatorWhoIsNotParticipant() {
+        // Given
+        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
+        when(sessionParticipantRepository.existsBySessionIdAndUserId(100L, 1L)).thenReturn(false);
+        when(participantLocationRepository.findBySessionId(100L)).thenReturn(List.of());
+
+        // When
+        ParticipantClustersResult result = getParticipantClustersUseCase.execute(
+            GetParticipantClustersCommand.of(sessionIdString, 1L, 10));
+
+        // Then
+        assertEquals(0L, result.getParticipantCount());
+        assertEquals(List.of(), result.getClusters());
+    }
+
+    @Test
+    void shouldDenyAccessToNonParticipant() {
+        // Given
+        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
+        when(sessionParticipantRepository.existsBySessionIdAndUserId(100L, 3L)).thenReturn(false);
+
+        // When & Then
+        GeomeetDomainException exception = assertThrows(GeomeetDomainException.class,
+            () -> getParticipantClustersUseCase.execute(GetParticipantClustersCommand.of(sessionIdString, 3L, 10)));
+        assertEquals("Access denied: User is not a participant or initiator", exception.getMessage());
+        verify(participantLocationRepository, never()).findBySessionId(any());
+    }
+
+    @Test
+    void shouldDenyAccessWhenSessionNotFound() {
+        // Given
+        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(GeomeetDomainException.class,
+            () -> getParticipantClustersUseCase.execute(GetParticipantClustersCommand.of(sessionIdString, 2L, 10)));
+    }
+}
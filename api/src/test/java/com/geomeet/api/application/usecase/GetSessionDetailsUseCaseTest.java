@@ -1,29 +1,26 @@
 package com.geomeet.api.application.usecase;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.geomeet.api.application.command.GetSessionDetailsCommand;
 import com.geomeet.api.application.result.GetSessionDetailsResult;
-import com.geomeet.api.application.usecase.auth.UserRepository;
-import com.geomeet.api.application.usecase.location.ParticipantLocationRepository;
 import com.geomeet.api.application.usecase.session.GetSessionDetailsUseCase;
 import com.geomeet.api.application.usecase.session.SessionParticipantRepository;
+import com.geomeet.api.application.usecase.session.SessionPresenceRegistry;
+import com.geomeet.api.application.usecase.session.SessionReadModel;
 import com.geomeet.api.application.usecase.session.SessionRepository;
 import com.geomeet.api.domain.entity.Session;
-import com.geomeet.api.domain.entity.SessionParticipant;
-import com.geomeet.api.domain.entity.User;
 import com.geomeet.api.domain.exception.GeomeetDomainException;
-import com.geomeet.api.domain.valueobject.Email;
-import com.geomeet.api.domain.valueobject.PasswordHash;
 import com.geomeet.api.domain.valueobject.SessionId;
 import com.geomeet.api.domain.valueobject.SessionStatus;
-import com.geomeet.api.domain.valueobject.Username;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -42,11 +39,7 @@ class GetSessionDetailsUseCaseTest {
     @Mock
     private SessionParticipantRepository sessionParticipantRepository;
 
-    @Mock
-    private UserRepository userRepository;
-    @Mock
-    private  ParticipantLocationRepository participantLocationRepository;
-
+    private final SessionPresenceRegistry sessionPresenceRegistry = new SessionPresenceRegistry();
 
     private GetSessionDetailsUseCase getSessionDetailsUseCase;
 
@@ -55,21 +48,17 @@ class GetSessionDetailsUseCaseTest {
     private Long initiatorId;
     private Long userId;
     private Session session;
-    private User initiator;
-    private User participantUser;
-    private SessionParticipant participant;
+    private GetSessionDetailsResult.ParticipantInfo initiatorInfo;
+    private GetSessionDetailsResult.ParticipantInfo participantInfo;
 
     @BeforeEach
     void setUp() {
         getSessionDetailsUseCase = new GetSessionDetailsUseCase(
-            sessionRepository,
-            sessionParticipantRepository,
-            userRepository,
-            participantLocationRepository
+            new SessionReadModel(sessionRepository, sessionParticipantRepository, sessionPresenceRegistry)
         );
 
         sessionId = 100L;
-        sessionIdString = "test-session-id-123";
+        sessionIdString = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
         initiatorId = 1L;
         userId = 2L;
 
@@ -85,40 +74,24 @@ class GetSessionDetailsUseCaseTest {
             null
         );
 
-        initiator = User.reconstruct(
-            initiatorId,
-            new Username("initiator"),
-            new Email("initiator@example.com"),
-            new PasswordHash("hash"),
-            true,
-            LocalDateTime.now(),
-            LocalDateTime.now(),
-            null,
-            null
-        );
-
-        participantUser = User.reconstruct(
-            userId,
-            new Username("participant"),
-            new Email("participant@example.com"),
-            new PasswordHash("hash"),
-            true,
-            LocalDateTime.now(),
-            LocalDateTime.now(),
-            null,
-            null
-        );
-
-        participant = SessionParticipant.reconstruct(
-            200L,
-            sessionId,
-            userId,
-            LocalDateTime.now(),
-            LocalDateTime.now(),
-            LocalDateTime.now(),
-            null,
-            null
-        );
+        initiatorInfo = GetSessionDetailsResult.ParticipantInfo.builder()
+            .userId(initiatorId)
+            .username("initiator")
+            .email("initiator@example.com")
+            .joinedAt("2024-01-01T12:00:00")
+            .build();
+
+        participantInfo = GetSessionDetailsResult.ParticipantInfo.builder()
+            .participantId(200L)
+            .userId(userId)
+            .username("participant")
+            .email("participant@example.com")
+            .joinedAt("2024-01-01T12:05:00")
+            .latitude(1.3521)
+            .longitude(103.8198)
+            .accuracy(10.5)
+            .locationUpdatedAt("2024-01-01T12:06:00")
+            .build();
     }
 
     @Test
@@ -126,11 +99,7 @@ class GetSessionDetailsUseCaseTest {
         // Given
         GetSessionDetailsCommand command = GetSessionDetailsCommand.of(sessionIdString, initiatorId);
         when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(sessionParticipantRepository.existsBySessionIdAndUserId(sessionId, initiatorId))
-            .thenReturn(false);
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.of(initiator));
-        when(sessionParticipantRepository.findBySessionId(sessionId)).thenReturn(List.of(participant));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(participantUser));
+        when(sessionParticipantRepository.findRoster(sessionId)).thenReturn(List.of(initiatorInfo, participantInfo));
 
         // When
         GetSessionDetailsResult result = getSessionDetailsUseCase.execute(command);
@@ -142,16 +111,14 @@ class GetSessionDetailsUseCaseTest {
         assertEquals(initiatorId, result.getInitiatorId());
         assertEquals("initiator", result.getInitiatorUsername());
         assertEquals(SessionStatus.ACTIVE.getValue(), result.getStatus());
-        // Initiator is automatically added to participants list, so we have initiator + 1 participant = 2
         assertEquals(2, result.getParticipants().size());
         assertEquals(2L, result.getParticipantCount());
-        // First participant should be the initiator
+        // Roster order is kept: the initiator first
         assertEquals("initiator", result.getParticipants().get(0).getUsername());
         assertEquals(initiatorId, result.getParticipants().get(0).getUserId());
 
         verify(sessionRepository).findBySessionId(any(SessionId.class));
-        verify(sessionParticipantRepository).existsBySessionIdAndUserId(sessionId, initiatorId);
-        verify(userRepository).findById(initiatorId);
+        verify(sessionParticipantRepository).findRoster(sessionId);
     }
 
     @Test
@@ -159,11 +126,7 @@ class GetSessionDetailsUseCaseTest {
         // Given
         GetSessionDetailsCommand command = GetSessionDetailsCommand.of(sessionIdString, userId);
         when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(sessionParticipantRepository.existsBySessionIdAndUserId(sessionId, userId))
-            .thenReturn(true);
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.of(initiator));
-        when(sessionParticipantRepository.findBySessionId(sessionId)).thenReturn(List.of(participant));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(participantUser));
+        when(sessionParticipantRepository.findRoster(sessionId)).thenReturn(List.of(initiatorInfo, participantInfo));
 
         // When
         GetSessionDetailsResult result = getSessionDetailsUseCase.execute(command);
@@ -171,18 +134,11 @@ class GetSessionDetailsUseCaseTest {
         // Then
         assertNotNull(result);
         assertEquals(sessionId, result.getId());
-        // Initiator is automatically added to participants list, so we have initiator + 1 participant = 2
         assertEquals(2, result.getParticipants().size());
-        assertEquals(2L, result.getParticipantCount());
-        // First participant should be the initiator
-        assertEquals("initiator", result.getParticipants().get(0).getUsername());
-        assertEquals(initiatorId, result.getParticipants().get(0).getUserId());
-        // Second participant should be the joined participant
         assertEquals("participant", result.getParticipants().get(1).getUsername());
         assertEquals(userId, result.getParticipants().get(1).getUserId());
 
         verify(sessionRepository).findBySessionId(any(SessionId.class));
-        verify(sessionParticipantRepository).existsBySessionIdAndUserId(sessionId, userId);
     }
 
     @Test
@@ -207,8 +163,7 @@ class GetSessionDetailsUseCaseTest {
         Long unauthorizedUserId = 999L;
         GetSessionDetailsCommand command = GetSessionDetailsCommand.of(sessionIdString, unauthorizedUserId);
         when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(sessionParticipantRepository.existsBySessionIdAndUserId(sessionId, unauthorizedUserId))
-            .thenReturn(false);
+        when(sessionParticipantRepository.findRoster(sessionId)).thenReturn(List.of(initiatorInfo, participantInfo));
 
         // When & Then
         GeomeetDomainException exception = assertThrows(GeomeetDomainException.class, () -> {
@@ -217,80 +172,43 @@ class GetSessionDetailsUseCaseTest {
 
         assertEquals("Access denied: User is not a participant or initiator", exception.getMessage());
         verify(sessionRepository).findBySessionId(any(SessionId.class));
-        verify(sessionParticipantRepository).existsBySessionIdAndUserId(sessionId, unauthorizedUserId);
     }
 
     @Test
-    void shouldThrowExceptionWhenInitiatorNotFound() {
-        // Given
-        GetSessionDetailsCommand command = GetSessionDetailsCommand.of(sessionIdString, initiatorId);
+    void shouldDenyUserWhoOnlyHasStoredLocation() {
+        // Given - the user is on the roster through a stored location, without a participant record
+        GetSessionDetailsResult.ParticipantInfo leftInfo = GetSessionDetailsResult.ParticipantInfo.builder()
+            .userId(3L)
+            .username("left")
+            .email("left@example.com")
+            .latitude(1.36)
+            .longitude(103.82)
+            .build();
+        GetSessionDetailsCommand command = GetSessionDetailsCommand.of(sessionIdString, 3L);
         when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(sessionParticipantRepository.existsBySessionIdAndUserId(sessionId, initiatorId))
-            .thenReturn(false);
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.empty());
+        when(sessionParticipantRepository.findRoster(sessionId)).thenReturn(List.of(initiatorInfo, leftInfo));
 
         // When & Then
         GeomeetDomainException exception = assertThrows(GeomeetDomainException.class, () -> {
             getSessionDetailsUseCase.execute(command);
         });
 
-        assertEquals("Initiator not found", exception.getMessage());
+        assertEquals("Access denied: User is not a participant or initiator", exception.getMessage());
     }
 
     @Test
-    void shouldThrowExceptionWhenParticipantUserNotFound() {
-        // Given
-        GetSessionDetailsCommand command = GetSessionDetailsCommand.of(sessionIdString, initiatorId);
+    void shouldThrowExceptionWhenInitiatorNotFound() {
+        // Given - the roster has no row for the initiator
+        GetSessionDetailsCommand command = GetSessionDetailsCommand.of(sessionIdString, userId);
         when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(sessionParticipantRepository.existsBySessionIdAndUserId(sessionId, initiatorId))
-            .thenReturn(false);
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.of(initiator));
-        when(sessionParticipantRepository.findBySessionId(sessionId)).thenReturn(List.of(participant));
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(sessionParticipantRepository.findRoster(sessionId)).thenReturn(List.of(participantInfo));
 
         // When & Then
         GeomeetDomainException exception = assertThrows(GeomeetDomainException.class, () -> {
             getSessionDetailsUseCase.execute(command);
         });
 
-        assertEquals("User not found for participant", exception.getMessage());
-    }
-
-    @Test
-    void shouldNotAddInitiatorWhenAlreadyInParticipants() {
-        // Given - initiator is already a participant
-        SessionParticipant initiatorParticipant = SessionParticipant.reconstruct(
-            201L,
-            sessionId,
-            initiatorId,
-            LocalDateTime.now(),
-            LocalDateTime.now(),
-            LocalDateTime.now(),
-            null,
-            null
-        );
-
-        GetSessionDetailsCommand command = GetSessionDetailsCommand.of(sessionIdString, initiatorId);
-        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(sessionParticipantRepository.existsBySessionIdAndUserId(sessionId, initiatorId))
-            .thenReturn(true);
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.of(initiator));
-        when(sessionParticipantRepository.findBySessionId(sessionId))
-            .thenReturn(List.of(initiatorParticipant, participant));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(participantUser));
-
-        // When
-        GetSessionDetailsResult result = getSessionDetailsUseCase.execute(command);
-
-        // Then
-        assertNotNull(result);
-        assertEquals(2, result.getParticipants().size());
-        assertEquals(2L, result.getParticipantCount());
-        // Initiator should not be duplicated
-        long initiatorCount = result.getParticipants().stream()
-            .filter(p -> p.getUserId().equals(initiatorId))
-            .count();
-        assertEquals(1, initiatorCount);
+        assertEquals("Initiator not found", exception.getMessage());
     }
 
     @Test
@@ -312,10 +230,7 @@ class GetSessionDetailsUseCaseTest {
 
         GetSessionDetailsCommand command = GetSessionDetailsCommand.of(sessionIdString, initiatorId);
         when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(sessionWithLocation));
-        when(sessionParticipantRepository.existsBySessionIdAndUserId(sessionId, initiatorId))
-            .thenReturn(false);
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.of(initiator));
-        when(sessionParticipantRepository.findBySessionId(sessionId)).thenReturn(List.of());
+        when(sessionParticipantRepository.findRoster(sessionId)).thenReturn(List.of(initiatorInfo));
 
         // When
         GetSessionDetailsResult result = getSessionDetailsUseCase.execute(command);
@@ -331,11 +246,7 @@ class GetSessionDetailsUseCaseTest {
         // Given - session without meeting location (already set up in setUp)
         GetSessionDetailsCommand command = GetSessionDetailsCommand.of(sessionIdString, initiatorId);
         when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(sessionParticipantRepository.existsBySessionIdAndUserId(sessionId, initiatorId))
-            .thenReturn(false);
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.of(initiator));
-        when(sessionParticipantRepository.findBySessionId(sessionId)).thenReturn(List.of());
-        when(participantLocationRepository.findBySessionId(sessionId)).thenReturn(List.of());
+        when(sessionParticipantRepository.findRoster(sessionId)).thenReturn(List.of(initiatorInfo));
 
         // When
         GetSessionDetailsResult result = getSessionDetailsUseCase.execute(command);
@@ -349,221 +260,69 @@ class GetSessionDetailsUseCaseTest {
     @Test
     void shouldIncludeParticipantLocationsWithAllFields() {
         // Given
-        Long participantLocationId = 300L;
-        Long participantId = 200L;
-        LocalDateTime now = LocalDateTime.now();
-        com.geomeet.api.domain.entity.ParticipantLocation participantLocation = 
-            com.geomeet.api.domain.entity.ParticipantLocation.reconstruct(
-                participantLocationId,
-                participantId,
-                sessionId,
-                userId,
-                1.3521,  // latitude
-                103.8198,  // longitude
-                10.5,  // accuracy
-                now,  // updatedAt
-                now,  // createdAt
-                null,  // createdBy
-                null  // updatedBy
-            );
-
-        GetSessionDetailsCommand command = GetSessionDetailsCommand.of(sessionIdString, initiatorId);
-        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(sessionParticipantRepository.existsBySessionIdAndUserId(sessionId, initiatorId))
-            .thenReturn(false);
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.of(initiator));
-        when(sessionParticipantRepository.findBySessionId(sessionId)).thenReturn(List.of(participant));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(participantUser));
-        when(participantLocationRepository.findBySessionId(sessionId))
-            .thenReturn(List.of(participantLocation));
-
-        // When
-        GetSessionDetailsResult result = getSessionDetailsUseCase.execute(command);
-
-        // Then
-        assertNotNull(result);
-        assertNotNull(result.getParticipants());
-        assertEquals(2, result.getParticipants().size()); // initiator + participant
-        
-        // Find the participant with location
-        GetSessionDetailsResult.ParticipantInfo participantWithLocation = result.getParticipants().stream()
-            .filter(p -> p.getUserId().equals(userId))
-            .findFirst()
-            .orElse(null);
-        
-        assertNotNull(participantWithLocation);
-        assertEquals(1.3521, participantWithLocation.getLatitude());
-        assertEquals(103.8198, participantWithLocation.getLongitude());
-        assertEquals(10.5, participantWithLocation.getAccuracy());
-        assertNotNull(participantWithLocation.getLocationUpdatedAt());
-    }
-
-    @Test
-    void shouldIncludeParticipantLocationsWithNullAccuracy() {
-        // Given - location with null accuracy
-        Long participantLocationId = 300L;
-        Long participantId = 200L;
-        LocalDateTime now = LocalDateTime.now();
-        com.geomeet.api.domain.entity.ParticipantLocation participantLocation = 
-            com.geomeet.api.domain.entity.ParticipantLocation.reconstruct(
-                participantLocationId,
-                participantId,
-                sessionId,
-                userId,
-                1.3521,  // latitude
-                103.8198,  // longitude
-                null,  // accuracy (null)
-                now,  // updatedAt
-                now,  // createdAt
-                null,  // createdBy
-                null  // updatedBy
-            );
-
-        GetSessionDetailsCommand command = GetSessionDetailsCommand.of(sessionIdString, initiatorId);
+        GetSessionDetailsCommand command = GetSessionDetailsCommand.of(sessionIdString, userId);
         when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(sessionParticipantRepository.existsBySessionIdAndUserId(sessionId, initiatorId))
-            .thenReturn(false);
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.of(initiator));
-        when(sessionParticipantRepository.findBySessionId(sessionId)).thenReturn(List.of(participant));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(participantUser));
-        when(participantLocationRepository.findBySessionId(sessionId))
-            .thenReturn(List.of(participantLocation));
+        when(sessionParticipantRepository.findRoster(sessionId)).thenReturn(List.of(initiatorInfo, participantInfo));
 
         // When
         GetSessionDetailsResult result = getSessionDetailsUseCase.execute(command);
 
         // Then
-        assertNotNull(result);
-        assertNotNull(result.getParticipants());
-        
-        // Find the participant with location
-        GetSessionDetailsResult.ParticipantInfo participantWithLocation = result.getParticipants().stream()
-            .filter(p -> p.getUserId().equals(userId))
-            .findFirst()
-            .orElse(null);
-        
-        assertNotNull(participantWithLocation);
-        assertNull(participantWithLocation.getAccuracy());
+        GetSessionDetailsResult.ParticipantInfo participant = result.getParticipants().get(1);
+        assertEquals(200L, participant.getParticipantId());
+        assertEquals("participant@example.com", participant.getEmail());
+        assertEquals("2024-01-01T12:05:00", participant.getJoinedAt());
+        assertEquals(1.3521, participant.getLatitude());
+        assertEquals(103.8198, participant.getLongitude());
+        assertEquals(10.5, participant.getAccuracy());
+        assertEquals("2024-01-01T12:06:00", participant.getLocationUpdatedAt());
+        // Initiator has not shared a location
+        assertNull(result.getParticipants().get(0).getLatitude());
     }
 
     @Test
-    void shouldIncludeParticipantLocationsWithNullUpdatedAt() {
-        // Given - location with null updatedAt
-        Long participantLocationId = 300L;
-        Long participantId = 200L;
-        LocalDateTime now = LocalDateTime.now();
-        com.geomeet.api.domain.entity.ParticipantLocation participantLocation = 
-            com.geomeet.api.domain.entity.ParticipantLocation.reconstruct(
-                participantLocationId,
-                participantId,
-                sessionId,
-                userId,
-                1.3521,  // latitude
-                103.8198,  // longitude
-                10.5,  // accuracy
-                null,  // updatedAt (null)
-                now,  // createdAt
-                null,  // createdBy
-                null  // updatedBy
-            );
-
+    void shouldReportPresenceOfEachRosterEntry() {
+        // Given
+        sessionPresenceRegistry.connect(sessionIdString, initiatorId, "ws-1", "sub-0");
         GetSessionDetailsCommand command = GetSessionDetailsCommand.of(sessionIdString, initiatorId);
         when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(sessionParticipantRepository.existsBySessionIdAndUserId(sessionId, initiatorId))
-            .thenReturn(false);
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.of(initiator));
-        when(sessionParticipantRepository.findBySessionId(sessionId)).thenReturn(List.of(participant));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(participantUser));
-        when(participantLocationRepository.findBySessionId(sessionId))
-            .thenReturn(List.of(participantLocation));
+        when(sessionParticipantRepository.findRoster(sessionId)).thenReturn(List.of(initiatorInfo, participantInfo));
 
         // When
         GetSessionDetailsResult result = getSessionDetailsUseCase.execute(command);
 
         // Then
-        assertNotNull(result);
-        assertNotNull(result.getParticipants());
-        
-        // Find the participant with location
-        GetSessionDetailsResult.ParticipantInfo participantWithLocation = result.getParticipants().stream()
-            .filter(p -> p.getUserId().equals(userId))
-            .findFirst()
-            .orElse(null);
-        
-        assertNotNull(participantWithLocation);
-        assertNull(participantWithLocation.getLocationUpdatedAt());
+        assertTrue(result.getParticipants().get(0).getOnline());
+        assertFalse(result.getParticipants().get(1).getOnline());
     }
 
     @Test
-    void shouldReturnParticipantsWithoutLocationsWhenNoneExist() {
+    void shouldReportCurrentVersionServedWithDetails() {
         // Given
-        GetSessionDetailsCommand command = GetSessionDetailsCommand.of(sessionIdString, initiatorId);
+        GetSessionDetailsCommand command = GetSessionDetailsCommand.of(sessionIdString, userId);
         when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(sessionParticipantRepository.existsBySessionIdAndUserId(sessionId, initiatorId))
-            .thenReturn(false);
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.of(initiator));
-        when(sessionParticipantRepository.findBySessionId(sessionId)).thenReturn(List.of());
-        when(participantLocationRepository.findBySessionId(sessionId)).thenReturn(List.of());
+        when(sessionParticipantRepository.findRoster(sessionId)).thenReturn(List.of(initiatorInfo, participantInfo));
 
         // When
-        GetSessionDetailsResult result = getSessionDetailsUseCase.execute(command);
+        String version = getSessionDetailsUseCase.currentVersion(command);
 
         // Then
-        assertNotNull(result);
-        assertNotNull(result.getParticipants());
-        assertEquals(1, result.getParticipants().size()); // Only initiator
-        
-        // Initiator should not have location information
-        GetSessionDetailsResult.ParticipantInfo initiatorInfo = result.getParticipants().get(0);
-        assertNull(initiatorInfo.getLatitude());
-        assertNull(initiatorInfo.getLongitude());
-        assertNull(initiatorInfo.getAccuracy());
-        assertNull(initiatorInfo.getLocationUpdatedAt());
+        assertEquals(version, getSessionDetailsUseCase.execute(command).getVersion());
+        verify(sessionParticipantRepository).findRoster(sessionId);
     }
 
     @Test
-    void shouldIncludeInitiatorLocationWhenAvailable() {
-        // Given - initiator has location
-        Long participantLocationId = 300L;
-        com.geomeet.api.domain.entity.ParticipantLocation initiatorLocation = 
-            com.geomeet.api.domain.entity.ParticipantLocation.reconstruct(
-                participantLocationId,
-                null,  // No participant ID for initiator
-                sessionId,
-                initiatorId,
-                1.3521,  // latitude
-                103.8198,  // longitude
-                10.5,  // accuracy
-                LocalDateTime.now(),
-                LocalDateTime.now(),
-                null,
-                null
-            );
-
-        GetSessionDetailsCommand command = GetSessionDetailsCommand.of(sessionIdString, initiatorId);
+    void shouldDenyCurrentVersionToNonMembers() {
+        // Given
+        GetSessionDetailsCommand command = GetSessionDetailsCommand.of(sessionIdString, 999L);
         when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
-        when(sessionParticipantRepository.existsBySessionIdAndUserId(sessionId, initiatorId))
-            .thenReturn(false);
-        when(userRepository.findById(initiatorId)).thenReturn(Optional.of(initiator));
-        when(sessionParticipantRepository.findBySessionId(sessionId)).thenReturn(List.of());
-        when(participantLocationRepository.findBySessionId(sessionId))
-            .thenReturn(List.of(initiatorLocation));
+        when(sessionParticipantRepository.findRoster(sessionId)).thenReturn(List.of(initiatorInfo, participantInfo));
 
-        // When
-        GetSessionDetailsResult result = getSessionDetailsUseCase.execute(command);
+        // When & Then
+        GeomeetDomainException exception = assertThrows(GeomeetDomainException.class, () -> {
+            getSessionDetailsUseCase.currentVersion(command);
+        });
 
-        // Then
-        assertNotNull(result);
-        assertNotNull(result.getParticipants());
-        assertEquals(1, result.getParticipants().size());
-        
-        GetSessionDetailsResult.ParticipantInfo initiatorInfo = result.getParticipants().get(0);
-        assertEquals(initiatorId, initiatorInfo.getUserId());
-        assertNotNull(initiatorInfo.getLatitude());
-        assertNotNull(initiatorInfo.getLongitude());
-        assertEquals(1.3521, initiatorInfo.getLatitude());
-        assertEquals(103.8198, initiatorInfo.getLongitude());
-        assertEquals(10.5, initiatorInfo.getAccuracy());
+        assertEquals("Access denied: User is not a participant or initiator", exception.getMessage());
     }
 }
-
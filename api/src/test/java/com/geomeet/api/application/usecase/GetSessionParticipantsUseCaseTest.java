@@ -0,0 +1,150 @@
+package com.geomeet.api.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.geomeet.api.application.command.GetSessionParticipantsCommand;
+import com.geomeet.api.application.result.GetSessionDetailsResult;
+import com.geomeet.api.application.result.SessionParticipantsPageResult;
+import com.geomeet.api.application.usecase.session.GetSessionParticipantsUseCase;
+import com.geomeet.api.application.usecase.session.SessionParticipantRepository;
+import com.geomeet.api.application.usecase.session.SessionPresenceRegistry;
+import com.geomeet.api.application.usecase.session.SessionRepository;
+import com.geomeet.api.domain.entity.Session;
+import com.geomeet.api.domain.exception.GeomeetDomainException;
+import com.geomeet.api.domain.valueobject.SessionId;
+import com.geomeet.api.domain.valueobject.SessionStatus;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GetSessionParticipantsUseCaseTest {
+
+    private static final String SESSION_ID = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private SessionParticipantRepository sessionParticipantRepository;
+
+    private final SessionPresenceRegistry sessionPresenceRegistry = new SessionPresenceRegistry();
+
+    private GetSessionParticipantsUseCase getSessionParticipantsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        getSessionParticipantsUseCase = new GetSessionParticipantsUseCase(
+            sessionRepository, sessionParticipantRepository, sessionPresenceRegistry);
+        Session session = Session.reconstruct(
+            100L,
+            SessionId.fromString(SESSION_ID),
+            1L,
+            SessionStatus.ACTIVE,
+            LocalDateTime.now(),
+            LocalDateTime.now(),
+            null,
+            null
+        );
+        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
+    }
+
+    @Test
+    void shouldReturnPageWithCursorWhenMoreParticipantsFollow() {
+        // Given
+        sessionPresenceRegistry.connect(SESSION_ID, 2L, "ws-1", "sub-0");
+        when(sessionParticipantRepository.findParticipantPage(100L, null, 3))
+            .thenReturn(List.of(participant(201L, 2L), participant(202L, 3L), participant(203L, 4L)));
+
+        // When
+        SessionParticipantsPageResult result = getSessionParticipantsUseCase.execute(
+            GetSessionParticipantsCommand.of(SESSION_ID, 1L, null, 2));
+
+        // Then
+        assertEquals(SESSION_ID, result.getSessionId());
+        assertEquals(2, result.getParticipants().size());
+        assertEquals(202L, result.getNextCursor());
+        assertTrue(result.getParticipants().get(0).getOnline());
+        assertFalse(result.getParticipants().get(1).getOnline());
+    }
+
+    @Test
+    void shouldEndWithoutCursorOnLastPage() {
+        // Given
+        when(sessionParticipantRepository.existsBySessionIdAndUserId(100L, 3L)).thenReturn(true);
+        when(sessionParticipantRepository.findParticipantPage(100L, 201L, 101))
+            .thenReturn(List.of(participant(202L, 3L)));
+
+        // When
+        SessionParticipantsPageResult result = getSessionParticipantsUseCase.execute(
+            GetSessionParticipantsCommand.of(SESSION_ID, 3L, 201L, null));
+
+        // Then
+        assertEquals(1, result.getParticipants().size());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void shouldDenyNonMembers() {
+        // Given
+        GetSessionParticipantsCommand command = GetSessionParticipantsCommand.of(SESSION_ID, 999L, null, null);
+
+        // When & Then
+        GeomeetDomainException exception = assertThrows(GeomeetDomainException.class, () -> {
+            getSessionParticipantsUseCase.stream(command);
+        });
+
+        assertEquals("Access denied: User is not a participant or initiator", exception.getMessage());
+        verify(sessionParticipantRepository, never()).forEachParticipant(any(), any(), any());
+    }
+
+    @Test
+    void shouldStreamParticipantsOnlyWhenCursorIsConsumed() {
+        // Given
+        GetSessionParticipantsUseCase.ParticipantCursor cursor = getSessionParticipantsUseCase.stream(
+            GetSessionParticipantsCommand.of(SESSION_ID, 1L, null, null));
+        verify(sessionParticipantRepository, never()).forEachParticipant(any(), any(), any());
+        sessionPresenceRegistry.connect(SESSION_ID, 3L, "ws-1", "sub-0");
+        doAnswer(invocation -> {
+            Consumer<GetSessionDetailsResult.ParticipantInfo> action = invocation.getArgument(2);
+            action.accept(participant(201L, 2L));
+            action.accept(participant(202L, 3L));
+            return null;
+        }).when(sessionParticipantRepository).forEachParticipant(eq(100L), isNull(), any());
+        List<GetSessionDetailsResult.ParticipantInfo> received = new ArrayList<>();
+
+        // When
+        cursor.forEachRemaining(received::add);
+
+        // Then
+        assertEquals(2, received.size());
+        assertFalse(received.get(0).getOnline());
+        assertTrue(received.get(1).getOnline());
+    }
+
+    private static GetSessionDetailsResult.ParticipantInfo participant(Long participantId, Long userId) {
+        return GetSessionDetailsResult.ParticipantInfo.builder()
+            .participantId(participantId)
+            .userId(userId)
+            .username("user-" + userId)
+            .build();
+    }
+}
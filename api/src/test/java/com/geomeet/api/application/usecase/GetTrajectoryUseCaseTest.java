@@ -0,0 +1,178 @@
+package com.geomeet.api.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.geomeet.api.application.command.GetTrajectoryCommand;
+import com.geomeet.api.application.result.TrajectoryResult;
+import com.geomeet.api.application.usecase.location.GetTrajectoryUseCase;
+import com.geomeet.api.application.usecase.location.LocationHistoryRepository;
+import com.geomeet.api.application.usecase.session.SessionParticipantRepository;
+import com.geomeet.api.application.usecase.session.SessionRepository;
+import com.geomeet.api.domain.entity.Session;
+import com.geomeet.api.domain.exception.GeomeetDomainException;
+import com.geomeet.api.domain.valueobject.SessionId;
+import com.geomeet.api.domain.valueobject.SessionStatus;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class GetTrajectoryUseCaseTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 10, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 1, 1, 11, 0);
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private SessionParticipantRepository sessionParticipantRepository;
+
+    @Mock
+    private ObjectProvider<LocationHistoryRepository> locationHistoryRepositoryProvider;
+
+    @Mock
+    private LocationHistoryRepository locationHistoryRepository;
+
+    private GetTrajectoryUseCase getTrajectoryUseCase;
+    private String sessionIdString;
+    private Session session;
+
+    @BeforeEach
+    void setUp() {
+        getTrajectoryUseCase = new GetTrajectoryUseCase(
+            sessionRepository,
+            sessionParticipantRepository,
+            locationHistoryRepositoryProvider
+        );
+        sessionIdString = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
+        session = Session.reconstruct(
+            100L,
+            SessionId.fromString(sessionIdString),
+            1L,
+            SessionStatus.ACTIVE,
+            LocalDateTime.now(),
+            LocalDateTime.now(),
+            null,
+            null,
+            null
+        );
+    }
+
+    @Test
+    void shouldReturnParticipantFixesWithinWindow() {
+        // Given
+        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
+        when(sessionParticipantRepository.existsBySessionIdAndUserId(100L, 2L)).thenReturn(true);
+        when(locationHistoryRepositoryProvider.getIfAvailable()).thenReturn(locationHistoryRepository);
+        when(locationHistoryRepository.findTrajectory(100L, 10L, FROM, TO, 10_001))
+            .thenReturn(List.of(point(FROM.plusMinutes(1)), point(FROM.plusMinutes(2))));
+
+        // When
+        TrajectoryResult result = getTrajectoryUseCase.execute(
+            GetTrajectoryCommand.of(sessionIdString, 2L, 10L, FROM, TO));
+
+        // Then
+        assertEquals(sessionIdString, result.getSessionId());
+        assertEquals(10L, result.getParticipantId());
+        assertEquals(FROM, result.getFrom());
+        assertEquals(TO, result.getTo());
+        assertEquals(2, result.getPoints().size());
+        assertFalse(result.isTruncated());
+    }
+
+    @Test
+    void shouldTruncateToMaximumPoints() {
+        // Given
+        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
+        when(locationHistoryRepositoryProvider.getIfAvailable()).thenReturn(locationHistoryRepository);
+        List<TrajectoryResult.Point> points = new ArrayList<>();
+        for (int i = 0; i < 10_001; i++) {
+            points.add(point(FROM.plusSeconds(i)));
+        }
+        when(locationHistoryRepository.findTrajectory(100L, 10L, FROM, TO, 10_001)).thenReturn(points);
+
+        // When (initiator)
+        TrajectoryResult result = getTrajectoryUseCase.execute(
+            GetTrajectoryCommand.of(sessionIdString, 1L, 10L, FROM, TO));
+
+        // Then
+        assertEquals(10_000, result.getPoints().size());
+        assertTrue(result.isTruncated());
+    }
+
+    @Test
+    void shouldDenyAccessToOutsiders() {
+        // Given
+        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
+        when(sessionParticipantRepository.existsBySessionIdAndUserId(100L, 3L)).thenReturn(false);
+
+        // When & Then
+        assertThrows(GeomeetDomainException.class, () -> getTrajectoryUseCase.execute(
+            GetTrajectoryCommand.of(sessionIdString, 3L, 10L, FROM, TO)));
+        verify(locationHistoryRepositoryProvider, never()).getIfAvailable();
+    }
+
+    @Test
+    void shouldDenyAccessToUnknownSession() {
+        // Given
+        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.empty());
+
+        // When & Then
+        GeomeetDomainException exception = assertThrows(GeomeetDomainException.class,
+            () -> getTrajectoryUseCase.execute(GetTrajectoryCommand.of(sessionIdString, 2L, 10L, FROM, TO)));
+        assertTrue(exception.getMessage().contains("Access denied"));
+    }
+
+    @Test
+    void shouldFailWhenHistoryIsDisabled() {
+        // Given
+        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
+        when(locationHistoryRepositoryProvider.getIfAvailable()).thenReturn(null);
+
+        // When & Then
+        GeomeetDomainException exception = assertThrows(GeomeetDomainException.class,
+            () -> getTrajectoryUseCase.execute(GetTrajectoryCommand.of(sessionIdString, 1L, 10L, FROM, TO)));
+        assertEquals("Location history is not enabled", exception.getMessage());
+        verify(locationHistoryRepository, never()).findTrajectory(any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void shouldDefaultToLastHourAndRejectInvalidWindows() {
+        // When
+        GetTrajectoryCommand lastHour = GetTrajectoryCommand.of(sessionIdString, 1L, 10L, null, TO);
+
+        // Then
+        assertEquals(TO.minusHours(1), lastHour.getFrom());
+        assertThrows(IllegalArgumentException.class,
+            () -> GetTrajectoryCommand.of(sessionIdString, 1L, 10L, TO, FROM));
+        assertThrows(IllegalArgumentException.class,
+            () -> GetTrajectoryCommand.of(sessionIdString, 1L, 10L, FROM.minusDays(2), TO));
+        assertThrows(IllegalArgumentException.class,
+            () -> GetTrajectoryCommand.of(sessionIdString, 1L, null, FROM, TO));
+    }
+
+    private static TrajectoryResult.Point point(LocalDateTime recordedAt) {
+        return TrajectoryResult.Point.builder()
+            .latitude(1.35)
+            .longitude(103.82)
+            .accuracy(5.0)
+            .recordedAt(recordedAt)
+            .build();
+    }
+}
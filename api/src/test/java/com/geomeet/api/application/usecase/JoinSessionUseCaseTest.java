@@ -52,7 +52,7 @@ class JoinSessionUseCaseTest {
   void setUp() {
     joinSessionUseCase = new JoinSessionUseCase(sessionRepository, sessionParticipantRepository);
     userId = 1L;
-    sessionIdString = "test-session-id-123";
+    sessionIdString = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
     inviteCodeVO = InviteCode.generate(); // Generate a valid invite code
     inviteCode = inviteCodeVO.getValue(); // Use the generated code value
     sessionId = SessionId.fromString(sessionIdString);
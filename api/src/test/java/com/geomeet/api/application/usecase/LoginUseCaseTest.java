@@ -3,13 +3,16 @@ package com.geomeet.api.application.usecase;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.geomeet.api.application.command.LoginCommand;
+import com.geomeet.api.application.result.AuthTokensResult;
 import com.geomeet.api.application.result.LoginResult;
+import com.geomeet.api.application.usecase.auth.AuthTokenIssuer;
 import com.geomeet.api.application.usecase.auth.LoginUseCase;
 import com.geomeet.api.application.usecase.auth.UserRepository;
 import com.geomeet.api.domain.entity.User;
@@ -35,13 +38,16 @@ class LoginUseCaseTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private AuthTokenIssuer authTokenIssuer;
+
     private LoginUseCase loginUseCase;
 
     private User testUser;
 
     @BeforeEach
     void setUp() {
-        loginUseCase = new LoginUseCase(userRepository, passwordEncoder);
+        loginUseCase = new LoginUseCase(userRepository, passwordEncoder, authTokenIssuer);
         testUser = User.create(
             new Username("testuser"),
             new Email("test@example.com"),
@@ -55,6 +61,8 @@ class LoginUseCaseTest {
         LoginCommand command = new LoginCommand("testuser", "password123");
         when(userRepository.findByUsernameOrEmail("testuser")).thenReturn(Optional.of(testUser));
         when(passwordEncoder.matches("password123", "$2a$12$hashedpassword")).thenReturn(true);
+        AuthTokensResult tokens = AuthTokensResult.builder().accessToken("access").refreshToken("refresh").build();
+        when(authTokenIssuer.issue(testUser.getId(), "testuser")).thenReturn(tokens);
 
         // When
         LoginResult result = loginUseCase.execute(command);
@@ -64,6 +72,7 @@ class LoginUseCaseTest {
         assertEquals(testUser.getId(), result.getUserId());
         assertEquals("testuser", result.getUsername());
         assertEquals("test@example.com", result.getEmail());
+        assertEquals(tokens, result.getTokens());
         verify(userRepository).findByUsernameOrEmail("testuser");
         verify(passwordEncoder).matches("password123", "$2a$12$hashedpassword");
     }
@@ -127,5 +136,36 @@ class LoginUseCaseTest {
         verify(userRepository).findByUsernameOrEmail("inactive");
         verify(passwordEncoder, never()).matches(anyString(), anyString());
     }
-}
 
+    @Test
+    void shouldRehashPasswordMadeWithOtherWorkFactor() {
+        // Given
+        LoginCommand command = new LoginCommand("testuser", "password123");
+        when(userRepository.findByUsernameOrEmail("testuser")).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches("password123", "$2a$12$hashedpassword")).thenReturn(true);
+        when(passwordEncoder.needsRehash("$2a$12$hashedpassword")).thenReturn(true);
+        when(passwordEncoder.encode("password123")).thenReturn("$2a$13$rehashedpassword");
+
+        // When
+        loginUseCase.execute(command);
+
+        // Then
+        assertEquals("$2a$13$rehashedpassword", testUser.getPasswordHash().getValue());
+        verify(userRepository).save(testUser);
+    }
+
+    @Test
+    void shouldKeepPasswordMadeWithCurrentWorkFactor() {
+        // Given
+        LoginCommand command = new LoginCommand("testuser", "password123");
+        when(userRepository.findByUsernameOrEmail("testuser")).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches("password123", "$2a$12$hashedpassword")).thenReturn(true);
+
+        // When
+        loginUseCase.execute(command);
+
+        // Then
+        verify(passwordEncoder, never()).encode(anyString());
+        verify(userRepository, never()).save(any());
+    }
+}
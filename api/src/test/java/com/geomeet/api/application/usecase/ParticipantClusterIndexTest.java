@@ -0,0 +1,179 @@
+package com.geomeet.api.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.geomeet.api.application.event.SessionClosedEvent;
+import com.geomeet.api.application.result.ParticipantClustersResult;
+import com.geomeet.api.application.result.UpdateLocationResult;
+import com.geomeet.api.application.usecase.location.ParticipantClusterIndex;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ParticipantClusterIndexTest {
+
+    private static final String SESSION = "session-1";
+
+    private ParticipantClusterIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ParticipantClusterIndex();
+    }
+
+    @Test
+    void shouldAggregateCountAndCentroidPerTile() {
+        index.seed(SESSION, List.of(
+            location(1L, 1.30, 103.80),
+            location(2L, 1.40, 103.90),
+            location(3L, 51.5, -0.12)
+        ));
+
+        List<ParticipantClustersResult.Cluster> world = index.clusters(SESSION, 0);
+        List<ParticipantClustersResult.Cluster> regions = sorted(index.clusters(SESSION, 3));
+
+        assertEquals(1, world.size());
+        assertEquals("", world.get(0).getQuadkey());
+        assertEquals(3, world.get(0).getCount());
+        assertEquals(2, regions.size());
+        assertEquals(2, regions.get(1).getCount());
+        assertEquals(1.35, regions.get(1).getLatitude(), 1e-9);
+        assertEquals(103.85, regions.get(1).getLongitude(), 1e-9);
+    }
+
+    @Test
+    void shouldMoveParticipantBetweenTilesIncrementally() {
+        index.seed(SESSION, List.of(location(1L, 1.30, 103.80), location(2L, 51.5, -0.12)));
+
+        index.record(location(1L, 51.6, -0.10));
+
+        List<ParticipantClustersResult.Cluster> regions = index.clusters(SESSION, 3);
+        assertEquals(1, regions.size());
+        assertEquals(2, regions.get(0).getCount());
+        assertEquals(51.55, regions.get(0).getLatitude(), 1e-9);
+        assertEquals("031", regions.get(0).getQuadkey());
+    }
+
+    @Test
+    void shouldKeepRecordedPositionOverLaterSeed() {
+        index.seed(SESSION, List.of());
+        index.record(location(1L, 1.30, 103.80));
+
+        index.seed(SESSION, List.of(location(1L, 51.5, -0.12)));
+
+        assertEquals(1.30, index.clusters(SESSION, 0).get(0).getLatitude(), 1e-9);
+    }
+
+    @Test
+    void shouldRecordChangesOfTrackedSessionUntilSeeded() {
+        index.track(SESSION);
+        index.record(location(1L, 1.30, 103.80));
+        assertFalse(index.isSeeded(SESSION));
+
+        index.seed(SESSION, List.of(location(1L, 51.5, -0.12), location(2L, 1.40, 103.90)));
+        index.seed(SESSION, List.of(location(1L, 51.5, -0.12), location(2L, 1.40, 103.90)));
+
+        List<ParticipantClustersResult.Cluster> world = index.clusters(SESSION, 0);
+        assertTrue(index.isSeeded(SESSION));
+        assertEquals(2, world.get(0).getCount());
+        assertEquals(1.35, world.get(0).getLatitude(), 1e-9);
+    }
+
+    @Test
+    void shouldRestoreExactCentroidAfterManyMoves() {
+        index.seed(SESSION, List.of(location(1L, 1.30, 103.80), location(2L, 1.40, 103.90)));
+
+        for (int step = 1; step <= 10_000; step++) {
+            index.record(location(2L, 1.40 + step * 0.0000123, 103.90 - step * 0.0000077));
+        }
+        index.record(location(2L, 1.40, 103.90));
+
+        ParticipantClustersResult.Cluster world = index.clusters(SESSION, 0).get(0);
+        assertEquals(2, world.getCount());
+        assertEquals(1.35, world.getLatitude());
+        assertEquals(103.85, world.getLongitude());
+    }
+
+    @Test
+    void shouldIgnoreUpdatesForUntrackedSessions() {
+        index.record(location(1L, 1.30, 103.80));
+
+        assertFalse(index.isTracked(SESSION));
+        assertEquals(List.of(), index.clusters(SESSION, 5));
+    }
+
+    @Test
+    void shouldForgetEndedSession() {
+        index.seed(SESSION, List.of(location(1L, 1.30, 103.80)));
+        assertTrue(index.isTracked(SESSION));
+
+        index.forget(SESSION);
+
+        assertFalse(index.isTracked(SESSION));
+    }
+
+    @Test
+    void shouldForgetClosedSession() {
+        index.seed(SESSION, List.of(location(1L, 1.30, 103.80)));
+
+        index.onSessionClosed(new SessionClosedEvent(SESSION));
+
+        assertFalse(index.isSeeded(SESSION));
+        assertEquals(List.of(), index.clusters(SESSION, 0));
+    }
+
+    @Test
+    void shouldEvictIdleSessionsOnly() {
+        index.seed(SESSION, List.of(location(1L, 1.30, 103.80)));
+
+        assertEquals(0, index.evictIdle(0L));
+        assertTrue(index.isSeeded(SESSION));
+        assertEquals(1, index.evictIdle(Long.MAX_VALUE));
+
+        assertFalse(index.isTracked(SESSION));
+        assertEquals(List.of(), index.clusters(SESSION, 0));
+    }
+
+    @Test
+    void shouldUseWebMercatorQuadkeys() {
+        // Tiles at zoom 1: 0 north-west, 1 north-east, 2 south-west, 3 south-east
+        index.seed(SESSION, List.of(
+            location(1L, 45.0, -90.0),
+            location(2L, 45.0, 90.0),
+            location(3L, -45.0, -90.0),
+            location(4L, -89.0, 180.0)
+        ));
+
+        List<String> quadkeys = sorted(index.clusters(SESSION, 1)).stream()
+            .map(ParticipantClustersResult.Cluster::getQuadkey)
+            .toList();
+
+        assertEquals(List.of("0", "1", "2", "3"), quadkeys);
+    }
+
+    @Test
+    void shouldRejectZoomOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> index.clusters(SESSION, -1));
+        assertThrows(IllegalArgumentException.class,
+            () -> index.clusters(SESSION, ParticipantClusterIndex.MAX_ZOOM + 1));
+    }
+
+    private static List<ParticipantClustersResult.Cluster> sorted(List<ParticipantClustersResult.Cluster> clusters) {
+        return clusters.stream()
+            .sorted(Comparator.comparing(ParticipantClustersResult.Cluster::getQuadkey))
+            .toList();
+    }
+
+    private static UpdateLocationResult location(Long participantId, double latitude, double longitude) {
+        return UpdateLocationResult.builder()
+            .participantId(participantId)
+            .sessionIdString(SESSION)
+            .latitude(latitude)
+            .longitude(longitude)
+            .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.geomeet.api.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.geomeet.api.application.event.SessionClosedEvent;
+import com.geomeet.api.application.usecase.session.SessionFieldSubscriptions;
+import com.geomeet.api.application.usecase.session.SessionFields;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SessionFieldSubscriptionsTest {
+
+    private final SessionFieldSubscriptions subscriptions = new SessionFieldSubscriptions();
+    private final SessionFields coordinates = SessionFields.parse("participants.userId,participants.latitude");
+
+    @Test
+    void shouldGroupSubscribersByFieldset() {
+        // Given
+        subscriptions.subscribe("s1", "ws-1", "sub-0", coordinates);
+        subscriptions.subscribe(
+            "s1", "ws-2", "sub-0", SessionFields.parse("participants.latitude,participants.userId"));
+        subscriptions.subscribe("s1", "ws-3", "sub-0", SessionFields.ALL);
+
+        // When
+        Map<SessionFields, List<String>> grouped = subscriptions.subscribersByFields("s1");
+
+        // Then
+        assertEquals(2, grouped.size());
+        assertEquals(2, grouped.get(coordinates).size());
+        assertEquals(List.of("ws-3"), grouped.get(SessionFields.ALL));
+    }
+
+    @Test
+    void shouldMoveReusedSubscriptionAndRemoveDisconnectedViewers() {
+        // Given
+        subscriptions.subscribe("s1", "ws-1", "sub-0", coordinates);
+
+        // When
+        subscriptions.subscribe("s2", "ws-1", "sub-0", coordinates);
+
+        // Then
+        assertFalse(subscriptions.hasSubscribers("s1"));
+        assertTrue(subscriptions.hasSubscribers("s2"));
+        subscriptions.removeViewer("ws-1");
+        subscriptions.removeViewer("unknown");
+        assertFalse(subscriptions.hasSubscribers("s2"));
+        assertTrue(subscriptions.subscribersByFields("s2").isEmpty());
+    }
+
+    @Test
+    void shouldFollowSeveralSessionsFromOneConnection() {
+        // Given
+        subscriptions.subscribe("s1", "ws-1", "sub-0", coordinates);
+        subscriptions.subscribe("s2", "ws-1", "sub-1", SessionFields.ALL);
+        subscriptions.subscribe("s2", "ws-1", "sub-2", SessionFields.ALL);
+
+        // When
+        subscriptions.unsubscribe("ws-1", "sub-1");
+        subscriptions.unsubscribe("ws-1", "unknown");
+        subscriptions.unsubscribe("unknown", "sub-0");
+
+        // Then
+        assertEquals(Map.of(coordinates, List.of("ws-1")), subscriptions.subscribersByFields("s1"));
+        assertEquals(Map.of(SessionFields.ALL, List.of("ws-1")), subscriptions.subscribersByFields("s2"));
+        subscriptions.unsubscribe("ws-1", "sub-2");
+        assertFalse(subscriptions.hasSubscribers("s2"));
+        assertTrue(subscriptions.hasSubscribers("s1"));
+        subscriptions.unsubscribe("ws-1", "sub-0");
+        assertFalse(subscriptions.hasSubscribers("s1"));
+    }
+
+    @Test
+    void shouldForgetEndedSession() {
+        // Given
+        subscriptions.subscribe("s1", "ws-1", "sub-0", coordinates);
+
+        // When
+        subscriptions.forget("s1");
+        subscriptions.onSessionClosed(new SessionClosedEvent("s1"));
+
+        // Then
+        assertFalse(subscriptions.hasSubscribers("s1"));
+        subscriptions.subscribe("s2", "ws-1", "sub-1", coordinates);
+        assertTrue(subscriptions.hasSubscribers("s2"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.geomeet.api.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.geomeet.api.application.result.GetSessionDetailsResult;
+import com.geomeet.api.application.usecase.session.SessionFields;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class SessionFieldsTest {
+
+    private final GetSessionDetailsResult result = GetSessionDetailsResult.builder()
+        .id(100L)
+        .sessionId("s1")
+        .initiatorId(1L)
+        .initiatorUsername("initiator")
+        .status("Active")
+        .participants(List.of(GetSessionDetailsResult.ParticipantInfo.builder()
+            .participantId(200L)
+            .userId(1L)
+            .username("initiator")
+            .email("initiator@example.com")
+            .latitude(1.35)
+            .longitude(103.82)
+            .online(true)
+            .build()))
+        .participantCount(1L)
+        .build();
+
+    @Test
+    void shouldProjectOnlySelectedFields() {
+        // When
+        Map<String, Object> view = SessionFields.parse(" participantCount, participants.userId,participants.latitude")
+            .project(result);
+
+        // Then
+        assertEquals(List.of("participants", "participantCount"), List.copyOf(view.keySet()));
+        assertEquals(List.of(Map.of("userId", 1L, "latitude", 1.35)), view.get("participants"));
+        assertEquals(1L, view.get("participantCount"));
+    }
+
+    @Test
+    void shouldSelectEveryParticipantFieldForBareParticipants() {
+        // When
+        SessionFields fields = SessionFields.parse("sessionId,participants");
+
+        // Then
+        assertEquals(Set.of("sessionId", "participants"), fields.fields());
+        assertEquals(SessionFields.ALL.participantFields(), fields.participantFields());
+        assertEquals(fields, SessionFields.parse("participants,sessionId"));
+    }
+
+    @Test
+    void shouldSelectEverythingWhenNothingIsNamed() {
+        assertSame(SessionFields.ALL, SessionFields.parse(null));
+        assertSame(SessionFields.ALL, SessionFields.parse(" , "));
+        assertEquals(SessionFields.ALL.fields(), SessionFields.ALL.project(result).keySet());
+    }
+
+    @Test
+    void shouldRejectUnknownFields() {
+        IllegalArgumentException exception =
+            assertThrows(IllegalArgumentException.class, () -> SessionFields.parse("participants.password"));
+
+        assertEquals("Unknown field: participants.password", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> SessionFields.parse("inviteCode"));
+    }
+
+    @Test
+    void shouldVersionEachSelectionSeparately() {
+        // Given
+        SessionFields latitude = SessionFields.parse("participants.latitude, participants.userId");
+
+        // When & Then
+        assertEquals(latitude.version("v1"),
+            SessionFields.parse("participants.userId,participants.latitude").version("v1"));
+        assertNotEquals(latitude.version("v1"), SessionFields.parse("participants.userId").version("v1"));
+        assertNotEquals(latitude.version("v1"), latitude.version("v2"));
+        assertNotEquals("v1", SessionFields.ALL.version("v1"));
+        assertEquals("v1-fparticipants-platitude,userId", latitude.version("v1"));
+        assertEquals("v1-fid,status-p", SessionFields.parse("status,id").version("v1"));
+    }
+}
@@ -0,0 +1,121 @@
+package com.geomeet.api.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.geomeet.api.application.event.SessionClosedEvent;
+import com.geomeet.api.application.usecase.session.SessionMembership;
+import com.geomeet.api.application.usecase.session.SessionParticipantRepository;
+import com.geomeet.api.application.usecase.session.SessionRepository;
+import com.geomeet.api.domain.entity.Session;
+import com.geomeet.api.domain.valueobject.SessionId;
+import com.geomeet.api.domain.valueobject.SessionStatus;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SessionMembershipTest {
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private SessionParticipantRepository sessionParticipantRepository;
+
+    private SessionMembership sessionMembership;
+    private String sessionIdString;
+
+    @BeforeEach
+    void setUp() {
+        sessionMembership = new SessionMembership(sessionRepository, sessionParticipantRepository);
+        sessionIdString = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
+    }
+
+    @Test
+    void shouldCacheParticipantMembership() {
+        // Given
+        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session()));
+        when(sessionParticipantRepository.existsBySessionIdAndUserId(100L, 2L)).thenReturn(true);
+
+        // When & Then
+        assertTrue(sessionMembership.isMember(sessionIdString, 2L));
+        assertTrue(sessionMembership.isMember(sessionIdString, 2L));
+        verify(sessionRepository, times(1)).findBySessionId(any(SessionId.class));
+    }
+
+    @Test
+    void shouldAcceptInitiatorWithoutParticipantLookup() {
+        // Given
+        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session()));
+
+        // When & Then
+        assertTrue(sessionMembership.isMember(sessionIdString, 1L));
+        verify(sessionParticipantRepository, never()).existsBySessionIdAndUserId(any(), any());
+    }
+
+    @Test
+    void shouldNotCacheDenials() {
+        // Given
+        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session()));
+        when(sessionParticipantRepository.existsBySessionIdAndUserId(100L, 3L)).thenReturn(false, true);
+
+        // When & Then
+        assertFalse(sessionMembership.isMember(sessionIdString, 3L));
+        assertTrue(sessionMembership.isMember(sessionIdString, 3L));
+    }
+
+    @Test
+    void shouldDenyUnknownSessionAndMissingUser() {
+        // Given
+        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.empty());
+
+        // When & Then
+        assertFalse(sessionMembership.isMember(sessionIdString, 2L));
+        assertFalse(sessionMembership.isMember(sessionIdString, null));
+    }
+
+    @Test
+    void shouldDenyMalformedSessionIdWithoutLookup() {
+        // When & Then
+        assertFalse(sessionMembership.isMember("not-a-session-id", 1L));
+        verify(sessionRepository, never()).findBySessionId(any(SessionId.class));
+    }
+
+    @Test
+    void shouldReloadAfterSessionIsForgotten() {
+        // Given
+        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session()));
+
+        // When
+        sessionMembership.isMember(sessionIdString, 1L);
+        sessionMembership.onSessionClosed(new SessionClosedEvent(sessionIdString));
+        sessionMembership.isMember(sessionIdString, 1L);
+
+        // Then
+        verify(sessionRepository, times(2)).findBySessionId(any(SessionId.class));
+    }
+
+    private Session session() {
+        return Session.reconstruct(
+            100L,
+            SessionId.fromString(sessionIdString),
+            1L,
+            SessionStatus.ACTIVE,
+            LocalDateTime.now(),
+            LocalDateTime.now(),
+            null,
+            null,
+            null
+        );
+    }
+}
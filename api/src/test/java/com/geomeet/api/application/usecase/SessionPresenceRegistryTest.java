@@ -0,0 +1,116 @@
+package com.geomeet.api.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.geomeet.api.application.event.SessionClosedEvent;
+import com.geomeet.api.application.usecase.session.SessionPresenceRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class SessionPresenceRegistryTest {
+
+    private final SessionPresenceRegistry registry = new SessionPresenceRegistry();
+
+    @Test
+    void shouldReportOnlyFirstConnectionAsComingOnline() {
+        // When
+        boolean first = registry.connect("s1", 1L, "ws-1", "sub-0");
+        boolean second = registry.connect("s1", 1L, "ws-2", "sub-0");
+
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(Set.of(1L), registry.onlineUsers("s1"));
+    }
+
+    @Test
+    void shouldGoOfflineWhenLastConnectionCloses() {
+        // Given
+        registry.connect("s1", 1L, "ws-1", "sub-0");
+        registry.connect("s1", 1L, "ws-2", "sub-0");
+
+        // When
+        List<SessionPresenceRegistry.Membership> afterFirst = registry.disconnect("ws-1");
+        List<SessionPresenceRegistry.Membership> afterSecond = registry.disconnect("ws-2");
+
+        // Then
+        assertTrue(afterFirst.isEmpty());
+        assertEquals(List.of(new SessionPresenceRegistry.Membership("s1", 1L)), afterSecond);
+        assertTrue(registry.onlineUsers("s1").isEmpty());
+    }
+
+    @Test
+    void shouldDropConnectionFromEverySessionItFollowed() {
+        // Given
+        registry.connect("s1", 1L, "ws-1", "sub-0");
+        registry.connect("s2", 1L, "ws-1", "sub-1");
+        registry.connect("s1", 2L, "ws-2", "sub-0");
+
+        // When
+        List<SessionPresenceRegistry.Membership> offline = registry.disconnect("ws-1");
+
+        // Then
+        assertEquals(2, offline.size());
+        assertEquals(Set.of(2L), registry.onlineUsers("s1"));
+        assertTrue(registry.onlineUsers("s2").isEmpty());
+    }
+
+    @Test
+    void shouldGoOfflineWhenLastSubscriptionIsDropped() {
+        // Given
+        registry.connect("s1", 1L, "ws-1", "sub-0");
+        registry.connect("s1", 1L, "ws-1", "sub-1");
+        registry.connect("s2", 1L, "ws-1", "sub-2");
+        long online = registry.stamp("s1");
+
+        // When
+        Optional<SessionPresenceRegistry.Membership> afterFirst = registry.unsubscribe("ws-1", "sub-0");
+        Optional<SessionPresenceRegistry.Membership> afterSecond = registry.unsubscribe("ws-1", "sub-1");
+
+        // Then
+        assertTrue(afterFirst.isEmpty());
+        assertEquals(Optional.of(new SessionPresenceRegistry.Membership("s1", 1L)), afterSecond);
+        assertTrue(registry.onlineUsers("s1").isEmpty());
+        assertTrue(registry.stamp("s1") > online);
+        assertEquals(Set.of(1L), registry.onlineUsers("s2"));
+        assertTrue(registry.unsubscribe("ws-1", "sub-1").isEmpty());
+        assertTrue(registry.unsubscribe("unknown", "sub-0").isEmpty());
+        assertEquals(List.of(new SessionPresenceRegistry.Membership("s2", 1L)), registry.disconnect("ws-1"));
+    }
+
+    @Test
+    void shouldIgnoreUnknownConnectionsAndForgottenSessions() {
+        // Given
+        registry.connect("s1", 1L, "ws-1", "sub-0");
+        registry.onSessionClosed(new SessionClosedEvent("s1"));
+
+        // When / Then
+        assertTrue(registry.disconnect("unknown").isEmpty());
+        assertTrue(registry.disconnect("ws-1").isEmpty());
+        assertTrue(registry.onlineUsers("s1").isEmpty());
+    }
+
+    @Test
+    void shouldStampSessionOnlyWhenPresenceChanges() {
+        // Given
+        long initial = registry.stamp("s1");
+        registry.connect("s1", 1L, "ws-1", "sub-0");
+        long online = registry.stamp("s1");
+
+        // When
+        registry.connect("s1", 1L, "ws-2", "sub-0");
+        long secondConnection = registry.stamp("s1");
+        registry.disconnect("ws-1");
+        registry.disconnect("ws-2");
+
+        // Then
+        assertEquals(0L, initial);
+        assertTrue(online > initial);
+        assertEquals(online, secondConnection);
+        assertTrue(registry.stamp("s1") > online);
+    }
+}
@@ -0,0 +1,257 @@
+package com.geomeet.api.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.geomeet.api.application.event.SessionClosedEvent;
+import com.geomeet.api.application.result.GetSessionDetailsResult;
+import com.geomeet.api.application.result.UpdateLocationResult;
+import com.geomeet.api.application.result.UpdateMeetingLocationResult;
+import com.geomeet.api.application.usecase.session.SessionParticipantRepository;
+import com.geomeet.api.application.usecase.session.SessionPresenceRegistry;
+import com.geomeet.api.application.usecase.session.SessionReadModel;
+import com.geomeet.api.application.usecase.session.SessionRepository;
+import com.geomeet.api.domain.entity.Session;
+import com.geomeet.api.domain.valueobject.SessionId;
+import com.geomeet.api.domain.valueobject.SessionStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SessionReadModelTest {
+
+    private static final String SESSION_ID = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private SessionParticipantRepository sessionParticipantRepository;
+
+    private final SessionPresenceRegistry sessionPresenceRegistry = new SessionPresenceRegistry();
+
+    private SessionReadModel sessionReadModel;
+    private GetSessionDetailsResult.ParticipantInfo initiatorInfo;
+
+    @BeforeEach
+    void setUp() {
+        sessionReadModel = new SessionReadModel(
+            sessionRepository, sessionParticipantRepository, sessionPresenceRegistry);
+        initiatorInfo = GetSessionDetailsResult.ParticipantInfo.builder()
+            .participantId(200L)
+            .userId(1L)
+            .username("initiator")
+            .email("initiator@example.com")
+            .joinedAt("2024-01-01T12:00:00")
+            .build();
+    }
+
+    @Test
+    void shouldLoadActiveSessionOnceAndRenderPresence() {
+        // Given
+        givenSession(SessionStatus.ACTIVE);
+        sessionPresenceRegistry.connect(SESSION_ID, 1L, "ws-1", "sub-0");
+
+        // When
+        sessionReadModel.find(SESSION_ID);
+        GetSessionDetailsResult result = sessionReadModel.find(SESSION_ID).orElseThrow();
+
+        // Then
+        assertTrue(sessionReadModel.isCached(SESSION_ID));
+        assertEquals("initiator", result.getInitiatorUsername());
+        assertEquals(1L, result.getParticipantCount());
+        assertTrue(result.getParticipants().get(0).getOnline());
+        verify(sessionRepository, times(1)).findBySessionId(any(SessionId.class));
+        verify(sessionParticipantRepository, times(1)).findRoster(100L);
+    }
+
+    @Test
+    void shouldNotKeepEndedOrMissingSessions() {
+        // Given
+        givenSession(SessionStatus.ENDED);
+
+        // When
+        GetSessionDetailsResult result = sessionReadModel.find(SESSION_ID).orElseThrow();
+
+        // Then
+        assertEquals(SessionStatus.ENDED.getValue(), result.getStatus());
+        assertFalse(sessionReadModel.isCached(SESSION_ID));
+        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.empty());
+        assertTrue(sessionReadModel.find(SESSION_ID).isEmpty());
+    }
+
+    @Test
+    void shouldApplyLocationAndMeetingLocationInPlace() {
+        // Given
+        givenSession(SessionStatus.ACTIVE);
+        sessionReadModel.find(SESSION_ID);
+
+        // When
+        sessionReadModel.recordLocation(UpdateLocationResult.builder()
+            .sessionIdString(SESSION_ID)
+            .userId(1L)
+            .latitude(1.35)
+            .longitude(103.82)
+            .accuracy(8.0)
+            .updatedAt("2024-01-01T12:10:00")
+            .build());
+        sessionReadModel.recordMeetingLocation(UpdateMeetingLocationResult.builder()
+            .sessionIdString(SESSION_ID)
+            .latitude(1.30)
+            .longitude(103.85)
+            .build());
+
+        // Then
+        GetSessionDetailsResult result = sessionReadModel.find(SESSION_ID).orElseThrow();
+        GetSessionDetailsResult.ParticipantInfo initiator = result.getParticipants().get(0);
+        assertEquals(1.35, initiator.getLatitude());
+        assertEquals(103.82, initiator.getLongitude());
+        assertEquals(8.0, initiator.getAccuracy());
+        assertEquals("2024-01-01T12:10:00", initiator.getLocationUpdatedAt());
+        assertEquals(1.30, result.getMeetingLocationLatitude());
+        assertEquals(103.85, result.getMeetingLocationLongitude());
+        verify(sessionParticipantRepository, times(1)).findRoster(100L);
+    }
+
+    @Test
+    void shouldDropViewWhenLocationOwnerIsNotOnRoster() {
+        // Given
+        givenSession(SessionStatus.ACTIVE);
+        sessionReadModel.find(SESSION_ID);
+
+        // When
+        sessionReadModel.recordLocation(UpdateLocationResult.builder()
+            .sessionIdString(SESSION_ID)
+            .userId(9L)
+            .latitude(1.35)
+            .longitude(103.82)
+            .build());
+
+        // Then
+        assertFalse(sessionReadModel.isCached(SESSION_ID));
+    }
+
+    @Test
+    void shouldReloadOnRefreshAndForgetOnClose() {
+        // Given
+        givenSession(SessionStatus.ACTIVE);
+        sessionReadModel.find(SESSION_ID);
+
+        // When
+        sessionReadModel.refresh(SESSION_ID);
+        sessionReadModel.onSessionClosed(new SessionClosedEvent(SESSION_ID));
+
+        // Then
+        assertFalse(sessionReadModel.isCached(SESSION_ID));
+        verify(sessionParticipantRepository, times(2)).findRoster(100L);
+    }
+
+    private void givenSession(SessionStatus status) {
+        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session(status)));
+        when(sessionParticipantRepository.findRoster(100L)).thenReturn(List.of(initiatorInfo));
+    }
+
+    private static Session session(SessionStatus status) {
+        return Session.reconstruct(
+            100L,
+            SessionId.fromString(SESSION_ID),
+            1L,
+            status,
+            LocalDateTime.now(),
+            LocalDateTime.now(),
+            null,
+            null,
+            null
+        );
+    }
+
+    @Test
+    void shouldChangeVersionOnlyWhenViewOrPresenceChanges() {
+        // Given
+        givenSession(SessionStatus.ACTIVE);
+        String loaded = sessionReadModel.version(SESSION_ID, 1L).orElseThrow();
+
+        // When
+        String unchanged = sessionReadModel.version(SESSION_ID, 1L).orElseThrow();
+        sessionReadModel.recordMeetingLocation(UpdateMeetingLocationResult.builder()
+            .sessionIdString(SESSION_ID)
+            .latitude(1.30)
+            .longitude(103.85)
+            .build());
+        String moved = sessionReadModel.version(SESSION_ID, 1L).orElseThrow();
+        sessionPresenceRegistry.connect(SESSION_ID, 1L, "ws-1", "sub-0");
+        String connected = sessionReadModel.version(SESSION_ID, 1L).orElseThrow();
+
+        // Then
+        assertEquals(loaded, unchanged);
+        assertNotEquals(loaded, moved);
+        assertNotEquals(moved, connected);
+        assertEquals(connected, sessionReadModel.find(SESSION_ID).orElseThrow().getVersion());
+        verify(sessionParticipantRepository, times(1)).findRoster(100L);
+    }
+
+    @Test
+    void shouldNotKeepViewWhenChangeRacesItsLoad() {
+        // Given
+        when(sessionRepository.findBySessionId(any(SessionId.class)))
+            .thenReturn(Optional.of(session(SessionStatus.ACTIVE)));
+        when(sessionParticipantRepository.findRoster(100L)).thenAnswer(invocation -> {
+            // Commits after the roster was read, so the loaded view misses it
+            sessionReadModel.recordMeetingLocation(UpdateMeetingLocationResult.builder()
+                .sessionIdString(SESSION_ID)
+                .latitude(1.30)
+                .longitude(103.85)
+                .build());
+            return List.of(initiatorInfo);
+        });
+
+        // When
+        GetSessionDetailsResult result = sessionReadModel.find(SESSION_ID).orElseThrow();
+
+        // Then
+        assertEquals(1L, result.getParticipantCount());
+        assertFalse(sessionReadModel.isCached(SESSION_ID));
+    }
+
+    @Test
+    void shouldEvictIdleViewsAndLeastRecentlyReadBeyondCap() {
+        // Given
+        givenSession(SessionStatus.ACTIVE);
+        sessionReadModel.find(SESSION_ID);
+
+        // When
+        int kept = sessionReadModel.evictIdle(0L, 1);
+        int overCap = sessionReadModel.evictIdle(0L, 0);
+
+        // Then
+        assertEquals(0, kept);
+        assertEquals(1, overCap);
+        assertFalse(sessionReadModel.isCached(SESSION_ID));
+        sessionReadModel.find(SESSION_ID);
+        assertEquals(1, sessionReadModel.evictIdle(Long.MAX_VALUE, 10));
+    }
+
+    @Test
+    void shouldNotReportVersionToNonMembers() {
+        // Given
+        givenSession(SessionStatus.ACTIVE);
+
+        // When / Then
+        assertTrue(sessionReadModel.version(SESSION_ID, 9L).isEmpty());
+        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.empty());
+        sessionReadModel.forget(SESSION_ID);
+        assertTrue(sessionReadModel.version(SESSION_ID, 1L).isEmpty());
+    }
+}
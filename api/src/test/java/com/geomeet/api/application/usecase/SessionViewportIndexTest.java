@@ -0,0 +1,140 @@
+package com.geomeet.api.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.geomeet.api.application.event.SessionClosedEvent;
+import com.geomeet.api.application.result.UpdateLocationResult;
+import com.geomeet.api.application.usecase.session.SessionViewportIndex;
+import com.geomeet.api.domain.valueobject.Viewport;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SessionViewportIndexTest {
+
+    private static final String SESSION = "session-1";
+
+    private SessionViewportIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SessionViewportIndex(0.01, 16);
+    }
+
+    @Test
+    void shouldIgnoreSessionsWithoutViewers() {
+        assertEquals(Set.of(), index.track(location(1L, 1.3, 103.8)));
+        assertFalse(index.isTracked(SESSION));
+        assertEquals(List.of(), index.snapshot(SESSION, Viewport.of(1.0, 103.0, 2.0, 104.0)));
+    }
+
+    @Test
+    void shouldRouteOnlyToViewersWhoseViewportContainsPosition() {
+        index.updateViewport(SESSION, "near", Viewport.of(1.300, 103.800, 1.310, 103.810));
+        index.updateViewport(SESSION, "far", Viewport.of(1.400, 103.900, 1.410, 103.910));
+
+        assertEquals(Set.of("near"), index.track(location(1L, 1.305, 103.805)));
+        assertEquals(Set.of("far"), index.track(location(2L, 1.405, 103.905)));
+        assertEquals(Set.of(), index.track(location(3L, 1.350, 103.850)));
+    }
+
+    @Test
+    void shouldNotifyViewersOfPreviousPositionWhenParticipantLeaves() {
+        index.updateViewport(SESSION, "near", Viewport.of(1.300, 103.800, 1.310, 103.810));
+        index.updateViewport(SESSION, "far", Viewport.of(1.400, 103.900, 1.410, 103.910));
+        index.track(location(1L, 1.305, 103.805));
+
+        assertEquals(Set.of("near", "far"), index.track(location(1L, 1.405, 103.905)));
+        assertEquals(Set.of("far"), index.track(location(1L, 1.406, 103.906)));
+    }
+
+    @Test
+    void shouldRouteToWideViewportsWithoutIndexingTheirCells() {
+        index.updateViewport(SESSION, "wide", Viewport.of(-10.0, 90.0, 10.0, 120.0));
+
+        assertEquals(Set.of("wide"), index.track(location(1L, 1.305, 103.805)));
+        assertEquals(Set.of(), index.track(location(2L, 20.0, 103.805)));
+        assertEquals(1, index.snapshot(SESSION, Viewport.of(-10.0, 90.0, 10.0, 120.0)).size());
+    }
+
+    @Test
+    void shouldMoveAndRemoveViewers() {
+        index.updateViewport(SESSION, "viewer", Viewport.of(1.300, 103.800, 1.310, 103.810));
+        index.updateViewport(SESSION, "viewer", Viewport.of(1.400, 103.900, 1.410, 103.910));
+
+        assertEquals(Set.of(), index.track(location(1L, 1.305, 103.805)));
+        assertEquals(Set.of("viewer"), index.track(location(2L, 1.405, 103.905)));
+
+        index.removeViewer("viewer");
+        assertEquals(Set.of(), index.track(location(2L, 1.406, 103.906)));
+        assertTrue(index.isTracked(SESSION));
+    }
+
+    @Test
+    void shouldMoveViewerBetweenSessions() {
+        index.updateViewport(SESSION, "viewer", Viewport.of(1.300, 103.800, 1.310, 103.810));
+        index.updateViewport("session-2", "viewer", Viewport.of(1.300, 103.800, 1.310, 103.810));
+
+        assertEquals(Set.of(), index.track(location(1L, 1.305, 103.805)));
+    }
+
+    @Test
+    void shouldSnapshotSeededAndLivePositionsInsideViewport() {
+        index.seed(SESSION, List.of(location(1L, 1.305, 103.805), location(2L, 1.5, 103.5)));
+        index.updateViewport(SESSION, "viewer", Viewport.of(1.300, 103.800, 1.310, 103.810));
+        index.track(location(3L, 1.306, 103.806));
+        // A stale seed must not override a live position
+        index.seed(SESSION, List.of(location(3L, 1.5, 103.5)));
+
+        List<UpdateLocationResult> visible = index.snapshot(SESSION, Viewport.of(1.300, 103.800, 1.310, 103.810));
+
+        assertEquals(Set.of(1L, 3L), Set.copyOf(visible.stream().map(UpdateLocationResult::getParticipantId).toList()));
+    }
+
+    @Test
+    void shouldForgetEndedSession() {
+        index.updateViewport(SESSION, "viewer", Viewport.of(1.300, 103.800, 1.310, 103.810));
+
+        index.onSessionClosed(new SessionClosedEvent(SESSION));
+
+        assertFalse(index.isTracked(SESSION));
+        assertEquals(Set.of(), index.track(location(1L, 1.305, 103.805)));
+        index.removeViewer("viewer");
+    }
+
+    @Test
+    void shouldEvictOnlyGridsWithoutViewers() {
+        index.updateViewport(SESSION, "viewer", Viewport.of(1.300, 103.800, 1.310, 103.810));
+        index.updateViewport("session-2", "other", Viewport.of(1.300, 103.800, 1.310, 103.810));
+        index.removeViewer("other");
+
+        assertEquals(1, index.evictIdle(Long.MAX_VALUE));
+
+        assertTrue(index.isTracked(SESSION));
+        assertFalse(index.isTracked("session-2"));
+        assertEquals(0, index.evictIdle(0L));
+    }
+
+    @Test
+    void shouldRejectInvalidGrid() {
+        assertThrows(IllegalArgumentException.class, () -> new SessionViewportIndex(0, 16));
+        assertThrows(IllegalArgumentException.class, () -> new SessionViewportIndex(0.01, 0));
+    }
+
+    private static UpdateLocationResult location(Long participantId, double latitude, double longitude) {
+        return UpdateLocationResult.builder()
+            .participantId(participantId)
+            .sessionId(100L)
+            .sessionIdString(SESSION)
+            .userId(participantId)
+            .latitude(latitude)
+            .longitude(longitude)
+            .accuracy(10.0)
+            .updatedAt("2024-01-01T00:00:00")
+            .build();
+    }
+}
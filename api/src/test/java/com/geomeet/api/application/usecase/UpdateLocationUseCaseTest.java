@@ -10,10 +10,10 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.geomeet.api.application.command.UpdateLocationCommand;
+import com.geomeet.api.application.event.LocationUpdatedEvent;
 import com.geomeet.api.application.result.UpdateLocationResult;
 import com.geomeet.api.application.usecase.location.ParticipantLocationRepository;
 import com.geomeet.api.application.usecase.location.UpdateLocationUseCase;
-import com.geomeet.api.application.usecase.session.BroadcastLocationUpdateUseCase;
 import com.geomeet.api.application.usecase.session.SessionParticipantRepository;
 import com.geomeet.api.application.usecase.session.SessionRepository;
 import com.geomeet.api.domain.entity.ParticipantLocation;
@@ -30,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class UpdateLocationUseCaseTest {
@@ -44,7 +45,7 @@ class UpdateLocationUseCaseTest {
     private ParticipantLocationRepository participantLocationRepository;
 
     @Mock
-    private BroadcastLocationUpdateUseCase broadcastLocationUpdateUseCase;
+    private ApplicationEventPublisher eventPublisher;
 
     private UpdateLocationUseCase updateLocationUseCase;
 
@@ -64,12 +65,12 @@ class UpdateLocationUseCaseTest {
             sessionRepository,
             sessionParticipantRepository,
             participantLocationRepository,
-            broadcastLocationUpdateUseCase
+            eventPublisher
         );
 
         userId = 1L;
         sessionDbId = 100L;
-        sessionIdString = "test-session-id-123";
+        sessionIdString = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
         sessionId = SessionId.fromString(sessionIdString);
         latitude = 37.7749;
         longitude = -122.4194;
@@ -208,7 +209,7 @@ class UpdateLocationUseCaseTest {
         verify(sessionParticipantRepository).findBySessionIdAndUserId(sessionDbId, userId);
         verify(participantLocationRepository).findByParticipantId(participant.getId());
         verify(participantLocationRepository).save(any(ParticipantLocation.class));
-        verify(broadcastLocationUpdateUseCase).execute(any(UpdateLocationResult.class));
+        verify(eventPublisher).publishEvent(any(LocationUpdatedEvent.class));
     }
 
     @Test
@@ -228,7 +229,7 @@ class UpdateLocationUseCaseTest {
         verify(sessionRepository).findBySessionId(sessionId);
         verify(sessionParticipantRepository, never()).findBySessionIdAndUserId(anyLong(), anyLong());
         verify(participantLocationRepository, never()).save(any(ParticipantLocation.class));
-        verify(broadcastLocationUpdateUseCase, never()).execute(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -258,7 +259,7 @@ class UpdateLocationUseCaseTest {
         verify(sessionRepository).findBySessionId(sessionId);
         verify(sessionParticipantRepository, never()).findBySessionIdAndUserId(anyLong(), anyLong());
         verify(participantLocationRepository, never()).save(any(ParticipantLocation.class));
-        verify(broadcastLocationUpdateUseCase, never()).execute(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -341,7 +342,7 @@ class UpdateLocationUseCaseTest {
         verify(sessionRepository).findBySessionId(sessionId);
         verify(sessionParticipantRepository).findBySessionIdAndUserId(sessionDbId, initiatorUserId);
         verify(participantLocationRepository, never()).save(any(ParticipantLocation.class));
-        verify(broadcastLocationUpdateUseCase, never()).execute(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -364,7 +365,7 @@ class UpdateLocationUseCaseTest {
         verify(sessionRepository).findBySessionId(sessionId);
         verify(sessionParticipantRepository).findBySessionIdAndUserId(sessionDbId, unauthorizedUserId);
         verify(participantLocationRepository, never()).save(any(ParticipantLocation.class));
-        verify(broadcastLocationUpdateUseCase, never()).execute(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 }
 
@@ -9,9 +9,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.geomeet.api.application.command.UpdateMeetingLocationCommand;
+import com.geomeet.api.application.event.MeetingLocationUpdatedEvent;
 import com.geomeet.api.application.result.UpdateMeetingLocationResult;
 import com.geomeet.api.application.usecase.location.UpdateMeetingLocationUseCase;
-import com.geomeet.api.application.usecase.session.BroadcastMeetingLocationUseCase;
 import com.geomeet.api.application.usecase.session.SessionRepository;
 import com.geomeet.api.domain.entity.Session;
 import com.geomeet.api.domain.exception.GeomeetDomainException;
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class UpdateMeetingLocationUseCaseTest {
@@ -33,7 +34,7 @@ class UpdateMeetingLocationUseCaseTest {
     private SessionRepository sessionRepository;
 
     @Mock
-    private BroadcastMeetingLocationUseCase broadcastMeetingLocationUseCase;
+    private ApplicationEventPublisher eventPublisher;
 
     private UpdateMeetingLocationUseCase updateMeetingLocationUseCase;
 
@@ -49,12 +50,12 @@ class UpdateMeetingLocationUseCaseTest {
     void setUp() {
         updateMeetingLocationUseCase = new UpdateMeetingLocationUseCase(
             sessionRepository,
-            broadcastMeetingLocationUseCase
+            eventPublisher
         );
 
         initiatorId = 1L;
         sessionDbId = 100L;
-        sessionIdString = "test-session-id-123";
+        sessionIdString = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
         sessionId = SessionId.fromString(sessionIdString);
         latitude = 1.3521;
         longitude = 103.8198;
@@ -107,7 +108,7 @@ class UpdateMeetingLocationUseCaseTest {
 
         verify(sessionRepository).findBySessionId(sessionId);
         verify(sessionRepository).save(any(Session.class));
-        verify(broadcastMeetingLocationUseCase).execute(any(UpdateMeetingLocationResult.class));
+        verify(eventPublisher).publishEvent(any(MeetingLocationUpdatedEvent.class));
     }
 
     @Test
@@ -178,7 +179,7 @@ class UpdateMeetingLocationUseCaseTest {
         assertEquals("Only the session initiator can update the meeting location", exception.getMessage());
         verify(sessionRepository).findBySessionId(sessionId);
         verify(sessionRepository, never()).save(any(Session.class));
-        verify(broadcastMeetingLocationUseCase, never()).execute(any(UpdateMeetingLocationResult.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 }
 
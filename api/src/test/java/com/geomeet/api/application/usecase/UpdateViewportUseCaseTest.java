@@ -0,0 +1,127 @@
+package com.geomeet.api.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.geomeet.api.application.command.UpdateViewportCommand;
+import com.geomeet.api.application.result.UpdateLocationResult;
+import com.geomeet.api.application.usecase.location.ParticipantLocationRepository;
+import com.geomeet.api.application.usecase.session.SessionRepository;
+import com.geomeet.api.application.usecase.session.SessionViewportIndex;
+import com.geomeet.api.application.usecase.session.UpdateViewportUseCase;
+import com.geomeet.api.domain.entity.ParticipantLocation;
+import com.geomeet.api.domain.entity.Session;
+import com.geomeet.api.domain.exception.GeomeetDomainException;
+import com.geomeet.api.domain.valueobject.SessionId;
+import com.geomeet.api.domain.valueobject.SessionStatus;
+import com.geomeet.api.domain.valueobject.Viewport;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class UpdateViewportUseCaseTest {
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private ParticipantLocationRepository participantLocationRepository;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private SessionViewportIndex sessionViewportIndex;
+    private UpdateViewportUseCase updateViewportUseCase;
+
+    private String sessionIdString;
+    private Viewport viewport;
+    private UpdateViewportCommand command;
+
+    @BeforeEach
+    void setUp() {
+        sessionViewportIndex = new SessionViewportIndex();
+        updateViewportUseCase = new UpdateViewportUseCase(
+            sessionRepository, participantLocationRepository, sessionViewportIndex, messagingTemplate);
+        sessionIdString = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
+        viewport = Viewport.of(1.30, 103.80, 1.40, 103.90);
+        command = UpdateViewportCommand.of(sessionIdString, "ws-1", viewport);
+    }
+
+    @Test
+    void shouldSeedIndexOnFirstViewportAndSendSnapshot() {
+        // Given
+        Session session = Session.reconstruct(
+            100L,
+            SessionId.fromString(sessionIdString),
+            1L,
+            SessionStatus.ACTIVE,
+            LocalDateTime.now(),
+            LocalDateTime.now(),
+            null,
+            null,
+            null
+        );
+        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.of(session));
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(participantLocationRepository.findBySessionId(100L)).thenReturn(List.of(
+            ParticipantLocation.reconstruct(1L, 10L, 100L, 1L, 1.35, 103.85, 5.0, now, now, null, null),
+            ParticipantLocation.reconstruct(2L, 20L, 100L, 2L, 1.50, 103.50, 5.0, now, now, null, null)
+        ));
+
+        // When
+        List<UpdateLocationResult> visible = updateViewportUseCase.execute(command);
+
+        // Then
+        assertEquals(1, visible.size());
+        assertEquals(10L, visible.get(0).getParticipantId());
+        assertEquals(sessionIdString, visible.get(0).getSessionIdString());
+        verify(messagingTemplate).convertAndSendToUser(
+            eq("ws-1"), eq("/queue/session/" + sessionIdString + "/locations/snapshot"), eq(visible), any(Map.class));
+        assertEquals(1, sessionViewportIndex.track(visible.get(0)).size());
+    }
+
+    @Test
+    void shouldNotReloadTrackedSession() {
+        // Given
+        sessionViewportIndex.seed(sessionIdString, List.of());
+
+        // When
+        updateViewportUseCase.execute(command);
+
+        // Then
+        verify(sessionRepository, never()).findBySessionId(any(SessionId.class));
+        verify(participantLocationRepository, never()).findBySessionId(any());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UpdateLocationResult>> snapshot = ArgumentCaptor.forClass(List.class);
+        verify(messagingTemplate).convertAndSendToUser(eq("ws-1"), anyString(), snapshot.capture(), any(Map.class));
+        assertTrue(snapshot.getValue().isEmpty());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenSessionNotFound() {
+        // Given
+        when(sessionRepository.findBySessionId(any(SessionId.class))).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(GeomeetDomainException.class, () -> updateViewportUseCase.execute(command));
+        verify(participantLocationRepository, never()).findBySessionId(any());
+        verify(messagingTemplate, never()).convertAndSendToUser(anyString(), anyString(), anyList(), any(Map.class));
+    }
+}
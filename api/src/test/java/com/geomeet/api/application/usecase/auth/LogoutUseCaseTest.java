@@ -0,0 +1,42 @@
+package com.geomeet.api.application.usecase.auth;
+
+import static org.mockito.Mockito.verify;
+
+import com.geomeet.api.application.command.LogoutCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class LogoutUseCaseTest {
+
+    @Mock
+    private AuthTokenIssuer authTokenIssuer;
+
+    private LogoutUseCase logoutUseCase;
+
+    @BeforeEach
+    void setUp() {
+        logoutUseCase = new LogoutUseCase(authTokenIssuer);
+    }
+
+    @Test
+    void shouldRevokeBothTokens() {
+        // When
+        logoutUseCase.execute(LogoutCommand.of("access-token", "refresh-token"));
+
+        // Then
+        verify(authTokenIssuer).revoke("access-token", "refresh-token");
+    }
+
+    @Test
+    void shouldRevokeWhateverTokensWereGiven() {
+        // When
+        logoutUseCase.execute(LogoutCommand.of(null, "refresh-token"));
+
+        // Then
+        verify(authTokenIssuer).revoke(null, "refresh-token");
+    }
+}
@@ -0,0 +1,60 @@
+package com.geomeet.api.application.usecase.auth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import com.geomeet.api.application.command.RefreshTokenCommand;
+import com.geomeet.api.application.result.AuthTokensResult;
+import com.geomeet.api.domain.exception.InvalidCredentialsExceptionGeomeet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenUseCaseTest {
+
+    @Mock
+    private AuthTokenIssuer authTokenIssuer;
+
+    private RefreshTokenUseCase refreshTokenUseCase;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenUseCase = new RefreshTokenUseCase(authTokenIssuer);
+    }
+
+    @Test
+    void shouldExchangeRefreshTokenForNewPair() {
+        // Given
+        AuthTokensResult tokens = AuthTokensResult.builder()
+            .accessToken("new-access")
+            .refreshToken("new-refresh")
+            .expiresIn(900L)
+            .build();
+        when(authTokenIssuer.rotate("refresh-token")).thenReturn(tokens);
+
+        // When
+        AuthTokensResult result = refreshTokenUseCase.execute(RefreshTokenCommand.of("refresh-token"));
+
+        // Then
+        assertEquals(tokens, result);
+    }
+
+    @Test
+    void shouldPropagateRejectedRefreshToken() {
+        // Given
+        when(authTokenIssuer.rotate("reused-token")).thenThrow(new InvalidCredentialsExceptionGeomeet());
+
+        // When & Then
+        assertThrows(InvalidCredentialsExceptionGeomeet.class,
+            () -> refreshTokenUseCase.execute(RefreshTokenCommand.of("reused-token")));
+    }
+
+    @Test
+    void shouldRejectBlankRefreshToken() {
+        assertThrows(IllegalArgumentException.class, () -> RefreshTokenCommand.of(" "));
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -32,13 +33,16 @@ class RegisterUseCaseTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private AuthTokenIssuer authTokenIssuer;
+
     private RegisterUseCase registerUseCase;
 
     private User existingUser;
 
     @BeforeEach
     void setUp() {
-        registerUseCase = new RegisterUseCase(userRepository, passwordEncoder);
+        registerUseCase = new RegisterUseCase(userRepository, passwordEncoder, authTokenIssuer);
         existingUser = User.create(
             new Username("existinguser"),
             new Email("existing@example.com"),
@@ -84,6 +88,7 @@ class RegisterUseCaseTest {
         verify(userRepository).findByEmailAndUserName("newuser@example.com", "newuser");
         verify(passwordEncoder).encode("password123");
         verify(userRepository).save(any(User.class));
+        verify(authTokenIssuer).issue(any(), eq("newuser"));
     }
 
 
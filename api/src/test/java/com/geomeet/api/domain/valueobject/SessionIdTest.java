@@ -1,14 +1,19 @@
 package com.geomeet.api.domain.valueobject;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.UUID;
 import org.junit.jupiter.api.Test;
 
 class SessionIdTest {
 
+    private static final String UUID_STRING = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
+
     @Test
     void shouldGenerateUniqueSessionId() {
         SessionId sessionId1 = SessionId.generate();
@@ -21,16 +26,26 @@ class SessionIdTest {
 
     @Test
     void shouldCreateSessionIdFromString() {
-        String uuid = "test-session-id";
-        SessionId sessionId = SessionId.fromString(uuid);
+        SessionId sessionId = SessionId.fromString(UUID_STRING);
 
         assertNotNull(sessionId);
-        assertEquals(uuid, sessionId.getValue());
+        assertEquals(UUID_STRING, sessionId.getValue());
+        assertEquals(UUID.fromString(UUID_STRING), sessionId.getUuid());
+    }
+
+    @Test
+    void shouldCreateSessionIdFromUuid() {
+        UUID uuid = UUID.fromString(UUID_STRING);
+        SessionId sessionId = SessionId.fromUuid(uuid);
+
+        assertEquals(uuid, sessionId.getUuid());
+        assertEquals(SessionId.fromString(UUID_STRING), sessionId);
     }
 
     @Test
     void shouldThrowExceptionWhenSessionIdIsNull() {
         assertThrows(IllegalArgumentException.class, () ->  SessionId.fromString(null));
+        assertThrows(IllegalArgumentException.class, () ->  SessionId.fromUuid(null));
     }
 
     @Test
@@ -43,14 +58,33 @@ class SessionIdTest {
         assertThrows(IllegalArgumentException.class, () ->  SessionId.fromString("   "));
     }
 
+    @Test
+    void shouldThrowExceptionWhenSessionIdIsNotUuid() {
+        assertThrows(IllegalArgumentException.class, () ->  SessionId.fromString("test-session-id"));
+        assertThrows(IllegalArgumentException.class, () ->  SessionId.fromString("1-2-3-4-5"));
+        assertThrows(IllegalArgumentException.class, () ->  SessionId.fromString("zc9e6679-7425-40de-944b-e07fc1f90ae7"));
+    }
+
+    @Test
+    void shouldTellValidSessionIds() {
+        assertTrue(SessionId.isValid(UUID_STRING));
+        assertFalse(SessionId.isValid("test-session-id"));
+        assertFalse(SessionId.isValid(null));
+    }
+
+    @Test
+    void shouldCanonicalizeToLowercase() {
+        assertEquals(UUID_STRING, SessionId.canonical(UUID_STRING.toUpperCase()));
+        assertEquals(UUID_STRING, SessionId.canonical(UUID_STRING));
+        assertThrows(IllegalArgumentException.class, () -> SessionId.canonical("test-session-id"));
+    }
+
     @Test
     void shouldBeEqualWhenSessionIdsAreSame() {
-        String uuid = "test-session-id";
-        SessionId sessionId1 = SessionId.fromString(uuid);
-        SessionId sessionId2 = SessionId.fromString(uuid);
+        SessionId sessionId1 = SessionId.fromString(UUID_STRING);
+        SessionId sessionId2 = SessionId.fromString(UUID_STRING);
 
         assertEquals(sessionId1, sessionId2);
         assertEquals(sessionId1.hashCode(), sessionId2.hashCode());
     }
 }
-
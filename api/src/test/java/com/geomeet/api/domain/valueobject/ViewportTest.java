@@ -0,0 +1,76 @@
+package com.geomeet.api.domain.valueobject;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ViewportTest {
+
+    @Test
+    void shouldCreateViewportSuccessfully() {
+        // When
+        Viewport viewport = Viewport.of(1.0, 103.0, 2.0, 104.0);
+
+        // Then
+        assertEquals(1.0, viewport.getMinLatitude());
+        assertEquals(103.0, viewport.getMinLongitude());
+        assertEquals(2.0, viewport.getMaxLatitude());
+        assertEquals(104.0, viewport.getMaxLongitude());
+    }
+
+    @Test
+    void shouldContainPositionsInsideAndOnEdges() {
+        // Given
+        Viewport viewport = Viewport.of(1.0, 103.0, 2.0, 104.0);
+
+        // When & Then
+        assertTrue(viewport.contains(1.5, 103.5));
+        assertTrue(viewport.contains(1.0, 104.0));
+        assertFalse(viewport.contains(0.99, 103.5));
+        assertFalse(viewport.contains(1.5, 104.01));
+    }
+
+    @Test
+    void shouldParseCommaSeparatedBounds() {
+        // When
+        Viewport viewport = Viewport.parse(" 1.0, 103.0 ,2.0,104.0");
+
+        // Then
+        assertEquals(Viewport.of(1.0, 103.0, 2.0, 104.0), viewport);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenViewportIsInverted() {
+        // When & Then
+        IllegalArgumentException latitude = assertThrows(
+            IllegalArgumentException.class,
+            () -> Viewport.of(2.0, 103.0, 1.0, 104.0)
+        );
+        IllegalArgumentException longitude = assertThrows(
+            IllegalArgumentException.class,
+            () -> Viewport.of(1.0, 104.0, 2.0, 103.0)
+        );
+
+        assertEquals("Viewport minimum latitude must not exceed maximum latitude", latitude.getMessage());
+        assertEquals("Viewport minimum longitude must not exceed maximum longitude", longitude.getMessage());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenCoordinateIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> Viewport.of(-91.0, 103.0, 2.0, 104.0));
+        assertThrows(IllegalArgumentException.class, () -> Viewport.of(1.0, 103.0, 2.0, 181.0));
+    }
+
+    @Test
+    void shouldThrowExceptionWhenParsingMalformedValue() {
+        assertEquals("Viewport cannot be null",
+            assertThrows(IllegalArgumentException.class, () -> Viewport.parse(null)).getMessage());
+        assertEquals("Viewport must be minLat,minLon,maxLat,maxLon",
+            assertThrows(IllegalArgumentException.class, () -> Viewport.parse("1,2,3")).getMessage());
+        assertEquals("Viewport bounds must be numbers",
+            assertThrows(IllegalArgumentException.class, () -> Viewport.parse("1,2,x,4")).getMessage());
+    }
+}
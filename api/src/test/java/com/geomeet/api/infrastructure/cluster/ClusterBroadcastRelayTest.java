@@ -0,0 +1,331 @@
+package com.geomeet.api.infrastructure.cluster;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ClusterBroadcastRelayTest {
+
+    @Mock
+    private ClusterBroadcastRelay.ListenerConnections listenerConnections;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ClusterBroadcastRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = relay("node-a");
+    }
+
+    @Test
+    void shouldRejectInvalidChannelName() {
+        assertThrows(IllegalArgumentException.class, () -> new ClusterBroadcastRelay(
+            listenerConnections, jdbcTemplate, objectMapper, messagingTemplateProvider, eventPublisher,
+            new SimpleMeterRegistry(),
+            "node-a", "bad; DROP TABLE USERS", 10, 100));
+    }
+
+    @Test
+    void shouldCaptureLocalTopicBroadcasts() {
+        ClusterEnvelope envelope = relay.toEnvelope(topicMessage("/topic/session/s1/locations", "{}", null));
+
+        assertNotNull(envelope);
+        assertEquals("node-a", envelope.node());
+        assertEquals(1L, envelope.id());
+        assertEquals("/topic/session/s1/locations", envelope.destination());
+        assertEquals("application/json", envelope.contentType());
+        assertEquals(List.of("7"), envelope.headers().get("x-conflation-key"));
+    }
+
+    @Test
+    void shouldNotCaptureRelayedOrNonTopicMessages() {
+        assertNull(relay.toEnvelope(topicMessage("/topic/session/s1", "{}", "node-b")));
+        assertNull(relay.toEnvelope(topicMessage("/queue/private", "{}", null)));
+
+        SimpMessageHeaderAccessor subscribe = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        subscribe.setDestination("/topic/session/s1");
+        assertNull(relay.toEnvelope(MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders())));
+    }
+
+    @Test
+    void shouldKeepCompactFramesAndTheirIndexOnThisNode() {
+        assertNull(relay.toEnvelope(topicMessage("/topic/session/s1/locations/compact", "x", null)));
+        assertNull(relay.toEnvelope(topicMessage("/topic/session/s1/locations/index", "{}", null)));
+        assertNotNull(relay.toEnvelope(topicMessage("/topic/session/s1/locations", "{}", null)));
+    }
+
+    @Test
+    void shouldCaptureBroadcastWithoutContentTypeOrHeaders() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination("/topic/session/s1");
+
+        ClusterEnvelope envelope =
+            relay.toEnvelope(MessageBuilder.createMessage(new byte[] {1}, accessor.getMessageHeaders()));
+
+        assertNotNull(envelope);
+        assertNull(envelope.contentType());
+        assertNull(envelope.headers());
+    }
+
+    @Test
+    void shouldGenerateNodeIdWhenNoneConfigured() {
+        assertFalse(relay(" ").getNodeId().isBlank());
+        assertEquals("node-a", relay.getNodeId());
+    }
+
+    @Test
+    void shouldDropBroadcastsWhenQueueIsFull() {
+        ClusterBroadcastRelay small = relay("node-a", 1);
+        Message<byte[]> message = topicMessage("/topic/session/s1", "{}", null);
+
+        assertEquals(message, small.preSend(message, null));
+        assertEquals(message, small.preSend(message, null));
+        small.preSend(topicMessage("/queue/private", "{}", null), null);
+    }
+
+    @Test
+    void shouldPublishQueuedBroadcastsAndPurgeStoredPayloads() throws Exception {
+        // Given
+        when(listenerConnections.open()).thenThrow(new SQLException("no database"));
+        relay.preSend(topicMessage("/topic/session/s1/locations", "{}", null), null);
+
+        // When
+        relay.start();
+
+        // Then
+        try {
+            verify(jdbcTemplate, timeout(2000))
+                .queryForList(eq("SELECT pg_notify(?, ?)"), eq("geomeet_broadcast"), anyString());
+            verify(jdbcTemplate, timeout(2000)).update(anyString());
+            assertTrue(relay.isRunning());
+        } finally {
+            relay.stop();
+        }
+        assertFalse(relay.isRunning());
+    }
+
+    @Test
+    void shouldListenOnDedicatedConnectionAndDeliverNotifications() throws Exception {
+        // Given
+        when(messagingTemplateProvider.getObject()).thenReturn(messagingTemplate);
+        ClusterBroadcastRelay remote = relay("node-b");
+        String notification = remote.toNotifications(
+            List.of(remote.toEnvelope(topicMessage("/topic/session/s1/locations", "{}", null))), json -> 0L).get(0);
+        Connection connection = mock(Connection.class);
+        PGConnection pgConnection = mock(PGConnection.class);
+        Statement statement = mock(Statement.class);
+        PGNotification pgNotification = mock(PGNotification.class);
+        when(listenerConnections.open()).thenReturn(connection);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(pgNotification.getParameter()).thenReturn(notification);
+        when(pgConnection.getNotifications(500))
+            .thenReturn(new PGNotification[] {pgNotification})
+            .thenAnswer(invocation -> {
+                Thread.sleep(10);
+                return null;
+            });
+
+        // When
+        relay.start();
+
+        // Then
+        try {
+            verify(messagingTemplate, timeout(2000)).send(eq("/topic/session/s1/locations"), any(Message.class));
+            verify(statement).execute("LISTEN geomeet_broadcast");
+        } finally {
+            relay.stop();
+        }
+        verify(connection, timeout(2000)).close();
+    }
+
+    @Test
+    void shouldStoreAndLoadOversizedPayloads() throws Exception {
+        // Given
+        ClusterEnvelope envelope = relay.toEnvelope(topicMessage("/topic/session/s1", "{}", null));
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), anyString())).thenReturn(9L, (Long) null);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(9L)))
+            .thenReturn(List.of(objectMapper.writeValueAsString(envelope)));
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(10L))).thenReturn(List.of());
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(11L))).thenReturn(List.of("not json"));
+
+        // When & Then
+        assertEquals(9L, relay.storePayload("{}"));
+        assertThrows(IllegalStateException.class, () -> relay.storePayload("{}"));
+        assertEquals(envelope, relay.loadPayload(9L));
+        assertNull(relay.loadPayload(10L));
+        assertNull(relay.loadPayload(11L));
+    }
+
+    @Test
+    void shouldSkipStoredPayloadThatWasAlreadyPurged() throws Exception {
+        ClusterBroadcastRelay remote = relay("node-b");
+        ClusterEnvelope large = remote.toEnvelope(topicMessage("/topic/session/s1", "z".repeat(10_000), null));
+        String notification = remote.toNotifications(List.of(large), json -> 5L).get(0);
+
+        relay.onNotification(notification, ref -> null);
+
+        verify(messagingTemplate, never()).send(anyString(), any(Message.class));
+    }
+
+    @Test
+    void shouldStopWithoutStarting() {
+        relay.stop();
+
+        assertFalse(relay.isRunning());
+    }
+
+    @Test
+    void shouldBatchEnvelopesWithinNotificationLimit() throws Exception {
+        List<ClusterEnvelope> batch = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            batch.add(relay.toEnvelope(topicMessage("/topic/session/s1/locations", "x".repeat(200), null)));
+        }
+
+        List<String> notifications = relay.toNotifications(batch, json -> {
+            throw new AssertionError("Nothing should need storing");
+        });
+
+        assertTrue(notifications.size() > 1);
+        int total = 0;
+        for (String notification : notifications) {
+            assertTrue(notification.getBytes(StandardCharsets.UTF_8).length <= 7900);
+            total += objectMapper.readValue(notification, ClusterEnvelope[].class).length;
+        }
+        assertEquals(100, total);
+    }
+
+    @Test
+    void shouldStoreOversizedEnvelopeAndSendReference() throws Exception {
+        ClusterEnvelope large = relay.toEnvelope(topicMessage("/topic/session/s1", "y".repeat(10_000), null));
+        List<String> stored = new ArrayList<>();
+
+        List<String> notifications = relay.toNotifications(List.of(large), json -> {
+            stored.add(json);
+            return 42L;
+        });
+
+        assertEquals(1, stored.size());
+        ClusterEnvelope[] sent = objectMapper.readValue(notifications.get(0), ClusterEnvelope[].class);
+        assertEquals(42L, sent[0].ref());
+        assertNull(sent[0].payload());
+    }
+
+    @Test
+    void shouldDeliverRemoteBroadcastOnceAndSkipOwn() throws Exception {
+        when(messagingTemplateProvider.getObject()).thenReturn(messagingTemplate);
+        ClusterBroadcastRelay remote = relay("node-b");
+        ClusterEnvelope envelope = remote.toEnvelope(topicMessage("/topic/session/s1/locations", "{\"a\":1}", null));
+        String notification = remote.toNotifications(List.of(envelope), json -> 0L).get(0);
+
+        relay.onNotification(notification, ref -> null);
+        relay.onNotification(notification, ref -> null);
+        remote.onNotification(notification, ref -> null);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Message<byte[]>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate, times(1)).send(eq("/topic/session/s1/locations"), captor.capture());
+        Message<byte[]> delivered = captor.getValue();
+        assertArrayEquals("{\"a\":1}".getBytes(StandardCharsets.UTF_8), delivered.getPayload());
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(delivered);
+        assertEquals("node-b", accessor.getHeader(ClusterBroadcastRelay.ORIGIN_HEADER));
+        assertEquals("7", accessor.getFirstNativeHeader("x-conflation-key"));
+        assertNull(relay.toEnvelope(delivered));
+        ArgumentCaptor<RemoteBroadcastEvent> event = ArgumentCaptor.forClass(RemoteBroadcastEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertEquals("/topic/session/s1/locations", event.getValue().destination());
+    }
+
+    @Test
+    void shouldResolveStoredEnvelopeReferences() throws Exception {
+        when(messagingTemplateProvider.getObject()).thenReturn(messagingTemplate);
+        ClusterBroadcastRelay remote = relay("node-b");
+        ClusterEnvelope large = remote.toEnvelope(topicMessage("/topic/session/s1", "z".repeat(10_000), null));
+        String notification = remote.toNotifications(List.of(large), json -> 5L).get(0);
+
+        relay.onNotification(notification, ref -> ref == 5L ? large : null);
+
+        verify(messagingTemplate).send(eq("/topic/session/s1"), any(Message.class));
+    }
+
+    @Test
+    void shouldIgnoreMalformedNotifications() {
+        relay.onNotification("not json", ref -> null);
+
+        verify(messagingTemplate, never()).send(anyString(), any(Message.class));
+    }
+
+    private ClusterBroadcastRelay relay(String nodeId) {
+        return relay(nodeId, 100);
+    }
+
+    private ClusterBroadcastRelay relay(String nodeId, int queueCapacity) {
+        return new ClusterBroadcastRelay(
+            listenerConnections, jdbcTemplate, objectMapper, messagingTemplateProvider, eventPublisher,
+            new SimpleMeterRegistry(),
+            nodeId, "geomeet_broadcast", 10, queueCapacity);
+    }
+
+    private static Message<byte[]> topicMessage(String destination, String body, String origin) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setNativeHeader("x-conflation-key", "7");
+        if (origin != null) {
+            accessor.setHeader(ClusterBroadcastRelay.ORIGIN_HEADER, origin);
+        }
+        return MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+}
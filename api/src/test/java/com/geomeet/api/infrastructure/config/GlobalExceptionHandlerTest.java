@@ -6,11 +6,13 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.geomeet.api.adapter.web.auth.dto.ErrorResponse;
+import com.geomeet.api.domain.exception.ErrorCode;
 import com.geomeet.api.domain.exception.GeomeetDomainException;
 import com.geomeet.api.domain.exception.InactiveUserExceptionGeomeet;
 import com.geomeet.api.domain.exception.InvalidCredentialsExceptionGeomeet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -124,6 +126,20 @@ class GlobalExceptionHandlerTest {
         assertEquals("Resource not found", response.getBody().getMessage());
     }
 
+    @Test
+    void shouldAskClientsToRetryWhenServiceIsUnavailable() {
+        // Given
+        GeomeetDomainException ex = ErrorCode.PASSWORD_HASHING_BUSY.toException();
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleDomainException(ex, webRequest);
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("Service Unavailable", response.getBody().getError());
+    }
+
     @Test
     void shouldHandleDomainExceptionWithForbiddenStatus() {
         // Given - Exception with FORBIDDEN status
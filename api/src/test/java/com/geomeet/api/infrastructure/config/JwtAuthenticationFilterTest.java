@@ -3,7 +3,6 @@ package com.geomeet.api.infrastructure.config;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -11,9 +10,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.geomeet.api.infrastructure.security.JwtTokenService;
+import com.geomeet.api.infrastructure.security.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.time.Instant;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.core.Authentication;
@@ -45,9 +47,7 @@ class JwtAuthenticationFilterTest {
         Long userId = 1L;
 
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtTokenService.extractUsername(token)).thenReturn(username);
-        when(jwtTokenService.extractUserId(token)).thenReturn(userId);
-        when(jwtTokenService.validateToken(token, username)).thenReturn(true);
+        when(jwtTokenService.verify(token)).thenReturn(Optional.of(verified(userId, username)));
 
         // When
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -70,7 +70,7 @@ class JwtAuthenticationFilterTest {
         // Then
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertNull(authentication);
-        verify(jwtTokenService, never()).extractUsername(anyString());
+        verify(jwtTokenService, never()).verify(anyString());
         verify(filterChain).doFilter(request, response);
     }
 
@@ -85,7 +85,7 @@ class JwtAuthenticationFilterTest {
         // Then
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertNull(authentication);
-        verify(jwtTokenService, never()).extractUsername(anyString());
+        verify(jwtTokenService, never()).verify(anyString());
         verify(filterChain).doFilter(request, response);
     }
 
@@ -93,30 +93,9 @@ class JwtAuthenticationFilterTest {
     void shouldNotSetAuthenticationWhenTokenValidationFails() throws Exception {
         // Given
         String token = "invalid-token";
-        String username = "testuser";
-        Long userId = 1L;
-
-        when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtTokenService.extractUsername(token)).thenReturn(username);
-        when(jwtTokenService.extractUserId(token)).thenReturn(userId);
-        when(jwtTokenService.validateToken(token, username)).thenReturn(false);
-
-        // When
-        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
-
-        // Then
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        assertNull(authentication);
-        verify(filterChain).doFilter(request, response);
-    }
-
-    @Test
-    void shouldNotSetAuthenticationWhenTokenExtractionThrowsException() throws Exception {
-        // Given
-        String token = "invalid-token";
 
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtTokenService.extractUsername(token)).thenThrow(new RuntimeException("Invalid token"));
+        when(jwtTokenService.verify(token)).thenReturn(Optional.empty());
 
         // When
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -127,39 +106,16 @@ class JwtAuthenticationFilterTest {
         verify(filterChain).doFilter(request, response);
     }
 
-    @Test
-    void shouldNotSetAuthenticationWhenUsernameIsNull() throws Exception {
-        // Given
-        String token = "token-with-null-username";
-
-        when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtTokenService.extractUsername(token)).thenReturn(null);
-
-        // When
-        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
-
-        // Then
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        assertNull(authentication);
-        verify(jwtTokenService, never()).validateToken(anyString(), anyString());
-        verify(filterChain).doFilter(request, response);
-    }
-
     @Test
     void shouldNotSetAuthenticationWhenAlreadyAuthenticated() throws Exception {
         // Given
         String token = "valid-token";
-        String username = "testuser";
-        Long userId = 1L;
 
         // Set existing authentication
         Authentication existingAuth = mock(Authentication.class);
         SecurityContextHolder.getContext().setAuthentication(existingAuth);
 
         when(request.getHeader("Authorization")).thenReturn("Bearer " + token);
-        when(jwtTokenService.extractUsername(token)).thenReturn(username);
-        when(jwtTokenService.extractUserId(token)).thenReturn(userId);
-        when(jwtTokenService.validateToken(token, username)).thenReturn(true);
 
         // When
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -169,7 +125,12 @@ class JwtAuthenticationFilterTest {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         assertNotNull(authentication);
         assertEquals(existingAuth, authentication);
+        verify(jwtTokenService, never()).verify(anyString());
         verify(filterChain).doFilter(request, response);
     }
+
+    private static VerifiedToken verified(Long userId, String username) {
+        return new VerifiedToken("token-id", userId, username, Instant.now().plusSeconds(60));
+    }
 }
 
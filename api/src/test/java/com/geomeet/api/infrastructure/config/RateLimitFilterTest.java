@@ -0,0 +1,140 @@
+package com.geomeet.api.infrastructure.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.geomeet.api.infrastructure.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class RateLimitFilterTest {
+
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimiter rateLimiter = new RateLimiter(new SimpleMeterRegistry(), 600_000);
+        rateLimitFilter = new RateLimitFilter(
+            rateLimiter, new ObjectMapper().findAndRegisterModules(), true, 2, 0.1, 1, 0.1, 1, 0.1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldRejectSignInsBeyondBurstPerIpWith429() throws Exception {
+        // When
+        perform("POST", "/api/auth/login", "10.0.0.1");
+        perform("POST", "/api/auth/login", "10.0.0.1");
+        MockHttpServletResponse rejected = perform("POST", "/api/auth/login", "10.0.0.1");
+        MockHttpServletResponse otherClient = perform("POST", "/api/auth/login", "10.0.0.2");
+
+        // Then
+        assertEquals(429, rejected.getStatus());
+        assertEquals("10", rejected.getHeader("Retry-After"));
+        assertTrue(rejected.getContentAsString().contains("\"error\":\"Too Many Requests\""));
+        assertEquals(200, otherClient.getStatus());
+    }
+
+    @Test
+    void shouldShareSignInBucketBetweenLoginAndRegister() throws Exception {
+        // When
+        perform("POST", "/api/auth/login", "10.0.0.1");
+        perform("POST", "/api/auth/register", "10.0.0.1");
+        MockHttpServletResponse rejected = perform("POST", "/api/auth/register", "10.0.0.1");
+
+        // Then
+        assertEquals(429, rejected.getStatus());
+    }
+
+    @Test
+    void shouldNotLimitRefreshOrLogout() throws Exception {
+        // When
+        for (int i = 0; i < 5; i++) {
+            perform("POST", "/api/auth/refresh", "10.0.0.1");
+        }
+        MockHttpServletResponse refresh = perform("POST", "/api/auth/refresh", "10.0.0.1");
+        MockHttpServletResponse logout = perform("POST", "/api/auth/logout", "10.0.0.1");
+        MockHttpServletResponse login = perform("POST", "/api/auth/login", "10.0.0.1");
+
+        // Then
+        assertEquals(200, refresh.getStatus());
+        assertEquals(200, logout.getStatus());
+        assertEquals(200, login.getStatus());
+    }
+
+    @Test
+    void shouldLimitLocationUpdatesPerUserRatherThanIp() throws Exception {
+        // Given
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(7L, null, List.of()));
+
+        // When
+        MockHttpServletResponse first = perform("PUT", "/api/sessions/abc/location", "10.0.0.1");
+        MockHttpServletResponse fromOtherIp = perform("PUT", "/api/sessions/abc/location", "10.0.0.2");
+        MockHttpServletResponse optimal = perform("POST", "/api/sessions/abc/optimal-location", "10.0.0.1");
+
+        // Then
+        assertEquals(200, first.getStatus());
+        assertEquals(429, fromOtherIp.getStatus());
+        assertEquals(200, optimal.getStatus());
+    }
+
+    @Test
+    void shouldFallBackToIpForAnonymousLocationUpdates() throws Exception {
+        // When
+        perform("PUT", "/api/sessions/abc/meeting-location", "10.0.0.1");
+        MockHttpServletResponse sameIp = perform("PUT", "/api/sessions/abc/location", "10.0.0.1");
+
+        // Then
+        assertEquals(429, sameIp.getStatus());
+    }
+
+    @Test
+    void shouldLeaveOtherEndpointsAlone() throws Exception {
+        // When
+        for (int i = 0; i < 5; i++) {
+            perform("GET", "/api/sessions/abc", "10.0.0.1");
+        }
+        MockHttpServletResponse response = perform("GET", "/api/auth/me", "10.0.0.1");
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertNull(response.getHeader("Retry-After"));
+    }
+
+    @Test
+    void shouldPassEverythingWhenDisabled() throws Exception {
+        // Given
+        rateLimitFilter = new RateLimitFilter(new RateLimiter(new SimpleMeterRegistry(), 600_000),
+            new ObjectMapper(), false, 1, 0.1, 1, 0.1, 1, 0.1);
+
+        // When
+        perform("POST", "/api/auth/login", "10.0.0.1");
+        MockHttpServletResponse second = perform("POST", "/api/auth/login", "10.0.0.1");
+
+        // Then
+        assertEquals(200, second.getStatus());
+        assertNull(second.getHeader("Retry-After"));
+    }
+
+    private MockHttpServletResponse perform(String method, String uri, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
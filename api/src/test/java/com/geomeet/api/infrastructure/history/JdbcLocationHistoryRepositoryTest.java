@@ -0,0 +1,66 @@
+package com.geomeet.api.infrastructure.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.geomeet.api.application.result.TrajectoryResult;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcLocationHistoryRepositoryTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 1, 1, 10, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 1, 1, 11, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Test
+    void shouldQueryParticipantWindowWithLimit() {
+        // Given
+        TrajectoryResult.Point point = TrajectoryResult.Point.builder().recordedAt(FROM).build();
+        when(jdbcTemplate.query(eq(JdbcLocationHistoryRepository.TRAJECTORY_SQL), any(RowMapper.class),
+            eq(10L), eq(100L), eq(Timestamp.valueOf(FROM)), eq(Timestamp.valueOf(TO)), eq(501)))
+            .thenReturn(List.of(point));
+
+        // When
+        List<TrajectoryResult.Point> points =
+            new JdbcLocationHistoryRepository(jdbcTemplate).findTrajectory(100L, 10L, FROM, TO, 501);
+
+        // Then
+        assertEquals(List.of(point), points);
+    }
+
+    @Test
+    void shouldMapRowsWithOptionalAccuracy() throws Exception {
+        // Given
+        when(resultSet.getDouble("latitude")).thenReturn(1.35);
+        when(resultSet.getDouble("longitude")).thenReturn(103.82);
+        when(resultSet.getObject("accuracy", Double.class)).thenReturn(null);
+        when(resultSet.getTimestamp("recorded_at")).thenReturn(Timestamp.valueOf(FROM));
+
+        // When
+        TrajectoryResult.Point point = JdbcLocationHistoryRepository.toPoint(resultSet, 0);
+
+        // Then
+        assertEquals(1.35, point.getLatitude());
+        assertEquals(103.82, point.getLongitude());
+        assertNull(point.getAccuracy());
+        assertEquals(FROM, point.getRecordedAt());
+    }
+}
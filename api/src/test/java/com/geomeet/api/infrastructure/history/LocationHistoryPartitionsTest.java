@@ -0,0 +1,115 @@
+package com.geomeet.api.infrastructure.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class LocationHistoryPartitionsTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private LocationHistoryPartitions partitions;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2024-03-10T12:00:00Z"), ZoneOffset.UTC);
+        partitions = new LocationHistoryPartitions(jdbcTemplate, clock, 2, 30);
+    }
+
+    @Test
+    void shouldCreateTodayAndDaysAhead() {
+        // When
+        partitions.maintain();
+
+        // Then
+        verify(jdbcTemplate).execute(LocationHistoryPartitions.createPartitionSql(LocalDate.of(2024, 3, 10)));
+        verify(jdbcTemplate).execute(LocationHistoryPartitions.createPartitionSql(LocalDate.of(2024, 3, 11)));
+        verify(jdbcTemplate).execute(LocationHistoryPartitions.createPartitionSql(LocalDate.of(2024, 3, 12)));
+    }
+
+    @Test
+    void shouldMoveDayOutOfDefaultPartitionBeforeAttaching() {
+        // When
+        String sql = LocationHistoryPartitions.createPartitionSql(LocalDate.of(2024, 3, 10));
+
+        // Then
+        String range = "recorded_at >= '2024-03-10' AND recorded_at < '2024-03-11'";
+        int lock = sql.indexOf("LOCK TABLE participant_location_history_default IN ACCESS EXCLUSIVE MODE");
+        int create = sql.indexOf("CREATE TABLE participant_location_history_p20240310");
+        int move = sql.indexOf("INSERT INTO participant_location_history_p20240310 SELECT * FROM "
+            + "participant_location_history_default WHERE " + range);
+        int delete = sql.indexOf("DELETE FROM participant_location_history_default WHERE " + range);
+        int attach = sql.indexOf("ATTACH PARTITION participant_location_history_p20240310"
+            + " FOR VALUES FROM ('2024-03-10') TO ('2024-03-11')");
+        assertTrue(sql.startsWith("DO $$ BEGIN IF to_regclass('participant_location_history_p20240310') IS NULL"));
+        assertTrue(lock > 0 && lock < create && create < move && move < delete && delete < attach);
+    }
+
+    @Test
+    void shouldDeleteDefaultPartitionRowsPastRetention() {
+        // When
+        partitions.maintain();
+
+        // Then
+        verify(jdbcTemplate).update("DELETE FROM participant_location_history_default WHERE recorded_at < ?",
+            LocalDateTime.of(2024, 2, 9, 0, 0));
+    }
+
+    @Test
+    void shouldDropOnlyPartitionsPastRetention() {
+        // Given
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of(
+            "participant_location_history_p20240208",
+            "participant_location_history_p20240209",
+            "participant_location_history_p20240310",
+            "participant_location_history_archive",
+            "participant_location_history_default"));
+
+        // When
+        partitions.maintain();
+
+        // Then
+        verify(jdbcTemplate).execute("DROP TABLE IF EXISTS participant_location_history_p20240208");
+        verify(jdbcTemplate, never()).execute("DROP TABLE IF EXISTS participant_location_history_p20240209");
+        verify(jdbcTemplate, never()).execute("DROP TABLE IF EXISTS participant_location_history_p20240310");
+        verify(jdbcTemplate, never()).execute("DROP TABLE IF EXISTS participant_location_history_archive");
+        verify(jdbcTemplate, never()).execute("DROP TABLE IF EXISTS participant_location_history_default");
+    }
+
+    @Test
+    void shouldReadDatesOnlyFromOwnPartitionNames() {
+        assertEquals(LocalDate.of(2024, 3, 10),
+            LocationHistoryPartitions.dateOf(LocationHistoryPartitions.partitionName(LocalDate.of(2024, 3, 10))));
+        assertNull(LocationHistoryPartitions.dateOf("participant_location_history_p2024"));
+        assertNull(LocationHistoryPartitions.dateOf("participant_locations"));
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new LocationHistoryPartitions(jdbcTemplate, Clock.systemUTC(), -1, 30));
+        assertThrows(IllegalArgumentException.class,
+            () -> new LocationHistoryPartitions(jdbcTemplate, Clock.systemUTC(), 2, 0));
+    }
+}
@@ -0,0 +1,180 @@
+package com.geomeet.api.infrastructure.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.geomeet.api.application.event.LocationUpdatedEvent;
+import com.geomeet.api.application.result.UpdateLocationResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.context.SmartLifecycle;
+
+@ExtendWith(MockitoExtension.class)
+class LocationHistoryWriterTest {
+
+    private static final LocalDateTime RECORDED_AT = LocalDateTime.of(2024, 1, 1, 10, 0, 30, 123_000_000);
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PGConnection pgConnection;
+
+    @Mock
+    private CopyManager copyManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LocationHistoryWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new LocationHistoryWriter(dataSource, meterRegistry, 2, 100, 10);
+    }
+
+    @Test
+    void shouldFormatFixesAsCopyText() {
+        // When
+        String text = LocationHistoryWriter.toCopyText(List.of(
+            new LocationFix(100L, 10L, 1L, 1.3521, 103.8198, 5.0, RECORDED_AT),
+            new LocationFix(100L, 11L, 2L, -33.8688, 151.2093, null, RECORDED_AT)));
+
+        // Then
+        assertEquals("100\t10\t1\t1.3521\t103.8198\t5.0\t2024-01-01T10:00:30.123\n"
+            + "100\t11\t2\t-33.8688\t151.2093\t\\N\t2024-01-01T10:00:30.123\n", text);
+    }
+
+    @Test
+    void shouldCopyBatchInOneStatement() throws Exception {
+        // Given
+        StringWriter copied = stubCopy();
+
+        // When
+        writer.write(List.of(new LocationFix(100L, 10L, 1L, 1.0, 2.0, 3.0, RECORDED_AT)));
+
+        // Then
+        assertEquals("100\t10\t1\t1.0\t2.0\t3.0\t2024-01-01T10:00:30.123\n", copied.toString());
+        assertEquals(1.0, meterRegistry.get("geomeet.history.fixes").tag("outcome", "written").counter().count());
+        verify(connection).close();
+    }
+
+    @Test
+    void shouldDropBatchWhenCopyFails() throws Exception {
+        // Given
+        when(dataSource.getConnection()).thenThrow(new SQLException("no partition"));
+
+        // When
+        writer.write(List.of(new LocationFix(100L, 10L, 1L, 1.0, 2.0, 3.0, RECORDED_AT)));
+        writer.write(List.of());
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("geomeet.history.fixes").tag("outcome", "dropped").counter().count());
+    }
+
+    @Test
+    void shouldQueueCommittedFixesAndDropWhenFull() {
+        // When
+        for (int i = 0; i < 3; i++) {
+            writer.onLocationUpdated(event(RECORDED_AT.plusSeconds(i)));
+        }
+
+        // Then
+        assertEquals(2, writer.queued());
+        assertEquals(1.0, meterRegistry.get("geomeet.history.fixes").tag("outcome", "dropped").counter().count());
+    }
+
+    @Test
+    void shouldWriteQueuedFixesInBackgroundAndOnStop() throws Exception {
+        // Given
+        StringWriter copied = stubCopy();
+        writer.start();
+
+        // When
+        writer.onLocationUpdated(event(RECORDED_AT));
+        verify(copyManager, timeout(2_000)).copyIn(eq(LocationHistoryWriter.COPY_SQL), any(Reader.class));
+        writer.stop();
+
+        // Then
+        assertFalse(writer.isRunning());
+        assertEquals(0, writer.queued());
+        assertEquals("100\t10\t1\t1.3521\t103.8198\t5.0\t2024-01-01T10:00:30.123\n", copied.toString());
+    }
+
+    @Test
+    void shouldWriteFixesQueuedAfterWriterThreadEnded() throws Exception {
+        // Given
+        StringWriter copied = stubCopy();
+        writer.onLocationUpdated(event(RECORDED_AT));
+
+        // When
+        writer.stop();
+
+        // Then
+        assertEquals(0, writer.queued());
+        assertEquals("100\t10\t1\t1.3521\t103.8198\t5.0\t2024-01-01T10:00:30.123\n", copied.toString());
+    }
+
+    @Test
+    void shouldStopAfterWebServer() {
+        assertTrue(writer.getPhase() < SmartLifecycle.DEFAULT_PHASE - 2048);
+    }
+
+    @Test
+    void shouldNotTouchDatabaseWithoutFixes() throws Exception {
+        // When
+        writer.start();
+        writer.stop();
+
+        // Then
+        verify(dataSource, never()).getConnection();
+    }
+
+    private StringWriter stubCopy() throws Exception {
+        StringWriter copied = new StringWriter();
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(eq(LocationHistoryWriter.COPY_SQL), any(Reader.class))).thenAnswer(invocation -> {
+            Reader reader = invocation.getArgument(1);
+            reader.transferTo(copied);
+            return 1L;
+        });
+        return copied;
+    }
+
+    private static LocationUpdatedEvent event(LocalDateTime updatedAt) {
+        return new LocationUpdatedEvent(UpdateLocationResult.builder()
+            .participantId(10L)
+            .sessionId(100L)
+            .sessionIdString("session-1")
+            .userId(1L)
+            .latitude(1.3521)
+            .longitude(103.8198)
+            .accuracy(5.0)
+            .updatedAt(updatedAt.toString())
+            .build());
+    }
+}
@@ -0,0 +1,219 @@
+package com.geomeet.api.infrastructure.history;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.geomeet.api.application.event.LocationUpdatedEvent;
+import com.geomeet.api.application.event.SessionEndedEvent;
+import com.geomeet.api.application.result.EndSessionResult;
+import com.geomeet.api.application.result.TrajectoryResult;
+import com.geomeet.api.application.result.UpdateLocationResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedLocationHistoryStoreTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 1, 10, 0, 0, 123_000_000);
+    private static final Duration RETENTION = Duration.ofDays(30);
+    private static final Duration IDLE_CLOSE = Duration.ofMinutes(10);
+
+    @TempDir
+    private Path directory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MappedLocationHistoryStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new MappedLocationHistoryStore(
+            meterRegistry, directory, 8192, RETENTION, IDLE_CLOSE, Clock.systemUTC());
+    }
+
+    @Test
+    void shouldReadParticipantTrajectoryWithinWindowInTimeOrder() {
+        // Given
+        store.onLocationUpdated(event(100L, 10L, T0.plusMinutes(2), 1.3521234, 103.8198765, null));
+        store.onLocationUpdated(event(100L, 10L, T0, 1.0, 2.0, 5.0));
+        store.onLocationUpdated(event(100L, 11L, T0.plusMinutes(1), 3.0, 4.0, 5.0));
+        store.onLocationUpdated(event(100L, 10L, T0.plusMinutes(1), -33.8688, 151.2093, 12.5));
+        store.onLocationUpdated(event(200L, 10L, T0.plusMinutes(1), 5.0, 6.0, 5.0));
+
+        // When
+        List<TrajectoryResult.Point> points =
+            store.findTrajectory(100L, 10L, T0.plusSeconds(30), T0.plusMinutes(3), 100);
+
+        // Then
+        assertEquals(2, points.size());
+        assertEquals(T0.plusMinutes(1), points.get(0).getRecordedAt());
+        assertEquals(-33.8688, points.get(0).getLatitude(), 1e-7);
+        assertEquals(151.2093, points.get(0).getLongitude(), 1e-7);
+        assertEquals(12.5, points.get(0).getAccuracy());
+        assertEquals(T0.plusMinutes(2), points.get(1).getRecordedAt());
+        assertEquals(1.3521234, points.get(1).getLatitude(), 1e-7);
+        assertNull(points.get(1).getAccuracy());
+        assertEquals(5.0, meterRegistry.get("geomeet.history.fixes").tag("outcome", "written").counter().count());
+    }
+
+    @Test
+    void shouldRollSegmentsAndReadThemBackAfterRestart() throws IOException {
+        // Given
+        store = new MappedLocationHistoryStore(meterRegistry, directory, 64, RETENTION, IDLE_CLOSE, Clock.systemUTC());
+        for (int i = 0; i < 5; i++) {
+            store.onLocationUpdated(event(100L, 10L, T0.plusSeconds(i), 1.0, 2.0, 5.0));
+        }
+        store.destroy();
+
+        // When
+        MappedLocationHistoryStore restarted =
+            new MappedLocationHistoryStore(meterRegistry, directory, 64, RETENTION, IDLE_CLOSE, Clock.systemUTC());
+        List<TrajectoryResult.Point> points = restarted.findTrajectory(100L, 10L, T0, T0.plusMinutes(1), 4);
+
+        // Then
+        try (Stream<Path> segments = Files.list(directory.resolve("100"))) {
+            assertEquals(3, segments.count());
+        }
+        assertEquals(4, points.size());
+        assertEquals(T0, points.get(0).getRecordedAt());
+        assertEquals(T0.plusSeconds(3), points.get(3).getRecordedAt());
+    }
+
+    @Test
+    void shouldReturnNothingForSessionWithoutHistory() {
+        // When
+        List<TrajectoryResult.Point> points = store.findTrajectory(100L, 10L, T0, T0.plusHours(1), 100);
+
+        // Then
+        assertTrue(points.isEmpty());
+        assertFalse(Files.exists(directory.resolve("100")));
+    }
+
+    @Test
+    void shouldDeleteHistoryWhenSessionEnds() {
+        // Given
+        store.onLocationUpdated(event(100L, 10L, T0, 1.0, 2.0, 5.0));
+
+        // When
+        store.onSessionEnded(new SessionEndedEvent(EndSessionResult.builder()
+            .sessionId(100L)
+            .sessionIdString("session-1")
+            .build()));
+
+        // Then
+        assertFalse(Files.exists(directory.resolve("100")));
+        assertTrue(store.findTrajectory(100L, 10L, T0, T0.plusHours(1), 100).isEmpty());
+    }
+
+    @Test
+    void shouldDropFixArrivingAfterSessionEndedWithoutRecreatingIt() {
+        // Given
+        store.onLocationUpdated(event(100L, 10L, T0, 1.0, 2.0, 5.0));
+        store.onSessionEnded(new SessionEndedEvent(EndSessionResult.builder()
+            .sessionId(100L)
+            .sessionIdString("session-1")
+            .build()));
+
+        // When
+        store.onLocationUpdated(event(100L, 10L, T0.plusSeconds(1), 1.0, 2.0, 5.0));
+
+        // Then
+        assertFalse(Files.exists(directory.resolve("100")));
+        assertEquals(0, store.openLogs());
+        assertEquals(1.0, meterRegistry.get("geomeet.history.fixes").tag("outcome", "dropped").counter().count());
+    }
+
+    @Test
+    void shouldCloseIdleLogsAndReopenThemOnNextUse() {
+        // Given
+        long now = System.currentTimeMillis();
+        Clock clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(now, now, now + Duration.ofMinutes(11).toMillis());
+        store = new MappedLocationHistoryStore(meterRegistry, directory, 8192, RETENTION, IDLE_CLOSE, clock);
+        store.onLocationUpdated(event(100L, 10L, T0, 1.0, 2.0, 5.0));
+        store.onLocationUpdated(event(200L, 10L, T0, 1.0, 2.0, 5.0));
+
+        // When
+        store.closeIdle();
+        int openAfterClose = store.openLogs();
+        store.onLocationUpdated(event(100L, 10L, T0.plusSeconds(1), 1.0, 2.0, 5.0));
+
+        // Then
+        assertEquals(0, openAfterClose);
+        assertEquals(2, store.findTrajectory(100L, 10L, T0, T0.plusHours(1), 100).size());
+        assertEquals(1, store.openLogs());
+    }
+
+    @Test
+    void shouldExpireSessionsWithoutRecentFixes() {
+        // Given
+        long now = System.currentTimeMillis();
+        store.onLocationUpdated(event(300L, 10L, T0, 1.0, 2.0, 5.0)); // written now, not opened below
+        Clock clock = mock(Clock.class);
+        when(clock.millis())
+            .thenReturn(now, now + Duration.ofDays(20).toMillis(), now + Duration.ofDays(31).toMillis());
+        store = new MappedLocationHistoryStore(meterRegistry, directory, 8192, RETENTION, IDLE_CLOSE, clock);
+        store.onLocationUpdated(event(100L, 10L, T0, 1.0, 2.0, 5.0));
+        store.onLocationUpdated(event(200L, 10L, T0, 1.0, 2.0, 5.0));
+
+        // When
+        store.expire();
+
+        // Then
+        assertFalse(Files.exists(directory.resolve("100")));
+        assertTrue(Files.exists(directory.resolve("200")));
+        assertFalse(Files.exists(directory.resolve("300")));
+    }
+
+    @Test
+    void shouldCountFixAsDroppedWhenItCannotBeWritten() throws IOException {
+        // Given
+        Path file = Files.createFile(directory.resolve("not-a-directory"));
+        store = new MappedLocationHistoryStore(meterRegistry, file, 8192, RETENTION, IDLE_CLOSE, Clock.systemUTC());
+
+        // When
+        store.onLocationUpdated(event(100L, 10L, T0, 1.0, 2.0, 5.0));
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("geomeet.history.fixes").tag("outcome", "dropped").counter().count());
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new MappedLocationHistoryStore(
+            meterRegistry, directory, 16, RETENTION, IDLE_CLOSE, Clock.systemUTC()));
+        assertThrows(IllegalArgumentException.class, () -> new MappedLocationHistoryStore(
+            meterRegistry, directory, 8192, Duration.ZERO, IDLE_CLOSE, Clock.systemUTC()));
+        assertThrows(IllegalArgumentException.class, () -> new MappedLocationHistoryStore(
+            meterRegistry, directory, 8192, RETENTION, Duration.ZERO, Clock.systemUTC()));
+    }
+
+    private static LocationUpdatedEvent event(
+        Long sessionId, Long participantId, LocalDateTime updatedAt, double latitude, double longitude, Double accuracy
+    ) {
+        return new LocationUpdatedEvent(UpdateLocationResult.builder()
+            .participantId(participantId)
+            .sessionId(sessionId)
+            .sessionIdString("session-" + sessionId)
+            .userId(1L)
+            .latitude(latitude)
+            .longitude(longitude)
+            .accuracy(accuracy)
+            .updatedAt(updatedAt.toString())
+            .build());
+    }
+}
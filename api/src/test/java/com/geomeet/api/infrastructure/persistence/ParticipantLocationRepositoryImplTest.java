@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -76,6 +77,39 @@ class ParticipantLocationRepositoryImplTest {
             .build();
     }
 
+    @Test
+    void shouldUpdateExistingLocationInPlace() {
+        // Given
+        when(jpaParticipantLocationRepository.updateLocation(
+            1L, 1.3521, 103.8198, 10.0, domainLocation.getUpdatedAt(), "test-user")).thenReturn(1);
+
+        // When
+        ParticipantLocation saved = participantLocationRepository.save(domainLocation);
+
+        // Then
+        assertEquals(domainLocation, saved);
+        verify(jpaParticipantLocationRepository, never()).save(any());
+        verify(participantLocationMapper, never()).toEntity(any());
+    }
+
+    @Test
+    void shouldInsertNewLocation() {
+        // Given
+        ParticipantLocation newLocation = ParticipantLocation.create(
+            participantId, sessionId, userId, Location.of(1.3521, 103.8198, 10.0));
+        when(participantLocationMapper.toEntity(newLocation)).thenReturn(entityLocation);
+        when(jpaParticipantLocationRepository.save(entityLocation)).thenReturn(entityLocation);
+        when(participantLocationMapper.toDomain(entityLocation)).thenReturn(domainLocation);
+
+        // When
+        ParticipantLocation saved = participantLocationRepository.save(newLocation);
+
+        // Then
+        assertEquals(1L, saved.getId());
+        verify(jpaParticipantLocationRepository, never())
+            .updateLocation(any(), any(), any(), any(), any(), any());
+    }
+
     @Test
     void shouldSaveParticipantLocation() {
         // Given
@@ -0,0 +1,70 @@
+package com.geomeet.api.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.geomeet.api.infrastructure.persistence.entity.UserEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class PooledIdBatchingTest {
+
+    // More than two allocation blocks of 50 and two JDBC batches of 50
+    private static final int USERS = 120;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void shouldAssignUniqueIdsAcrossAllocationBlocks() {
+        // When
+        List<UserEntity> saved = jpaUserRepository.saveAll(users("unique"));
+        entityManager.flush();
+
+        // Then
+        List<Long> ids = saved.stream().map(UserEntity::getId).filter(Objects::nonNull).distinct().toList();
+        assertEquals(USERS, ids.size());
+    }
+
+    @Test
+    void shouldSendInsertsInJdbcBatches() {
+        // Given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        jpaUserRepository.saveAll(users("batched"));
+        entityManager.flush();
+
+        // Then
+        assertEquals(USERS, statistics.getEntityInsertCount());
+        // About one statement per batch of 50 inserts and per id block, rather than one per insert
+        assertTrue(statistics.getPrepareStatementCount() < 20,
+            "Expected batched inserts, prepared " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    private static List<UserEntity> users(String prefix) {
+        return IntStream.range(0, USERS)
+            .mapToObj(i -> new UserEntity(prefix + i, prefix + i + "@example.com", "hash"))
+            .toList();
+    }
+}
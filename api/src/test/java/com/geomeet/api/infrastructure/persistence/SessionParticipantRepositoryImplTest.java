@@ -3,18 +3,24 @@ package com.geomeet.api.infrastructure.persistence;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.geomeet.api.application.result.GetSessionDetailsResult;
 import com.geomeet.api.domain.entity.SessionParticipant;
 import com.geomeet.api.infrastructure.persistence.entity.SessionParticipantEntity;
 import com.geomeet.api.infrastructure.persistence.mapper.SessionParticipantMapper;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -165,5 +171,82 @@ class SessionParticipantRepositoryImplTest {
         assertEquals(expectedCount, count);
         verify(jpaSessionParticipantRepository).countBySessionId(sessionId);
     }
-}
 
+    @Test
+    void shouldMapRosterRowsToParticipantInfo() {
+        // Given
+        SessionRosterRow located = mock(SessionRosterRow.class);
+        when(located.getParticipantId()).thenReturn(participantId);
+        when(located.getUserId()).thenReturn(userId);
+        when(located.getUsername()).thenReturn("participant");
+        when(located.getEmail()).thenReturn("participant@example.com");
+        when(located.getJoinedAt()).thenReturn(LocalDateTime.of(2024, 1, 1, 12, 0));
+        when(located.getLatitude()).thenReturn(1.3521);
+        when(located.getLongitude()).thenReturn(103.8198);
+        when(located.getAccuracy()).thenReturn(10.5);
+        when(located.getLocationUpdatedAt()).thenReturn(LocalDateTime.of(2024, 1, 1, 12, 5));
+        SessionRosterRow withoutLocation = mock(SessionRosterRow.class);
+        when(withoutLocation.getUserId()).thenReturn(2L);
+        when(jpaSessionParticipantRepository.findRosterBySessionId(sessionId))
+            .thenReturn(List.of(located, withoutLocation));
+
+        // When
+        List<GetSessionDetailsResult.ParticipantInfo> roster = sessionParticipantRepository.findRoster(sessionId);
+
+        // Then
+        assertEquals(2, roster.size());
+        GetSessionDetailsResult.ParticipantInfo first = roster.get(0);
+        assertEquals(participantId, first.getParticipantId());
+        assertEquals(userId, first.getUserId());
+        assertEquals("participant", first.getUsername());
+        assertEquals("participant@example.com", first.getEmail());
+        assertEquals("2024-01-01T12:00:00", first.getJoinedAt());
+        assertEquals(1.3521, first.getLatitude());
+        assertEquals(103.8198, first.getLongitude());
+        assertEquals(10.5, first.getAccuracy());
+        assertEquals("2024-01-01T12:05:00", first.getLocationUpdatedAt());
+        assertNull(first.getOnline());
+        assertEquals(2L, roster.get(1).getUserId());
+        assertNull(roster.get(1).getJoinedAt());
+        assertNull(roster.get(1).getLocationUpdatedAt());
+    }
+
+    @Test
+    void shouldPageParticipantsFromStartWhenNoCursorGiven() {
+        // Given
+        SessionRosterRow row = mock(SessionRosterRow.class);
+        when(row.getParticipantId()).thenReturn(participantId);
+        when(row.getUserId()).thenReturn(userId);
+        when(jpaSessionParticipantRepository.findParticipantPage(sessionId, 0L, 51)).thenReturn(List.of(row));
+
+        // When
+        List<GetSessionDetailsResult.ParticipantInfo> page =
+            sessionParticipantRepository.findParticipantPage(sessionId, null, 51);
+
+        // Then
+        assertEquals(1, page.size());
+        assertEquals(participantId, page.get(0).getParticipantId());
+        assertEquals(userId, page.get(0).getUserId());
+    }
+
+    @Test
+    void shouldHandEachStreamedRowToAction() {
+        // Given
+        SessionRosterRow first = mock(SessionRosterRow.class);
+        when(first.getParticipantId()).thenReturn(11L);
+        SessionRosterRow second = mock(SessionRosterRow.class);
+        when(second.getParticipantId()).thenReturn(12L);
+        AtomicBoolean closed = new AtomicBoolean();
+        when(jpaSessionParticipantRepository.streamParticipants(sessionId, 10L))
+            .thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+        List<Long> received = new ArrayList<>();
+
+        // When
+        sessionParticipantRepository.forEachParticipant(
+            sessionId, 10L, participant -> received.add(participant.getParticipantId()));
+
+        // Then
+        assertEquals(List.of(11L, 12L), received);
+        assertTrue(closed.get());
+    }
+}
@@ -46,7 +46,7 @@ class SessionRepositoryImplTest {
         InviteCode inviteCode = InviteCode.generate();
         sessionEntity = SessionEntity.builder()
             .id(sessionDbId)
-            .sessionId(sessionId.getValue())
+            .sessionId(sessionId.getUuid())
             .inviteCode(inviteCode.getValue())
             .initiatorId(1L)
             .status(SessionStatus.ACTIVE.getValue())
@@ -84,7 +84,7 @@ class SessionRepositoryImplTest {
     @Test
     void shouldFindBySessionId() {
         // Given
-        when(jpaSessionRepository.findBySessionId(sessionId.getValue()))
+        when(jpaSessionRepository.findBySessionId(sessionId.getUuid()))
             .thenReturn(Optional.of(sessionEntity));
         when(sessionMapper.toDomain(sessionEntity)).thenReturn(domainSession);
 
@@ -94,7 +94,7 @@ class SessionRepositoryImplTest {
         // Then
         assertTrue(result.isPresent());
         assertEquals(sessionId.getValue(), result.get().getSessionId().getValue());
-        verify(jpaSessionRepository).findBySessionId(sessionId.getValue());
+        verify(jpaSessionRepository).findBySessionId(sessionId.getUuid());
         verify(sessionMapper).toDomain(sessionEntity);
     }
 
@@ -102,7 +102,7 @@ class SessionRepositoryImplTest {
     void shouldReturnEmptyWhenSessionIdNotFound() {
         // Given
         SessionId nonExistentId = SessionId.generate();
-        when(jpaSessionRepository.findBySessionId(nonExistentId.getValue()))
+        when(jpaSessionRepository.findBySessionId(nonExistentId.getUuid()))
             .thenReturn(Optional.empty());
 
         // When
@@ -110,7 +110,7 @@ class SessionRepositoryImplTest {
 
         // Then
         assertFalse(result.isPresent());
-        verify(jpaSessionRepository).findBySessionId(nonExistentId.getValue());
+        verify(jpaSessionRepository).findBySessionId(nonExistentId.getUuid());
     }
 
     @Test
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -89,13 +91,44 @@ class UserRepositoryImplTest {
     }
 
     @Test
-    void shouldFindByUsernameOrEmail() {
-        when(jpaUserRepository.findByUsernameOrEmail("testuser")).thenReturn(Optional.of(userEntity));
+    void shouldFindByUsernameOrEmailThroughUsernameIndexIgnoringCase() {
+        when(jpaUserRepository.findByLowerCaseUsername("testuser")).thenReturn(Optional.of(userEntity));
 
-        Optional<User> result = userRepository.findByUsernameOrEmail("testuser");
+        Optional<User> result = userRepository.findByUsernameOrEmail("TestUser");
 
         assertTrue(result.isPresent());
-        verify(jpaUserRepository).findByUsernameOrEmail("testuser");
+        verify(jpaUserRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    void shouldFindByUsernameOrEmailThroughEmailIndexWhenIdentifierHasAt() {
+        when(jpaUserRepository.findByEmail("test@example.com")).thenReturn(Optional.of(userEntity));
+
+        Optional<User> result = userRepository.findByUsernameOrEmail("Test@Example.com");
+
+        assertTrue(result.isPresent());
+        verify(jpaUserRepository, never()).findByLowerCaseUsername(anyString());
+    }
+
+    @Test
+    void shouldFindExistingUserByEmailBeforeUsername() {
+        when(jpaUserRepository.findByEmail("test@example.com")).thenReturn(Optional.of(userEntity));
+
+        Optional<User> result = userRepository.findByEmailAndUserName("test@example.com", "other");
+
+        assertTrue(result.isPresent());
+        verify(jpaUserRepository, never()).findByLowerCaseUsername(anyString());
+    }
+
+    @Test
+    void shouldFindExistingUserByUsernameWhenEmailIsFree() {
+        when(jpaUserRepository.findByEmail("new@example.com")).thenReturn(Optional.empty());
+        when(jpaUserRepository.findByLowerCaseUsername("testuser")).thenReturn(Optional.of(userEntity));
+
+        Optional<User> result = userRepository.findByEmailAndUserName("new@example.com", "TESTUSER");
+
+        assertTrue(result.isPresent());
+        assertEquals("testuser", result.get().getUsername().getValue());
     }
 
     @Test
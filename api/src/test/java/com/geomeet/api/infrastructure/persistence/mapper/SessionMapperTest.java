@@ -28,7 +28,7 @@ class SessionMapperTest {
 
         sessionEntity = SessionEntity.builder()
             .id(sessionDbId)
-            .sessionId(sessionId.getValue())
+            .sessionId(sessionId.getUuid())
             .inviteCode(inviteCode.getValue())
             .initiatorId(1L)
             .status(SessionStatus.ACTIVE.getValue())
@@ -57,7 +57,7 @@ class SessionMapperTest {
 
         assertNotNull(mappedSession);
         assertEquals(sessionEntity.getId(), mappedSession.getId());
-        assertEquals(sessionEntity.getSessionId(), mappedSession.getSessionId().getValue());
+        assertEquals(sessionEntity.getSessionId(), mappedSession.getSessionId().getUuid());
         assertEquals(sessionEntity.getInitiatorId(), mappedSession.getInitiatorId());
         assertEquals(SessionStatus.ACTIVE, mappedSession.getStatus());
         assertEquals(sessionEntity.getCreatedAt(), mappedSession.getCreatedAt());
@@ -73,7 +73,7 @@ class SessionMapperTest {
 
         assertNotNull(mappedEntity);
         assertEquals(domainSession.getId(), mappedEntity.getId());
-        assertEquals(domainSession.getSessionId().getValue(), mappedEntity.getSessionId());
+        assertEquals(domainSession.getSessionId().getUuid(), mappedEntity.getSessionId());
         assertEquals(domainSession.getInitiatorId(), mappedEntity.getInitiatorId());
         assertEquals(domainSession.getStatus().getValue(), mappedEntity.getStatus());
         assertEquals(domainSession.getCreatedAt(), mappedEntity.getCreatedAt());
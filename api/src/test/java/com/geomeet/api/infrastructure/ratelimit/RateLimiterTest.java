@@ -0,0 +1,89 @@
+package com.geomeet.api.infrastructure.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+    private static final RateLimit LIMIT = new RateLimit("location", 3, 2);
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new RateLimiter(meterRegistry, 60_000, clock::get);
+    }
+
+    @Test
+    void shouldAllowBurstUpToCapacityThenReject() {
+        // When & Then
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, rateLimiter.tryAcquire(LIMIT, "user:1"));
+        }
+        long wait = rateLimiter.tryAcquire(LIMIT, "user:1");
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), wait);
+        assertEquals(1.0,
+            meterRegistry.get("geomeet.ratelimit.rejected").tag("endpoint", "location").counter().count());
+    }
+
+    @Test
+    void shouldRefillLazilyAtConfiguredRate() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire(LIMIT, "user:1");
+        }
+
+        // When
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        // Then
+        assertEquals(0, rateLimiter.tryAcquire(LIMIT, "user:1"));
+        assertTrue(rateLimiter.tryAcquire(LIMIT, "user:1") > 0);
+    }
+
+    @Test
+    void shouldKeepSeparateBucketsPerClientAndEndpoint() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire(LIMIT, "user:1");
+        }
+
+        // When & Then
+        assertEquals(0, rateLimiter.tryAcquire(LIMIT, "user:2"));
+        assertEquals(0, rateLimiter.tryAcquire(new RateLimit("auth", 1, 1), "user:1"));
+        assertTrue(rateLimiter.tryAcquire(LIMIT, "user:1") > 0);
+    }
+
+    @Test
+    void shouldEvictOnlyBucketsIdleLongEnough() {
+        // Given
+        rateLimiter.tryAcquire(LIMIT, "user:1");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        rateLimiter.tryAcquire(LIMIT, "user:2");
+        assertEquals(2.0, meterRegistry.get("geomeet.ratelimit.buckets").gauge().value());
+
+        // When
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(31));
+        rateLimiter.evictIdle();
+
+        // Then
+        assertEquals(1, rateLimiter.size());
+    }
+
+    @Test
+    void shouldRejectInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimit("auth", 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new RateLimit("auth", 1, 0));
+    }
+}
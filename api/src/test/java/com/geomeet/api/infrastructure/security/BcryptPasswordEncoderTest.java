@@ -1,15 +1,24 @@
 package com.geomeet.api.infrastructure.security;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.geomeet.api.domain.exception.GeomeetDomainException;
 import com.geomeet.api.domain.service.PasswordEncoder;
 import com.geomeet.api.domain.valueobject.SessionStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
 
 class BcryptPasswordEncoderTest {
 
@@ -17,7 +26,7 @@ class BcryptPasswordEncoderTest {
 
     @BeforeEach
     void setUp() {
-        passwordEncoder = new BcryptPasswordEncoder();
+        passwordEncoder = new BcryptPasswordEncoder(12, 0, 64, new SimpleMeterRegistry());
     }
 
     @Test
@@ -93,5 +102,58 @@ class BcryptPasswordEncoderTest {
         String longPassword = "a".repeat(100);
         assertThrows(IllegalArgumentException.class, () -> passwordEncoder.encode(longPassword));
     }
-}
 
+    @Test
+    void shouldAskForRehashWhenWorkFactorChanged() {
+        String encoded = passwordEncoder.encode("password123");
+        BcryptPasswordEncoder strongerEncoder = new BcryptPasswordEncoder(13, 1, 1, new SimpleMeterRegistry());
+
+        assertFalse(passwordEncoder.needsRehash(encoded));
+        assertTrue(strongerEncoder.needsRehash(encoded));
+        assertTrue(passwordEncoder.needsRehash("plain-text"));
+        assertTrue(passwordEncoder.needsRehash("$2a$xx$abcdefghijklmnopqrstuv"));
+        assertTrue(passwordEncoder.needsRehash(null));
+    }
+
+    @Test
+    void shouldRejectInvalidSettings() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        assertThrows(IllegalArgumentException.class, () -> new BcryptPasswordEncoder(3, 1, 1, meterRegistry));
+        assertThrows(IllegalArgumentException.class, () -> new BcryptPasswordEncoder(32, 1, 1, meterRegistry));
+        assertThrows(IllegalArgumentException.class, () -> new BcryptPasswordEncoder(12, 1, 0, meterRegistry));
+    }
+
+    @Test
+    void shouldTurnCallersAwayWhenPoolIsSaturated() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BcryptPasswordEncoder saturatedEncoder = new BcryptPasswordEncoder(4, 1, 1, meterRegistry);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            // One task holds the only thread, a second one fills the queue
+            Future<Boolean> first = callers.submit(() -> saturatedEncoder.run(() -> {
+                running.countDown();
+                return release.await(5, TimeUnit.SECONDS);
+            }));
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+            Future<Boolean> second = callers.submit(() -> saturatedEncoder.run(() -> true));
+            while (meterRegistry.get("geomeet.security.bcrypt.queue.depth").gauge().value() < 1) {
+                Thread.sleep(5);
+            }
+
+            GeomeetDomainException exception = assertThrows(GeomeetDomainException.class,
+                () -> saturatedEncoder.encode("password123"));
+
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), exception.getHttpStatus().intValue());
+            assertEquals(1.0, meterRegistry.get("geomeet.security.bcrypt.rejected").counter().count());
+            release.countDown();
+            assertTrue(first.get(5, TimeUnit.SECONDS));
+            assertTrue(second.get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+            saturatedEncoder.destroy();
+        }
+    }
+}
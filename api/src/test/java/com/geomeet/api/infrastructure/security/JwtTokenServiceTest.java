@@ -5,10 +5,22 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -16,12 +28,13 @@ import org.springframework.test.util.ReflectionTestUtils;
 class JwtTokenServiceTest {
 
     private JwtTokenService jwtTokenService;
+    private final TokenRevocations tokenRevocations = mock(TokenRevocations.class);
     private static final String SECRET = "geomeet-secret-key-for-testing-purposes-only-must-be-long-enough";
     private static final Long EXPIRATION = 86400000L; // 24 hours
 
     @BeforeEach
     void setUp() {
-        jwtTokenService = new JwtTokenService();
+        jwtTokenService = new JwtTokenService(tokenRevocations);
         ReflectionTestUtils.setField(jwtTokenService, "secret", SECRET);
         ReflectionTestUtils.setField(jwtTokenService, "expiration", EXPIRATION);
     }
@@ -124,7 +137,7 @@ class JwtTokenServiceTest {
     @Test
     void shouldThrowExceptionForExpiredToken() throws Exception {
         // Create a token with very short expiration
-        JwtTokenService shortExpirationService = new JwtTokenService();
+        JwtTokenService shortExpirationService = new JwtTokenService(tokenRevocations);
         ReflectionTestUtils.setField(shortExpirationService, "secret", SECRET);
         ReflectionTestUtils.setField(shortExpirationService, "expiration", 1L); // 1 millisecond
         
@@ -141,7 +154,7 @@ class JwtTokenServiceTest {
     @Test
     void shouldThrowExceptionWhenValidatingExpiredToken() throws Exception {
         // Create a token with very short expiration
-        JwtTokenService shortExpirationService = new JwtTokenService();
+        JwtTokenService shortExpirationService = new JwtTokenService(tokenRevocations);
         ReflectionTestUtils.setField(shortExpirationService, "secret", SECRET);
         ReflectionTestUtils.setField(shortExpirationService, "expiration", 1L); // 1 millisecond
         
@@ -154,5 +167,156 @@ class JwtTokenServiceTest {
         // This tests the exception path in validateToken
         assertThrows(Exception.class, () -> shortExpirationService.validateToken(token, "testuser"));
     }
-}
 
+    @Test
+    void shouldVerifyTokenIntoItsClaims() {
+        String token = jwtTokenService.generateToken(7L, "testuser");
+
+        Optional<VerifiedToken> verified = jwtTokenService.verify(token);
+
+        assertTrue(verified.isPresent());
+        assertEquals(jwtTokenService.extractClaim(token, claims -> claims.getId()), verified.get().tokenId());
+        assertEquals(7L, verified.get().userId());
+        assertEquals("testuser", verified.get().username());
+        assertEquals(jwtTokenService.extractExpiration(token).toInstant(), verified.get().expiresAt());
+    }
+
+    @Test
+    void shouldServeRepeatedVerificationsFromCache() {
+        String token = jwtTokenService.generateToken(7L, "testuser");
+
+        VerifiedToken first = jwtTokenService.verify(token).orElseThrow();
+        VerifiedToken second = jwtTokenService.verify(token).orElseThrow();
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void shouldKeyCacheByTokenDigestRatherThanBearerString() {
+        String token = jwtTokenService.generateToken(7L, "testuser");
+
+        jwtTokenService.verify(token);
+
+        Map<?, ?> cached = (Map<?, ?>) ReflectionTestUtils.getField(jwtTokenService, "verifiedTokens");
+        assertEquals(Set.of(JwtTokenService.digest(token)), cached.keySet());
+    }
+
+    @Test
+    void shouldRejectForgedMalformedAndIncompleteTokens() {
+        JwtTokenService otherService = new JwtTokenService(tokenRevocations);
+        ReflectionTestUtils.setField(otherService, "secret", SECRET + "-other");
+        ReflectionTestUtils.setField(otherService, "expiration", EXPIRATION);
+
+        assertTrue(jwtTokenService.verify(otherService.generateToken(1L, "testuser")).isEmpty());
+        assertTrue(jwtTokenService.verify("not-a-jwt").isEmpty());
+        assertTrue(jwtTokenService.verify("").isEmpty());
+        assertTrue(jwtTokenService.verify(jwtTokenService.generateToken(null, "testuser")).isEmpty());
+    }
+
+    @Test
+    void shouldStopAcceptingCachedTokenOnceExpired() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-03-10T12:00:00Z"));
+        JwtTokenService shortExpirationService = new JwtTokenService(tokenRevocations, clock);
+        ReflectionTestUtils.setField(shortExpirationService, "secret", SECRET);
+        ReflectionTestUtils.setField(shortExpirationService, "expiration", 2000L);
+        String token = shortExpirationService.generateToken(1L, "testuser");
+        assertTrue(shortExpirationService.verify(token).isPresent());
+
+        clock.advance(Duration.ofMillis(2100));
+
+        assertTrue(shortExpirationService.verify(token).isEmpty());
+        assertTrue(shortExpirationService.verify(token).isEmpty());
+    }
+
+    @Test
+    void shouldKeepVerifyingWhenCacheIsFull() {
+        ReflectionTestUtils.setField(jwtTokenService, "maxCachedTokens", 1);
+        String first = jwtTokenService.generateToken(1L, "first");
+        String second = jwtTokenService.generateToken(2L, "second");
+
+        assertEquals(1L, jwtTokenService.verify(first).orElseThrow().userId());
+        assertEquals(2L, jwtTokenService.verify(second).orElseThrow().userId());
+        assertEquals(1L, jwtTokenService.verify(first).orElseThrow().userId());
+    }
+
+    @Test
+    void shouldEvictSingleEntryWhenCacheIsFull() {
+        ReflectionTestUtils.setField(jwtTokenService, "maxCachedTokens", 3);
+        for (long userId = 1; userId <= 5; userId++) {
+            jwtTokenService.verify(jwtTokenService.generateToken(userId, "user" + userId));
+        }
+
+        assertEquals(3, jwtTokenService.cachedTokens());
+    }
+
+    @Test
+    void shouldPurgeExpiredTokensFromCache() {
+        MutableClock clock = new MutableClock(Instant.parse("2024-03-10T12:00:00Z"));
+        JwtTokenService shortExpirationService = new JwtTokenService(tokenRevocations, clock);
+        ReflectionTestUtils.setField(shortExpirationService, "secret", SECRET);
+        ReflectionTestUtils.setField(shortExpirationService, "expiration", 2000L);
+        assertTrue(shortExpirationService.verify(shortExpirationService.generateToken(1L, "testuser")).isPresent());
+        shortExpirationService.purgeExpired();
+        assertEquals(1, shortExpirationService.cachedTokens());
+
+        clock.advance(Duration.ofMillis(2100));
+        shortExpirationService.purgeExpired();
+
+        assertEquals(0, shortExpirationService.cachedTokens());
+    }
+
+    @Test
+    void shouldRejectRevokedTokensWhetherCachedOrNot() {
+        String cachedToken = jwtTokenService.generateToken(1L, "cached");
+        String freshToken = jwtTokenService.generateToken(2L, "fresh");
+        assertTrue(jwtTokenService.verify(cachedToken).isPresent());
+        when(tokenRevocations.isRevoked(anyString())).thenReturn(true);
+
+        assertTrue(jwtTokenService.verify(cachedToken).isEmpty());
+        assertTrue(jwtTokenService.verify(freshToken).isEmpty());
+    }
+
+    @Test
+    void shouldTellWhetherVerifiedTokenStillHolds() {
+        VerifiedToken verified = jwtTokenService.verify(jwtTokenService.generateToken(1L, "testuser")).orElseThrow();
+        VerifiedToken expired = new VerifiedToken("jti-1", 1L, "testuser", Instant.now().minusSeconds(1));
+
+        assertTrue(jwtTokenService.isStillValid(verified));
+        assertFalse(jwtTokenService.isStillValid(expired));
+        when(tokenRevocations.isRevoked(verified.tokenId())).thenReturn(true);
+        assertFalse(jwtTokenService.isStillValid(verified));
+    }
+
+    @Test
+    void shouldReportAccessTokenLifetimeInSeconds() {
+        assertEquals(86400L, jwtTokenService.getExpirationSeconds());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
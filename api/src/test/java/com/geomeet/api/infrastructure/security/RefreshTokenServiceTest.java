@@ -0,0 +1,208 @@
+package com.geomeet.api.infrastructure.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.geomeet.api.application.result.AuthTokensResult;
+import com.geomeet.api.application.usecase.auth.UserRepository;
+import com.geomeet.api.domain.entity.User;
+import com.geomeet.api.domain.exception.InvalidCredentialsExceptionGeomeet;
+import com.geomeet.api.domain.valueobject.Email;
+import com.geomeet.api.domain.valueobject.PasswordHash;
+import com.geomeet.api.domain.valueobject.Username;
+import com.geomeet.api.infrastructure.persistence.JpaRefreshTokenRepository;
+import com.geomeet.api.infrastructure.persistence.entity.RefreshTokenEntity;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    private static final String REFRESH_TOKEN = "presented-refresh-token";
+
+    @Mock
+    private JpaRefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private JwtTokenService jwtTokenService;
+
+    @Mock
+    private TokenRevocations tokenRevocations;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(
+            refreshTokenRepository, jwtTokenService, tokenRevocations, userRepository, 60_000L);
+    }
+
+    @Test
+    void shouldIssuePairAndStoreOnlyTheDigest() {
+        // Given
+        when(jwtTokenService.generateToken(eq(1L), eq("alice"), anyString())).thenReturn("access-token");
+        when(jwtTokenService.getExpirationSeconds()).thenReturn(900L);
+
+        // When
+        AuthTokensResult tokens = refreshTokenService.issue(1L, "alice");
+
+        // Then
+        assertEquals("access-token", tokens.getAccessToken());
+        assertEquals(900L, tokens.getExpiresIn());
+        ArgumentCaptor<RefreshTokenEntity> saved = ArgumentCaptor.forClass(RefreshTokenEntity.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertEquals(1L, saved.getValue().getUserId());
+        assertEquals(JwtTokenService.digest(tokens.getRefreshToken()), saved.getValue().getTokenHash());
+        assertNotEquals(tokens.getRefreshToken(), saved.getValue().getTokenHash());
+        assertTrue(saved.getValue().getExpiresAt().isAfter(LocalDateTime.now()));
+        verify(jwtTokenService).generateToken(1L, "alice", saved.getValue().getAccessTokenId());
+        assertTrue(saved.getValue().getAccessExpiresAt().isAfter(LocalDateTime.now().plusSeconds(899)));
+    }
+
+    @Test
+    void shouldRotateIntoSameFamily() {
+        // Given
+        when(refreshTokenRepository.findByTokenHash(JwtTokenService.digest(REFRESH_TOKEN)))
+            .thenReturn(Optional.of(stored(LocalDateTime.now().plusDays(1))));
+        when(refreshTokenRepository.revoke(eq(10L), any())).thenReturn(1);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(true)));
+        when(jwtTokenService.generateToken(eq(1L), eq("alice"), anyString())).thenReturn("new-access-token");
+
+        // When
+        AuthTokensResult tokens = refreshTokenService.rotate(REFRESH_TOKEN);
+
+        // Then
+        assertEquals("new-access-token", tokens.getAccessToken());
+        assertNotEquals(REFRESH_TOKEN, tokens.getRefreshToken());
+        ArgumentCaptor<RefreshTokenEntity> saved = ArgumentCaptor.forClass(RefreshTokenEntity.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertEquals("family-1", saved.getValue().getFamilyId());
+        verify(refreshTokenRepository, never()).revokeFamily(anyString(), any());
+    }
+
+    @Test
+    void shouldRevokeFamilyAndItsAccessTokensWhenTokenIsReused() {
+        // Given
+        LocalDateTime accessExpiresAt = LocalDateTime.now().plusMinutes(10);
+        when(refreshTokenRepository.findByTokenHash(JwtTokenService.digest(REFRESH_TOKEN)))
+            .thenReturn(Optional.of(stored(LocalDateTime.now().plusDays(1))));
+        when(refreshTokenRepository.revoke(eq(10L), any())).thenReturn(0);
+        when(refreshTokenRepository.findByFamilyIdAndAccessExpiresAtAfter(eq("family-1"), any()))
+            .thenReturn(List.of(issuedWith("jti-live", accessExpiresAt)));
+
+        // When & Then
+        assertThrows(InvalidCredentialsExceptionGeomeet.class, () -> refreshTokenService.rotate(REFRESH_TOKEN));
+        verify(refreshTokenRepository).revokeFamily(eq("family-1"), any());
+        verify(tokenRevocations).revoke("jti-live", accessExpiresAt.atZone(ZoneId.systemDefault()).toInstant());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldRejectUnknownExpiredOrInactiveTokens() {
+        // Given
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(InvalidCredentialsExceptionGeomeet.class, () -> refreshTokenService.rotate("unknown"));
+
+        when(refreshTokenRepository.findByTokenHash(anyString()))
+            .thenReturn(Optional.of(stored(LocalDateTime.now().minusMinutes(1))));
+        when(refreshTokenRepository.revoke(anyLong(), any())).thenReturn(1);
+        assertThrows(InvalidCredentialsExceptionGeomeet.class, () -> refreshTokenService.rotate(REFRESH_TOKEN));
+
+        when(refreshTokenRepository.findByTokenHash(anyString()))
+            .thenReturn(Optional.of(stored(LocalDateTime.now().plusDays(1))));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(false)));
+        assertThrows(InvalidCredentialsExceptionGeomeet.class, () -> refreshTokenService.rotate(REFRESH_TOKEN));
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldRevokeAccessTokenAndRefreshFamilyOnLogout() {
+        // Given
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        when(jwtTokenService.verify("access-token"))
+            .thenReturn(Optional.of(new VerifiedToken("jti-1", 1L, "alice", expiresAt)));
+        when(refreshTokenRepository.findByTokenHash(JwtTokenService.digest(REFRESH_TOKEN)))
+            .thenReturn(Optional.of(stored(LocalDateTime.now().plusDays(1))));
+        when(refreshTokenRepository.findByFamilyIdAndAccessExpiresAtAfter(eq("family-1"), any()))
+            .thenReturn(List.of());
+
+        // When
+        refreshTokenService.revoke("access-token", REFRESH_TOKEN);
+
+        // Then
+        verify(tokenRevocations).revoke("jti-1", expiresAt);
+        verify(refreshTokenRepository).revokeFamily(eq("family-1"), any());
+    }
+
+    @Test
+    void shouldIgnoreMissingOrInvalidTokensOnLogout() {
+        // Given
+        when(jwtTokenService.verify("expired-token")).thenReturn(Optional.empty());
+
+        // When
+        refreshTokenService.revoke(null, null);
+        refreshTokenService.revoke(" ", " ");
+        refreshTokenService.revoke("expired-token", null);
+
+        // Then
+        verify(tokenRevocations, never()).revoke(anyString(), any());
+        verify(refreshTokenRepository, never()).findByTokenHash(anyString());
+    }
+
+    @Test
+    void shouldDeleteExpiredTokens() {
+        // When
+        refreshTokenService.deleteExpired();
+
+        // Then
+        verify(refreshTokenRepository).deleteExpired(any(LocalDateTime.class));
+    }
+
+    private static RefreshTokenEntity stored(LocalDateTime expiresAt) {
+        return RefreshTokenEntity.builder()
+            .id(10L)
+            .userId(1L)
+            .tokenHash(JwtTokenService.digest(REFRESH_TOKEN))
+            .familyId("family-1")
+            .expiresAt(expiresAt)
+            .build();
+    }
+
+    private static RefreshTokenEntity issuedWith(String accessTokenId, LocalDateTime accessExpiresAt) {
+        return RefreshTokenEntity.builder()
+            .id(11L)
+            .userId(1L)
+            .familyId("family-1")
+            .accessTokenId(accessTokenId)
+            .accessExpiresAt(accessExpiresAt)
+            .build();
+    }
+
+    private static User user(boolean active) {
+        return User.reconstruct(1L, new Username("alice"), new Email("alice@example.com"),
+            new PasswordHash("$2a$12$hash"), active, LocalDateTime.now(), LocalDateTime.now(), null, null);
+    }
+}
@@ -0,0 +1,67 @@
+package com.geomeet.api.infrastructure.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class RevocationBloomFilterTest {
+
+    @Test
+    void shouldSizeForTargetFalsePositiveRate() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(100_000, 0.01);
+
+        assertEquals(7, filter.hashCount());
+        assertTrue(filter.bitCount() >= 958_506);
+    }
+
+    @Test
+    void shouldNeverMissAnAddedId() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(1_000, 0.01);
+        String[] ids = new String[1_000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID().toString();
+            filter.add(ids[i]);
+        }
+
+        for (String id : ids) {
+            assertTrue(filter.mightContain(id));
+        }
+    }
+
+    @Test
+    void shouldKeepFalsePositivesNearTargetRate() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // 1% expected; allow generous slack so the test is not flaky
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void shouldAnswerNoWhenEmpty() {
+        RevocationBloomFilter filter = new RevocationBloomFilter(10, 0.01);
+
+        assertFalse(filter.mightContain(UUID.randomUUID().toString()));
+        assertFalse(filter.mightContain(""));
+    }
+
+    @Test
+    void shouldRejectInvalidSizing() {
+        assertThrows(IllegalArgumentException.class, () -> new RevocationBloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new RevocationBloomFilter(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> new RevocationBloomFilter(10, 1));
+    }
+}
@@ -0,0 +1,151 @@
+package com.geomeet.api.infrastructure.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.geomeet.api.infrastructure.persistence.JpaRevokedTokenRepository;
+import com.geomeet.api.infrastructure.persistence.entity.RevokedTokenEntity;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationsTest {
+
+    @Mock
+    private JpaRevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocations tokenRevocations;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocations = new TokenRevocations(revokedTokenRepository, 1_000, 60_000L);
+    }
+
+    @Test
+    void shouldAnswerForUnrevokedTokenWithoutDatabase() {
+        // When
+        boolean revoked = tokenRevocations.isRevoked("live-token");
+
+        // Then
+        assertFalse(revoked);
+        verify(revokedTokenRepository, never()).existsByTokenId(anyString());
+    }
+
+    @Test
+    void shouldStoreRevocationAndConfirmItAgainstDatabase() {
+        // Given
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        when(revokedTokenRepository.existsByTokenId("revoked-token")).thenReturn(true);
+
+        // When
+        tokenRevocations.revoke("revoked-token", expiresAt);
+
+        // Then
+        verify(revokedTokenRepository).insertIfAbsent(eq("revoked-token"), any(), any());
+        assertTrue(tokenRevocations.isRevoked("revoked-token"));
+    }
+
+    @Test
+    void shouldRevokeTheSameTokenTwiceWithoutError() {
+        // Given
+        when(revokedTokenRepository.insertIfAbsent(eq("revoked-token"), any(), any())).thenReturn(1, 0);
+
+        // When
+        tokenRevocations.revoke("revoked-token", Instant.now().plusSeconds(60));
+        tokenRevocations.revoke("revoked-token", Instant.now().plusSeconds(60));
+
+        // Then
+        verify(revokedTokenRepository, times(2)).insertIfAbsent(eq("revoked-token"), any(), any());
+        verify(revokedTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldRereadAnOverlappingWindowSoLateCommitsAreNotSkipped() {
+        // Given
+        LocalDateTime beforeFirstRefresh = LocalDateTime.now();
+        when(revokedTokenRepository.findByRevokedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+            any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(revoked(1L, "remote-1"), revoked(3L, "remote-3")))
+            .thenReturn(List.of(revoked(2L, "committed-late"), revoked(3L, "remote-3")));
+        when(revokedTokenRepository.existsByTokenId(anyString())).thenReturn(true);
+
+        // When
+        tokenRevocations.refresh();
+        tokenRevocations.refresh();
+
+        // Then
+        assertTrue(tokenRevocations.isRevoked("remote-1"));
+        assertTrue(tokenRevocations.isRevoked("committed-late"));
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(revokedTokenRepository, times(2)).findByRevokedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+            since.capture(), eq(0L), any(Pageable.class));
+        // The second poll starts a minute before the first one did
+        assertTrue(since.getAllValues().get(1).isBefore(beforeFirstRefresh.minusSeconds(59)));
+        assertEquals(2, since.getAllValues().size());
+    }
+
+    @Test
+    void shouldReadEveryPageWhenLoading() {
+        // Given
+        List<RevokedTokenEntity> fullPage = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            fullPage.add(revoked(id, "token-" + id));
+        }
+        when(revokedTokenRepository.findByRevokedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+            any(LocalDateTime.class), eq(0L), any(Pageable.class)))
+            .thenReturn(fullPage);
+        when(revokedTokenRepository.findByRevokedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+            any(LocalDateTime.class), eq(1000L), any(Pageable.class)))
+            .thenReturn(List.of(revoked(1001L, "token-1001")));
+        when(revokedTokenRepository.existsByTokenId("token-1001")).thenReturn(true);
+
+        // When
+        tokenRevocations.refresh();
+
+        // Then
+        assertTrue(tokenRevocations.isRevoked("token-1001"));
+    }
+
+    @Test
+    void shouldPurgeExpiredAndForgetThemOnRebuild() {
+        // Given
+        Instant expiresAt = Instant.now().plusSeconds(60);
+        tokenRevocations.revoke("purged-token", expiresAt);
+        when(revokedTokenRepository.deleteExpired(any(LocalDateTime.class))).thenReturn(1);
+        when(revokedTokenRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+            .thenReturn(List.of(revoked(5L, "kept-token")));
+
+        // When
+        tokenRevocations.rebuild();
+
+        // Then
+        assertFalse(tokenRevocations.isRevoked("purged-token"));
+        verify(revokedTokenRepository, never()).existsByTokenId("purged-token");
+        verify(revokedTokenRepository).deleteExpired(any(LocalDateTime.class));
+    }
+
+    private static RevokedTokenEntity revoked(Long id, String tokenId) {
+        return RevokedTokenEntity.builder()
+            .id(id)
+            .tokenId(tokenId)
+            .expiresAt(LocalDateTime.now().plusMinutes(15))
+            .build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.geomeet.api.infrastructure.websocket;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+@ExtendWith(MockitoExtension.class)
+class BackpressureDecoratorFactoryTest {
+
+    @Mock
+    private WebSocketHandler handler;
+
+    @Mock
+    private WebSocketSession connection;
+
+    @Mock
+    private WebSocketSession expired;
+
+    private final List<Runnable> pendingDrains = new ArrayList<>();
+    private final Set<String> expiredIds = new HashSet<>();
+    private BackpressureDecoratorFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        factory = new BackpressureDecoratorFactory(new OutboundLimits(10_000, 50, 0), pendingDrains::add,
+            new SimpleMeterRegistry(), session -> expiredIds.contains(session.getId()));
+    }
+
+    @Test
+    void shouldCloseConnectionsOverBudgetWithoutWaitingForNextFrame() throws Exception {
+        // Given
+        when(connection.getId()).thenReturn("ws-1");
+        WebSocketHandler decorated = factory.decorate(handler);
+        decorated.afterConnectionEstablished(connection);
+        WebSocketSession session = captureSession();
+        session.sendMessage(new TextMessage("MESSAGE\ndestination:/topic/session/s1\n\ny"));
+        session.sendMessage(new TextMessage("MESSAGE\ndestination:/topic/session/s1\n\ny"));
+        Thread.sleep(2);
+
+        // When
+        factory.checkSessions();
+
+        // Then
+        verify(connection).close(CloseStatus.SESSION_NOT_RELIABLE.withReason("Outbound buffer limit exceeded"));
+    }
+
+    @Test
+    void shouldCloseConnectionsWhoseTokenExpired() throws Exception {
+        // Given
+        when(connection.getId()).thenReturn("ws-1");
+        when(connection.isOpen()).thenReturn(true);
+        when(expired.getId()).thenReturn("ws-2");
+        when(expired.isOpen()).thenReturn(true);
+        WebSocketHandler decorated = factory.decorate(handler);
+        decorated.afterConnectionEstablished(connection);
+        decorated.afterConnectionEstablished(expired);
+        expiredIds.add("ws-2");
+
+        // When
+        factory.checkSessions();
+
+        // Then
+        verify(expired).close(CloseStatus.POLICY_VIOLATION.withReason("Token expired or revoked"));
+        verify(connection, never()).close(any());
+    }
+
+    @Test
+    void shouldStopCheckingClosedConnections() throws Exception {
+        // Given
+        when(connection.getId()).thenReturn("ws-1");
+        WebSocketHandler decorated = factory.decorate(handler);
+        decorated.afterConnectionEstablished(connection);
+        decorated.afterConnectionClosed(connection, CloseStatus.NORMAL);
+        expiredIds.add("ws-1");
+
+        // When
+        factory.checkSessions();
+
+        // Then
+        verify(connection, never()).close(any());
+    }
+
+    private WebSocketSession captureSession() throws Exception {
+        ArgumentCaptor<WebSocketSession> captor = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(handler).afterConnectionEstablished(captor.capture());
+        return captor.getValue();
+    }
+}
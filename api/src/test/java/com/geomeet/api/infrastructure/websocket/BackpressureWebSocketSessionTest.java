@@ -0,0 +1,185 @@
+package com.geomeet.api.infrastructure.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+@ExtendWith(MockitoExtension.class)
+class BackpressureWebSocketSessionTest {
+
+    @Mock
+    private WebSocketSession delegate;
+
+    private final List<Runnable> pendingDrains = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private OutboundMeters meters;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        meters = new OutboundMeters(meterRegistry);
+    }
+
+    @Test
+    void shouldConflateQueuedLocationFramesForSameParticipant() throws Exception {
+        BackpressureWebSocketSession session = session(new OutboundLimits(10_000, 64 * 1024, 5_000));
+        TextMessage first = locationFrame("1", "{\"latitude\":1.0}");
+        TextMessage second = locationFrame("1", "{\"latitude\":2.0}");
+
+        session.sendMessage(first);
+        session.sendMessage(second);
+        runDrains();
+
+        verify(delegate).sendMessage(second);
+        verify(delegate, never()).sendMessage(first);
+        assertEquals(1.0, meterRegistry.counter("geomeet.websocket.outbound.conflated").count());
+        assertEquals(0, session.getBufferedBytes());
+    }
+
+    @Test
+    void shouldKeepOrderOfFramesWithoutConflationKey() throws Exception {
+        BackpressureWebSocketSession session = session(new OutboundLimits(10_000, 64 * 1024, 5_000));
+        TextMessage roster = new TextMessage("MESSAGE\ndestination:/topic/session/s1\n\n{}\u0000");
+        TextMessage location = locationFrame("1", "{}");
+        TextMessage otherParticipant = locationFrame("2", "{}");
+
+        session.sendMessage(roster);
+        session.sendMessage(location);
+        session.sendMessage(otherParticipant);
+        runDrains();
+
+        InOrder order = inOrder(delegate);
+        order.verify(delegate).sendMessage(roster);
+        order.verify(delegate).sendMessage(location);
+        order.verify(delegate).sendMessage(otherParticipant);
+    }
+
+    @Test
+    void shouldDropSupersededFramesBeforeExceedingBudget() throws Exception {
+        TextMessage location = locationFrame("1", "x".repeat(100));
+        TextMessage roster = new TextMessage("MESSAGE\ndestination:/topic/session/s1\n\n" + "y".repeat(100));
+        BackpressureWebSocketSession session = session(
+            new OutboundLimits(10_000, location.getPayloadLength() + 10, 5_000));
+
+        session.sendMessage(location);
+        session.sendMessage(roster);
+        runDrains();
+
+        verify(delegate).sendMessage(roster);
+        verify(delegate, never()).sendMessage(location);
+        verify(delegate, never()).close(any());
+        assertEquals(1.0, meterRegistry.counter("geomeet.websocket.outbound.dropped").count());
+    }
+
+    @Test
+    void shouldDisconnectWhenOverBudgetPastGracePeriod() throws Exception {
+        BackpressureWebSocketSession session = session(new OutboundLimits(10_000, 100, 0));
+        TextMessage roster = new TextMessage("MESSAGE\ndestination:/topic/session/s1\n\ny");
+
+        // 40 bytes per frame: the third goes over budget, the fourth arrives after the grace period
+        session.sendMessage(roster);
+        session.sendMessage(roster);
+        session.sendMessage(roster);
+        verify(delegate, never()).close(any());
+        Thread.sleep(2);
+        session.sendMessage(roster);
+
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE.withReason("Outbound buffer limit exceeded"));
+        assertEquals(1.0, meterRegistry.counter("geomeet.websocket.outbound.disconnected").count());
+        assertEquals(0, session.getBufferedBytes());
+    }
+
+    @Test
+    void shouldDisconnectStuckWriteWithoutWaitingForNextFrame() throws Exception {
+        BackpressureWebSocketSession session = session(new OutboundLimits(1, 64 * 1024, 5_000));
+        TextMessage roster = new TextMessage("MESSAGE\ndestination:/topic/session/s1\n\ny");
+        doAnswer(invocation -> {
+            Thread.sleep(5);
+            session.checkLimits();
+            return null;
+        }).when(delegate).sendMessage(roster);
+
+        session.sendMessage(roster);
+        runDrains();
+
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE.withReason("Send time limit exceeded"));
+        assertEquals(1.0, meterRegistry.counter("geomeet.websocket.outbound.disconnected").count());
+    }
+
+    @Test
+    void shouldDisconnectOverBudgetSessionOnCheckOnlyWhileStillOverBudget() throws Exception {
+        BackpressureWebSocketSession drained = session(new OutboundLimits(10_000, 50, 0));
+        BackpressureWebSocketSession stuck = session(new OutboundLimits(10_000, 50, 0));
+        TextMessage roster = new TextMessage("MESSAGE\ndestination:/topic/session/s1\n\ny");
+
+        drained.sendMessage(roster);
+        drained.sendMessage(roster);
+        runDrains();
+        stuck.sendMessage(roster);
+        stuck.sendMessage(roster);
+        pendingDrains.clear();
+        Thread.sleep(2);
+        drained.checkLimits();
+        stuck.checkLimits();
+
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE.withReason("Outbound buffer limit exceeded"));
+        assertEquals(0, drained.getBufferedBytes());
+    }
+
+    @Test
+    void shouldIgnoreFramesAfterRelease() throws Exception {
+        BackpressureWebSocketSession session = session(new OutboundLimits(10_000, 64 * 1024, 5_000));
+
+        session.release();
+        session.sendMessage(locationFrame("1", "{}"));
+
+        assertEquals(0, pendingDrains.size());
+        verify(delegate, never()).sendMessage(any());
+    }
+
+    @Test
+    void shouldReadConflationKeyFromStompHeaders() {
+        assertEquals("/topic/session/s1/locations|7",
+            BackpressureWebSocketSession.conflationKey(locationFrame("7", "{}")));
+        byte[] binary = "MESSAGE\r\ndestination:/topic/a\r\nx-conflation-key:3\r\n\r\n".getBytes(StandardCharsets.UTF_8);
+        assertEquals("/topic/a|3", BackpressureWebSocketSession.conflationKey(new BinaryMessage(binary)));
+        assertNull(BackpressureWebSocketSession.conflationKey(new TextMessage("MESSAGE\ndestination:/topic/a\n\n")));
+        assertNull(BackpressureWebSocketSession.conflationKey(new TextMessage("CONNECTED\nx-conflation-key:1\n\n")));
+        assertNull(BackpressureWebSocketSession.conflationKey(
+            new TextMessage("MESSAGE\ndestination:/topic/a\n\nx-conflation-key:1")));
+    }
+
+    private BackpressureWebSocketSession session(OutboundLimits limits) {
+        return new BackpressureWebSocketSession(delegate, limits, pendingDrains::add, meters);
+    }
+
+    private void runDrains() {
+        while (!pendingDrains.isEmpty()) {
+            pendingDrains.remove(0).run();
+        }
+    }
+
+    private static TextMessage locationFrame(String participantId, String body) {
+        return new TextMessage("MESSAGE\ndestination:/topic/session/s1/locations\n"
+            + "x-conflation-key:" + participantId + "\n\n" + body + "\u0000");
+    }
+}
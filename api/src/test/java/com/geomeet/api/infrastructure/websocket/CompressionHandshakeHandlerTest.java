@@ -0,0 +1,40 @@
+package com.geomeet.api.infrastructure.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.socket.WebSocketExtension;
+
+class CompressionHandshakeHandlerTest {
+
+    private final List<WebSocketExtension> requested = List.of(
+        new WebSocketExtension("permessage-deflate"), new WebSocketExtension("x-webkit-deflate-frame"));
+    private final ServletServerHttpRequest request = new ServletServerHttpRequest(new MockHttpServletRequest());
+
+    @Test
+    void shouldOnlyNegotiatePermessageDeflate() {
+        List<WebSocketExtension> accepted = new CompressionHandshakeHandler(true)
+            .filterRequestedExtensions(request, requested, requested);
+
+        assertEquals(List.of(new WebSocketExtension("permessage-deflate")), accepted);
+    }
+
+    @Test
+    void shouldDeclineAllExtensionsWhenCompressionDisabled() {
+        List<WebSocketExtension> accepted = new CompressionHandshakeHandler(false)
+            .filterRequestedExtensions(request, requested, requested);
+
+        assertEquals(List.of(), accepted);
+    }
+
+    @Test
+    void shouldNotOfferDeflateTheContainerDoesNotSupport() {
+        List<WebSocketExtension> accepted = new CompressionHandshakeHandler(true)
+            .filterRequestedExtensions(request, requested, List.of());
+
+        assertEquals(List.of(), accepted);
+    }
+}
@@ -0,0 +1,193 @@
+package com.geomeet.api.infrastructure.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SessionEventExecutorTest {
+
+    private SessionEventExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRejectNonPositiveLaneCount() {
+        assertThrows(IllegalArgumentException.class, () -> new SessionEventExecutor(0, 100, new SimpleMeterRegistry()));
+        assertThrows(IllegalArgumentException.class, () -> new SessionEventExecutor(1, 0, new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void shouldKeepOrderWithinASession() throws InterruptedException {
+        executor = new SessionEventExecutor(4, 100, new SimpleMeterRegistry());
+        List<Integer> delivered = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(100);
+
+        for (int i = 0; i < 100; i++) {
+            int event = i;
+            executor.execute("s1", () -> {
+                delivered.add(event);
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, delivered.get(i));
+        }
+    }
+
+    @Test
+    void shouldKeepRunningAfterAFailingTask() throws InterruptedException {
+        executor = new SessionEventExecutor(1, 100, new SimpleMeterRegistry());
+        CountDownLatch done = new CountDownLatch(1);
+
+        executor.execute("s1", () -> {
+            throw new IllegalStateException("broadcast failed");
+        });
+        executor.execute("s1", done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(0, executor.getQueuedTaskCount());
+    }
+
+    @Test
+    void shouldDropOnlyOldestConflatableTaskWhenLaneIsFull() throws InterruptedException {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        executor = new SessionEventExecutor(1, 3, meterRegistry);
+        CountDownLatch release = blockLane();
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+
+        // When
+        executor.executeConflatable("s1", () -> record(delivered, done, "s1-location-1"));
+        executor.execute("s2", () -> record(delivered, done, "s2-end"));
+        executor.executeConflatable("s1", () -> record(delivered, done, "s1-location-2"));
+        executor.execute("s2", () -> record(delivered, done, "s2-meeting"));
+        release.countDown();
+
+        // Then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("s1-location-2", "s2-end", "s2-meeting"), delivered);
+        assertEquals(1.0, meterRegistry.get("geomeet.events.lane.dropped").counter().count());
+    }
+
+    @Test
+    void shouldWaitForRoomInsteadOfDroppingOtherTasks() throws Exception {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        executor = new SessionEventExecutor(1, 2, meterRegistry);
+        CountDownLatch release = blockLane();
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        executor.execute("s1", () -> record(delivered, done, "s1-end"));
+        executor.execute("s2", () -> record(delivered, done, "s2-end"));
+
+        // When
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(
+            () -> executor.executeConflatable("s3", () -> record(delivered, done, "s3-location")));
+        awaitBlocked(meterRegistry);
+        assertFalse(waiting.isDone());
+        release.countDown();
+
+        // Then
+        waiting.get(5, TimeUnit.SECONDS);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("s1-end", "s2-end", "s3-location"), delivered);
+        assertEquals(0.0, meterRegistry.get("geomeet.events.lane.dropped").counter().count());
+    }
+
+    @Test
+    void shouldRejectWaitingTaskOnShutdown() throws InterruptedException {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        executor = new SessionEventExecutor(1, 1, meterRegistry);
+        CountDownLatch release = blockLane();
+        executor.execute("s1", () -> { });
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> executor.execute("s2", () -> { }));
+        awaitBlocked(meterRegistry);
+
+        // When
+        executor.shutdown();
+        release.countDown();
+
+        // Then
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> waiting.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, ex.getCause());
+    }
+
+    @Test
+    void shouldNotWaitOnItsOwnLane() throws InterruptedException {
+        // Given
+        executor = new SessionEventExecutor(1, 1, new SimpleMeterRegistry());
+        CountDownLatch done = new CountDownLatch(2);
+
+        // When
+        executor.execute("s1", () -> {
+            executor.execute("s1", done::countDown);
+            executor.execute("s1", done::countDown);
+        });
+
+        // Then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldRejectTasksAfterShutdown() {
+        executor = new SessionEventExecutor(1, 100, new SimpleMeterRegistry());
+
+        executor.shutdown();
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute("s1", () -> { }));
+    }
+
+    private CountDownLatch blockLane() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute("s0", () -> {
+            blocked.countDown();
+            awaitQuietly(release);
+        });
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        return release;
+    }
+
+    private static void awaitBlocked(SimpleMeterRegistry meterRegistry) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("geomeet.events.lane.blocked").counter().count() < 1.0) {
+            assertTrue(System.nanoTime() < deadline, "submitter never waited for room");
+            Thread.sleep(5);
+        }
+    }
+
+    private static void record(List<String> delivered, CountDownLatch done, String task) {
+        delivered.add(task);
+        done.countDown();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.geomeet.api.infrastructure.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.geomeet.api.application.usecase.session.BroadcastLocationUpdateUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+
+class SessionLaneTaskExecutorTest {
+
+    private SessionLaneTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRejectNonPositiveLaneCount() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new SessionLaneTaskExecutor(0, 100, new SimpleMeterRegistry()));
+        assertThrows(IllegalArgumentException.class,
+            () -> new SessionLaneTaskExecutor(1, 0, new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void shouldExtractSessionIdFromSessionTopics() {
+        assertEquals("abc", SessionLaneTaskExecutor.sessionIdFromDestination("/topic/session/abc"));
+        assertEquals("abc", SessionLaneTaskExecutor.sessionIdFromDestination("/topic/session/abc/locations"));
+        assertNull(SessionLaneTaskExecutor.sessionIdFromDestination("/topic/session/"));
+        assertNull(SessionLaneTaskExecutor.sessionIdFromDestination("/topic/other"));
+        assertNull(SessionLaneTaskExecutor.sessionIdFromDestination(null));
+    }
+
+    @Test
+    void shouldFallBackToWebSocketSessionIdWhenNoSessionTopic() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setSessionId("ws-1");
+        Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        assertEquals("ws-1", SessionLaneTaskExecutor.partitionKey(runnable(message, m -> { })));
+        assertNull(SessionLaneTaskExecutor.partitionKey(() -> { }));
+    }
+
+    @Test
+    void shouldOnlyTreatFramesWithConflationKeyAsConflatable() {
+        // Given
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setDestination("/topic/session/s1/locations");
+        accessor.setNativeHeader(BroadcastLocationUpdateUseCase.CONFLATION_KEY_HEADER, "7");
+        Message<byte[]> location = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+        // When & Then
+        assertTrue(SessionLaneTaskExecutor.isConflatable(runnable(location, m -> { })));
+        assertFalse(SessionLaneTaskExecutor.isConflatable(runnable(message("/topic/session/s1/end", "end"), m -> { })));
+        assertFalse(SessionLaneTaskExecutor.isConflatable(() -> { }));
+    }
+
+    @Test
+    void shouldDropOnlyConflatableFramesWhenLaneIsFull() throws InterruptedException {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        executor = new SessionLaneTaskExecutor(1, 2, meterRegistry);
+        executor.initialize();
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        MessageHandler recorder = m -> {
+            delivered.add((String) m.getPayload());
+            done.countDown();
+        };
+        executor.execute(runnable(message("/topic/session/a", "A0"), m -> {
+            started.countDown();
+            awaitQuietly(blocker);
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // When
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setDestination("/topic/session/a/locations");
+        accessor.setNativeHeader(BroadcastLocationUpdateUseCase.CONFLATION_KEY_HEADER, "7");
+        executor.execute(runnable(MessageBuilder.createMessage("location", accessor.getMessageHeaders()), recorder));
+        executor.execute(runnable(message("/topic/session/a", "roster"), recorder));
+        executor.execute(runnable(message("/topic/session/a/end", "end"), recorder));
+        blocker.countDown();
+
+        // Then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("roster", "end"), delivered);
+        assertEquals(1.0, meterRegistry.get("geomeet.websocket.lane.dropped").counter().count());
+    }
+
+    @Test
+    void shouldKeepOrderWithinASession() throws InterruptedException {
+        executor = start(4);
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(100);
+
+        for (int i = 0; i < 100; i++) {
+            String payload = String.valueOf(i);
+            executor.execute(runnable(message("/topic/session/s1/locations", payload), m -> {
+                delivered.add(payload);
+                done.countDown();
+            }));
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(String.valueOf(i), delivered.get(i));
+        }
+    }
+
+    @Test
+    void shouldServeSessionsRoundRobinWithinALane() throws InterruptedException {
+        executor = start(1);
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(5);
+        MessageHandler recorder = m -> {
+            delivered.add((String) m.getPayload());
+            done.countDown();
+        };
+
+        // Hold the lane on the first frame so the rest queue up behind it
+        executor.execute(runnable(message("/topic/session/a", "A0"), m -> {
+            started.countDown();
+            awaitQuietly(blocker);
+            recorder.handleMessage(m);
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        executor.execute(runnable(message("/topic/session/a", "A1"), recorder));
+        executor.execute(runnable(message("/topic/session/a", "A2"), recorder));
+        executor.execute(runnable(message("/topic/session/a", "A3"), recorder));
+        executor.execute(runnable(message("/topic/session/b", "B1"), recorder));
+        blocker.countDown();
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("A0", "A1", "B1", "A2", "A3"), delivered);
+    }
+
+    @Test
+    void shouldRunNonMessageTasksOnThePool() throws InterruptedException {
+        executor = start(1);
+        CountDownLatch done = new CountDownLatch(1);
+
+        executor.execute(done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    private SessionLaneTaskExecutor start(int lanes) {
+        SessionLaneTaskExecutor laneExecutor = new SessionLaneTaskExecutor(lanes, 100, new SimpleMeterRegistry());
+        laneExecutor.initialize();
+        return laneExecutor;
+    }
+
+    private static Message<String> message(String destination, String payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    private static MessageHandlingRunnable runnable(Message<?> message, MessageHandler handler) {
+        return new MessageHandlingRunnable() {
+            @Override
+            public Message<?> getMessage() {
+                return message;
+            }
+
+            @Override
+            public MessageHandler getMessageHandler() {
+                return handler;
+            }
+
+            @Override
+            public void run() {
+                handler.handleMessage(message);
+            }
+        };
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.geomeet.api.infrastructure.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.geomeet.api.application.usecase.session.SessionMembership;
+import com.geomeet.api.infrastructure.security.JwtTokenService;
+import com.geomeet.api.infrastructure.security.TokenRevocations;
+import com.geomeet.api.infrastructure.security.VerifiedToken;
+import java.security.Principal;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.WebSocketSession;
+
+@ExtendWith(MockitoExtension.class)
+class StompAuthChannelInterceptorTest {
+
+    private static final String S1 = "7c9e6679-7425-40de-944b-e07fc1f90ae7";
+    private static final String S2 = "2b1a4c8e-59d3-4f7a-9c0e-3d5f6a7b8c9d";
+
+    @Mock
+    private SessionMembership sessionMembership;
+
+    @Mock
+    private MessageChannel channel;
+
+    @Mock
+    private TokenRevocations tokenRevocations;
+
+    private JwtTokenService jwtTokenService;
+    private StompAuthChannelInterceptor interceptor;
+    private VerifiedToken token;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenService = new JwtTokenService(tokenRevocations);
+        ReflectionTestUtils.setField(jwtTokenService, "secret",
+            "geomeet-secret-key-for-testing-purposes-only-must-be-long-enough");
+        ReflectionTestUtils.setField(jwtTokenService, "expiration", 86400000L);
+        interceptor = new StompAuthChannelInterceptor(jwtTokenService, sessionMembership);
+        token = jwtTokenService.verify(jwtTokenService.generateToken(5L, "alice")).orElseThrow();
+    }
+
+    @Test
+    void shouldAttachUserIdAsPrincipalOnConnect() {
+        // Given
+        Message<byte[]> connect = frame(StompCommand.CONNECT, null, null,
+            "Bearer " + jwtTokenService.generateToken(5L, "alice"));
+
+        // When
+        Message<?> result = interceptor.preSend(connect, channel);
+
+        // Then
+        assertSame(connect, result);
+        Principal user = StompHeaderAccessor.wrap(result).getUser();
+        UsernamePasswordAuthenticationToken authentication = (UsernamePasswordAuthenticationToken) user;
+        assertEquals(5L, authentication.getPrincipal());
+        assertEquals(List.of("ROLE_USER"),
+            authentication.getAuthorities().stream().map(Object::toString).toList());
+        VerifiedToken kept = (VerifiedToken) StompHeaderAccessor.wrap(result).getSessionAttributes()
+            .get(StompAuthChannelInterceptor.TOKEN_ATTRIBUTE);
+        assertEquals(5L, kept.userId());
+    }
+
+    @Test
+    void shouldRejectFramesOnceTokenExpiredOrRevoked() {
+        // Given
+        VerifiedToken expired = new VerifiedToken("jti-1", 5L, "alice", Instant.now().minusSeconds(1));
+        VerifiedToken revoked = new VerifiedToken("jti-2", 5L, "alice", Instant.now().plusSeconds(60));
+        when(tokenRevocations.isRevoked("jti-2")).thenReturn(true);
+
+        // When & Then
+        assertThrows(BadCredentialsException.class, () -> interceptor.preSend(
+            frame(StompCommand.SEND, "/app/session/" + S1 + "/viewport", user(5L), null, expired), channel));
+        assertThrows(BadCredentialsException.class, () -> interceptor.preSend(
+            frame(StompCommand.SUBSCRIBE, "/topic/other", user(5L), null, revoked), channel));
+        assertThrows(BadCredentialsException.class, () -> interceptor.preSend(
+            frame(StompCommand.SUBSCRIBE, "/topic/other", user(5L), null, null), channel));
+        verify(sessionMembership, never()).isMember(anyString(), any());
+    }
+
+    @Test
+    void shouldReportConnectionsWhoseTokenNoLongerHolds() {
+        // Given
+        WebSocketSession session = mock(WebSocketSession.class);
+        Map<String, Object> attributes = new HashMap<>();
+        when(session.getAttributes()).thenReturn(attributes);
+
+        // When & Then
+        assertFalse(interceptor.hasExpiredToken(session));
+        attributes.put(StompAuthChannelInterceptor.TOKEN_ATTRIBUTE, token);
+        assertFalse(interceptor.hasExpiredToken(session));
+        attributes.put(StompAuthChannelInterceptor.TOKEN_ATTRIBUTE,
+            new VerifiedToken("jti-1", 5L, "alice", Instant.now().minusSeconds(1)));
+        assertTrue(interceptor.hasExpiredToken(session));
+    }
+
+    @Test
+    void shouldRejectConnectWithoutValidToken() {
+        assertThrows(BadCredentialsException.class,
+            () -> interceptor.preSend(frame(StompCommand.CONNECT, null, null, null), channel));
+        assertThrows(BadCredentialsException.class,
+            () -> interceptor.preSend(frame(StompCommand.CONNECT, null, null, "Basic abc"), channel));
+        assertThrows(BadCredentialsException.class,
+            () -> interceptor.preSend(frame(StompCommand.CONNECT, null, null, "Bearer not-a-jwt"), channel));
+    }
+
+    @Test
+    void shouldAuthorizeSessionSubscriptionsAgainstMembership() {
+        // Given
+        when(sessionMembership.isMember(S1, 5L)).thenReturn(true);
+        when(sessionMembership.isMember(S2, 5L)).thenReturn(false);
+
+        // When & Then
+        interceptor.preSend(
+            frame(StompCommand.SUBSCRIBE, "/topic/session/" + S1 + "/locations", user(5L), null), channel);
+        interceptor.preSend(frame(StompCommand.SEND, "/app/session/" + S1 + "/viewport", user(5L), null), channel);
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(
+            frame(StompCommand.SUBSCRIBE, "/user/queue/session/" + S2 + "/locations", user(5L), null), channel));
+    }
+
+    @Test
+    void shouldRewriteSessionIdToCanonicalForm() {
+        // Given
+        when(sessionMembership.isMember(S1, 5L)).thenReturn(true);
+        Message<byte[]> subscribe = frame(
+            StompCommand.SUBSCRIBE, "/topic/session/" + S1.toUpperCase() + "/locations", user(5L), null);
+
+        // When
+        Message<?> result = interceptor.preSend(subscribe, channel);
+
+        // Then
+        assertEquals("/topic/session/" + S1 + "/locations", StompHeaderAccessor.wrap(result).getDestination());
+    }
+
+    @Test
+    void shouldRejectMalformedSessionIdWithoutMembershipLookup() {
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(
+            frame(StompCommand.SUBSCRIBE, "/topic/session/s1", user(5L), null), channel));
+        verify(sessionMembership, never()).isMember(anyString(), any());
+    }
+
+    @Test
+    void shouldRejectSessionSubscriptionWithoutPrincipal() {
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(
+            frame(StompCommand.SUBSCRIBE, "/topic/session/" + S1, null, null), channel));
+        verify(sessionMembership, never()).isMember(anyString(), any());
+    }
+
+    @Test
+    void shouldDenyDestinationsOutsideSessionsByDefault() {
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(
+            frame(StompCommand.SUBSCRIBE, "/topic/**", user(5L), null), channel));
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(
+            frame(StompCommand.SUBSCRIBE, "/queue/**", user(5L), null), channel));
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(
+            frame(StompCommand.SUBSCRIBE, "/topic/other", user(5L), null), channel));
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(
+            frame(StompCommand.SUBSCRIBE, "/queue/session/" + S1 + "/locations-user1", user(5L), null), channel));
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(
+            frame(StompCommand.SUBSCRIBE, null, user(5L), null), channel));
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(
+            frame(StompCommand.SEND, "/topic/session/" + S1, user(5L), null), channel));
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(
+            frame(StompCommand.SEND, "/topic/session/" + S1 + "/locations", user(5L), null), channel));
+        verify(sessionMembership, never()).isMember(anyString(), any());
+    }
+
+    @Test
+    void shouldRejectBrokerPatternsInsideSessionDestinations() {
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(
+            frame(StompCommand.SUBSCRIBE, "/topic/session/" + S1 + "/**", user(5L), null), channel));
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(
+            frame(StompCommand.SUBSCRIBE, "/topic/session/" + S1 + "/locatio?s", user(5L), null), channel));
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(
+            frame(StompCommand.SUBSCRIBE, "/topic/session/{id}", user(5L), null), channel));
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(
+            frame(StompCommand.SEND, "/app/session/*/viewport", user(5L), null), channel));
+        verify(sessionMembership, never()).isMember(anyString(), any());
+    }
+
+    @Test
+    void shouldPassOtherFramesWithoutChecks() {
+        // When
+        interceptor.preSend(frame(StompCommand.SEND, "/app/other", null, null), channel);
+        interceptor.preSend(frame(StompCommand.UNSUBSCRIBE, null, null, null), channel);
+        Message<?> plain = MessageBuilder.withPayload(new byte[0]).build();
+
+        // Then
+        assertSame(plain, interceptor.preSend(plain, channel));
+        assertNull(StompHeaderAccessor.wrap(plain).getUser());
+        verify(sessionMembership, never()).isMember(anyString(), any());
+    }
+
+    private static UsernamePasswordAuthenticationToken user(Long userId) {
+        return new UsernamePasswordAuthenticationToken(userId, null, List.of());
+    }
+
+    private Message<byte[]> frame(StompCommand command, String destination, Principal user, String auth) {
+        return frame(command, destination, user, auth, command == StompCommand.CONNECT ? null : token);
+    }
+
+    private static Message<byte[]> frame(
+        StompCommand command, String destination, Principal user, String auth, VerifiedToken verified) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        if (command == StompCommand.SUBSCRIBE) {
+            accessor.setSubscriptionId("sub-0");
+        }
+        if (auth != null) {
+            accessor.setNativeHeader(StompAuthChannelInterceptor.AUTHORIZATION_HEADER, auth);
+        }
+        Map<String, Object> attributes = new HashMap<>();
+        if (verified != null) {
+            attributes.put(StompAuthChannelInterceptor.TOKEN_ATTRIBUTE, verified);
+        }
+        accessor.setSessionAttributes(attributes);
+        accessor.setUser(user);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
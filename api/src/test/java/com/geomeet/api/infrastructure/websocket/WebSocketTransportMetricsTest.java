@@ -0,0 +1,76 @@
+package com.geomeet.api.infrastructure.websocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+class WebSocketTransportMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private WebSocketTransportMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new WebSocketTransportMetrics(meterRegistry);
+    }
+
+    @Test
+    void shouldDetectTransportFromPath() {
+        assertEquals("websocket", WebSocketTransportMetrics.transportOf("/ws-native"));
+        assertEquals("websocket", WebSocketTransportMetrics.transportOf("/ws/123/abc/websocket"));
+        assertEquals("xhr_streaming", WebSocketTransportMetrics.transportOf("/ws/123/abc/xhr_streaming"));
+        assertEquals("eventsource", WebSocketTransportMetrics.transportOf("/ws/123/abc/eventsource/"));
+        assertEquals("websocket", WebSocketTransportMetrics.transportOf(null));
+    }
+
+    @Test
+    void shouldCountHandshakesAndTrackActiveConnections() throws Exception {
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("POST", "/ws/1/abc/xhr_streaming");
+        Map<String, Object> attributes = new HashMap<>();
+
+        boolean proceed = metrics.forEndpoint("sockjs")
+            .beforeHandshake(new ServletServerHttpRequest(servletRequest), null, null, attributes);
+
+        assertTrue(proceed);
+        assertEquals(1.0, meterRegistry.counter("geomeet.websocket.handshakes",
+            "endpoint", "sockjs", "transport", "xhr_streaming").count());
+
+        Message<byte[]> message = messageWith(attributes);
+        metrics.onConnected(new SessionConnectedEvent(this, message));
+        assertEquals(1, metrics.getActiveConnections("sockjs", "xhr_streaming"));
+        assertEquals(1.0, meterRegistry.get("geomeet.websocket.connections.active")
+            .tag("transport", "xhr_streaming").gauge().value());
+
+        metrics.onDisconnect(new SessionDisconnectEvent(this, message, "ws-1", CloseStatus.NORMAL));
+        metrics.onDisconnect(new SessionDisconnectEvent(this, message, "ws-1", CloseStatus.NORMAL));
+        assertEquals(0, metrics.getActiveConnections("sockjs", "xhr_streaming"));
+    }
+
+    @Test
+    void shouldIgnoreSessionsWithoutHandshakeAttributes() {
+        metrics.onConnected(new SessionConnectedEvent(this, messageWith(new HashMap<>())));
+
+        assertEquals(0, metrics.getActiveConnections("native", "websocket"));
+    }
+
+    private static Message<byte[]> messageWith(Map<String, Object> attributes) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setSessionId("ws-1");
+        accessor.setSessionAttributes(attributes);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,14 @@
+#!/bin/bash
+# Benchmark location updates (WAL volume, throughput, HOT share) on synthetic PARTICIPANT_LOCATIONS
+# tables in the local docker-compose database.
+# Usage: ./location-writes.sh [participants] [updates]   (defaults: 100000 locations, 200000 updates)
+
+set -e
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+ROOT_DIR="$(cd "$SCRIPT_DIR/../../.." && pwd)"
+
+docker-compose -f "$ROOT_DIR/docker-compose.yml" exec -T postgres \
+    psql -U "${POSTGRES_USER:-postgres}" -d "${POSTGRES_DB:-geomeet_local}" \
+    -v participants="${1:-100000}" -v updates="${2:-200000}" \
+    -f - < "$SCRIPT_DIR/location-writes.sql"
@@ -0,0 +1,98 @@
+-- Location write benchmark: PARTICIPANT_LOCATIONS as created by V4 against the slimmed table of V12.
+-- Builds synthetic copies in the "bench" schema, so the application tables are untouched.
+-- Run with location-writes.sh, or: psql -v participants=100000 -v updates=200000 -f location-writes.sql
+
+\set ON_ERROR_STOP on
+\if :{?participants}
+\else
+\set participants 100000
+\endif
+\if :{?updates}
+\else
+\set updates 200000
+\endif
+
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+
+-- Same columns as PARTICIPANT_LOCATIONS; foreign keys are left out, they do not affect updates
+CREATE TABLE bench.locations_before (
+    id BIGSERIAL PRIMARY KEY,
+    participant_id BIGINT NOT NULL,
+    session_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    latitude DOUBLE PRECISION NOT NULL,
+    longitude DOUBLE PRECISION NOT NULL,
+    accuracy DOUBLE PRECISION,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(50),
+    updated_by VARCHAR(50)
+);
+CREATE TABLE bench.locations_after (LIKE bench.locations_before INCLUDING ALL) WITH (fillfactor = 70);
+
+-- Indexes after V4
+CREATE INDEX ON bench.locations_before(participant_id);
+CREATE INDEX ON bench.locations_before(session_id);
+CREATE INDEX ON bench.locations_before(user_id);
+CREATE INDEX ON bench.locations_before(session_id, user_id);
+CREATE INDEX ON bench.locations_before(updated_at DESC);
+CREATE UNIQUE INDEX ON bench.locations_before(participant_id);
+
+-- Indexes after V12
+CREATE INDEX ON bench.locations_after(session_id, user_id);
+CREATE UNIQUE INDEX ON bench.locations_after(participant_id);
+
+\echo Generating :participants locations in sessions of 20...
+INSERT INTO bench.locations_before (participant_id, session_id, user_id, latitude, longitude, accuracy)
+SELECT i, i / 20, i, random() * 180 - 90, random() * 360 - 180, random() * 50
+FROM generate_series(1, :participants) AS i;
+INSERT INTO bench.locations_after SELECT * FROM bench.locations_before;
+VACUUM ANALYZE bench.locations_before, bench.locations_after;
+
+-- One GPS fix per statement, as the application sends them, committed in groups of 100
+CREATE PROCEDURE bench.move(locations REGCLASS, updates INT) AS $$
+DECLARE
+    location_count BIGINT;
+BEGIN
+    EXECUTE format('SELECT count(*) FROM %s', locations) INTO location_count;
+    FOR i IN 1..updates LOOP
+        EXECUTE format('UPDATE %s SET latitude = $2, longitude = $3, accuracy = $4, '
+            'updated_at = clock_timestamp() WHERE id = $1', locations)
+            USING 1 + floor(random() * location_count)::BIGINT,
+                random() * 180 - 90, random() * 360 - 180, random() * 50;
+        IF i % 100 = 0 THEN
+            COMMIT;
+        END IF;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+\echo
+\echo === Before: six indexes, one of them on updated_at, fillfactor 100 ===
+CHECKPOINT;
+SELECT pg_current_wal_lsn() AS wal_start, clock_timestamp() AS started \gset
+CALL bench.move('bench.locations_before', :updates);
+SELECT pg_current_wal_lsn() AS wal_end, clock_timestamp() AS finished \gset
+SELECT pg_stat_force_next_flush();
+SELECT pg_size_pretty(pg_wal_lsn_diff(:'wal_end', :'wal_start')) AS wal,
+       round(pg_wal_lsn_diff(:'wal_end', :'wal_start') / :updates) AS wal_bytes_per_update,
+       round(:updates / extract(EPOCH FROM :'finished'::TIMESTAMPTZ - :'started'::TIMESTAMPTZ)) AS updates_per_second,
+       round(100.0 * n_tup_hot_upd / nullif(n_tup_upd, 0), 1) AS hot_percent,
+       pg_size_pretty(pg_total_relation_size(relid)) AS table_and_indexes
+FROM pg_stat_user_tables WHERE relid = 'bench.locations_before'::REGCLASS;
+
+\echo === After: unique participant_id and (session_id, user_id) only, fillfactor 70 ===
+CHECKPOINT;
+SELECT pg_current_wal_lsn() AS wal_start, clock_timestamp() AS started \gset
+CALL bench.move('bench.locations_after', :updates);
+SELECT pg_current_wal_lsn() AS wal_end, clock_timestamp() AS finished \gset
+SELECT pg_stat_force_next_flush();
+SELECT pg_size_pretty(pg_wal_lsn_diff(:'wal_end', :'wal_start')) AS wal,
+       round(pg_wal_lsn_diff(:'wal_end', :'wal_start') / :updates) AS wal_bytes_per_update,
+       round(:updates / extract(EPOCH FROM :'finished'::TIMESTAMPTZ - :'started'::TIMESTAMPTZ)) AS updates_per_second,
+       round(100.0 * n_tup_hot_upd / nullif(n_tup_upd, 0), 1) AS hot_percent,
+       pg_size_pretty(pg_total_relation_size(relid)) AS table_and_indexes
+FROM pg_stat_user_tables WHERE relid = 'bench.locations_after'::REGCLASS;
+
+DROP SCHEMA bench CASCADE;
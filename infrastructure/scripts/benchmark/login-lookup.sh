@@ -0,0 +1,13 @@
+#!/bin/bash
+# Benchmark login lookups on a synthetic USERS table in the local docker-compose database.
+# Usage: ./login-lookup.sh [users] [iterations]   (defaults: 3000000 users, 20000 lookups)
+
+set -e
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+ROOT_DIR="$(cd "$SCRIPT_DIR/../../.." && pwd)"
+
+docker-compose -f "$ROOT_DIR/docker-compose.yml" exec -T postgres \
+    psql -U "${POSTGRES_USER:-postgres}" -d "${POSTGRES_DB:-geomeet_local}" \
+    -v users="${1:-3000000}" -v iterations="${2:-20000}" \
+    -f - < "$SCRIPT_DIR/login-lookup.sql"
@@ -0,0 +1,82 @@
+-- Login lookup benchmark: "username = ? OR email = ?" against one probe routed by '@'.
+-- Builds a synthetic copy of USERS in the "bench" schema, so the application tables are untouched.
+-- Run with login-lookup.sh, or: psql -v users=3000000 -f login-lookup.sql
+
+\set ON_ERROR_STOP on
+\if :{?users}
+\else
+\set users 3000000
+\endif
+\if :{?iterations}
+\else
+\set iterations 20000
+\endif
+
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+
+-- Same shape and constraints as USERS after V1
+CREATE TABLE bench.users (
+    id BIGSERIAL PRIMARY KEY,
+    username VARCHAR(50) NOT NULL UNIQUE,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    password_hash VARCHAR(255) NOT NULL,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+\echo Generating :users users...
+INSERT INTO bench.users (username, email, password_hash)
+SELECT 'User_' || i, 'user_' || i || '@example.com', '$2a$12$' || md5(i::text)
+FROM generate_series(1, :users) AS i;
+ANALYZE bench.users;
+
+-- Average latency of a query over random identifiers; $1 is the identifier
+CREATE FUNCTION bench.time_lookup(label TEXT, query TEXT, identifier TEXT, iterations INT) RETURNS VOID AS $$
+DECLARE
+    user_count BIGINT := (SELECT count(*) FROM bench.users);
+    started TIMESTAMPTZ := clock_timestamp();
+    matched_id BIGINT;
+BEGIN
+    FOR i IN 1..iterations LOOP
+        EXECUTE query INTO matched_id USING replace(identifier, '#', (1 + floor(random() * user_count))::BIGINT::TEXT);
+    END LOOP;
+    RAISE NOTICE '%: % us per lookup', rpad(label, 40),
+        round((extract(EPOCH FROM clock_timestamp() - started) * 1000000 / iterations)::NUMERIC, 1);
+END;
+$$ LANGUAGE plpgsql;
+
+\echo
+\echo === Before: one OR query across both columns ===
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT id FROM bench.users WHERE username = 'User_1234567' OR email = 'User_1234567';
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT id FROM bench.users WHERE username = 'user_1234567@example.com' OR email = 'user_1234567@example.com';
+
+\echo === Case-insensitive username without a functional index ===
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT id FROM bench.users WHERE lower(username) = 'user_1234567';
+
+-- What V10 adds
+CREATE UNIQUE INDEX uk_bench_users_username_lower ON bench.users(lower(username));
+ALTER TABLE bench.users ADD CONSTRAINT chk_bench_users_email_lower CHECK (email = lower(email));
+ANALYZE bench.users;
+
+\echo === After: routed by '@' to a single unique-index probe ===
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT id FROM bench.users WHERE lower(username) = 'user_1234567';
+EXPLAIN (ANALYZE, BUFFERS, COSTS OFF)
+SELECT id FROM bench.users WHERE email = 'user_1234567@example.com';
+
+\echo === Latency over :iterations random lookups ===
+SELECT bench.time_lookup('OR query, username',
+    'SELECT id FROM bench.users WHERE username = $1 OR email = $1', 'User_#', :iterations);
+SELECT bench.time_lookup('OR query, email',
+    'SELECT id FROM bench.users WHERE username = $1 OR email = $1', 'user_#@example.com', :iterations);
+SELECT bench.time_lookup('routed, lower(username)',
+    'SELECT id FROM bench.users WHERE lower(username) = $1', 'user_#', :iterations);
+SELECT bench.time_lookup('routed, email',
+    'SELECT id FROM bench.users WHERE email = $1', 'user_#@example.com', :iterations);
+
+DROP SCHEMA bench CASCADE;
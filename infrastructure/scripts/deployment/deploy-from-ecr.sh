@@ -192,7 +192,7 @@ services:
       - "8080:8080"
     environment:
       - SPRING_PROFILES_ACTIVE=aws
-      - SPRING_DATASOURCE_URL=jdbc:postgresql://${DB_ENDPOINT}:5432/${DB_NAME:-geomeet}
+      - SPRING_DATASOURCE_URL=jdbc:postgresql://${DB_ENDPOINT}:5432/${DB_NAME:-geomeet}?reWriteBatchedInserts=true
       - SPRING_DATASOURCE_USERNAME=${DB_USERNAME}
       - SPRING_DATASOURCE_PASSWORD=${DB_PASSWORD}
       - SERVER_PORT=8080
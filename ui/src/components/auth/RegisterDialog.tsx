@@ -61,7 +61,7 @@ export const RegisterDialog = ({ open, onClose, sessionId }: RegisterDialogProps
 
       const response = await authApi.register(registerInfo);
 
-      setAuthFromResponse(response.token, response.username, response.email);
+      setAuthFromResponse(response.token, response.username, response.email, response.refreshToken);
 
       setUsername('');
       setPassword('');
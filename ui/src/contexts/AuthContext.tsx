@@ -11,7 +11,7 @@ interface AuthContextType {
   user: User | null;
   token: string | null;
   login: (credentials: LoginRequest) => Promise<void>;
-  setAuthFromResponse: (token: string, username: string, email: string) => void;
+  setAuthFromResponse: (token: string, username: string, email: string, refreshToken?: string) => void;
   logout: () => void;
   isAuthenticated: boolean;
   isInitialized: boolean;
@@ -106,10 +106,11 @@ export const AuthProvider = ({ children }: AuthProviderProps) => {
     };
     setUser(userData);
     localStorage.setItem('token', response.token);
+    localStorage.setItem('refreshToken', response.refreshToken);
     localStorage.setItem('user', JSON.stringify(userData));
   };
 
-  const setAuthFromResponse = (token: string, username: string, email: string) => {
+  const setAuthFromResponse = (token: string, username: string, email: string, refreshToken?: string) => {
     setToken(token);
     
     // Decode token to get user ID
@@ -121,13 +122,21 @@ export const AuthProvider = ({ children }: AuthProviderProps) => {
     };
     setUser(userData);
     localStorage.setItem('token', token);
+    if (refreshToken) {
+      localStorage.setItem('refreshToken', refreshToken);
+    }
     localStorage.setItem('user', JSON.stringify(userData));
   };
 
   const logout = () => {
+    // Revoke on the server too, but never keep the user waiting for it
+    if (localStorage.getItem('token')) {
+      authApi.logout(localStorage.getItem('refreshToken')).catch(() => undefined);
+    }
     setToken(null);
     setUser(null);
     localStorage.removeItem('token');
+    localStorage.removeItem('refreshToken');
     localStorage.removeItem('user');
   };
 
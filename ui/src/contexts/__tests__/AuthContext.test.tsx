@@ -11,6 +11,7 @@ vi.mock('../../services/api', async () => {
     ...actual,
     authApi: {
       login: vi.fn(),
+      logout: vi.fn(),
     },
   };
 });
@@ -49,6 +50,8 @@ describe('AuthContext', () => {
   it('should login successfully', async () => {
     const mockResponse = {
       token: 'new-token',
+      refreshToken: 'new-refresh-token',
+      expiresIn: 900,
       username: 'testuser',
       email: 'test@example.com',
       message: 'Login successful',
@@ -73,13 +76,16 @@ describe('AuthContext', () => {
     });
     expect(result.current.isAuthenticated).toBe(true);
     expect(localStorage.getItem('token')).toBe('new-token');
+    expect(localStorage.getItem('refreshToken')).toBe('new-refresh-token');
     expect(localStorage.getItem('user')).toBe(
       JSON.stringify({id: 0, username: 'testuser', email: 'test@example.com'}),
     );
   });
 
   it('should logout successfully', () => {
+    vi.mocked(authApi.logout).mockResolvedValue(undefined);
     localStorage.setItem('token', 'test-token');
+    localStorage.setItem('refreshToken', 'test-refresh-token');
     localStorage.setItem('user', JSON.stringify({username: 'test', email: 'test@test.com'}));
 
     const {result} = renderHook(() => useAuth(), {wrapper});
@@ -92,7 +98,9 @@ describe('AuthContext', () => {
     expect(result.current.user).toBeNull();
     expect(result.current.isAuthenticated).toBe(false);
     expect(localStorage.getItem('token')).toBeNull();
+    expect(localStorage.getItem('refreshToken')).toBeNull();
     expect(localStorage.getItem('user')).toBeNull();
+    expect(authApi.logout).toHaveBeenCalledWith('test-refresh-token');
   });
 
   it('should throw error on login failure', async () => {
@@ -29,6 +29,7 @@ describe('useWebSocket', () => {
   let mockClient: any;
   let mockSocket: any;
   let onConnectCallback: any;
+  let clientConfig: any;
   let subscribeCallbacks: Map<string, (message: any) => void>;
 
   beforeEach(() => {
@@ -47,6 +48,7 @@ describe('useWebSocket', () => {
 
     vi.mocked(SockJS).mockImplementation(() => mockSocket as any);
     vi.mocked(Client).mockImplementation((config: any) => {
+      clientConfig = config;
       if (config.onConnect) {
         onConnectCallback = config.onConnect;
       }
@@ -58,6 +60,7 @@ describe('useWebSocket', () => {
 
   afterEach(() => {
     vi.useRealTimers();
+    vi.unstubAllGlobals();
   });
 
   it('should not setup WebSocket when sessionId is undefined', () => {
@@ -116,11 +119,55 @@ describe('useWebSocket', () => {
     // Advance timer to trigger setup
     vi.advanceTimersByTime(500);
 
-    expect(SockJS).toHaveBeenCalled();
-    expect(Client).toHaveBeenCalled();
+    expect(Client).toHaveBeenCalledWith(
+      expect.objectContaining({ connectHeaders: { Authorization: 'Bearer test-token' } }),
+    );
     expect(mockClient.activate).toHaveBeenCalled();
   });
 
+  it('should prefer the native endpoint and fall back to SockJS when it cannot connect', () => {
+    const sockets: { url: string; listeners: Record<string, () => void> }[] = [];
+    vi.stubGlobal(
+      'WebSocket',
+      vi.fn((url: string) => {
+        const socket = {
+          url,
+          listeners: {} as Record<string, () => void>,
+          addEventListener: (type: string, listener: () => void) => {
+            socket.listeners[type] = listener;
+          },
+        };
+        sockets.push(socket);
+        return socket;
+      }),
+    );
+
+    renderHook(() =>
+      useWebSocket({
+        sessionId: 'test-session-id',
+        onSessionUpdate: vi.fn(),
+        onLocationUpdate: vi.fn(),
+        onAddressUpdate: vi.fn(),
+      }),
+    );
+    vi.advanceTimersByTime(500);
+
+    // A native connection that opened and later dropped is retried natively
+    clientConfig.webSocketFactory();
+    sockets[0].listeners.open();
+    sockets[0].listeners.close();
+    clientConfig.webSocketFactory();
+    expect(sockets).toHaveLength(2);
+    expect(sockets[1].url).toMatch(/\/ws-native$/);
+    expect(SockJS).not.toHaveBeenCalled();
+
+    // One that never opened switches the reconnects to SockJS
+    sockets[1].listeners.close();
+    expect(clientConfig.webSocketFactory()).toBe(mockSocket);
+    expect(SockJS).toHaveBeenCalledTimes(1);
+    expect(sockets).toHaveLength(2);
+  });
+
   it('should subscribe to session updates', () => {
     const onSessionUpdate = vi.fn();
     const onLocationUpdate = vi.fn();
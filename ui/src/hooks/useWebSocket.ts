@@ -59,9 +59,39 @@ export const useWebSocket = ({
         ? import.meta.env.VITE_API_BASE_URL.replace(/^http/, 'ws')
         : '';
 
-      const socket = new SockJS(wsUrl ? `${wsUrl}/ws` : '/ws');
+      // Prefer the native WebSocket endpoint; SockJS is the fallback for clients without WebSocket
+      // and for networks where the native connection cannot be opened (e.g. proxies that block upgrades)
+      const nativeUrl = wsUrl
+        ? `${wsUrl}/ws-native`
+        : `${window.location.protocol === 'https:' ? 'wss' : 'ws'}://${window.location.host}/ws-native`;
+      let useSockJs = typeof WebSocket === 'undefined';
       const client = new Client({
-        webSocketFactory: () => socket as any,
+        webSocketFactory: () => {
+          if (useSockJs) {
+            return new SockJS(wsUrl ? `${wsUrl.replace(/^ws/, 'http')}/ws` : '/ws') as any;
+          }
+          const socket = new WebSocket(nativeUrl);
+          let opened = false;
+          socket.addEventListener('open', () => {
+            opened = true;
+          });
+          socket.addEventListener('close', () => {
+            // Closed before it ever opened: reconnect through SockJS from now on
+            if (!opened) {
+              useSockJs = true;
+            }
+          });
+          return socket;
+        },
+        // The server authenticates the STOMP session once, at CONNECT
+        connectHeaders: { Authorization: `Bearer ${token}` },
+        // Reconnects pick up the access token renewed by the REST client in the meantime
+        beforeConnect: () => {
+          const latest = localStorage.getItem('token');
+          if (latest) {
+            client.connectHeaders = { Authorization: `Bearer ${latest}` };
+          }
+        },
         reconnectDelay: 5000,
         heartbeatIncoming: 4000,
         heartbeatOutgoing: 4000,
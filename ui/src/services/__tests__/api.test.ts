@@ -1,5 +1,5 @@
 import { describe, it, expect, vi, beforeEach } from 'vitest';
-import { authApi, sessionApi, ApiError } from '../api';
+import { authApi, sessionApi, ApiError, refreshAccessToken } from '../api';
 
 // Mock fetch globally
 global.fetch = vi.fn();
@@ -126,6 +126,55 @@ describe('API Service', () => {
       );
     });
 
+    it('should refresh an expired access token once and retry', async () => {
+      localStorage.setItem('token', 'expired-token');
+      localStorage.setItem('refreshToken', 'refresh-token');
+      (global.fetch as any)
+        .mockResolvedValueOnce({
+          ok: false,
+          status: 401,
+          json: async () => ({ message: 'Unauthorized' }),
+        })
+        .mockResolvedValueOnce({
+          ok: true,
+          status: 200,
+          json: async () => ({ token: 'new-token', refreshToken: 'new-refresh-token', expiresIn: 900 }),
+        })
+        .mockResolvedValueOnce({
+          ok: true,
+          status: 200,
+          headers: new Headers({ 'content-type': 'application/json' }),
+          json: async () => ({ sessionId: 'test-session-id' }),
+        });
+
+      const result = await sessionApi.getSessionDetails('test-session-id');
+
+      expect(result.sessionId).toBe('test-session-id');
+      expect(localStorage.getItem('token')).toBe('new-token');
+      expect(localStorage.getItem('refreshToken')).toBe('new-refresh-token');
+      expect(global.fetch).toHaveBeenLastCalledWith(
+        '/api/sessions/test-session-id',
+        expect.objectContaining({
+          headers: expect.objectContaining({ Authorization: 'Bearer new-token' }),
+        }),
+      );
+    });
+
+    it('should share one refresh between concurrent callers', async () => {
+      localStorage.setItem('refreshToken', 'refresh-token');
+      (global.fetch as any).mockResolvedValueOnce({
+        ok: false,
+        status: 401,
+        json: async () => ({ message: 'Invalid credentials' }),
+      });
+
+      const results = await Promise.all([refreshAccessToken(), refreshAccessToken()]);
+
+      expect(results).toEqual([false, false]);
+      expect(global.fetch).toHaveBeenCalledTimes(1);
+      expect(localStorage.getItem('refreshToken')).toBeNull();
+    });
+
     it('should handle API errors with status codes', async () => {
       (global.fetch as any).mockResolvedValueOnce({
         ok: false,
@@ -10,6 +10,10 @@ function getAuthToken(): string | null {
   return localStorage.getItem('token');
 }
 
+function getRefreshToken(): string | null {
+  return localStorage.getItem('refreshToken');
+}
+
 // Helper function to build full URL
 function buildUrl(path: string): string {
   if (API_BASE_URL) {
@@ -86,6 +90,45 @@ export const apiInterceptors = {
   },
 };
 
+// A refresh in progress, shared by every request that got a 401 meanwhile:
+// each refresh token works only once, so it must never be sent twice
+let refreshInFlight: Promise<boolean> | null = null;
+
+/**
+ * Exchange the stored refresh token for a new access token and refresh token.
+ * Resolves to false if there is no refresh token or the server refused it.
+ */
+export function refreshAccessToken(): Promise<boolean> {
+  if (!refreshInFlight) {
+    refreshInFlight = (async () => {
+      const refreshToken = getRefreshToken();
+      if (!refreshToken) {
+        return false;
+      }
+      try {
+        const response = await fetch(buildUrl('/api/auth/refresh'), {
+          method: 'POST',
+          headers: { 'Content-Type': 'application/json' },
+          body: JSON.stringify({ refreshToken }),
+        });
+        if (!response.ok) {
+          localStorage.removeItem('refreshToken');
+          return false;
+        }
+        const tokens: TokenResponse = await response.json();
+        localStorage.setItem('token', tokens.token);
+        localStorage.setItem('refreshToken', tokens.refreshToken);
+        return true;
+      } catch {
+        return false;
+      }
+    })().finally(() => {
+      refreshInFlight = null;
+    });
+  }
+  return refreshInFlight;
+}
+
 // Helper function to make HTTP requests with interceptors
 async function request<T>(
   url: string,
@@ -98,22 +141,32 @@ async function request<T>(
       requestConfig = await interceptor(requestConfig);
     }
 
-    // Build headers
-    const token = getAuthToken();
-    const headers: Record<string, string> = {
-      'Content-Type': 'application/json',
-      ...(requestConfig.headers as Record<string, string> || {}),
+    const fullUrl = buildUrl(url);
+    const send = () => {
+      // Build headers
+      const token = getAuthToken();
+      const headers: Record<string, string> = {
+        'Content-Type': 'application/json',
+        ...(requestConfig.headers as Record<string, string> || {}),
+      };
+
+      if (token) {
+        headers['Authorization'] = `Bearer ${token}`;
+      }
+
+      return fetch(fullUrl, {
+        ...requestConfig,
+        headers,
+      });
     };
 
-    if (token) {
-      headers['Authorization'] = `Bearer ${token}`;
-    }
+    let response = await send();
 
-    const fullUrl = buildUrl(url);
-    const response = await fetch(fullUrl, {
-      ...requestConfig,
-      headers,
-    });
+    // Access tokens are short-lived: renew once and retry before giving up
+    if (response.status === 401 && !url.startsWith('/api/auth/') && getRefreshToken()
+      && await refreshAccessToken()) {
+      response = await send();
+    }
 
     // Handle error responses
     if (!response.ok) {
@@ -195,6 +248,8 @@ export interface LoginRequest {
 
 export interface LoginResponse {
   token: string;
+  refreshToken: string;
+  expiresIn: number;
   username: string;
   email: string;
   message: string;
@@ -310,11 +365,19 @@ export interface RegisterRequest {
 
 export interface RegisterResponse {
   token: string;
+  refreshToken: string;
+  expiresIn: number;
   username: string;
   email: string;
   message: string;
 }
 
+export interface TokenResponse {
+  token: string;
+  refreshToken: string;
+  expiresIn: number;
+}
+
 export const authApi = {
   login: async (credentials: LoginRequest): Promise<LoginResponse> => {
     return postRequest<LoginResponse>('/api/auth/login', credentials);
@@ -322,6 +385,9 @@ export const authApi = {
   register: async (credentials: RegisterRequest): Promise<RegisterResponse> => {
     return postRequest<RegisterResponse>('/api/auth/register', credentials);
   },
+  logout: async (refreshToken: string | null): Promise<void> => {
+    return postRequest<void>('/api/auth/logout', refreshToken ? { refreshToken } : undefined);
+  },
 };
 
 // Helper function for GET requests
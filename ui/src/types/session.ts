@@ -13,6 +13,8 @@ export interface ParticipantInfo {
   longitude?: number | null;
   accuracy?: number | null;
   locationUpdatedAt?: string | null;
+  // Whether the user currently has a live connection to the session
+  online?: boolean;
 }
 
 export interface SessionDetailResponse {